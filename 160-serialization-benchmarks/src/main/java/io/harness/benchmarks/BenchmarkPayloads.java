@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.benchmarks;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.delegate.beans.DelegateTaskPackage;
+import io.harness.delegate.beans.TaskData;
+import io.harness.plancreator.steps.common.StepElementParameters;
+import io.harness.pms.contracts.advisers.AdviseType;
+import io.harness.pms.contracts.advisers.AdviserResponse;
+import io.harness.pms.contracts.advisers.NextStepAdvise;
+import io.harness.pms.contracts.data.StepOutcomeRef;
+import io.harness.pms.contracts.execution.Status;
+import io.harness.pms.contracts.execution.failure.FailureData;
+import io.harness.pms.contracts.execution.failure.FailureInfo;
+import io.harness.pms.contracts.execution.failure.FailureType;
+import io.harness.pms.sdk.core.steps.io.StepResponseNotifyData;
+import io.harness.pms.yaml.ParameterField;
+import io.harness.steps.SectionStepSweepingOutput;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Payloads shaped like the ones on the hot paths of the pipeline and delegate services. The size parameter is the
+ * number of repeated elements (outcomes, failures, expressions, node ids) in every payload.
+ */
+@OwnedBy(PL)
+@UtilityClass
+public class BenchmarkPayloads {
+  public StepElementParameters stepElementParameters(int size) {
+    List<String> selectors = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      selectors.add("delegate-selector-" + i);
+    }
+    return StepElementParameters.builder()
+        .uuid("Ud8Tx3vJQ5Kq0cX2nYbXzA")
+        .identifier("shellScript")
+        .name("Shell Script")
+        .description("Runs the deployment verification script")
+        .type("ShellScript")
+        .timeout(ParameterField.createValueField("10m"))
+        .skipCondition(ParameterField.createExpressionField(
+            true, "<+pipeline.variables.skipVerification> == \"true\"", null, false))
+        .delegateSelectors(ParameterField.createValueField(selectors))
+        .build();
+  }
+
+  public StepResponseNotifyData stepResponseNotifyData(int size) {
+    List<StepOutcomeRef> outcomeRefs = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      outcomeRefs.add(StepOutcomeRef.newBuilder().setName("output" + i).setInstanceId("instance-" + i).build());
+    }
+    return StepResponseNotifyData.builder()
+        .identifier("shellScript")
+        .nodeUuid("Ud8Tx3vJQ5Kq0cX2nYbXzA")
+        .group("STEP")
+        .stepOutcomeRefs(outcomeRefs)
+        .failureInfo(failureInfo(size))
+        .status(Status.FAILED)
+        .description("Shell Script failed")
+        .adviserResponse(adviserResponse())
+        .nodeExecutionId("k3FvXy1wRnmW2hQ0pBcDeA")
+        .nodeExecutionEndTs(1690000000000L)
+        .build();
+  }
+
+  public FailureInfo failureInfo(int size) {
+    FailureInfo.Builder builder = FailureInfo.newBuilder().setErrorMessage("Shell Script execution failed");
+    for (int i = 0; i < size; i++) {
+      builder.addFailureData(FailureData.newBuilder()
+                                 .setCode("GENERAL_ERROR")
+                                 .setLevel("ERROR")
+                                 .setMessage("Command exited with status " + i)
+                                 .addFailureTypes(FailureType.APPLICATION_FAILURE)
+                                 .build());
+    }
+    return builder.build();
+  }
+
+  public AdviserResponse adviserResponse() {
+    return AdviserResponse.newBuilder()
+        .setType(AdviseType.NEXT_STEP)
+        .setNextStepAdvise(
+            NextStepAdvise.newBuilder().setNextNodeId("vB9nT2mWq0Kc7xYzL1aPeQ").setToStatus(Status.FAILED).build())
+        .build();
+  }
+
+  public SectionStepSweepingOutput sectionStepSweepingOutput(int size) {
+    SectionStepSweepingOutput.SectionStepSweepingOutputBuilder builder = SectionStepSweepingOutput.builder();
+    for (int i = 0; i < size; i++) {
+      builder.failedNodeId("failed-node-" + i);
+    }
+    return builder.build();
+  }
+
+  public DelegateTaskPackage delegateTaskPackage(int size) {
+    Map<String, String> expressions = new HashMap<>();
+    LinkedHashMap<String, String> logAbstractions = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      expressions.put("${secrets.getValue(\"secret" + i + "\")}", "secret" + i);
+      logAbstractions.put("level" + i, "value" + i);
+    }
+    byte[] data = new byte[size * 64];
+    Arrays.fill(data, (byte) 'x');
+    TaskData taskData = TaskData.builder()
+                            .async(true)
+                            .taskType("SHELL_SCRIPT_TASK_NG")
+                            .parameters(new Object[] {"echo hello", expressions})
+                            .timeout(600000)
+                            .expressionFunctorToken(123456)
+                            .expressions(expressions)
+                            .data(data)
+                            .build();
+    return DelegateTaskPackage.builder()
+        .accountId("kmpySmUISimoRrJL6NL73w")
+        .delegateTaskId("Xb3T9qLwR2uN8cVzM0kJaA")
+        .delegateId("pQ4rS5tU6vW7xY8zA9bCdE")
+        .delegateInstanceId("fG1hI2jK3lM4nO5pQ6rStU")
+        .logStreamingToken("log-streaming-token")
+        .delegateCallbackToken("delegate-callback-token")
+        .data(taskData)
+        .logStreamingAbstractions(logAbstractions)
+        .baseLogKey("accountId:kmpySmUISimoRrJL6NL73w-orgId:default-projectId:benchmarks")
+        .build();
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.benchmarks;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.delegate.beans.DelegateTaskPackage;
+import io.harness.pms.serializer.recaster.RecastOrchestrationUtils;
+import io.harness.serializer.JsonUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Jackson serialization through {@link JsonUtils} of the recasted step parameters documents, as they are stored and
+ * sent to the ui, and of the delegate task packages.
+ */
+@OwnedBy(PL)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonUtilsBenchmark {
+  @Param({"1", "50"}) private int size;
+
+  private Map<String, Object> stepParametersDocument;
+  private String stepParametersJson;
+  private DelegateTaskPackage taskPackage;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    stepParametersDocument = RecastOrchestrationUtils.toMap(BenchmarkPayloads.stepElementParameters(size));
+    stepParametersJson = JsonUtils.asJson(stepParametersDocument);
+    taskPackage = BenchmarkPayloads.delegateTaskPackage(size);
+  }
+
+  @Benchmark
+  public String documentAsJson() {
+    return JsonUtils.asJson(stepParametersDocument);
+  }
+
+  @Benchmark
+  public Map<String, Object> documentAsMap() {
+    return JsonUtils.asMap(stepParametersJson);
+  }
+
+  @Benchmark
+  public String taskPackageAsJson() {
+    return JsonUtils.asJson(taskPackage);
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.benchmarks;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.serializer.DelegateTasksBeansRegistrars;
+import io.harness.serializer.KryoCodec;
+import io.harness.serializer.KryoSerializer;
+import io.harness.serializer.PmsSdkCoreModuleRegistrars;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Kryo round trips of the notify response data and the delegate task packages, plain and with every compression
+ * codec. Only the compressed benchmarks are run once per codec. Run with -prof gc to see the allocation rate per
+ * operation next to the throughput.
+ */
+@OwnedBy(PL)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KryoSerializerBenchmark {
+  @Param({"1", "50"}) private int size;
+
+  private KryoSerializer pmsKryoSerializer;
+  private KryoSerializer delegateKryoSerializer;
+
+  private Object notifyData;
+  private Object taskPackage;
+  private byte[] notifyDataBytes;
+  private byte[] taskPackageBytes;
+
+  @State(Scope.Benchmark)
+  public static class Compressed {
+    @Param({"NONE", "DEFLATE", "LZ4", "ZSTD"}) private KryoCodec codec;
+
+    private byte[] notifyDataCompressedBytes;
+    private byte[] taskPackageCompressedBytes;
+
+    @Setup(Level.Trial)
+    public void setup(KryoSerializerBenchmark benchmark) {
+      notifyDataCompressedBytes = benchmark.pmsKryoSerializer.asCompressedBytes(benchmark.notifyData, codec);
+      taskPackageCompressedBytes = benchmark.delegateKryoSerializer.asCompressedBytes(benchmark.taskPackage, codec);
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setup() {
+    pmsKryoSerializer = new KryoSerializer(PmsSdkCoreModuleRegistrars.kryoRegistrars, true);
+    delegateKryoSerializer = new KryoSerializer(DelegateTasksBeansRegistrars.kryoRegistrars, true);
+
+    notifyData = BenchmarkPayloads.stepResponseNotifyData(size);
+    taskPackage = BenchmarkPayloads.delegateTaskPackage(size);
+    notifyDataBytes = pmsKryoSerializer.asBytes(notifyData);
+    taskPackageBytes = delegateKryoSerializer.asBytes(taskPackage);
+  }
+
+  @Benchmark
+  public byte[] notifyDataAsBytes() {
+    return pmsKryoSerializer.asBytes(notifyData);
+  }
+
+  @Benchmark
+  public Object notifyDataAsObject() {
+    return pmsKryoSerializer.asObject(notifyDataBytes);
+  }
+
+  @Benchmark
+  public byte[] notifyDataAsCompressedBytes(Compressed compressed) {
+    return pmsKryoSerializer.asCompressedBytes(notifyData, compressed.codec);
+  }
+
+  @Benchmark
+  public Object notifyDataAsInflatedObject(Compressed compressed) {
+    return pmsKryoSerializer.asInflatedObject(compressed.notifyDataCompressedBytes);
+  }
+
+  @Benchmark
+  public byte[] taskPackageAsBytes() {
+    return delegateKryoSerializer.asBytes(taskPackage);
+  }
+
+  @Benchmark
+  public Object taskPackageAsObject() {
+    return delegateKryoSerializer.asObject(taskPackageBytes);
+  }
+
+  @Benchmark
+  public byte[] taskPackageAsCompressedBytes(Compressed compressed) {
+    return delegateKryoSerializer.asCompressedBytes(taskPackage, compressed.codec);
+  }
+
+  @Benchmark
+  public Object taskPackageAsInflatedObject(Compressed compressed) {
+    return delegateKryoSerializer.asInflatedObject(compressed.taskPackageCompressedBytes);
+  }
+
+  @Benchmark
+  public byte[] taskPackageAsDeflatedBytes() {
+    return delegateKryoSerializer.asDeflatedBytes(taskPackage);
+  }
+}
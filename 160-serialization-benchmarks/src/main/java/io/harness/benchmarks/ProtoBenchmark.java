@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.benchmarks;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.pms.contracts.execution.failure.FailureInfo;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.util.JsonFormat;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Protobuf conversions of the failure info carried by the step responses, in the binary format used on the wire and
+ * in the json format used to store and display them.
+ */
+@OwnedBy(PL)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProtoBenchmark {
+  @Param({"1", "50"}) private int size;
+
+  private FailureInfo failureInfo;
+  private byte[] failureInfoBytes;
+  private String failureInfoJson;
+  private JsonFormat.Printer printer;
+  private JsonFormat.Parser parser;
+
+  @Setup(Level.Trial)
+  public void setup() throws InvalidProtocolBufferException {
+    printer = JsonFormat.printer();
+    parser = JsonFormat.parser().ignoringUnknownFields();
+    failureInfo = BenchmarkPayloads.failureInfo(size);
+    failureInfoBytes = failureInfo.toByteArray();
+    failureInfoJson = printer.print(failureInfo);
+  }
+
+  @Benchmark
+  public byte[] toByteArray() {
+    return failureInfo.toByteArray();
+  }
+
+  @Benchmark
+  public FailureInfo parseFrom() throws InvalidProtocolBufferException {
+    return FailureInfo.parseFrom(failureInfoBytes);
+  }
+
+  @Benchmark
+  public String printJson() throws InvalidProtocolBufferException {
+    return printer.print(failureInfo);
+  }
+
+  @Benchmark
+  public FailureInfo parseJson() throws InvalidProtocolBufferException {
+    FailureInfo.Builder builder = FailureInfo.newBuilder();
+    parser.merge(failureInfoJson, builder);
+    return builder.build();
+  }
+}
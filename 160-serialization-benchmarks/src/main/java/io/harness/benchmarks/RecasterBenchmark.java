@@ -0,0 +1,90 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.benchmarks;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.plancreator.steps.common.StepElementParameters;
+import io.harness.pms.serializer.recaster.RecastOrchestrationUtils;
+import io.harness.steps.SectionStepSweepingOutput;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Recaster conversions of the step parameters and the execution sweeping outputs, going through
+ * {@link RecastOrchestrationUtils} the same way the orchestration engine does.
+ */
+@OwnedBy(PL)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecasterBenchmark {
+  @Param({"1", "50"}) private int size;
+
+  private StepElementParameters stepParameters;
+  private SectionStepSweepingOutput sweepingOutput;
+  private Map<String, Object> stepParametersDocument;
+  private Map<String, Object> sweepingOutputDocument;
+  private String stepParametersJson;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    stepParameters = BenchmarkPayloads.stepElementParameters(size);
+    sweepingOutput = BenchmarkPayloads.sectionStepSweepingOutput(size);
+    stepParametersDocument = RecastOrchestrationUtils.toMap(stepParameters);
+    sweepingOutputDocument = RecastOrchestrationUtils.toMap(sweepingOutput);
+    stepParametersJson = RecastOrchestrationUtils.toJson(stepParameters);
+  }
+
+  @Benchmark
+  public Map<String, Object> stepParametersToMap() {
+    return RecastOrchestrationUtils.toMap(stepParameters);
+  }
+
+  @Benchmark
+  public StepElementParameters stepParametersFromMap() {
+    return RecastOrchestrationUtils.fromMap(stepParametersDocument, StepElementParameters.class);
+  }
+
+  @Benchmark
+  public String stepParametersToJson() {
+    return RecastOrchestrationUtils.toJson(stepParameters);
+  }
+
+  @Benchmark
+  public StepElementParameters stepParametersFromJson() {
+    return RecastOrchestrationUtils.fromJson(stepParametersJson, StepElementParameters.class);
+  }
+
+  @Benchmark
+  public Map<String, Object> sweepingOutputToMap() {
+    return RecastOrchestrationUtils.toMap(sweepingOutput);
+  }
+
+  @Benchmark
+  public SectionStepSweepingOutput sweepingOutputFromMap() {
+    return RecastOrchestrationUtils.fromMap(sweepingOutputDocument, SectionStepSweepingOutput.class);
+  }
+}
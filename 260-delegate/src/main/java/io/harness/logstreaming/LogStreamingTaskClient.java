@@ -14,7 +14,6 @@ import static software.wings.beans.LogHelper.color;
 import static software.wings.beans.LogHelper.doneColoring;
 import static software.wings.beans.LogWeight.Bold;
 
-import static java.lang.System.currentTimeMillis;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import io.harness.annotations.dev.CodePulse;
@@ -34,17 +33,21 @@ import software.wings.delegatetasks.DelegateLogService;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.extern.slf4j.Slf4j;
@@ -58,6 +61,11 @@ import org.jetbrains.annotations.NotNull;
  *    -> write line
  *    -> close stream
  * concurrent usage of open and close stream will result in loss of logs
+ *
+ * Log lines are buffered per log key without any lock shared by the keys. A key is uploaded every 100ms, or as soon as
+ * it has FLUSH_THRESHOLD_LINES lines, by at most one upload at a time to keep the order of its lines. The uploads run
+ * on the same executor as the periodic flushes. A slow log service only delays the uploads; the task threads writing
+ * logs are slowed down only when their own key is more than MAX_BUFFERED_LINES_PER_KEY lines behind.
  */
 @CodePulse(
     module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_COMMON_STEPS})
@@ -72,6 +80,8 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
   private final String token;
   private final String accountId;
   private final String baseLogKey;
+  private static final int FLUSH_THRESHOLD_LINES = 1000;
+  private static final int MAX_BUFFERED_LINES_PER_KEY = 20000;
   private static ScheduledExecutorService scheduledExecutorService = new ScheduledThreadPoolExecutor(10,
       new ThreadFactoryBuilder().setNameFormat("log-streaming-client-%d").setPriority(Thread.NORM_PRIORITY).build());
   @Deprecated private final String appId;
@@ -79,7 +89,7 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
   private ScheduledFuture scheduledFuture;
   private final ITaskProgressClient taskProgressClient;
 
-  @Default private final Map<String, List<LogLine>> logCache = new HashMap<>();
+  @Default private final Map<String, LogKeyBuffer> logCache = new ConcurrentHashMap<>();
 
   private Set<String> markers;
 
@@ -92,35 +102,22 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     } catch (Exception ex) {
       log.error("Unable to open log stream for account {} and key {}", accountId, logKey, ex);
     }
-    scheduledFuture = scheduledExecutorService.scheduleAtFixedRate(this::dispatchLogs, 0, 100, TimeUnit.MILLISECONDS);
+    scheduledFuture = scheduledExecutorService.scheduleAtFixedRate(this::flushLogs, 0, 100, TimeUnit.MILLISECONDS);
   }
 
   @Override
   public void closeStream(String baseLogKeySuffix) {
     String logKey = getLogKey(baseLogKeySuffix);
 
-    synchronized (logCache) {
-      // We can mark this task to be completed. Log upload can happen asynchronously.
-      scheduledExecutorService.submit(() -> closeStreamAsync(logKey));
-    }
+    // We can mark this task to be completed. Log upload can happen asynchronously.
+    scheduledExecutorService.submit(() -> closeStreamAsync(logKey));
   }
 
   private void closeStreamAsync(String logKey) {
-    // Waiting for finite time allow log upload to finish.
-    long startTime = currentTimeMillis();
-    synchronized (logCache) {
-      while (logCache.containsKey(logKey) && currentTimeMillis() < startTime + TimeUnit.SECONDS.toMillis(5)) {
-        log.debug("For {} the logs are not drained yet. sleeping...", logKey);
-        try {
-          logCache.wait(100);
-        } catch (InterruptedException e) {
-          log.warn("Log upload didn't completed successfully for {} ", logKey);
-        }
-      }
-    }
-    if (logCache.containsKey(logKey)) {
-      log.error("log cache was not drained for {}. num of keys in map {}. This will result in missing logs", logKey,
-          logCache.size());
+    LogKeyBuffer buffer = logCache.remove(logKey);
+    if (buffer != null) {
+      // Waits for an upload in progress so that the remaining lines are sent after it
+      uploadLogs(logKey, buffer, true);
     }
     try {
       SafeHttpCall.executeWithExceptions(logStreamingClient.closeLogStream(token, accountId, logKey, true));
@@ -146,28 +143,72 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     logStreamingSanitizer.sanitizeLogMessage(logLine, getMarkers());
     colorLog(logLine);
 
-    synchronized (logCache) {
-      if (!logCache.containsKey(logKey)) {
-        logCache.put(logKey, new ArrayList<>());
-      }
-      logCache.get(logKey).add(logLine);
+    // Adds under the lock of the key in the cache, so that dispatchLogs cannot drop the buffer of a line being added
+    LogKeyBuffer buffer = logCache.compute(logKey, (key, current) -> {
+      LogKeyBuffer keyBuffer = current == null ? new LogKeyBuffer() : current;
+      keyBuffer.add(logLine);
+      return keyBuffer;
+    });
+    int bufferedLines = buffer.size.get();
+    if (bufferedLines >= MAX_BUFFERED_LINES_PER_KEY) {
+      // The uploads are not keeping up with this key, only the task writing to it waits for them
+      uploadLogs(logKey, buffer, true);
+    } else if (bufferedLines >= FLUSH_THRESHOLD_LINES) {
+      uploadLogsAsync(logKey, buffer);
     }
   }
 
+  /**
+   * Uploads all the buffered lines in the calling thread, and drops the keys that are left with nothing to upload.
+   */
   @Override
   public void dispatchLogs() {
-    synchronized (logCache) {
-      for (Iterator<Map.Entry<String, List<LogLine>>> iterator = logCache.entrySet().iterator(); iterator.hasNext();) {
-        Map.Entry<String, List<LogLine>> next = iterator.next();
+    logCache.forEach((logKey, buffer) -> {
+      uploadLogs(logKey, buffer, true);
+      logCache.computeIfPresent(logKey, (key, current) -> current.isIdle() ? null : current);
+    });
+  }
+
+  private void flushLogs() {
+    logCache.forEach((logKey, buffer) -> {
+      if (!buffer.isEmpty()) {
+        uploadLogsAsync(logKey, buffer);
+      }
+    });
+  }
+
+  private void uploadLogsAsync(String logKey, LogKeyBuffer buffer) {
+    if (buffer.uploadScheduled.compareAndSet(false, true)) {
+      scheduledExecutorService.submit(() -> {
         try {
-          SafeHttpCall.executeWithExceptions(
-              logStreamingClient.pushMessage(token, accountId, next.getKey(), next.getValue()));
-        } catch (Exception ex) {
-          log.error("Unable to push message to log stream for account {} and key {}", accountId, next.getKey(), ex);
+          uploadLogs(logKey, buffer, false);
+        } finally {
+          buffer.uploadScheduled.set(false);
         }
-        iterator.remove();
-      }
-      logCache.notifyAll();
+      });
+    }
+  }
+
+  private void uploadLogs(String logKey, LogKeyBuffer buffer, boolean waitForUpload) {
+    if (waitForUpload) {
+      buffer.uploadLock.lock();
+    } else if (!buffer.uploadLock.tryLock()) {
+      // Another upload of this key is in progress, the lines will be picked up by the next flush
+      return;
+    }
+    try {
+      List<LogLine> logLines;
+      do {
+        logLines = buffer.drain(MAX_BUFFERED_LINES_PER_KEY);
+        if (logLines.isEmpty()) {
+          return;
+        }
+        SafeHttpCall.executeWithExceptions(logStreamingClient.pushMessage(token, accountId, logKey, logLines));
+      } while (logLines.size() == MAX_BUFFERED_LINES_PER_KEY);
+    } catch (Exception ex) {
+      log.error("Unable to push message to log stream for account {} and key {}", accountId, logKey, ex);
+    } finally {
+      buffer.uploadLock.unlock();
     }
   }
 
@@ -214,4 +255,34 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     }
     return markers;
   }
+
+  private static final class LogKeyBuffer {
+    private final Queue<LogLine> logLines = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean uploadScheduled = new AtomicBoolean();
+    private final ReentrantLock uploadLock = new ReentrantLock();
+
+    private void add(LogLine logLine) {
+      logLines.add(logLine);
+      size.incrementAndGet();
+    }
+
+    private boolean isEmpty() {
+      return logLines.isEmpty();
+    }
+
+    private boolean isIdle() {
+      return logLines.isEmpty() && !uploadScheduled.get() && !uploadLock.isLocked();
+    }
+
+    private List<LogLine> drain(int maxLines) {
+      List<LogLine> drained = new ArrayList<>();
+      LogLine logLine;
+      while (drained.size() < maxLines && (logLine = logLines.poll()) != null) {
+        drained.add(logLine);
+      }
+      size.addAndGet(-drained.size());
+      return drained;
+    }
+  }
 }
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 import io.harness.CategoryTest;
@@ -34,6 +35,8 @@ import software.wings.delegatetasks.DelegateLogService;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.ArgumentCaptor;
@@ -144,6 +147,51 @@ public class LogStreamingTaskClientTest extends CategoryTest {
     assertThat(logLines).containsExactly(logLine);
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldDropDispatchedKeys() {
+    Map logCache = new ConcurrentHashMap<>();
+    LogStreamingTaskClient logStreamingTaskClient = LogStreamingTaskClient.builder()
+                                                        .logStreamingClient(logStreamingClientMock)
+                                                        .accountId(ACCOUNT_ID)
+                                                        .token(TOKEN)
+                                                        .logStreamingSanitizer(logStreamingSanitizerMock)
+                                                        .baseLogKey(BASE_LOG_KEY)
+                                                        .logCache(logCache)
+                                                        .build();
+    LogLine logLine = LogLine.builder().level(LogLevel.INFO).message("msg").build();
+    logStreamingTaskClient.writeLogLine(logLine, "first");
+    logStreamingTaskClient.writeLogLine(logLine, "second");
+    assertThat(logCache).hasSize(2);
+
+    logStreamingTaskClient.dispatchLogs();
+
+    assertThat(logCache).isEmpty();
+    verify(logStreamingClientMock)
+        .pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY + String.format(COMMAND_UNIT_PLACEHOLDER, "first")),
+            eq(Collections.singletonList(logLine)));
+    verify(logStreamingClientMock)
+        .pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY + String.format(COMMAND_UNIT_PLACEHOLDER, "second")),
+            eq(Collections.singletonList(logLine)));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldPushMessageWithoutDispatchWhenManyLinesAreBuffered() {
+    for (int i = 0; i < 1000; i++) {
+      completeLogStreamingTaskClient.writeLogLine(
+          LogLine.builder().level(LogLevel.INFO).message("msg" + i).build(), "noisy");
+    }
+
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamingClientMock, timeout(5000))
+        .pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY + String.format(COMMAND_UNIT_PLACEHOLDER, "noisy")),
+            captor.capture());
+    assertThat(captor.getValue()).hasSize(1000);
+  }
+
   @Test
   @Owner(developers = MARKO)
   @Category(UnitTests.class)
@@ -249,10 +249,12 @@ import software.wings.service.impl.AppManifestCloudProviderPTaskManager;
 import software.wings.service.impl.ApplicationManifestServiceImpl;
 import software.wings.service.impl.ArtifactCollectionLicenseListener;
 import software.wings.service.impl.ArtifactStreamServiceImpl;
+import software.wings.service.impl.AssignDelegateServiceImpl;
 import software.wings.service.impl.AuditServiceHelper;
 import software.wings.service.impl.AuditServiceImpl;
 import software.wings.service.impl.BarrierServiceImpl;
 import software.wings.service.impl.CloudProviderObserver;
+import software.wings.service.impl.DelegateEligibilityIndex;
 import software.wings.service.impl.DelegateObserver;
 import software.wings.service.impl.DelegateProfileServiceImpl;
 import software.wings.service.impl.DelegateServiceImpl;
@@ -287,6 +289,7 @@ import software.wings.service.impl.yaml.YamlPushServiceImpl;
 import software.wings.service.intfc.AccountService;
 import software.wings.service.intfc.ApplicationManifestService;
 import software.wings.service.intfc.ArtifactStreamService;
+import software.wings.service.intfc.AssignDelegateService;
 import software.wings.service.intfc.AuditService;
 import software.wings.service.intfc.DataStoreService;
 import software.wings.service.intfc.DelegateProfileService;
@@ -1446,6 +1449,12 @@ public class WingsApplication extends Application<MainConfiguration> {
     delegateServiceImpl.getDelegateProfileSubject().register(delegateProfileEventHandler);
     delegateProfileService.getDelegateProfileSubject().register(delegateProfileEventHandler);
 
+    DelegateEligibilityIndex delegateEligibilityIndex =
+        ((AssignDelegateServiceImpl) injector.getInstance(Key.get(AssignDelegateService.class))).getEligibilityIndex();
+    delegateServiceImpl.getDelegateProfileSubject().register(delegateEligibilityIndex);
+    delegateProfileService.getDelegateProfileSubject().register(delegateEligibilityIndex);
+    delegateServiceImpl.getSubject().register(delegateEligibilityIndex);
+
     // Eventually will be moved to dms
     PerpetualTaskServiceImpl perpetualTaskService =
         (PerpetualTaskServiceImpl) injector.getInstance(Key.get(PerpetualTaskService.class));
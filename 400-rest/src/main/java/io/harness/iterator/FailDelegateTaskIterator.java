@@ -81,6 +81,26 @@ public class FailDelegateTaskIterator
                            .persistenceProvider(persistenceProvider));
   }
 
+  @Override
+  protected void createAndStartLoopBatchIterator(
+      PersistenceIteratorFactory.LoopBatchExecutorOptions executorOptions, Duration targetInterval) {
+    iterator = (MongoPersistenceIterator<DelegateTask, MorphiaFilterExpander<DelegateTask>>)
+                   persistenceIteratorFactory.createLoopBatchIteratorWithDedicatedThreadPool(executorOptions,
+                       FailDelegateTaskIterator.class,
+                       MongoPersistenceIterator.<DelegateTask, MorphiaFilterExpander<DelegateTask>>builder()
+                           .clazz(DelegateTask.class)
+                           .fieldName(DelegateTaskKeys.delegateTaskFailIteration)
+                           .targetInterval(targetInterval)
+                           .acceptableNoAlertDelay(ACCEPTABLE_NO_ALERT_DELAY)
+                           .acceptableExecutionTime(ACCEPTABLE_EXECUTION_TIME)
+                           .filterExpander(query
+                               -> query.criteria(DelegateTaskKeys.createdAt)
+                                      .lessThan(currentTimeMillis() - TimeUnit.MINUTES.toMillis(1)))
+                           .handler(this)
+                           .schedulingType(MongoPersistenceIterator.SchedulingType.REGULAR)
+                           .persistenceProvider(persistenceProvider));
+  }
+
   @Override
   public void registerIterator(IteratorExecutionHandler iteratorExecutionHandler) {
     iteratorName = "DelegateTaskFail";
@@ -132,6 +132,30 @@ public class PerpetualTaskRecordHandler extends IteratorPumpAndRedisModeHandler
                     .persistenceProvider(persistenceProvider));
   }
 
+  @Override
+  protected void createAndStartLoopBatchIterator(
+      PersistenceIteratorFactory.LoopBatchExecutorOptions executorOptions, Duration targetInterval) {
+    iterator =
+        (MongoPersistenceIterator<PerpetualTaskRecord, MorphiaFilterExpander<PerpetualTaskRecord>>)
+            persistenceIteratorFactory.createLoopBatchIteratorWithDedicatedThreadPool(executorOptions,
+                PerpetualTaskRecordHandler.class,
+                MongoPersistenceIterator.<PerpetualTaskRecord, MorphiaFilterExpander<PerpetualTaskRecord>>builder()
+                    .clazz(PerpetualTaskRecord.class)
+                    .fieldName(PerpetualTaskRecordKeys.assignIteration)
+                    .targetInterval(targetInterval)
+                    .acceptableNoAlertDelay(ACCEPTABLE_NO_ALERT_DELAY)
+                    .acceptableExecutionTime(ACCEPTABLE_EXECUTION_TIME)
+                    .handler(this::assign)
+                    .filterExpander(query
+                        -> query.filter(PerpetualTaskRecordKeys.state, PerpetualTaskState.TASK_UNASSIGNED)
+                               .field(PerpetualTaskRecordKeys.assignAfterMs)
+                               .lessThanOrEq(System.currentTimeMillis()))
+                    .entityProcessController(
+                        new CrossEnvironmentAccountStatusBasedEntityProcessController<>(accountService))
+                    .schedulingType(REGULAR)
+                    .persistenceProvider(persistenceProvider));
+  }
+
   @Override
   public void registerIterator(IteratorExecutionHandler iteratorExecutionHandler) {
     iteratorName = "PerpetualTaskAssignment";
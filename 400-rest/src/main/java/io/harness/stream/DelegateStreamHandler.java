@@ -14,6 +14,8 @@ import static io.harness.eraro.ErrorCode.UNKNOWN_ERROR;
 import static io.harness.govern.Switch.unhandled;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 
+import static software.wings.service.impl.DelegateTaskBroadcastHelper.lookupDelegateBroadcaster;
+
 import io.harness.delegate.beans.Delegate;
 import io.harness.delegate.beans.DelegateParams;
 import io.harness.delegate.heartbeat.stream.DelegateStreamHeartbeatService;
@@ -48,6 +50,7 @@ import org.atmosphere.cpr.AtmosphereResource;
 import org.atmosphere.cpr.AtmosphereResourceEvent;
 import org.atmosphere.cpr.AtmosphereResourceEventListenerAdapter;
 import org.atmosphere.cpr.AtmosphereResponse;
+import org.atmosphere.cpr.BroadcasterFactory;
 import org.atmosphere.handler.AtmosphereHandlerAdapter;
 import org.atmosphere.interceptor.AtmosphereResourceLifecycleInterceptor;
 
@@ -64,6 +67,7 @@ public class DelegateStreamHandler extends AtmosphereHandlerAdapter {
   private final DelegateStreamHeartbeatService delegateStreamHeartbeatService;
 
   private final DelegateAuthService delegateAuthService;
+  private final BroadcasterFactory broadcasterFactory;
 
   @Override
   public void onRequest(AtmosphereResource resource) throws IOException {
@@ -122,6 +126,10 @@ public class DelegateStreamHandler extends AtmosphereHandlerAdapter {
       try (AutoLogContext ignore1 = new AccountLogContext(accountId, OVERRIDE_ERROR);
            AutoLogContext ignore2 = new DelegateLogContext(delegateId, OVERRIDE_ERROR)) {
         resource.suspend();
+        if (isNotEmpty(delegateId)) {
+          // Channel of this delegate alone, for the tasks dispatched to it with targeted dispatch
+          lookupDelegateBroadcaster(broadcasterFactory, accountId, delegateId).addAtmosphereResource(resource);
+        }
       }
     } else if (req.getMethod().equalsIgnoreCase("POST")) {
       List<String> pathSegments = SPLITTER.splitToList(req.getPathInfo());
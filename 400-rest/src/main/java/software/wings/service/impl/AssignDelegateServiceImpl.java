@@ -45,6 +45,7 @@ import io.harness.delegate.beans.Delegate;
 import io.harness.delegate.beans.Delegate.DelegateKeys;
 import io.harness.delegate.beans.DelegateActivity;
 import io.harness.delegate.beans.DelegateEntityOwner;
+import io.harness.delegate.beans.DelegateGroup;
 import io.harness.delegate.beans.DelegateInstanceStatus;
 import io.harness.delegate.beans.DelegateProfile;
 import io.harness.delegate.beans.DelegateProfileScopingRule;
@@ -106,6 +107,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -182,6 +184,11 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
                 }
               });
 
+  @Getter
+  private final DelegateEligibilityIndex eligibilityIndex =
+      new DelegateEligibilityIndex(delegate -> delegateService.retrieveDelegateSelectors(delegate, true),
+          this::getCachedDelegateGroupTags, HEARTBEAT_EXPIRY_TIME.toMillis() / 3);
+
   private LoadingCache<String, List<Delegate>> accountDelegatesCache =
       CacheBuilder.newBuilder()
           .maximumSize(1000)
@@ -211,8 +218,7 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     if (delegate == null) {
       return false;
     }
-    boolean canAssignTaskToDelegate =
-        canAssignTaskToDelegate(delegate.getSupportedTaskTypes(), task.getData().getTaskType());
+    boolean canAssignTaskToDelegate = eligibilityIndex.supportsTaskType(delegate, task.getData().getTaskType());
     if (!canAssignTaskToDelegate) {
       log.debug("Delegate {} does not support task {} which is of type {}", delegateId, task.getUuid(),
           task.getData().getTaskType());
@@ -428,10 +434,6 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     return false;
   }
 
-  private boolean canAssignTaskToDelegate(List<String> supportedTaskTypesByDelegate, String taskType) {
-    return supportedTaskTypesByDelegate != null && taskType != null && supportedTaskTypesByDelegate.contains(taskType);
-  }
-
   private boolean trySetupAbstractionsWorkaround(String logSequence, Map<String, String> taskSetupAbstractions,
       String scopingEntityKey, Set<String> scopingEntityValues) {
     boolean workaroundPassed = false;
@@ -509,7 +511,7 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     }
     log.info("Selectors received : {}", selectorsCapabilityList);
 
-    Set<String> delegateSelectors = trimmedLowercaseSet(delegateService.retrieveDelegateSelectors(delegate, true));
+    Set<String> delegateSelectors = eligibilityIndex.getSelectors(delegate);
     if (isEmpty(delegateSelectors)) {
       return false;
     }
@@ -527,6 +529,15 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     return canAssignSelector;
   }
 
+  // The group tags are only part of the selectors of ng delegates, see DelegateServiceImpl.retrieveDelegateSelectors
+  private Set<String> getCachedDelegateGroupTags(Delegate delegate) {
+    if (!delegate.isNg()) {
+      return null;
+    }
+    DelegateGroup delegateGroup = delegateCache.getDelegateGroup(delegate.getAccountId(), delegate.getDelegateGroupId());
+    return delegateGroup == null ? null : delegateGroup.getTags();
+  }
+
   private ScopeMatchResult scopeMatch(
       DelegateScope scope, String appId, String envId, String infraMappingId, TaskGroup taskGroup, String accountId) {
     if (!scope.isValid()) {
@@ -1048,12 +1059,13 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         return eligibleDelegateIds;
       }
 
-      eligibleDelegateIds =
-          delegates.stream()
-              .filter(delegate
-                  -> delegate.getStatus() != DelegateInstanceStatus.DELETED && canAssignTask(delegate.getUuid(), task))
-              .map(Delegate::getUuid)
-              .collect(Collectors.toList());
+      Set<String> delegatesMatchingSelectors = getDelegatesMatchingSelectors(task, delegates);
+      eligibleDelegateIds = delegates.stream()
+                                .filter(delegate
+                                    -> delegate.getStatus() != DelegateInstanceStatus.DELETED
+                                        && canAssignTask(delegate.getUuid(), task, delegatesMatchingSelectors))
+                                .map(Delegate::getUuid)
+                                .collect(Collectors.toList());
       delegateSelectionLogsService.logNonSelectedDelegates(task, task.getNonAssignableDelegates());
       List<String> nonAssignables =
           task.getNonAssignableDelegates()
@@ -1094,10 +1106,11 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         return List.of();
       }
 
+      Set<String> delegatesMatchingSelectors = getDelegatesMatchingSelectors(task, delegates);
       eligibleDelegateIds = delegates.stream()
                                 .filter(delegate
                                     -> delegate.getStatus() != DelegateInstanceStatus.DELETED
-                                        && canAssignTaskV2(delegate.getUuid(), task))
+                                        && canAssignTaskV2(delegate.getUuid(), task, delegatesMatchingSelectors))
                                 .map(Delegate::getUuid)
                                 .collect(Collectors.toList());
       delegateSelectionLogsService.logNonSelectedDelegates(task, task.getNonAssignableDelegates());
@@ -1151,10 +1164,12 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
         return List.of();
       }
 
+      Set<String> delegatesMatchingSelectors = getDelegatesMatchingSelectors(task, delegates);
       eligibleDelegateIds = delegates.stream()
                                 .filter(delegate
                                     -> delegate.getStatus() != DelegateInstanceStatus.DELETED
-                                        && canAssignDelegateBySelectors(delegate.getUuid(), task))
+                                        && canAssignDelegateBySelectors(
+                                            delegate.getUuid(), task, delegatesMatchingSelectors))
                                 .map(Delegate::getUuid)
                                 .collect(Collectors.toList());
       delegateSelectionLogsService.logNonSelectedDelegates(task, task.getNonAssignableDelegates());
@@ -1172,32 +1187,81 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
     return eligibleDelegateIds;
   }
 
-  private boolean canAssignDelegateBySelectors(String delegateId, DelegateTask task) {
+  private boolean canAssignDelegateBySelectors(
+      String delegateId, DelegateTask task, Set<String> delegatesMatchingSelectors) {
     Delegate delegate = delegateCache.get(task.getAccountId(), delegateId);
     if (delegate == null) {
       return false;
     }
     String delegateName = isNotEmpty(delegate.getHostName()) ? delegate.getHostName() : delegate.getUuid();
-    boolean canAssignSelectors = canAssignSelectors(delegate, task.getExecutionCapabilities());
+    boolean canAssignSelectors = delegatesMatchingSelectors == null
+        ? canAssignSelectors(delegate, task.getExecutionCapabilities())
+        : delegatesMatchingSelectors.contains(delegateId);
     if (!canAssignSelectors) {
-      final Set<String> selectors =
-          delegateTaskServiceClassic.fetchTaskSelectorCapabilities(task.getExecutionCapabilities())
-              .stream()
-              .map(selectorCapability -> selectorCapability.getSelectors())
-              .flatMap(Collection::stream)
-              .collect(Collectors.toSet());
-      final String noMatchingSelectorsMessage = CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP + " " + selectors;
-
-      task.getNonAssignableDelegates().putIfAbsent(noMatchingSelectorsMessage, new ArrayList<>());
-      task.getNonAssignableDelegates().get(noMatchingSelectorsMessage).add(delegateName);
-      log.debug("can not assign canAssignSelectors {}", canAssignSelectors);
+      addSelectorsMismatchV2(task, delegateName);
       return false;
     }
     return true;
   }
 
+  /**
+   * Matches the selectors of the task against all the delegates at once, with the eligibility index.
+   *
+   * @return the ids of the delegates having all the selectors of the task, null when they have to be matched one by
+   *     one with canAssignSelectors
+   */
+  private Set<String> getDelegatesMatchingSelectors(DelegateTask task, List<Delegate> delegates) {
+    if (isEmpty(task.getExecutionCapabilities())) {
+      return null;
+    }
+    Set<String> selectors =
+        trimmedLowercaseSet(delegateTaskServiceClassic.fetchTaskSelectorCapabilities(task.getExecutionCapabilities())
+                                .stream()
+                                .map(SelectorCapability::getSelectors)
+                                .filter(Objects::nonNull)
+                                .flatMap(Collection::stream)
+                                .collect(toList()));
+    if (isEmpty(selectors)) {
+      // Blank selectors are rejected by canAssignSelectors for delegates without selectors only
+      return null;
+    }
+    List<Delegate> cachedDelegates = delegates.stream()
+                                         .map(delegate -> delegateCache.get(task.getAccountId(), delegate.getUuid()))
+                                         .filter(Objects::nonNull)
+                                         .collect(toList());
+    return eligibilityIndex.getDelegatesWithSelectors(task.getAccountId(), cachedDelegates, selectors);
+  }
+
+  private void addSelectorsMismatch(DelegateTask task, String delegateName) {
+    task.getNonAssignableDelegates().putIfAbsent(CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP, new ArrayList<>());
+    task.getNonAssignableDelegates().get(CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP).add(delegateName);
+    log.debug("can not assign canAssignSelectors false");
+  }
+
+  private void addSelectorsMismatchV2(DelegateTask task, String delegateName) {
+    final Set<String> selectors =
+        delegateTaskServiceClassic.fetchTaskSelectorCapabilities(task.getExecutionCapabilities())
+            .stream()
+            .map(selectorCapability -> selectorCapability.getSelectors())
+            .flatMap(Collection::stream)
+            .collect(Collectors.toSet());
+    final String noMatchingSelectorsMessage = CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP + " " + selectors;
+
+    task.getNonAssignableDelegates().putIfAbsent(noMatchingSelectorsMessage, new ArrayList<>());
+    task.getNonAssignableDelegates().get(noMatchingSelectorsMessage).add(delegateName);
+    log.debug("can not assign canAssignSelectors false");
+  }
+
   @Override
   public boolean canAssignTask(String delegateId, DelegateTask task) {
+    return canAssignTask(delegateId, task, null);
+  }
+
+  /**
+   * @param delegatesMatchingSelectors the delegates having the selectors of the task, which are then checked before
+   *     the scopes, or null to check the selectors of the delegate last
+   */
+  private boolean canAssignTask(String delegateId, DelegateTask task, Set<String> delegatesMatchingSelectors) {
     Delegate delegate = delegateCache.get(task.getAccountId(), delegateId);
     if (delegate == null) {
       return false;
@@ -1205,8 +1269,7 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
 
     String delegateName = isNotEmpty(delegate.getHostName()) ? delegate.getHostName() : delegate.getUuid();
 
-    boolean canAssignTaskToDelegate =
-        canAssignTaskToDelegate(delegate.getSupportedTaskTypes(), task.getData().getTaskType());
+    boolean canAssignTaskToDelegate = eligibilityIndex.supportsTaskType(delegate, task.getData().getTaskType());
     if (!canAssignTaskToDelegate) {
       final String taskNotAssignedReasonPhrase = CAN_NOT_ASSIGN_TASK_GROUP + " {" + task.getData().getTaskType() + "} ";
       task.getNonAssignableDelegates().putIfAbsent(taskNotAssignedReasonPhrase, new ArrayList<>());
@@ -1216,6 +1279,11 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
       return canAssignTaskToDelegate;
     }
 
+    if (delegatesMatchingSelectors != null && !delegatesMatchingSelectors.contains(delegateId)) {
+      addSelectorsMismatch(task, delegateName);
+      return false;
+    }
+
     boolean canAssignDelegateScopes = canAssignDelegateScopes(delegate, task);
 
     if (!canAssignDelegateScopes) {
@@ -1235,18 +1303,19 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
       return canAssignDelegateProfileScopes;
     }
 
-    boolean canAssignSelectors = canAssignSelectors(delegate, task.getExecutionCapabilities());
-    if (!canAssignSelectors) {
-      task.getNonAssignableDelegates().putIfAbsent(CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP, new ArrayList<>());
-      task.getNonAssignableDelegates().get(CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP).add(delegateName);
-      log.debug("can not assign canAssignSelectors {}", canAssignSelectors);
-      return canAssignSelectors;
+    if (delegatesMatchingSelectors == null && !canAssignSelectors(delegate, task.getExecutionCapabilities())) {
+      addSelectorsMismatch(task, delegateName);
+      return false;
     }
     return true;
   }
 
   @Override
   public boolean canAssignTaskV2(String delegateId, DelegateTask task) {
+    return canAssignTaskV2(delegateId, task, null);
+  }
+
+  private boolean canAssignTaskV2(String delegateId, DelegateTask task, Set<String> delegatesMatchingSelectors) {
     Delegate delegate = delegateCache.get(task.getAccountId(), delegateId);
     if (delegate == null) {
       return false;
@@ -1254,8 +1323,7 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
 
     String delegateName = isNotEmpty(delegate.getHostName()) ? delegate.getHostName() : delegate.getUuid();
 
-    boolean canAssignTaskToDelegate =
-        canAssignTaskToDelegate(delegate.getSupportedTaskTypes(), task.getTaskDataV2().getTaskType());
+    boolean canAssignTaskToDelegate = eligibilityIndex.supportsTaskType(delegate, task.getTaskDataV2().getTaskType());
     if (!canAssignTaskToDelegate) {
       final String taskNotAssignedReasonPhrase =
           String.format("%s %s", task.getTaskDataV2().getTaskType(), CAN_NOT_ASSIGN_TASK_GROUP);
@@ -1266,6 +1334,11 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
       return false;
     }
 
+    if (delegatesMatchingSelectors != null && !delegatesMatchingSelectors.contains(delegateId)) {
+      addSelectorsMismatchV2(task, delegateName);
+      return false;
+    }
+
     boolean canAssignDelegateScopes = canAssignDelegateScopesV2(delegate, task);
 
     if (!canAssignDelegateScopes) {
@@ -1285,19 +1358,8 @@ public class AssignDelegateServiceImpl implements AssignDelegateService, Delegat
       return false;
     }
 
-    boolean canAssignSelectors = canAssignSelectors(delegate, task.getExecutionCapabilities());
-    if (!canAssignSelectors) {
-      final Set<String> selectors =
-          delegateTaskServiceClassic.fetchTaskSelectorCapabilities(task.getExecutionCapabilities())
-              .stream()
-              .map(selectorCapability -> selectorCapability.getSelectors())
-              .flatMap(Collection::stream)
-              .collect(Collectors.toSet());
-      final String noMatchingSelectorsMessage = CAN_NOT_ASSIGN_SELECTOR_TASK_GROUP + " " + selectors;
-
-      task.getNonAssignableDelegates().putIfAbsent(noMatchingSelectorsMessage, new ArrayList<>());
-      task.getNonAssignableDelegates().get(noMatchingSelectorsMessage).add(delegateName);
-      log.debug("can not assign canAssignSelectors {}", canAssignSelectors);
+    if (delegatesMatchingSelectors == null && !canAssignSelectors(delegate, task.getExecutionCapabilities())) {
+      addSelectorsMismatchV2(task, delegateName);
       return false;
     }
     return true;
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.annotations.dev.HarnessTeam.DEL;
+import static io.harness.data.structure.CollectionUtils.trimmedLowercaseSet;
+
+import static java.util.Collections.emptySet;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.delegate.beans.Delegate;
+import io.harness.service.intfc.DelegateProfileObserver;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In memory index of the delegates of each account by selector, which also keeps the selectors and the supported task
+ * types of each delegate as sets. Matching the selectors of a task is then an intersection of the delegate sets of its
+ * selectors, instead of computing the selectors of every delegate of the account for every task.
+ *
+ * The entry of a delegate is recomputed when the delegate cache returns it with other tags, names, profile, group or
+ * task types, which happens after it registers again or its heartbeat reloads it, and when the cached delegate group
+ * has other tags than the ones the entry was computed with. The selectors also come from the delegate profile, which
+ * can be changed in another manager, so the index of an account is dropped on tag and profile selector changes and
+ * expires after a while.
+ */
+@OwnedBy(DEL)
+public class DelegateEligibilityIndex implements DelegateObserver, DelegateProfileObserver {
+  private static final int MAX_ACCOUNTS = 1000;
+
+  private final Function<Delegate, Set<String>> selectorsProvider;
+  private final Function<Delegate, Set<String>> groupTagsProvider;
+  private final Cache<String, AccountIndex> accountIndexes;
+
+  /**
+   * @param groupTagsProvider the tags of the delegate group of the delegate, read from a cache as it is called every
+   *     time an entry is used
+   */
+  public DelegateEligibilityIndex(Function<Delegate, Set<String>> selectorsProvider,
+      Function<Delegate, Set<String>> groupTagsProvider, long expiryMillis) {
+    this.selectorsProvider = selectorsProvider;
+    this.groupTagsProvider = groupTagsProvider;
+    this.accountIndexes = CacheBuilder.newBuilder()
+                              .maximumSize(MAX_ACCOUNTS)
+                              .expireAfterWrite(expiryMillis, TimeUnit.MILLISECONDS)
+                              .build();
+  }
+
+  /**
+   * @return the trimmed lowercase selectors of the delegate
+   */
+  public Set<String> getSelectors(Delegate delegate) {
+    return obtainEntry(delegate).selectors;
+  }
+
+  public boolean supportsTaskType(Delegate delegate, String taskType) {
+    return taskType != null && obtainEntry(delegate).taskTypes.contains(taskType);
+  }
+
+  /**
+   * @param delegates the delegates to match, as returned by the delegate cache
+   * @param selectors trimmed lowercase selectors, at least one
+   * @return the ids of the delegates having all the selectors. Other delegates of the account can be included.
+   */
+  public Set<String> getDelegatesWithSelectors(
+      String accountId, Collection<Delegate> delegates, Set<String> selectors) {
+    AccountIndex accountIndex = obtainAccountIndex(accountId);
+    delegates.forEach(delegate -> obtainEntry(accountIndex, delegate));
+
+    // Starting with the rarest selector keeps the intermediate sets small
+    List<Set<String>> delegateSets =
+        selectors.stream()
+            .map(selector -> accountIndex.delegatesBySelector.getOrDefault(selector, emptySet()))
+            .sorted(Comparator.comparingInt(Set::size))
+            .collect(Collectors.toList());
+    Set<String> delegateIds = new HashSet<>(delegateSets.get(0));
+    for (int i = 1; i < delegateSets.size() && !delegateIds.isEmpty(); i++) {
+      delegateIds.retainAll(delegateSets.get(i));
+    }
+    return delegateIds;
+  }
+
+  public void invalidate(String accountId) {
+    accountIndexes.invalidate(accountId);
+  }
+
+  @Override
+  public void onAdded(Delegate delegate) {
+    // Nothing to do, the entry is recomputed when the delegate cache returns the registered delegate
+  }
+
+  @Override
+  public void onDisconnected(String accountId, String delegateId) {
+    // Nothing to do, disconnected delegates are filtered out before matching
+  }
+
+  @Override
+  public void onReconnected(Delegate delegate) {
+    // Nothing to do, the entry is recomputed when the delegate cache returns the reconnected delegate
+  }
+
+  @Override
+  public void onDelegateTagsUpdated(String accountId) {
+    invalidate(accountId);
+  }
+
+  @Override
+  public void onProfileSelectorsUpdated(String accountId, String profileId) {
+    invalidate(accountId);
+  }
+
+  @Override
+  public void onProfileScopesUpdated(String accountId, String profileId) {
+    // Nothing to do, scopes are not indexed
+  }
+
+  private DelegateEntry obtainEntry(Delegate delegate) {
+    return obtainEntry(obtainAccountIndex(delegate.getAccountId()), delegate);
+  }
+
+  private DelegateEntry obtainEntry(AccountIndex accountIndex, Delegate delegate) {
+    DelegateEntry entry = accountIndex.entries.get(delegate.getUuid());
+    Set<String> groupTags = groupTagsProvider.apply(delegate);
+    if (entry != null && entry.isFor(delegate, groupTags)) {
+      return entry;
+    }
+    DelegateEntry newEntry =
+        new DelegateEntry(delegate, groupTags, trimmedLowercaseSet(selectorsProvider.apply(delegate)));
+    synchronized (accountIndex) {
+      DelegateEntry oldEntry = accountIndex.entries.put(delegate.getUuid(), newEntry);
+      if (oldEntry != null) {
+        oldEntry.selectors.forEach(selector -> remove(accountIndex.delegatesBySelector, selector, delegate.getUuid()));
+      }
+      newEntry.selectors.forEach(selector
+          -> accountIndex.delegatesBySelector.computeIfAbsent(selector, key -> ConcurrentHashMap.newKeySet())
+                 .add(delegate.getUuid()));
+    }
+    return newEntry;
+  }
+
+  private AccountIndex obtainAccountIndex(String accountId) {
+    AccountIndex accountIndex = accountIndexes.getIfPresent(accountId);
+    if (accountIndex == null) {
+      accountIndex = accountIndexes.asMap().computeIfAbsent(accountId, id -> new AccountIndex());
+    }
+    return accountIndex;
+  }
+
+  private static void remove(Map<String, Set<String>> delegatesBySelector, String selector, String delegateId) {
+    Set<String> delegateIds = delegatesBySelector.get(selector);
+    if (delegateIds != null) {
+      delegateIds.remove(delegateId);
+      if (delegateIds.isEmpty()) {
+        delegatesBySelector.remove(selector);
+      }
+    }
+  }
+
+  private static class AccountIndex {
+    private final Map<String, DelegateEntry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> delegatesBySelector = new ConcurrentHashMap<>();
+  }
+
+  private static class DelegateEntry {
+    // Fields the selectors and the task types are computed from
+    private final List<String> tags;
+    private final String delegateGroupId;
+    private final String delegateGroupName;
+    private final String delegateName;
+    private final String hostName;
+    private final String delegateProfileId;
+    private final boolean ng;
+    private final List<String> supportedTaskTypes;
+    private final Set<String> groupTags;
+
+    private final Set<String> selectors;
+    private final Set<String> taskTypes;
+
+    private DelegateEntry(Delegate delegate, Set<String> groupTags, Set<String> selectors) {
+      this.tags = copy(delegate.getTags());
+      this.delegateGroupId = delegate.getDelegateGroupId();
+      this.delegateGroupName = delegate.getDelegateGroupName();
+      this.delegateName = delegate.getDelegateName();
+      this.hostName = delegate.getHostName();
+      this.delegateProfileId = delegate.getDelegateProfileId();
+      this.ng = delegate.isNg();
+      this.supportedTaskTypes = copy(delegate.getSupportedTaskTypes());
+      this.groupTags = groupTags == null ? null : new HashSet<>(groupTags);
+      this.selectors = selectors == null ? emptySet() : selectors;
+      this.taskTypes = supportedTaskTypes == null ? emptySet() : new HashSet<>(supportedTaskTypes);
+    }
+
+    private boolean isFor(Delegate delegate, Set<String> currentGroupTags) {
+      return ng == delegate.isNg() && Objects.equals(tags, delegate.getTags())
+          && Objects.equals(delegateGroupId, delegate.getDelegateGroupId())
+          && Objects.equals(delegateGroupName, delegate.getDelegateGroupName())
+          && Objects.equals(delegateName, delegate.getDelegateName())
+          && Objects.equals(hostName, delegate.getHostName())
+          && Objects.equals(delegateProfileId, delegate.getDelegateProfileId())
+          && Objects.equals(supportedTaskTypes, delegate.getSupportedTaskTypes())
+          && Objects.equals(groupTags, currentGroupTags);
+    }
+
+    // The delegate cache can hand out the same instance after updating it
+    private static List<String> copy(List<String> list) {
+      return list == null ? null : new ArrayList<>(list);
+    }
+  }
+}
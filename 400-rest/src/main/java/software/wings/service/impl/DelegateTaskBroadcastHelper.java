@@ -8,6 +8,9 @@
 package software.wings.service.impl;
 
 import static io.harness.annotations.dev.HarnessTeam.DEL;
+import static io.harness.beans.FeatureName.DELEGATE_TASK_TARGETED_DISPATCH;
+
+import static org.atmosphere.cpr.BroadcasterLifeCyclePolicy.ATMOSPHERE_RESOURCE_POLICY.IDLE_EMPTY_DESTROY;
 
 import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.OwnedBy;
@@ -21,10 +24,13 @@ import software.wings.service.intfc.AssignDelegateService;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.atmosphere.cpr.Broadcaster;
 import org.atmosphere.cpr.BroadcasterFactory;
+import org.atmosphere.cpr.BroadcasterLifeCyclePolicy;
 
 @Singleton
 @Slf4j
@@ -32,6 +38,7 @@ import org.atmosphere.cpr.BroadcasterFactory;
 @OwnedBy(DEL)
 public class DelegateTaskBroadcastHelper {
   public static final String STREAM_DELEGATE_PATH = "/stream/delegate/";
+  private static final long DELEGATE_CHANNEL_IDLE_MINUTES = 10;
   @Inject private AssignDelegateService assignDelegateService;
   @Inject private BroadcasterFactory broadcasterFactory;
   @Inject private HPersistence persistence;
@@ -72,8 +79,7 @@ public class DelegateTaskBroadcastHelper {
                                                       .taskType(delegateTask.getData().getTaskType())
                                                       .build();
 
-    Broadcaster broadcaster = broadcasterFactory.lookup(STREAM_DELEGATE_PATH + delegateTask.getAccountId(), true);
-    broadcaster.broadcast(delegateTaskBroadcast);
+    broadcast(delegateTaskBroadcast);
   }
 
   public void rebroadcastDelegateTaskV2(DelegateTask delegateTask) {
@@ -90,7 +96,51 @@ public class DelegateTaskBroadcastHelper {
                                                       .taskType(delegateTask.getTaskDataV2().getTaskType())
                                                       .build();
 
-    Broadcaster broadcaster = broadcasterFactory.lookup(STREAM_DELEGATE_PATH + delegateTask.getAccountId(), true);
+    broadcast(delegateTaskBroadcast);
+  }
+
+  public static String getDelegateStreamPath(String accountId, String delegateId) {
+    return STREAM_DELEGATE_PATH + accountId + "/" + delegateId;
+  }
+
+  /**
+   * Looks up the channel of a single delegate. A channel is created for each delegate connecting to or dispatched a
+   * task from this manager, with a redis subscription in REDIS stream mode, so it is destroyed once no delegate is
+   * connected to it and nothing was broadcast on it for DELEGATE_CHANNEL_IDLE_MINUTES.
+   */
+  public static Broadcaster lookupDelegateBroadcaster(
+      BroadcasterFactory broadcasterFactory, String accountId, String delegateId) {
+    String path = getDelegateStreamPath(accountId, delegateId);
+    Broadcaster broadcaster = broadcasterFactory.lookup(path, false);
+    if (broadcaster != null) {
+      return broadcaster;
+    }
+    broadcaster = broadcasterFactory.lookup(path, true);
+    broadcaster.setBroadcasterLifeCyclePolicy(
+        new BroadcasterLifeCyclePolicy.Builder()
+            .policy(IDLE_EMPTY_DESTROY)
+            .idleTimeInMS(TimeUnit.MINUTES.toMillis(DELEGATE_CHANNEL_IDLE_MINUTES))
+            .build());
+    return broadcaster;
+  }
+
+  /**
+   * A task broadcast to a single delegate, which is the case of the first broadcast, is pushed only to the channel of
+   * that delegate when targeted dispatch is enabled, so the other delegates of the account are not woken up. If the
+   * delegate does not acquire the task, it is queued and DelegateQueueTask rebroadcasts it on the account channel.
+   */
+  private void broadcast(DelegateTaskBroadcast delegateTaskBroadcast) {
+    String accountId = delegateTaskBroadcast.getAccountId();
+    List<String> delegateIds = delegateTaskBroadcast.getBroadcastToDelegatesIds();
+    if (delegateIds != null && delegateIds.size() == 1
+        && featureFlagService.isEnabled(DELEGATE_TASK_TARGETED_DISPATCH, accountId)) {
+      log.info("Dispatching task {} to delegate {}", delegateTaskBroadcast.getTaskId(), delegateIds.get(0));
+      // DelegateEventFilter applies to the delegate channel as well, and renders the task event for the delegate
+      lookupDelegateBroadcaster(broadcasterFactory, accountId, delegateIds.get(0)).broadcast(delegateTaskBroadcast);
+      return;
+    }
+
+    Broadcaster broadcaster = broadcasterFactory.lookup(STREAM_DELEGATE_PATH + accountId, true);
     broadcaster.broadcast(delegateTaskBroadcast);
   }
 }
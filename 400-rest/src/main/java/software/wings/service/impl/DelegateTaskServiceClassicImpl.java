@@ -13,6 +13,7 @@ import static io.harness.beans.DelegateTask.Status.QUEUED;
 import static io.harness.beans.DelegateTask.Status.STARTED;
 import static io.harness.beans.DelegateTask.Status.runningStatuses;
 import static io.harness.beans.FeatureName.DELEGATE_TASK_LOAD_DISTRIBUTION;
+import static io.harness.beans.FeatureName.DELEGATE_TASK_TARGETED_DISPATCH;
 import static io.harness.beans.FeatureName.GIT_HOST_CONNECTIVITY;
 import static io.harness.beans.FeatureName.QUEUE_DELEGATE_TASK;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
@@ -714,13 +715,22 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
   }
 
   private String getDelegateIdForFirstBroadcast(DelegateTask delegateTask, List<String> eligibleListOfDelegates) {
+    String accountId = delegateTask.getAccountId();
+    boolean targetedDispatch = featureFlagService.isEnabled(DELEGATE_TASK_TARGETED_DISPATCH, accountId);
     if (delegateTask.isNGTask(delegateTask.getSetupAbstractions())
-        && featureFlagService.isEnabled(DELEGATE_TASK_LOAD_DISTRIBUTION, delegateTask.getAccountId())) {
-      List<String> eligibleDelegatesSorted =
-          getEligibleDelegateListOrderedNumberByTaskAssigned(delegateTask, eligibleListOfDelegates);
+        && (targetedDispatch || featureFlagService.isEnabled(DELEGATE_TASK_LOAD_DISTRIBUTION, accountId))) {
+      Map<String, Integer> tasksCount = getNumberOfTaskAssigned(delegateTask, eligibleListOfDelegates);
+      List<String> eligibleDelegatesSorted = getDelegateListOrderedByNumberOfTaskAssigned(tasksCount);
       delegateTask.setEligibleToExecuteDelegateIds(new LinkedList<>(eligibleDelegatesSorted));
       log.info("Eligible delegate sorted list: {}", eligibleDelegatesSorted);
       delegateMetricsService.recordDelegateTaskMetrics(delegateTask, DELEGATE_TASK_NO_FIRST_WHITELISTED);
+      if (targetedDispatch) {
+        // The task is pushed to this delegate only, so pick the least loaded one that can still take it
+        return eligibleDelegatesSorted.stream()
+            .filter(delegateId -> delegateHasCapacity(accountId, delegateId, tasksCount.get(delegateId)))
+            .findFirst()
+            .orElse(eligibleDelegatesSorted.get(0));
+      }
       return eligibleDelegatesSorted.get(0);
     } else {
       for (String delegateId : eligibleListOfDelegates) {
@@ -738,6 +748,11 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
   @VisibleForTesting
   protected List<String> getEligibleDelegateListOrderedNumberByTaskAssigned(
       DelegateTask delegateTask, List<String> eligibleListOfDelegates) {
+    return getDelegateListOrderedByNumberOfTaskAssigned(getNumberOfTaskAssigned(delegateTask, eligibleListOfDelegates));
+  }
+
+  private Map<String, Integer> getNumberOfTaskAssigned(
+      DelegateTask delegateTask, List<String> eligibleListOfDelegates) {
     List<DelegateTask> delegateTasks = persistence.createQuery(DelegateTask.class)
                                            .filter(DelegateTaskKeys.accountId, delegateTask.getAccountId())
                                            .filter(DelegateTaskKeys.status, STARTED)
@@ -749,6 +764,10 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
     Map<String, Integer> tasksCount =
         delegateTasks.stream().collect(groupingBy(DelegateTask::getDelegateId, summingInt(delegateTaskCount -> 1)));
     eligibleListOfDelegates.forEach(delegate -> tasksCount.computeIfAbsent(delegate, key -> 0));
+    return tasksCount;
+  }
+
+  private List<String> getDelegateListOrderedByNumberOfTaskAssigned(Map<String, Integer> tasksCount) {
     TreeMap<Integer, List<String>> taskCountToDelegates = tasksCount.entrySet().stream().collect(Collectors.groupingBy(
         Map.Entry::getValue, TreeMap::new, Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
     // In order to improve randomness on delegate ids with same task counts, we apply the following
@@ -769,6 +788,14 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
     return delegateIds;
   }
 
+  private boolean delegateHasCapacity(String accountId, String delegateId, int numberOfTaskAssigned) {
+    Delegate delegate = delegateCache.get(accountId, delegateId);
+    if (delegate == null || !delegate.hasCapacityRegistered()) {
+      return true;
+    }
+    return delegate.getDelegateCapacity().getMaximumNumberOfBuilds() > numberOfTaskAssigned;
+  }
+
   private void handleTaskFailureResponseV2(DelegateTask task, Exception exception) {
     Query<DelegateTask> taskQuery =
         persistence
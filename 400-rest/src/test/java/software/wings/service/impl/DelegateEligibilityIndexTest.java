@@ -0,0 +1,120 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package software.wings.service.impl;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.delegate.beans.Delegate;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class DelegateEligibilityIndexTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "ACCOUNT_ID";
+
+  private AtomicInteger computedSelectors;
+  private Map<String, Set<String>> groupTags;
+  private DelegateEligibilityIndex eligibilityIndex;
+
+  @Before
+  public void setUp() {
+    computedSelectors = new AtomicInteger();
+    groupTags = new HashMap<>();
+    eligibilityIndex = new DelegateEligibilityIndex(delegate -> {
+      computedSelectors.incrementAndGet();
+      Set<String> selectors = new HashSet<>(delegate.getTags());
+      selectors.addAll(groupTags.getOrDefault(delegate.getDelegateGroupId(), emptySet()));
+      return selectors;
+    }, delegate -> groupTags.get(delegate.getDelegateGroupId()), TimeUnit.MINUTES.toMillis(1));
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testGetDelegatesWithSelectors() {
+    List<Delegate> delegates = asList(delegate("a", "Sel1", " sel2"), delegate("b", "sel1"), delegate("c"));
+
+    assertThat(eligibilityIndex.getDelegatesWithSelectors(ACCOUNT_ID, delegates, ImmutableSet.of("sel1")))
+        .containsExactlyInAnyOrder("a", "b");
+    assertThat(eligibilityIndex.getDelegatesWithSelectors(ACCOUNT_ID, delegates, ImmutableSet.of("sel1", "sel2")))
+        .containsExactly("a");
+    assertThat(eligibilityIndex.getDelegatesWithSelectors(ACCOUNT_ID, delegates, ImmutableSet.of("sel1", "sel3")))
+        .isEmpty();
+    assertThat(computedSelectors.get()).isEqualTo(3);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testDelegateIsReindexedWhenItChanges() {
+    assertThat(eligibilityIndex.getSelectors(delegate("a", "sel1"))).containsExactly("sel1");
+    assertThat(eligibilityIndex.getSelectors(delegate("a", "sel1"))).containsExactly("sel1");
+    assertThat(computedSelectors.get()).isEqualTo(1);
+
+    List<Delegate> delegates = asList(delegate("a", "sel2"));
+    assertThat(eligibilityIndex.getDelegatesWithSelectors(ACCOUNT_ID, delegates, ImmutableSet.of("sel1"))).isEmpty();
+    assertThat(eligibilityIndex.getDelegatesWithSelectors(ACCOUNT_ID, delegates, ImmutableSet.of("sel2")))
+        .containsExactly("a");
+    assertThat(computedSelectors.get()).isEqualTo(2);
+
+    eligibilityIndex.onProfileSelectorsUpdated(ACCOUNT_ID, "profileId");
+    eligibilityIndex.getSelectors(delegate("a", "sel2"));
+    assertThat(computedSelectors.get()).isEqualTo(3);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testDelegateIsReindexedWhenItsGroupChanges() {
+    Delegate delegate = delegate("a", "sel1");
+    delegate.setDelegateGroupId("groupId");
+    groupTags.put("groupId", ImmutableSet.of("group1"));
+    assertThat(eligibilityIndex.getSelectors(delegate)).containsExactlyInAnyOrder("sel1", "group1");
+    assertThat(eligibilityIndex.getSelectors(delegate)).containsExactlyInAnyOrder("sel1", "group1");
+    assertThat(computedSelectors.get()).isEqualTo(1);
+
+    groupTags.put("groupId", ImmutableSet.of("group2"));
+    List<Delegate> delegates = asList(delegate);
+    assertThat(eligibilityIndex.getDelegatesWithSelectors(ACCOUNT_ID, delegates, ImmutableSet.of("group1"))).isEmpty();
+    assertThat(eligibilityIndex.getDelegatesWithSelectors(ACCOUNT_ID, delegates, ImmutableSet.of("group2")))
+        .containsExactly("a");
+    assertThat(computedSelectors.get()).isEqualTo(2);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testSupportsTaskType() {
+    Delegate delegate = delegate("a");
+    delegate.setSupportedTaskTypes(asList("HTTP", "SHELL_SCRIPT_TASK_NG"));
+
+    assertThat(eligibilityIndex.supportsTaskType(delegate, "HTTP")).isTrue();
+    assertThat(eligibilityIndex.supportsTaskType(delegate, "JIRA")).isFalse();
+    assertThat(eligibilityIndex.supportsTaskType(delegate, null)).isFalse();
+  }
+
+  private Delegate delegate(String uuid, String... tags) {
+    return Delegate.builder().uuid(uuid).accountId(ACCOUNT_ID).tags(asList(tags)).build();
+  }
+}
@@ -7,13 +7,16 @@
 
 package software.wings.service.impl;
 
+import static io.harness.beans.FeatureName.DELEGATE_TASK_TARGETED_DISPATCH;
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.rule.OwnerRule.MARKO;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,6 +30,7 @@ import io.harness.rule.Owner;
 import software.wings.WingsBaseTest;
 import software.wings.beans.DelegateTaskBroadcast;
 
+import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import org.atmosphere.cpr.Broadcaster;
 import org.atmosphere.cpr.BroadcasterFactory;
@@ -71,4 +75,41 @@ public class DelegateTaskBroadcastHelperTest extends WingsBaseTest {
     assertThat(delegateTaskBroadcast.isAsync()).isEqualTo(delegateTask.getData().isAsync());
     assertThat(delegateTaskBroadcast.getPreAssignedDelegateId()).isEqualTo(delegateTask.getPreAssignedDelegateId());
   }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testRebroadcastDelegateTaskToSingleDelegateChannel() {
+    String accountId = generateUuid();
+    String delegateId = generateUuid();
+    DelegateTask delegateTask = DelegateTask.builder()
+                                    .version(generateUuid())
+                                    .accountId(accountId)
+                                    .uuid(generateUuid())
+                                    .data(TaskData.builder().async(true).taskType("HTTP").build())
+                                    .broadcastToDelegateIds(Lists.newArrayList(delegateId))
+                                    .build();
+
+    Broadcaster accountBroadcaster = mock(Broadcaster.class);
+    Broadcaster delegateBroadcaster = mock(Broadcaster.class);
+    when(featureFlagService.isEnabled(DELEGATE_TASK_TARGETED_DISPATCH, accountId)).thenReturn(true);
+    when(broadcasterFactory.lookup(DelegateTaskBroadcastHelper.STREAM_DELEGATE_PATH + accountId, true))
+        .thenReturn(accountBroadcaster);
+    when(broadcasterFactory.lookup(DelegateTaskBroadcastHelper.getDelegateStreamPath(accountId, delegateId), true))
+        .thenReturn(delegateBroadcaster);
+
+    broadcastHelper.rebroadcastDelegateTask(delegateTask);
+
+    ArgumentCaptor<DelegateTaskBroadcast> argumentCaptor = ArgumentCaptor.forClass(DelegateTaskBroadcast.class);
+    verify(delegateBroadcaster, times(1)).broadcast(argumentCaptor.capture());
+    verify(delegateBroadcaster, times(1)).setBroadcasterLifeCyclePolicy(any());
+    verify(accountBroadcaster, never()).broadcast(any());
+
+    DelegateTaskBroadcast delegateTaskBroadcast = argumentCaptor.getValue();
+    assertThat(delegateTaskBroadcast.getTaskId()).isEqualTo(delegateTask.getUuid());
+    assertThat(delegateTaskBroadcast.getAccountId()).isEqualTo(accountId);
+    assertThat(delegateTaskBroadcast.getBroadcastToDelegatesIds()).containsExactly(delegateId);
+    assertThat(delegateTaskBroadcast.isAsync()).isTrue();
+    assertThat(delegateTaskBroadcast.getTaskType()).isEqualTo("HTTP");
+  }
 }
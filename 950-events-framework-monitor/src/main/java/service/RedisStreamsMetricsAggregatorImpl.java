@@ -9,6 +9,7 @@ package service;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.impl.redis.EventsFrameworkStreamCodec;
 import io.harness.eventsframework.monitor.dto.AggregateRedisStreamMetricsDTO;
 import io.harness.eventsframework.monitor.dto.RedisStreamConsumerGroupMetricsDTO;
 import io.harness.eventsframework.monitor.dto.RedisStreamDTO;
@@ -26,7 +27,6 @@ import org.redisson.api.RedissonClient;
 import org.redisson.api.StreamGroup;
 import org.redisson.api.StreamMessageId;
 import org.redisson.client.RedisClient;
-import org.redisson.client.codec.StringCodec;
 
 @OwnedBy(HarnessTeam.PL)
 @AllArgsConstructor(onConstructor = @__({ @Inject }))
@@ -81,7 +81,8 @@ public class RedisStreamsMetricsAggregatorImpl implements RedisStreamsMetricsAgg
   }
 
   private RStream<String, String> getRedisStream(String streamName) {
-    return redisClient.getStream(streamName, new StringCodec("UTF-8"));
+    // Same codec as the producers and consumers, so the binary payloads are read back as they were written
+    return redisClient.getStream(streamName, new EventsFrameworkStreamCodec());
   }
 
   private RedisStreamDTO createRedisStreamDTO(String streamName) {
@@ -11,29 +11,34 @@ import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.expression.SecretString.SECRET_MASK;
 import static io.harness.windows.CmdUtils.WIN_RM_MARKER;
 
-import static org.apache.commons.lang3.StringUtils.replaceEach;
-
 import io.harness.annotations.dev.CodePulse;
 import io.harness.annotations.dev.HarnessModuleComponent;
 import io.harness.annotations.dev.ProductModule;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.logging.LogSanitizerHelper;
+import io.harness.logging.SecretMasker;
 import io.harness.windows.CmdUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.Builder;
 
 @CodePulse(
     module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_COMMON_STEPS})
-@Builder
 public class LogStreamingSanitizer {
   private final Set<String> secrets;
+  // Built once per task, the WinRM one only when a WinRM command logs
+  private final SecretMasker secretMasker;
+  private volatile SecretMasker winRmSecretMasker;
+
+  @Builder
   public LogStreamingSanitizer(Set<String> secrets) {
     this.secrets = calculateSecretLines(secrets);
+    this.secretMasker = compileSecretMasker(this.secrets);
   }
 
   public void sanitizeLogMessage(LogLine logLine) {
@@ -49,21 +54,7 @@ public class LogStreamingSanitizer {
 
     if (!isEmpty(secrets)) {
       boolean isWinRm = markers != null && markers.contains(WIN_RM_MARKER);
-      Set<String> allSecrets = isWinRm ? new HashSet<>(secrets) : secrets;
-      if (isWinRm) {
-        secrets.stream().map(CmdUtils::escapeEnvValueSpecialChars).collect(Collectors.toCollection(() -> allSecrets));
-      }
-
-      ArrayList<String> secretMasks = new ArrayList<>();
-      ArrayList<String> secretValues = new ArrayList<>();
-      for (String secret : allSecrets) {
-        secretMasks.add(SECRET_MASK);
-        secretValues.add(secret);
-
-        addSecretMasksWithQuotesRemoved(secret, secretMasks, secretValues);
-      }
-      sanitizedLogMessage = replaceEach(
-          logLine.getMessage(), secretValues.toArray(new String[] {}), secretMasks.toArray(new String[] {}));
+      sanitizedLogMessage = (isWinRm ? getWinRmSecretMasker() : secretMasker).mask(sanitizedLogMessage);
     }
 
     // JWT mask
@@ -71,6 +62,15 @@ public class LogStreamingSanitizer {
     logLine.setMessage(sanitizedLogMessage);
   }
 
+  private SecretMasker getWinRmSecretMasker() {
+    if (winRmSecretMasker == null) {
+      Set<String> allSecrets = new HashSet<>(secrets);
+      secrets.stream().map(CmdUtils::escapeEnvValueSpecialChars).collect(Collectors.toCollection(() -> allSecrets));
+      winRmSecretMasker = compileSecretMasker(allSecrets);
+    }
+    return winRmSecretMasker;
+  }
+
   private static Set<String> calculateSecretLines(Set<String> secrets) {
     if (isEmpty(secrets)) {
       return new HashSet<>();
@@ -83,16 +83,22 @@ public class LogStreamingSanitizer {
         .collect(Collectors.toSet());
   }
 
-  private void addSecretMasksWithQuotesRemoved(
-      String secret, ArrayList<String> secretMasks, ArrayList<String> secretValues) {
+  private static SecretMasker compileSecretMasker(Set<String> secrets) {
+    List<String> secretValues = new ArrayList<>();
+    for (String secret : secrets) {
+      secretValues.add(secret);
+      addSecretsWithQuotesRemoved(secret, secretValues);
+    }
+    return SecretMasker.compile(secretValues, SECRET_MASK);
+  }
+
+  private static void addSecretsWithQuotesRemoved(String secret, List<String> secretValues) {
     String secretWithDoubleQuoteRemoved = secret.replaceAll("\"", "");
     if (!secretWithDoubleQuoteRemoved.equals(secret)) {
-      secretMasks.add(SECRET_MASK);
       secretValues.add(secretWithDoubleQuoteRemoved);
     }
     String secretWithSingleQuoteRemoved = secret.replaceAll("\'", "");
     if (!secretWithSingleQuoteRemoved.equals(secret)) {
-      secretMasks.add(SECRET_MASK);
       secretValues.add(secretWithSingleQuoteRemoved);
     }
   }
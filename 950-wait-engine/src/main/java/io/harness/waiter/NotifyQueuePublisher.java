@@ -7,6 +7,12 @@
 
 package io.harness.waiter;
 
+import java.util.List;
+
 public interface NotifyQueuePublisher {
   void send(NotifyEvent payload);
+
+  default void sendAll(List<NotifyEvent> payloads) {
+    payloads.forEach(this::send);
+  }
 }
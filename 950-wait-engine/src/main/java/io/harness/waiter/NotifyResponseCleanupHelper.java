@@ -68,7 +68,7 @@ public class NotifyResponseCleanupHelper {
         }
       }
       if (needHandling) {
-        waitNotifyEngine.handleNotifyResponse(key);
+        waitNotifyEngine.reconcileNotifyResponse(key);
       }
     }
 
@@ -90,7 +90,7 @@ public class NotifyResponseCleanupSpringPersistenceHelper {
         }
 
         if (needHandling) {
-          waitNotifyEngine.handleNotifyResponse(key);
+          waitNotifyEngine.reconcileNotifyResponse(key);
         }
       }
     }
@@ -13,6 +13,9 @@ import io.harness.eventsframework.api.Producer;
 import io.harness.eventsframework.producer.Message;
 import io.harness.waiter.notify.NotifyEventProto;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @OwnedBy(HarnessTeam.PIPELINE)
 public abstract class RedisNotifyQueuePublisher implements NotifyQueuePublisher {
   private final Producer producer;
@@ -26,6 +29,15 @@ public abstract class RedisNotifyQueuePublisher implements NotifyQueuePublisher
     producer.send(Message.newBuilder().setData(toProto(payload).toByteString()).build());
   }
 
+  @Override
+  public void sendAll(List<NotifyEvent> payloads) {
+    List<Message> messages = new ArrayList<>(payloads.size());
+    for (NotifyEvent payload : payloads) {
+      messages.add(Message.newBuilder().setData(toProto(payload).toByteString()).build());
+    }
+    producer.sendBatch(messages);
+  }
+
   public NotifyEventProto toProto(NotifyEvent event) {
     return NotifyEventProto.newBuilder().setWaitInstanceId(event.getWaitInstanceId()).build();
   }
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import static java.util.Collections.singletonList;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.redis.RedisConfig;
+import io.harness.redis.RedissonClientFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RScript.Mode;
+import org.redisson.api.RScript.ReturnType;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * Tracks in redis which wait instances are waiting on which correlation ids, so that a response completes its wait
+ * instances without one findAndModify per wait instance. Responses only update the index on the notify path. The wait
+ * instances in mongo are brought up to date in the background by the notify response cleaner, which also notifies the
+ * wait instances that the index lost, for example after an eviction or a failover.
+ *
+ * For every wait instance there is a hash with the number of correlation ids it still waits on and its publisher, and
+ * for every correlation id a set of the wait instances waiting on it. A short lived marker is left for every done
+ * correlation id, so that a wait instance registered concurrently with the response does not miss it. Every key has
+ * the hash tag of its own wait instance or correlation id, and every script only touches the keys of one tag, so that
+ * the index spreads over the slots of a cluster.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Singleton
+@Slf4j
+public class RedisWaitInstanceIndex {
+  private static final String KEY_PREFIX = "waitEngine:";
+  private static final String INSTANCE_KEY = ":instance";
+  private static final String WAITING_KEY = ":waiting";
+  private static final String DONE_KEY = ":done";
+  // Wait instances can wait as long as they live in mongo
+  private static final long INDEX_TTL_SECONDS = WaitInstance.TTL.getSeconds();
+  // Only needs to cover the time between saving a wait instance and registering it
+  private static final long DONE_MARKER_TTL_SECONDS = Duration.ofHours(1).getSeconds();
+  // Returned by the decrement when the wait instance is not in the index
+  private static final long MISSING = -1;
+
+  // KEYS: the instance hash
+  // ARGV: number of correlation ids to wait on, publisher, ttl
+  private static final String CREATE_SCRIPT =
+      "redis.call('HSET', KEYS[1], 'remaining', ARGV[1], 'publisher', ARGV[2])\n"
+      + "redis.call('EXPIRE', KEYS[1], ARGV[3])\n"
+      + "return 1";
+
+  // KEYS: the waiting set and the done marker of the correlation id
+  // ARGV: wait instance id, ttl
+  // Returns 1 if the correlation id is already done, otherwise adds the wait instance to its waiting set
+  private static final String REGISTER_SCRIPT = "if redis.call('EXISTS', KEYS[2]) == 1 then\n"
+      + "  return 1\n"
+      + "end\n"
+      + "redis.call('SADD', KEYS[1], ARGV[1])\n"
+      + "redis.call('EXPIRE', KEYS[1], ARGV[2])\n"
+      + "return 0";
+
+  // KEYS: the instance hash
+  // ARGV: number of correlation ids that are done
+  // Returns the number of correlation ids left, -1 if the hash is gone, and the publisher once nothing is left
+  private static final String DECREMENT_SCRIPT = "if redis.call('EXISTS', KEYS[1]) == 0 then\n"
+      + "  return {-1, ''}\n"
+      + "end\n"
+      + "local left = redis.call('HINCRBY', KEYS[1], 'remaining', -tonumber(ARGV[1]))\n"
+      + "if left > 0 then\n"
+      + "  return {left, ''}\n"
+      + "end\n"
+      + "local publisher = redis.call('HGET', KEYS[1], 'publisher') or ''\n"
+      + "redis.call('DEL', KEYS[1])\n"
+      + "return {0, publisher}";
+
+  // KEYS: the waiting set and the done marker of the correlation id
+  // ARGV: done marker ttl
+  // Returns the wait instances that were waiting on the correlation id
+  private static final String DONE_SCRIPT = "redis.call('SET', KEYS[2], '1', 'EX', ARGV[1])\n"
+      + "local members = redis.call('SMEMBERS', KEYS[1])\n"
+      + "redis.call('DEL', KEYS[1])\n"
+      + "return members";
+
+  private final RedisConfig redisConfig;
+  private final String keyPrefix;
+  private final Map<String, String> scriptShas = new ConcurrentHashMap<>();
+  private volatile RScript script;
+
+  @Inject
+  public RedisWaitInstanceIndex(WaiterConfiguration waiterConfiguration) {
+    this.redisConfig = waiterConfiguration.getWaitInstanceIndexRedisConfig();
+    this.keyPrefix = redisConfig == null || isEmpty(redisConfig.getEnvNamespace())
+        ? KEY_PREFIX
+        : redisConfig.getEnvNamespace() + ":" + KEY_PREFIX;
+  }
+
+  @VisibleForTesting
+  RedisWaitInstanceIndex(String keyPrefix, RScript script) {
+    this.redisConfig = null;
+    this.keyPrefix = keyPrefix;
+    this.script = script;
+  }
+
+  public boolean isEnabled() {
+    return redisConfig != null;
+  }
+
+  /**
+   * @param doneCorrelationIds the correlation ids that are already known to have a response
+   * @return the number of correlation ids the wait instance is still waiting on, 0 if it is complete, and -1 if it is
+   *     no longer in the index
+   */
+  public long register(
+      String waitInstanceId, String publisher, List<String> waitingOn, Set<String> doneCorrelationIds) {
+    // Every correlation id must be counted once
+    List<String> correlationIds = new ArrayList<>(new LinkedHashSet<>(waitingOn));
+    correlationIds.removeAll(doneCorrelationIds);
+    if (correlationIds.isEmpty()) {
+      return 0;
+    }
+
+    String instanceKey = instanceKey(waitInstanceId);
+    eval(CREATE_SCRIPT, ReturnType.INTEGER, singletonList(instanceKey), String.valueOf(correlationIds.size()),
+        publisher == null ? "" : publisher, String.valueOf(INDEX_TTL_SECONDS));
+
+    // A correlation id done concurrently is either seen through its marker here, or decrements the hash itself
+    long alreadyDone = 0;
+    for (String correlationId : correlationIds) {
+      Long done = eval(REGISTER_SCRIPT, ReturnType.INTEGER,
+          Arrays.asList(waitingKey(correlationId), doneKey(correlationId)), waitInstanceId,
+          String.valueOf(INDEX_TTL_SECONDS));
+      if (done != null && done == 1) {
+        alreadyDone++;
+      }
+    }
+    if (alreadyDone == 0) {
+      return correlationIds.size();
+    }
+    return (Long) decrement(waitInstanceId, alreadyDone).get(0);
+  }
+
+  /**
+   * Marks the correlation id as done.
+   *
+   * @return the wait instances that are no longer waiting on anything
+   */
+  public List<CompletedWaitInstance> done(String correlationId) {
+    List<Object> waitInstanceIds = eval(DONE_SCRIPT, ReturnType.MULTI,
+        Arrays.asList(waitingKey(correlationId), doneKey(correlationId)), String.valueOf(DONE_MARKER_TTL_SECONDS));
+
+    List<CompletedWaitInstance> completed = new ArrayList<>();
+    if (waitInstanceIds == null) {
+      return completed;
+    }
+    for (Object waitInstanceId : waitInstanceIds) {
+      List<Object> result = decrement((String) waitInstanceId, 1);
+      long left = (Long) result.get(0);
+      if (left == 0) {
+        completed.add(new CompletedWaitInstance((String) waitInstanceId, (String) result.get(1)));
+      } else if (left == MISSING) {
+        completed.add(new CompletedWaitInstance((String) waitInstanceId, ""));
+      }
+    }
+    return completed;
+  }
+
+  private List<Object> decrement(String waitInstanceId, long count) {
+    return eval(
+        DECREMENT_SCRIPT, ReturnType.MULTI, singletonList(instanceKey(waitInstanceId)), String.valueOf(count));
+  }
+
+  private String instanceKey(String waitInstanceId) {
+    return keyPrefix + "{" + waitInstanceId + "}" + INSTANCE_KEY;
+  }
+
+  private String waitingKey(String correlationId) {
+    return keyPrefix + "{" + correlationId + "}" + WAITING_KEY;
+  }
+
+  private String doneKey(String correlationId) {
+    return keyPrefix + "{" + correlationId + "}" + DONE_KEY;
+  }
+
+  private <R> R eval(String luaScript, ReturnType returnType, List<String> keyNames, Object... values) {
+    List<Object> keys = new ArrayList<>(keyNames);
+    RScript rScript = obtainScript();
+    String sha = scriptShas.computeIfAbsent(luaScript, rScript::scriptLoad);
+    try {
+      return rScript.evalSha(Mode.READ_WRITE, sha, returnType, keys, values);
+    } catch (RedisException e) {
+      if (e.getMessage() == null || !e.getMessage().contains("NOSCRIPT")) {
+        throw e;
+      }
+      // The scripts were flushed, for example after a failover
+      log.info("Reloading the wait instance index script");
+      sha = rScript.scriptLoad(luaScript);
+      scriptShas.put(luaScript, sha);
+      return rScript.evalSha(Mode.READ_WRITE, sha, returnType, keys, values);
+    }
+  }
+
+  private RScript obtainScript() {
+    if (script == null) {
+      synchronized (this) {
+        if (script == null) {
+          RedissonClient redissonClient = RedissonClientFactory.getClient(redisConfig);
+          script = redissonClient.getScript(StringCodec.INSTANCE);
+        }
+      }
+    }
+    return script;
+  }
+
+  @Value
+  public static class CompletedWaitInstance {
+    String waitInstanceId;
+    // Empty if the wait instance expired from the index
+    String publisher;
+  }
+}
@@ -23,6 +23,7 @@ import io.harness.serializer.KryoSerializer;
 import io.harness.tasks.ErrorResponseData;
 import io.harness.tasks.ProgressData;
 import io.harness.tasks.ResponseData;
+import io.harness.waiter.RedisWaitInstanceIndex.CompletedWaitInstance;
 import io.harness.waiter.WaitInstance.WaitInstanceBuilder;
 import io.harness.waiter.persistence.PersistenceWrapper;
 
@@ -36,12 +37,15 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
 
 /**
  * WaitNotifyEngine allows tasks to register in waitQueue and get notified via callback.
@@ -57,6 +61,7 @@ public class WaitNotifyEngine {
   @Inject private KryoSerializer kryoSerializer;
   @Inject @Named("referenceFalseKryoSerializer") private KryoSerializer referenceFalseKryoSerializer;
   @Inject private NotifyQueuePublisherRegister publisherRegister;
+  @Inject private RedisWaitInstanceIndex redisWaitInstanceIndex;
 
   public String waitForAllOn(String publisherName, NotifyCallback notifyCallback, String... correlationIds) {
     return waitForAllOn(publisherName, notifyCallback, null, correlationIds);
@@ -102,7 +107,13 @@ public class WaitNotifyEngine {
 
     waitInstanceBuilder.correlationIds(list).waitingOnCorrelationIds(list);
 
-    final String waitInstanceId = persistenceWrapper.saveWithTimeout(waitInstanceBuilder.build(), timeout);
+    final WaitInstance newWaitInstance = waitInstanceBuilder.build();
+    final String waitInstanceId = persistenceWrapper.saveWithTimeout(newWaitInstance, timeout);
+
+    if (redisWaitInstanceIndex.isEnabled()) {
+      registerInIndex(newWaitInstance, list);
+      return waitInstanceId;
+    }
 
     WaitInstance waitInstance;
     if ((waitInstance = persistenceWrapper.modifyAndFetchWaitInstanceForExistingResponse(waitInstanceId, list))
@@ -116,6 +127,32 @@ public class WaitNotifyEngine {
     return waitInstanceId;
   }
 
+  private void registerInIndex(WaitInstance newWaitInstance, List<String> list) {
+    // The responses that were saved before the wait instance are only in mongo
+    WaitInstance waitInstance =
+        persistenceWrapper.modifyAndFetchWaitInstanceForExistingResponse(newWaitInstance.getUuid(), list);
+    Set<String> doneCorrelationIds = new HashSet<>();
+    if (waitInstance != null) {
+      doneCorrelationIds.addAll(list);
+      doneCorrelationIds.removeAll(waitInstance.getWaitingOnCorrelationIds());
+    }
+
+    long remaining;
+    try {
+      remaining = redisWaitInstanceIndex.register(
+          newWaitInstance.getUuid(), newWaitInstance.getPublisher(), list, doneCorrelationIds);
+    } catch (RuntimeException exception) {
+      // The responses still update the wait instance in mongo, where the notify response cleaner finds it
+      log.warn("Failed to register the wait instance {} in the index", newWaitInstance.getUuid(), exception);
+      remaining = -1;
+    }
+    if (remaining == 0) {
+      sendNotification(newWaitInstance);
+    } else if (remaining < 0) {
+      notifyIfComplete(newWaitInstance.getUuid(), list);
+    }
+  }
+
   public void progressOn(String correlationId, ProgressData progressData) {
     progressOn(correlationId, progressData, true);
   }
@@ -178,6 +215,51 @@ public class WaitNotifyEngine {
     return null;
   }
 
+  /**
+   * Batched variant of {@link #doneWith(String, ResponseData)}. Responses are inserted in one bulk write, the wait
+   * instances waiting on any of the correlation ids are found with one query and the resulting notify events are handed
+   * to each publisher as a single batch.
+   *
+   * @param responses response data keyed by correlation id
+   * @return the correlation ids that were processed
+   */
+  public List<String> doneWithAll(Map<String, ResponseData> responses) {
+    Preconditions.checkArgument(isNotEmpty(responses), "responses are null or empty");
+    Preconditions.checkArgument(
+        responses.keySet().stream().allMatch(StringUtils::isNotBlank), "correlationId is null or empty");
+
+    if (log.isDebugEnabled()) {
+      log.debug("done with notify request received for the correlationIds : {}", responses.keySet());
+    }
+
+    List<String> correlationIds = new ArrayList<>(responses.keySet());
+    try {
+      final Stopwatch stopwatch = Stopwatch.createStarted();
+      final long createdAt = currentTimeMillis();
+      List<NotifyResponse> notifyResponses = new ArrayList<>(responses.size());
+      for (Map.Entry<String, ResponseData> entry : responses.entrySet()) {
+        notifyResponses.add(NotifyResponse.builder()
+                                .uuid(entry.getKey())
+                                .createdAt(createdAt)
+                                .usingKryoWithoutReference(true)
+                                .responseData(referenceFalseKryoSerializer.asDeflatedBytes(entry.getValue()))
+                                .error(entry.getValue() instanceof ErrorResponseData)
+                                .build());
+      }
+      persistenceWrapper.saveNotifyResponses(notifyResponses);
+      long queryEndTime = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+
+      if (log.isDebugEnabled()) {
+        log.debug("Process {} NotifyResponses mongo queryTime {}", notifyResponses.size(), queryEndTime);
+      }
+      handleNotifyResponses(correlationIds);
+      return correlationIds;
+    } catch (Exception exception) {
+      log.error("Failed to notify for responses of correlationIds {}", correlationIds, exception);
+    }
+    return Collections.emptyList();
+  }
+
   public void sendNotification(WaitInstance waitInstance) {
     try (WaitInstanceLogContext ignore = new WaitInstanceLogContext(waitInstance.getUuid(), OVERRIDE_NESTS)) {
       String publisher = waitInstance.getPublisher();
@@ -196,6 +278,19 @@ public class WaitNotifyEngine {
   }
 
   public void handleNotifyResponse(String uuid) {
+    if (redisWaitInstanceIndex.isEnabled()) {
+      handleNotifyResponseFromIndex(uuid);
+      return;
+    }
+    reconcileNotifyResponse(uuid);
+  }
+
+  /**
+   * Removes the correlation id of a response from the wait instances in mongo and notifies the ones it completes. With
+   * the index enabled, responses only update redis, and the notify response cleaners call this for the responses that
+   * wait instances in mongo are still waiting on.
+   */
+  public void reconcileNotifyResponse(String uuid) {
     WaitInstance waitInstance;
     while ((waitInstance = persistenceWrapper.modifyAndFetchWaitInstance(uuid)) != null) {
       if (isEmpty(waitInstance.getWaitingOnCorrelationIds())) {
@@ -204,8 +299,81 @@ public class WaitNotifyEngine {
     }
   }
 
+  private void handleNotifyResponseFromIndex(String correlationId) {
+    // The index decides which wait instances are complete, the wait instances in mongo are brought up to date with the
+    // response by the notify response cleaners, which also notify the wait instances the index lost
+    List<CompletedWaitInstance> completedWaitInstances;
+    try {
+      completedWaitInstances = redisWaitInstanceIndex.done(correlationId);
+    } catch (RuntimeException exception) {
+      log.warn("Failed to update the wait instance index for correlationId: {}", correlationId, exception);
+      reconcileWaitInstances(correlationId);
+      return;
+    }
+    for (CompletedWaitInstance completedWaitInstance : completedWaitInstances) {
+      if (isEmpty(completedWaitInstance.getPublisher())) {
+        // The wait instance expired from the index, mongo still knows what it waits on
+        notifyIfComplete(completedWaitInstance.getWaitInstanceId(), singletonList(correlationId));
+        continue;
+      }
+      sendNotification(WaitInstance.builder()
+                           .uuid(completedWaitInstance.getWaitInstanceId())
+                           .publisher(completedWaitInstance.getPublisher())
+                           .build());
+    }
+  }
+
+  /**
+   * Recomputes from the responses in mongo which of the wait instances on the correlation id are complete. It is the
+   * fallback for when the index cannot be trusted.
+   */
+  private void reconcileWaitInstances(String correlationId) {
+    for (WaitInstance waitInstance : persistenceWrapper.fetchWaitInstances(correlationId)) {
+      notifyIfComplete(waitInstance.getUuid(), waitInstance.getCorrelationIds());
+    }
+  }
+
+  private void notifyIfComplete(String waitInstanceId, List<String> correlationIds) {
+    WaitInstance updated =
+        persistenceWrapper.modifyAndFetchWaitInstanceForExistingResponse(waitInstanceId, correlationIds);
+    if (updated != null && isEmpty(updated.getWaitingOnCorrelationIds())
+        && updated.getCallbackProcessingAt() < System.currentTimeMillis()) {
+      sendNotification(updated);
+    }
+  }
+
+  public void handleNotifyResponses(List<String> uuids) {
+    if (redisWaitInstanceIndex.isEnabled()) {
+      uuids.forEach(this::handleNotifyResponseFromIndex);
+      return;
+    }
+    List<WaitInstance> waitInstances = persistenceWrapper.modifyAndFetchWaitInstances(uuids);
+    if (isEmpty(waitInstances)) {
+      return;
+    }
+
+    Map<String, List<NotifyEvent>> eventsByPublisher = new HashMap<>();
+    for (WaitInstance waitInstance : waitInstances) {
+      eventsByPublisher.computeIfAbsent(waitInstance.getPublisher(), publisher -> new ArrayList<>())
+          .add(aNotifyEvent().waitInstanceId(waitInstance.getUuid()).build());
+    }
+
+    eventsByPublisher.forEach((publisher, events) -> {
+      final NotifyQueuePublisher notifyQueuePublisher = publisherRegister.obtain(publisher);
+      if (notifyQueuePublisher == null) {
+        log.error("Unknown publisher {}", publisher);
+        return;
+      }
+      notifyQueuePublisher.sendAll(events);
+    });
+  }
+
   public boolean doneWithWithoutCallback(@NonNull String correlationId) {
     try {
+      if (redisWaitInstanceIndex.isEnabled()) {
+        doneWithWithoutCallbackFromIndex(correlationId);
+        return true;
+      }
       WaitInstance waitInstance;
       while ((waitInstance = modifyAndFetchWaitInstance(correlationId)) != null) {
         if (isEmpty(waitInstance.getWaitingOnCorrelationIds())) {
@@ -219,6 +387,20 @@ public class WaitNotifyEngine {
     }
   }
 
+  private void doneWithWithoutCallbackFromIndex(String correlationId) {
+    persistenceWrapper.pullWaitingOnCorrelationId(correlationId);
+    try {
+      redisWaitInstanceIndex.done(correlationId);
+    } catch (RuntimeException exception) {
+      log.warn("Failed to update the wait instance index for correlationId: {}", correlationId, exception);
+    }
+    for (WaitInstance waitInstance : persistenceWrapper.fetchWaitInstances(correlationId)) {
+      if (isEmpty(waitInstance.getWaitingOnCorrelationIds())) {
+        persistenceWrapper.deleteWaitInstance(waitInstance);
+      }
+    }
+  }
+
   private WaitInstance modifyAndFetchWaitInstance(String correlationId) {
     WaitInstance waitInstance = persistenceWrapper.modifyAndFetchWaitInstance(correlationId);
     if (waitInstance == null) {
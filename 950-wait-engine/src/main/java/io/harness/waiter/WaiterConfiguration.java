@@ -9,6 +9,7 @@ package io.harness.waiter;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.redis.RedisConfig;
 
 import lombok.Builder;
 import lombok.Builder.Default;
@@ -21,4 +22,6 @@ public class WaiterConfiguration {
   public enum PersistenceLayer { SPRING, MORPHIA }
   public boolean versioningDisabled;
   @Default PersistenceLayer persistenceLayer = PersistenceLayer.MORPHIA;
+  // When set, the wait instances completed by a response are found in this redis, mongo is reconciled in background
+  RedisConfig waitInstanceIndexRedisConfig;
 }
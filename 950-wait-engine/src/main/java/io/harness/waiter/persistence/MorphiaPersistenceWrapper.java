@@ -201,6 +201,60 @@ public class MorphiaPersistenceWrapper implements PersistenceWrapper {
     return hPersistence.findAndModify(query, operations, HPersistence.returnNewOptions);
   }
 
+  @Override
+  public void pullWaitingOnCorrelationId(String waitingOnCorrelationId) {
+    final Query<WaitInstance> query = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+                                          .filter(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationId);
+
+    final UpdateOperations<WaitInstance> operations =
+        hPersistence.createUpdateOperations(WaitInstance.class)
+            .removeAll(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationId);
+    hPersistence.update(query, operations);
+  }
+
+  @Override
+  public void saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    if (isEmpty(notifyResponses)) {
+      return;
+    }
+    hPersistence.saveIgnoringDuplicateKeys(new ArrayList<>(notifyResponses));
+  }
+
+  @Override
+  public List<WaitInstance> modifyAndFetchWaitInstances(List<String> waitingOnCorrelationIds) {
+    if (isEmpty(waitingOnCorrelationIds)) {
+      return new ArrayList<>();
+    }
+    final List<String> waitInstanceIds = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+                                             .field(WaitInstanceKeys.waitingOnCorrelationIds)
+                                             .in(waitingOnCorrelationIds)
+                                             .asKeyList()
+                                             .stream()
+                                             .map(key -> (String) key.getId())
+                                             .collect(toList());
+    if (isEmpty(waitInstanceIds)) {
+      return new ArrayList<>();
+    }
+
+    // Every wait instance is updated with its own findAndModify, so that only the call that removes its last
+    // correlation id gets it back as complete
+    final List<WaitInstance> completed = new ArrayList<>();
+    for (String waitInstanceId : waitInstanceIds) {
+      final Query<WaitInstance> query = hPersistence.createQuery(WaitInstance.class, excludeAuthority)
+                                            .filter(WaitInstanceKeys.uuid, waitInstanceId)
+                                            .field(WaitInstanceKeys.waitingOnCorrelationIds)
+                                            .in(waitingOnCorrelationIds);
+      final UpdateOperations<WaitInstance> operations =
+          hPersistence.createUpdateOperations(WaitInstance.class)
+              .removeAll(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationIds);
+      WaitInstance waitInstance = hPersistence.findAndModify(query, operations, HPersistence.returnNewOptions);
+      if (waitInstance != null && isEmpty(waitInstance.getWaitingOnCorrelationIds())) {
+        completed.add(waitInstance);
+      }
+    }
+    return completed;
+  }
+
   @Override
   public String saveWithTimeout(WaitInstance waitInstance, Duration timeout) {
     if (!timeout.isZero()) {
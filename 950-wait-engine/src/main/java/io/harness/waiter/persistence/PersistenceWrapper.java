@@ -9,6 +9,7 @@ package io.harness.waiter.persistence;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.waiter.NotifyResponse;
 import io.harness.waiter.ProcessedMessageResponse;
 import io.harness.waiter.ProgressUpdate;
 import io.harness.waiter.WaitEngineEntity;
@@ -28,6 +29,24 @@ public interface PersistenceWrapper {
 
   WaitInstance modifyAndFetchWaitInstance(String waitingOnCorrelationId);
 
+  /**
+   * Removes the correlation id from every wait instance waiting on it with one update.
+   */
+  void pullWaitingOnCorrelationId(String waitingOnCorrelationId);
+
+  /**
+   * Inserts the responses in one bulk write, skipping the ones that already exist.
+   */
+  void saveNotifyResponses(List<NotifyResponse> notifyResponses);
+
+  /**
+   * Removes the given correlation ids from every wait instance waiting on them. Every wait instance is only returned to
+   * the call that removed its last correlation id.
+   *
+   * @return the wait instances that are no longer waiting on anything
+   */
+  List<WaitInstance> modifyAndFetchWaitInstances(List<String> waitingOnCorrelationIds);
+
   WaitInstance modifyAndFetchWaitInstanceForExistingResponse(String waitInstanceId, List<String> notifyResponseIds);
 
   WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now);
@@ -16,6 +16,7 @@ import static io.harness.waiter.WaitNotifyEngine.MIN_WAIT_INSTANCE_TIMEOUT;
 import static java.util.stream.Collectors.toList;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
+import static org.springframework.data.mongodb.util.MongoDbErrorCodes.isDuplicateKeyCode;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
@@ -44,6 +45,7 @@ import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import com.mongodb.client.result.DeleteResult;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +56,8 @@ import lombok.extern.slf4j.Slf4j;
 import net.jodah.failsafe.Failsafe;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Query;
@@ -204,6 +208,62 @@ public class SpringPersistenceWrapper implements PersistenceWrapper {
     return mongoTemplate.findAndModify(query, update, SpringDataMongoUtils.returnNewOptions, WaitInstance.class);
   }
 
+  @Override
+  public void pullWaitingOnCorrelationId(String waitingOnCorrelationId) {
+    Query query = query(where(WaitInstanceKeys.waitingOnCorrelationIds).is(waitingOnCorrelationId));
+    Update update = new Update().pull(WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationId);
+    mongoTemplate.updateMulti(query, update, WaitInstance.class);
+  }
+
+  @Override
+  public void saveNotifyResponses(List<NotifyResponse> notifyResponses) {
+    if (isEmpty(notifyResponses)) {
+      return;
+    }
+    for (List<NotifyResponse> batch : Lists.partition(notifyResponses, MAX_BATCH_SIZE)) {
+      try {
+        mongoTemplate.bulkOps(BulkMode.UNORDERED, NotifyResponse.class).insert(batch).execute();
+      } catch (BulkOperationException ex) {
+        if (!ex.getErrors().stream().allMatch(bulkWriteError -> isDuplicateKeyCode(bulkWriteError.getCode()))) {
+          throw ex;
+        }
+        log.warn("Skipped {} already existing notify responses", ex.getErrors().size());
+      }
+    }
+  }
+
+  @Override
+  public List<WaitInstance> modifyAndFetchWaitInstances(List<String> waitingOnCorrelationIds) {
+    if (isEmpty(waitingOnCorrelationIds)) {
+      return new ArrayList<>();
+    }
+    final Query candidatesQuery = query(where(WaitInstanceKeys.waitingOnCorrelationIds).in(waitingOnCorrelationIds));
+    candidatesQuery.fields().include(WaitInstanceKeys.uuid);
+    final List<String> waitInstanceIds = mongoTemplate.find(candidatesQuery, WaitInstance.class)
+                                             .stream()
+                                             .map(WaitInstance::getUuid)
+                                             .collect(toList());
+    if (isEmpty(waitInstanceIds)) {
+      return new ArrayList<>();
+    }
+
+    // Every wait instance is updated with its own findAndModify, so that only the call that removes its last
+    // correlation id gets it back as complete
+    final Update update = new Update().pullAll(
+        WaitInstanceKeys.waitingOnCorrelationIds, waitingOnCorrelationIds.toArray(new String[0]));
+    final List<WaitInstance> completed = new ArrayList<>();
+    for (String waitInstanceId : waitInstanceIds) {
+      final Query query = query(where(WaitInstanceKeys.uuid).is(waitInstanceId))
+                              .addCriteria(where(WaitInstanceKeys.waitingOnCorrelationIds).in(waitingOnCorrelationIds));
+      WaitInstance waitInstance =
+          mongoTemplate.findAndModify(query, update, SpringDataMongoUtils.returnNewOptions, WaitInstance.class);
+      if (waitInstance != null && isEmpty(waitInstance.getWaitingOnCorrelationIds())) {
+        completed.add(waitInstance);
+      }
+    }
+    return completed;
+  }
+
   @Override
   public WaitInstance fetchForProcessingWaitInstance(String waitInstanceId, long now) {
     final Query query = query(where(WaitInstanceKeys.uuid).is(waitInstanceId))
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.waiter;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.waiter.RedisWaitInstanceIndex.CompletedWaitInstance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.invocation.InvocationOnMock;
+import org.redisson.api.RScript;
+
+public class RedisWaitInstanceIndexTest extends CategoryTest {
+  private static final Pattern HASH_TAG = Pattern.compile("\\{([^}]*)}");
+
+  // A redis that runs the scripts of the index on maps, keyed by what each script does
+  private final Map<String, String> scripts = new HashMap<>();
+  private final Map<String, Map<String, String>> hashes = new HashMap<>();
+  private final Map<String, Set<String>> sets = new HashMap<>();
+  private final Set<String> markers = new HashSet<>();
+  private final List<List<Object>> calls = new ArrayList<>();
+
+  private RedisWaitInstanceIndex index;
+
+  @Before
+  public void setUp() {
+    RScript script = mock(RScript.class, this::answer);
+    index = new RedisWaitInstanceIndex("test:waitEngine:", script);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testDoneCompletesWaitInstanceOnLastCorrelationId() {
+    assertThat(index.register("waitInstance", "publisher", Arrays.asList("c1", "c2", "c1"), new HashSet<>()))
+        .isEqualTo(2);
+
+    assertThat(index.done("c1")).isEmpty();
+    assertThat(index.done("c2")).containsExactly(new CompletedWaitInstance("waitInstance", "publisher"));
+    assertThat(hashes).isEmpty();
+    assertThat(sets).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRegisterCountsCorrelationIdsAlreadyDone() {
+    assertThat(index.register("waitInstance", "publisher", Arrays.asList("c1", "c2"), Collections.singleton("c1")))
+        .isEqualTo(1);
+    assertThat(index.done("c2")).containsExactly(new CompletedWaitInstance("waitInstance", "publisher"));
+
+    // Done between saving the wait instance and registering it
+    assertThat(index.done("c3")).isEmpty();
+    assertThat(index.register("otherWaitInstance", "publisher", Collections.singletonList("c3"), new HashSet<>()))
+        .isEqualTo(0);
+
+    calls.clear();
+    assertThat(index.register("thirdWaitInstance", "publisher", Collections.singletonList("c1"),
+                   Collections.singleton("c1")))
+        .isEqualTo(0);
+    assertThat(calls).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testDoneReturnsWaitInstancesMissingFromIndex() {
+    index.register("waitInstance", "publisher", Arrays.asList("c1", "c2"), new HashSet<>());
+    hashes.clear();
+
+    assertThat(index.done("c1")).containsExactly(new CompletedWaitInstance("waitInstance", ""));
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testEveryCallUsesKeysOfOneHashTag() {
+    index.register("waitInstance1", "publisher", Arrays.asList("c1", "c2"), new HashSet<>());
+    index.register("waitInstance2", "publisher", Collections.singletonList("c1"), new HashSet<>());
+    index.done("c1");
+    index.done("c2");
+
+    Set<String> tags = new LinkedHashSet<>();
+    for (List<Object> keys : calls) {
+      Set<String> callTags = new HashSet<>();
+      for (Object key : keys) {
+        assertThat((String) key).startsWith("test:waitEngine:");
+        callTags.add(hashTag((String) key));
+      }
+      assertThat(callTags).hasSize(1);
+      tags.addAll(callTags);
+    }
+    assertThat(tags).containsExactlyInAnyOrder("waitInstance1", "waitInstance2", "c1", "c2");
+  }
+
+  private static String hashTag(String key) {
+    Matcher matcher = HASH_TAG.matcher(key);
+    assertThat(matcher.find()).isTrue();
+    return matcher.group(1);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object answer(InvocationOnMock invocation) {
+    Object[] arguments = invocation.getArguments();
+    if (invocation.getMethod().getName().equals("scriptLoad")) {
+      String sha = "sha" + scripts.size();
+      scripts.put(sha, (String) arguments[0]);
+      return sha;
+    }
+    String script = scripts.get((String) arguments[1]);
+    List<Object> keys = (List<Object>) arguments[3];
+    Object[] values = arguments.length == 5 && arguments[4] instanceof Object[]
+        ? (Object[]) arguments[4]
+        : Arrays.copyOfRange(arguments, 4, arguments.length);
+    calls.add(keys);
+
+    if (script.contains("SMEMBERS")) {
+      markers.add((String) keys.get(1));
+      Set<String> members = sets.remove((String) keys.get(0));
+      return members == null ? new ArrayList<>() : new ArrayList<Object>(members);
+    }
+    if (script.contains("SADD")) {
+      if (markers.contains((String) keys.get(1))) {
+        return 1L;
+      }
+      sets.computeIfAbsent((String) keys.get(0), key -> new HashSet<>()).add((String) values[0]);
+      return 0L;
+    }
+    if (script.contains("HINCRBY")) {
+      Map<String, String> hash = hashes.get((String) keys.get(0));
+      if (hash == null) {
+        return Arrays.asList(-1L, "");
+      }
+      long left = Long.parseLong(hash.get("remaining")) - Long.parseLong((String) values[0]);
+      if (left > 0) {
+        hash.put("remaining", String.valueOf(left));
+        return Arrays.asList(left, "");
+      }
+      hashes.remove((String) keys.get(0));
+      return Arrays.asList(0L, hash.get("publisher"));
+    }
+    Map<String, String> hash = new HashMap<>();
+    hash.put("remaining", (String) values[0]);
+    hash.put("publisher", (String) values[1]);
+    hashes.put((String) keys.get(0), hash);
+    return 1L;
+  }
+}
@@ -18,8 +18,14 @@ import static io.harness.waiter.TestNotifyEventListener.TEST_PUBLISHER;
 import static com.google.common.collect.ImmutableMap.of;
 import static java.time.Duration.ofMillis;
 import static java.time.Duration.ofSeconds;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 import static org.springframework.data.mongodb.core.query.Query.query;
 
@@ -39,7 +45,9 @@ import io.harness.tasks.ResponseData;
 import io.harness.threading.Concurrent;
 import io.harness.threading.Poller;
 import io.harness.timeout.TimeoutEngine;
+import io.harness.waiter.NotifyResponse.NotifyResponseKeys;
 import io.harness.waiter.ProgressUpdate.ProgressUpdateKeys;
+import io.harness.waiter.RedisWaitInstanceIndex.CompletedWaitInstance;
 import io.harness.waiter.WaitInstance.WaitInstanceKeys;
 
 import com.google.inject.Inject;
@@ -56,6 +64,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
+import org.joor.Reflect;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -383,6 +392,33 @@ public class WaitNotifyEngineTest extends WaitEngineTestBase {
     }
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldWaitForCorrelationIdsDoneWithAll() throws IOException {
+    String uuid1 = generateUuid();
+    String uuid2 = generateUuid();
+    String uuid3 = generateUuid();
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid1, uuid2);
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid3);
+
+      ResponseData data1 = StringNotifyResponseData.builder().data("response-" + uuid1).build();
+      ResponseData data2 = StringNotifyResponseData.builder().data("response-" + uuid2).build();
+      ResponseData data3 = StringNotifyResponseData.builder().data("response-" + uuid3).build();
+      List<String> ids = waitNotifyEngine.doneWithAll(of(uuid1, data1, uuid2, data2, uuid3, data3));
+
+      assertThat(ids).containsExactlyInAnyOrder(uuid1, uuid2, uuid3);
+      assertThat(persistence.createQuery(NotifyResponse.class, excludeAuthority).asList()).hasSize(3);
+
+      Poller.pollFor(Duration.ofSeconds(10), ofMillis(100), () -> notifyConsumer.count(Filter.ALL) == 0);
+
+      assertThat(responseMap).hasSize(3).isEqualTo(of(uuid1, data1, uuid2, data2, uuid3, data3));
+      assertThat(callCount.get()).isEqualTo(2);
+    }
+  }
+
   /**
    * Should wait for progress on correlation id.
    */
@@ -492,6 +528,122 @@ public class WaitNotifyEngineTest extends WaitEngineTestBase {
     }
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotifyWaitInstanceLostByIndex() throws IOException {
+    String uuid = generateUuid();
+    RedisWaitInstanceIndex redisWaitInstanceIndex = mock(RedisWaitInstanceIndex.class);
+    when(redisWaitInstanceIndex.isEnabled()).thenReturn(true);
+    when(redisWaitInstanceIndex.register(anyString(), anyString(), anyList(), anySet()))
+        .thenThrow(new IllegalStateException("redis is down"));
+    when(redisWaitInstanceIndex.done(uuid)).thenReturn(new ArrayList<>());
+    Object index = Reflect.on(waitNotifyEngine).get("redisWaitInstanceIndex");
+    Reflect.on(waitNotifyEngine).set("redisWaitInstanceIndex", redisWaitInstanceIndex);
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(true)) {
+      String waitInstanceId = waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid);
+      assertThat(persistence.get(WaitInstance.class, waitInstanceId).getWaitingOnCorrelationIds())
+          .containsExactly(uuid);
+
+      ResponseData data = StringNotifyResponseData.builder().data("response-" + uuid).build();
+      waitNotifyEngine.doneWith(uuid, data);
+      assertThat(persistence.get(WaitInstance.class, waitInstanceId).getWaitingOnCorrelationIds())
+          .containsExactly(uuid);
+      assertThat(notifyConsumer.count(Filter.ALL)).isEqualTo(0);
+
+      persistence.update(persistence.createQuery(NotifyResponse.class, excludeAuthority)
+                             .filter(NotifyResponseKeys.uuid, uuid),
+          persistence.createUpdateOperations(NotifyResponse.class)
+              .set(NotifyResponseKeys.createdAt, System.currentTimeMillis() - ofSeconds(20).toMillis()));
+      notifyResponseCleaner.execute();
+      notifyEventListener.execute();
+
+      assertThat(responseMap).hasSize(1).isEqualTo(of(uuid, data));
+      assertThat(callCount.get()).isEqualTo(1);
+    } finally {
+      Reflect.on(waitNotifyEngine).set("redisWaitInstanceIndex", index);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotifyFromIndexWithoutUpdatingMongo() throws IOException {
+    String uuid = generateUuid();
+    RedisWaitInstanceIndex redisWaitInstanceIndex = mock(RedisWaitInstanceIndex.class);
+    when(redisWaitInstanceIndex.isEnabled()).thenReturn(true);
+    when(redisWaitInstanceIndex.register(anyString(), anyString(), anyList(), anySet())).thenReturn(1L);
+    Object index = Reflect.on(waitNotifyEngine).get("redisWaitInstanceIndex");
+    Reflect.on(waitNotifyEngine).set("redisWaitInstanceIndex", redisWaitInstanceIndex);
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(true)) {
+      String waitInstanceId = waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid);
+      when(redisWaitInstanceIndex.done(uuid))
+          .thenReturn(singletonList(new CompletedWaitInstance(waitInstanceId, TEST_PUBLISHER)));
+
+      ResponseData data = StringNotifyResponseData.builder().data("response-" + uuid).build();
+      waitNotifyEngine.doneWith(uuid, data);
+      assertThat(persistence.get(WaitInstance.class, waitInstanceId).getWaitingOnCorrelationIds())
+          .containsExactly(uuid);
+
+      notifyEventListener.execute();
+
+      assertThat(responseMap).hasSize(1).isEqualTo(of(uuid, data));
+      assertThat(callCount.get()).isEqualTo(1);
+    } finally {
+      Reflect.on(waitNotifyEngine).set("redisWaitInstanceIndex", index);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNotifyFromMongoWhenIndexFails() throws IOException {
+    String uuid = generateUuid();
+    RedisWaitInstanceIndex redisWaitInstanceIndex = mock(RedisWaitInstanceIndex.class);
+    when(redisWaitInstanceIndex.isEnabled()).thenReturn(true);
+    when(redisWaitInstanceIndex.register(anyString(), anyString(), anyList(), anySet())).thenReturn(1L);
+    when(redisWaitInstanceIndex.done(uuid)).thenThrow(new IllegalStateException("redis is down"));
+    Object index = Reflect.on(waitNotifyEngine).get("redisWaitInstanceIndex");
+    Reflect.on(waitNotifyEngine).set("redisWaitInstanceIndex", redisWaitInstanceIndex);
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(true)) {
+      waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid);
+
+      ResponseData data = StringNotifyResponseData.builder().data("response-" + uuid).build();
+      waitNotifyEngine.doneWith(uuid, data);
+      notifyEventListener.execute();
+
+      assertThat(responseMap).hasSize(1).isEqualTo(of(uuid, data));
+      assertThat(callCount.get()).isEqualTo(1);
+    } finally {
+      Reflect.on(waitNotifyEngine).set("redisWaitInstanceIndex", index);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldNoopDoneWithUsingIndex() {
+    String uuid = generateUuid();
+    RedisWaitInstanceIndex redisWaitInstanceIndex = mock(RedisWaitInstanceIndex.class);
+    when(redisWaitInstanceIndex.isEnabled()).thenReturn(true);
+    when(redisWaitInstanceIndex.register(anyString(), anyString(), anyList(), anySet())).thenReturn(1L);
+    when(redisWaitInstanceIndex.done(uuid)).thenReturn(new ArrayList<>());
+    Object index = Reflect.on(waitNotifyEngine).get("redisWaitInstanceIndex");
+    Reflect.on(waitNotifyEngine).set("redisWaitInstanceIndex", redisWaitInstanceIndex);
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(true)) {
+      String waitInstanceId = waitNotifyEngine.waitForAllOn(TEST_PUBLISHER, new TestNotifyCallback(), uuid);
+
+      assertThat(waitNotifyEngine.doneWithWithoutCallback(uuid)).isTrue();
+      assertThat(persistence.get(WaitInstance.class, waitInstanceId)).isNull();
+    } finally {
+      Reflect.on(waitNotifyEngine).set("redisWaitInstanceIndex", index);
+    }
+  }
+
   @Test
   @Owner(developers = GEORGE)
   @Category(UnitTests.class)
@@ -9,6 +9,7 @@ package io.harness.waiter.persistence;
 
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.rule.OwnerRule.ARCHIT;
+import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.PRASHANT;
 import static io.harness.waiter.TestNotifyEventListener.TEST_PUBLISHER;
 import static io.harness.waiter.WaitInstanceService.MAX_CALLBACK_PROCESSING_TIME;
@@ -22,6 +23,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
 import io.harness.rule.Owner;
+import io.harness.threading.Concurrent;
 import io.harness.timeout.TimeoutEngine;
 import io.harness.waiter.NotifyResponse;
 import io.harness.waiter.NotifyResponse.NotifyResponseKeys;
@@ -259,4 +261,32 @@ public class SpringPersistenceWrapperTest extends WaitEngineTestBase {
     assertThat(keyList).hasSize(1);
     assertThat(keyList).containsExactly(response1.getUuid());
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testModifyAndFetchWaitInstancesReturnsEveryWaitInstanceOnce() {
+    String correlationId1 = generateUuid();
+    String correlationId2 = generateUuid();
+    List<String> waitInstanceIds = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      WaitInstance waitInstance = WaitInstance.builder()
+                                      .uuid(generateUuid())
+                                      .callback(new TestNotifyCallback())
+                                      .publisher(TEST_PUBLISHER)
+                                      .correlationIds(Arrays.asList(correlationId1, correlationId2))
+                                      .waitingOnCorrelationIds(Arrays.asList(correlationId1, correlationId2))
+                                      .build();
+      mongoTemplate.save(waitInstance);
+      waitInstanceIds.add(waitInstance.getUuid());
+    }
+
+    List<WaitInstance> completed = Collections.synchronizedList(new ArrayList<>());
+    Concurrent.test(2,
+        i
+        -> completed.addAll(persistenceWrapper.modifyAndFetchWaitInstances(
+            Collections.singletonList(i == 0 ? correlationId1 : correlationId2))));
+
+    assertThat(completed).extracting(WaitInstance::getUuid).containsExactlyInAnyOrderElementsOf(waitInstanceIds);
+  }
 }
@@ -22,6 +22,10 @@ public class ChangeConsumerConfig {
   EventsFrameworkConfiguration eventsFrameworkConfiguration;
   // Length of redis stream
   int redisStreamSize;
+  // Send the events of a batch as pipelined batches
+  boolean asyncRedisProducer;
+  // Store the events as raw bytes, only once all the consumers of the streams read them
+  boolean binaryRedisPayload;
   // Mode of consumer can be either one of snapshot or streaming
   ConsumerMode consumerMode;
 }
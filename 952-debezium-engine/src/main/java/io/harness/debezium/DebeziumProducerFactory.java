@@ -23,11 +23,19 @@ import org.redisson.api.RedissonClient;
 
 @Slf4j
 public class DebeziumProducerFactory {
+  private static final int ASYNC_BATCH_SIZE = 100;
+  private static final long ASYNC_LINGER_MILLIS = 5;
+  private static final int ASYNC_MAX_IN_FLIGHT_BATCHES = 4;
   private static final Map<String, Producer> producerMap = new ConcurrentHashMap<>();
   @Inject RedisProducerFactory redisProducerFactory;
 
   public Producer get(
       String collection, int redisStreamSize, ConsumerMode mode, EventsFrameworkConfiguration configuration) {
+    return get(collection, redisStreamSize, mode, configuration, false, false);
+  }
+
+  public Producer get(String collection, int redisStreamSize, ConsumerMode mode,
+      EventsFrameworkConfiguration configuration, boolean asyncRedisProducer, boolean binaryRedisPayload) {
     if (producerMap.containsKey(collection + "-" + mode)) {
       return producerMap.get(collection + "-" + mode);
     }
@@ -36,8 +44,12 @@ public class DebeziumProducerFactory {
     if (mode == ConsumerMode.SNAPSHOT) {
       topicName = DEBEZIUM_PREFIX + "SNAPSHOT_" + collection;
     }
-    Producer producer = redisProducerFactory.createRedisProducer(topicName, redissonClient, redisStreamSize,
-        DEBEZIUM_SERVICE.getServiceId(), configuration.getRedisConfig().getEnvNamespace());
+    Producer producer = asyncRedisProducer
+        ? redisProducerFactory.createAsyncRedisProducer(topicName, redissonClient, redisStreamSize,
+            DEBEZIUM_SERVICE.getServiceId(), configuration.getRedisConfig().getEnvNamespace(), binaryRedisPayload,
+            ASYNC_BATCH_SIZE, ASYNC_LINGER_MILLIS, ASYNC_MAX_IN_FLIGHT_BATCHES)
+        : redisProducerFactory.createRedisProducer(topicName, redissonClient, redisStreamSize,
+            DEBEZIUM_SERVICE.getServiceId(), configuration.getRedisConfig().getEnvNamespace(), binaryRedisPayload);
     producerMap.put(collection + "-" + mode, producer);
     return producer;
   }
@@ -12,6 +12,7 @@ import io.harness.cf.client.api.CfClient;
 import io.harness.cf.client.dto.Target;
 import io.harness.eventsframework.EventsFrameworkConfiguration;
 import io.harness.eventsframework.api.Producer;
+import io.harness.eventsframework.impl.redis.AsyncRedisProducer;
 import io.harness.eventsframework.producer.Message;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -19,12 +20,15 @@ import io.debezium.embedded.EmbeddedEngineChangeEvent;
 import io.debezium.engine.ChangeEvent;
 import io.debezium.engine.DebeziumEngine;
 import io.debezium.engine.Header;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.connect.source.SourceRecord;
@@ -41,6 +45,8 @@ public abstract class EventsFrameworkChangeConsumer implements MongoCollectionCh
   CfClient cfClient;
   EventsFrameworkConfiguration configuration;
   ConsumerMode mode;
+  boolean asyncRedisProducer;
+  boolean binaryRedisPayload;
 
   public EventsFrameworkChangeConsumer(ChangeConsumerConfig changeConsumerConfig, CfClient cfClient, String collection,
       DebeziumProducerFactory debeziumProducerFactory) {
@@ -49,6 +55,8 @@ public abstract class EventsFrameworkChangeConsumer implements MongoCollectionCh
     this.collectionName = collection;
     this.producerFactory = debeziumProducerFactory;
     this.redisStreamSize = changeConsumerConfig.getRedisStreamSize();
+    this.asyncRedisProducer = changeConsumerConfig.isAsyncRedisProducer();
+    this.binaryRedisPayload = changeConsumerConfig.isBinaryRedisPayload();
     this.cfClient = cfClient;
   }
 
@@ -64,6 +72,7 @@ public abstract class EventsFrameworkChangeConsumer implements MongoCollectionCh
       }
     }
     // Add the batch records to the stream(s)
+    PendingSends pendingSends = new PendingSends();
     for (ChangeEvent<String, String> record : recordsMap.values()) {
       cnt++;
       Optional<OpType> opType =
@@ -78,17 +87,15 @@ public abstract class EventsFrameworkChangeConsumer implements MongoCollectionCh
         String collection = Arrays.stream(collectionName.split("\\.")).collect(Collectors.toList()).get(1);
         boolean debeziumEnabled = cfClient.boolVariation(FeatureName.DEBEZIUM_ENABLED.toString(),
             Target.builder().identifier(collection + "." + mode).build(), false);
-        Producer producer = producerFactory.get(record.destination(), redisStreamSize, mode, configuration);
+        Producer producer = producerFactory.get(
+            record.destination(), redisStreamSize, mode, configuration, asyncRedisProducer, binaryRedisPayload);
         if (debeziumEnabled) {
-          producer.send(Message.newBuilder().setData(debeziumChangeEvent.toByteString()).build());
+          pendingSends.send(producer, Message.newBuilder().setData(debeziumChangeEvent.toByteString()).build());
         }
       }
-      try {
-        recordCommitter.markProcessed(record);
-      } catch (InterruptedException e) {
-        log.error("Exception Occurred while marking record as committed", e);
-      }
+      pendingSends.markProcessed(recordCommitter, record);
     }
+    pendingSends.awaitAndMarkProcessed(recordCommitter);
     recordCommitter.markBatchFinished();
   }
 
@@ -110,4 +117,51 @@ public abstract class EventsFrameworkChangeConsumer implements MongoCollectionCh
   public String getCollection() {
     return collectionName;
   }
+
+  /**
+   * Records whose events were sent through an async producer are only marked processed once all the sends of the batch
+   * went through, the engine commits the offsets of the marked records even when the batch fails.
+   */
+  static class PendingSends {
+    private final List<CompletableFuture<String>> sends = new ArrayList<>();
+    private final List<ChangeEvent<String, String>> records = new ArrayList<>();
+
+    void send(Producer producer, Message message) {
+      if (producer instanceof AsyncRedisProducer) {
+        sends.add(((AsyncRedisProducer) producer).sendAsync(message));
+      } else {
+        producer.send(message);
+      }
+    }
+
+    void markProcessed(DebeziumEngine.RecordCommitter<ChangeEvent<String, String>> recordCommitter,
+        ChangeEvent<String, String> record) {
+      if (sends.isEmpty()) {
+        doMarkProcessed(recordCommitter, record);
+      } else {
+        records.add(record);
+      }
+    }
+
+    void awaitAndMarkProcessed(DebeziumEngine.RecordCommitter<ChangeEvent<String, String>> recordCommitter) {
+      try {
+        CompletableFuture.allOf(sends.toArray(new CompletableFuture[0])).join();
+      } catch (CompletionException ex) {
+        if (ex.getCause() instanceof RuntimeException) {
+          throw(RuntimeException) ex.getCause();
+        }
+        throw ex;
+      }
+      records.forEach(record -> doMarkProcessed(recordCommitter, record));
+    }
+
+    private static void doMarkProcessed(DebeziumEngine.RecordCommitter<ChangeEvent<String, String>> recordCommitter,
+        ChangeEvent<String, String> record) {
+      try {
+        recordCommitter.markProcessed(record);
+      } catch (InterruptedException e) {
+        log.error("Exception Occurred while marking record as committed", e);
+      }
+    }
+  }
 }
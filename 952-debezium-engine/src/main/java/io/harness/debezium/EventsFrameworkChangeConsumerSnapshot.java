@@ -43,12 +43,14 @@ public class EventsFrameworkChangeConsumerSnapshot extends EventsFrameworkChange
       }
     }
     // Add the batch records to the stream(s)
+    PendingSends pendingSends = new PendingSends();
     for (ChangeEvent<String, String> record : recordsMap.values()) {
       cnt++;
       Optional<OpType> opType =
           getOperationType(((EmbeddedEngineChangeEvent<String, String, List<Header>>) record).sourceRecord());
       if (!opType.isEmpty()) {
         if (!opType.get().equals(OpType.SNAPSHOT)) {
+          pendingSends.awaitAndMarkProcessed(recordCommitter);
           throw new InvalidRequestException("Snapshot completed");
         }
         DebeziumChangeEvent debeziumChangeEvent = DebeziumChangeEvent.newBuilder()
@@ -59,17 +61,15 @@ public class EventsFrameworkChangeConsumerSnapshot extends EventsFrameworkChange
                                                       .build();
         boolean debeziumEnabled =
             cfClient.boolVariation(FeatureName.DEBEZIUM_ENABLED.toString(), Target.builder().build(), false);
-        Producer producer = producerFactory.get(record.destination(), redisStreamSize, mode, configuration);
+        Producer producer = producerFactory.get(
+            record.destination(), redisStreamSize, mode, configuration, asyncRedisProducer, binaryRedisPayload);
         if (debeziumEnabled) {
-          producer.send(Message.newBuilder().setData(debeziumChangeEvent.toByteString()).build());
+          pendingSends.send(producer, Message.newBuilder().setData(debeziumChangeEvent.toByteString()).build());
         }
       }
-      try {
-        recordCommitter.markProcessed(record);
-      } catch (InterruptedException e) {
-        log.error("Exception Occurred while marking record as committed", e);
-      }
+      pendingSends.markProcessed(recordCommitter, record);
     }
+    pendingSends.awaitAndMarkProcessed(recordCommitter);
     recordCommitter.markBatchFinished();
   }
 }
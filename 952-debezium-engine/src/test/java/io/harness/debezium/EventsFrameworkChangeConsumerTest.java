@@ -10,11 +10,14 @@ package io.harness.debezium;
 import static io.harness.rule.OwnerRule.SHALINI;
 
 import static junit.framework.TestCase.assertEquals;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -23,7 +26,9 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
 import io.harness.cf.client.api.CfClient;
+import io.harness.eventsframework.api.EventsFrameworkDownException;
 import io.harness.eventsframework.api.Producer;
+import io.harness.eventsframework.impl.redis.AsyncRedisProducer;
 import io.harness.eventsframework.producer.Message;
 import io.harness.rule.Owner;
 
@@ -36,6 +41,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.header.ConnectHeaders;
 import org.apache.kafka.connect.source.SourceRecord;
@@ -120,7 +126,7 @@ public class EventsFrameworkChangeConsumerTest extends CategoryTest {
         new SourceRecord(new HashMap<>(), new HashMap<>(), "topic", 0, Schema.BOOLEAN_SCHEMA, "", Schema.BOOLEAN_SCHEMA,
             "", 0L, headers));
     records.add(testRecord);
-    doReturn(producer).when(producerFactory).get("topic", 10, ConsumerMode.SNAPSHOT, null);
+    doReturn(producer).when(producerFactory).get("topic", 10, ConsumerMode.SNAPSHOT, null, false, false);
     doNothing().when(recordCommitter).markBatchFinished();
     doNothing().when(recordCommitter).markProcessed(testRecord);
     doReturn(true).when(cfClient).boolVariation(anyString(), any(), anyBoolean());
@@ -135,4 +141,42 @@ public class EventsFrameworkChangeConsumerTest extends CategoryTest {
     verify(recordCommitter, times(1)).markProcessed(testRecord);
     verify(recordCommitter, times(1)).markBatchFinished();
   }
+
+  @Test
+  @Owner(developers = SHALINI)
+  @Category(UnitTests.class)
+  public void testHandleBatchWithAsyncRedisProducer() throws InterruptedException {
+    EventsFrameworkChangeConsumerStreaming eventsFrameworkChangeConsumerStreaming =
+        new EventsFrameworkChangeConsumerStreaming(ChangeConsumerConfig.builder()
+                                                       .redisStreamSize(10)
+                                                       .consumerType(ConsumerType.EVENTS_FRAMEWORK)
+                                                       .eventsFrameworkConfiguration(null)
+                                                       .consumerMode(mode)
+                                                       .asyncRedisProducer(true)
+                                                       .build(),
+            cfClient, "coll.mode", producerFactory);
+    ConnectHeaders headers = new ConnectHeaders();
+    headers.add("__op", "c", Schema.STRING_SCHEMA);
+    ChangeEvent<String, String> testRecord = new EmbeddedEngineChangeEvent<>(key, value, null,
+        new SourceRecord(new HashMap<>(), new HashMap<>(), "topic", 0, Schema.BOOLEAN_SCHEMA, "", Schema.BOOLEAN_SCHEMA,
+            "", 0L, headers));
+    AsyncRedisProducer asyncProducer = mock(AsyncRedisProducer.class);
+    CompletableFuture<String> sent = new CompletableFuture<>();
+    doReturn(sent).when(asyncProducer).sendAsync(any());
+    doReturn(asyncProducer).when(producerFactory).get("topic", 10, ConsumerMode.SNAPSHOT, null, true, false);
+    doReturn(true).when(cfClient).boolVariation(anyString(), any(), anyBoolean());
+    sent.completeExceptionally(new EventsFrameworkDownException("down"));
+
+    assertThatThrownBy(()
+                           -> eventsFrameworkChangeConsumerStreaming.handleBatch(
+                               new ArrayList<>(List.of(testRecord)), recordCommitter))
+        .isInstanceOf(EventsFrameworkDownException.class);
+    verify(asyncProducer, never()).send(any());
+    verify(recordCommitter, never()).markProcessed(testRecord);
+
+    doReturn(CompletableFuture.completedFuture("1-0")).when(asyncProducer).sendAsync(any());
+    eventsFrameworkChangeConsumerStreaming.handleBatch(new ArrayList<>(List.of(testRecord)), recordCommitter);
+    verify(recordCommitter, times(1)).markProcessed(testRecord);
+    verify(recordCommitter, times(1)).markBatchFinished();
+  }
 }
@@ -9,7 +9,23 @@ package io.harness.eventsframework.api;
 
 import io.harness.eventsframework.producer.Message;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface Producer {
   String send(Message message);
+
+  /**
+   * Sends the messages in order and returns their ids. Implementations can override it to send them in fewer round
+   * trips.
+   */
+  default List<String> sendBatch(List<Message> messages) {
+    List<String> messageIds = new ArrayList<>(messages.size());
+    for (Message message : messages) {
+      messageIds.add(send(message));
+    }
+    return messageIds;
+  }
+
   void shutdown();
 }
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.eventsframework.api.EventsFrameworkDownException;
+import io.harness.eventsframework.impl.redis.monitoring.publisher.RedisEventMetricPublisher;
+import io.harness.eventsframework.producer.Message;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.validation.constraints.NotNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+
+/**
+ * Producer that buffers the messages and sends them as pipelined batches of XADD commands. A batch is sent when it
+ * reaches {@code batchSize} messages or when it has lingered for {@code lingerMillis}, and at most
+ * {@code maxInFlightBatches} batches are sent concurrently; senders block when all of them are in flight.
+ *
+ * {@link #send(Message)} waits for the batch holding the message, so it only pays off when many threads send
+ * concurrently. Callers that do not need the message id should use {@link #sendAsync(Message)}.
+ *
+ * Messages are rejected once the producer is shut down, and the messages that are still pending when the shutdown
+ * times out are failed, so that no sender waits forever.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class AsyncRedisProducer extends RedisProducer {
+  private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+  private final int batchSize;
+  private final int maxInFlightBatches;
+  private final Semaphore inFlightBatches;
+  private final ScheduledExecutorService flushExecutor;
+  private final ExecutorService retryExecutor;
+  private final Set<List<PendingMessage>> inFlight =
+      Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+  private List<PendingMessage> buffer;
+  private boolean shutdown;
+
+  public AsyncRedisProducer(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize,
+      String producerName, String envNamespace, RedisEventMetricPublisher redisEventMetricPublisher,
+      boolean binaryPayload, int batchSize, long lingerMillis, int maxInFlightBatches) {
+    super(topicName, redissonClient, maxTopicSize, producerName, envNamespace, redisEventMetricPublisher,
+        binaryPayload);
+    this.batchSize = batchSize;
+    this.maxInFlightBatches = maxInFlightBatches;
+    this.inFlightBatches = new Semaphore(maxInFlightBatches);
+    this.buffer = new ArrayList<>(batchSize);
+    this.flushExecutor = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("async-redis-producer-flush-" + topicName).setDaemon(true).build());
+    this.retryExecutor = Executors.newSingleThreadExecutor(
+        new ThreadFactoryBuilder().setNameFormat("async-redis-producer-retry-" + topicName).setDaemon(true).build());
+    flushExecutor.scheduleWithFixedDelay(this::flushBuffer, lingerMillis, lingerMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public String send(Message message) {
+    try {
+      return sendAsync(message).join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw(RuntimeException) ex.getCause();
+      }
+      throw ex;
+    }
+  }
+
+  public CompletableFuture<String> sendAsync(Message message) {
+    PendingMessage pendingMessage = new PendingMessage(toRedisData(message), new CompletableFuture<>());
+    List<PendingMessage> fullBatch = null;
+    synchronized (this) {
+      if (shutdown) {
+        throw new IllegalStateException("Producer of the topic " + getTopicName() + " is shut down");
+      }
+      buffer.add(pendingMessage);
+      if (buffer.size() >= batchSize) {
+        fullBatch = buffer;
+        buffer = new ArrayList<>(batchSize);
+      }
+    }
+    if (fullBatch != null) {
+      flush(fullBatch);
+    }
+    return pendingMessage.getFuture();
+  }
+
+  private void flushBuffer() {
+    List<PendingMessage> batch;
+    synchronized (this) {
+      if (buffer.isEmpty()) {
+        return;
+      }
+      batch = buffer;
+      buffer = new ArrayList<>(batchSize);
+    }
+    flush(batch);
+  }
+
+  private void flush(List<PendingMessage> batch) {
+    try {
+      inFlightBatches.acquire();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      fail(batch, ex);
+      return;
+    }
+    inFlight.add(batch);
+    List<Map<String, String>> batchData = new ArrayList<>(batch.size());
+    for (PendingMessage pendingMessage : batch) {
+      batchData.add(pendingMessage.getRedisData());
+    }
+    StreamBatch streamBatch = new StreamBatch(batchData);
+    try {
+      streamBatch.prepare().executeAsync().onComplete((batchResult, throwable) -> {
+        if (streamBatch.collectMessageIds()) {
+          complete(batch, streamBatch.getMessageIds());
+          return;
+        }
+        log.warn("Exception occurred while sending a batch of {} messages to the topic: {}, retrying", batch.size(),
+            getTopicName(), throwable);
+        try {
+          retryExecutor.execute(() -> retry(batch, streamBatch));
+        } catch (RejectedExecutionException ex) {
+          fail(batch, ex);
+        }
+      });
+    } catch (Exception ex) {
+      fail(batch, ex);
+    }
+  }
+
+  private void retry(List<PendingMessage> batch, StreamBatch streamBatch) {
+    try {
+      complete(batch, sendBatchWithRetry(streamBatch));
+    } catch (Exception ex) {
+      fail(batch, ex);
+    }
+  }
+
+  private void complete(List<PendingMessage> batch, List<String> messageIds) {
+    if (inFlight.remove(batch)) {
+      inFlightBatches.release();
+    }
+    for (int i = 0; i < batch.size(); i++) {
+      batch.get(i).getFuture().complete(messageIds.get(i));
+    }
+  }
+
+  private void fail(List<PendingMessage> batch, Exception ex) {
+    if (inFlight.remove(batch)) {
+      inFlightBatches.release();
+    }
+    EventsFrameworkDownException exception = new EventsFrameworkDownException(ex.getMessage());
+    for (PendingMessage pendingMessage : batch) {
+      pendingMessage.getFuture().completeExceptionally(exception);
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    synchronized (this) {
+      shutdown = true;
+    }
+    flushExecutor.shutdown();
+    try {
+      flushExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      flushBuffer();
+      if (!inFlightBatches.tryAcquire(maxInFlightBatches, SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        log.warn("Batches of the topic {} are still in flight at shutdown", getTopicName());
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    retryExecutor.shutdownNow();
+    IllegalStateException shutdownException =
+        new IllegalStateException("Producer of the topic " + getTopicName() + " is shut down");
+    List<List<PendingMessage>> pendingBatches;
+    synchronized (inFlight) {
+      pendingBatches = new ArrayList<>(inFlight);
+    }
+    for (List<PendingMessage> batch : pendingBatches) {
+      fail(batch, shutdownException);
+    }
+    super.shutdown();
+  }
+
+  @Value
+  private static class PendingMessage {
+    Map<String, String> redisData;
+    CompletableFuture<String> future;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+/**
+ * String codec of the events framework streams that can also carry raw bytes in a string field.
+ *
+ * Plain strings are written as UTF-8, exactly like the StringCodec used before, so the existing entries and the old
+ * pods are not affected. A binary value is a string starting with {@link #BINARY_MARKER} followed by one char per
+ * byte; it is written as the {@link #BINARY_MARKER_BYTE} followed by the raw bytes, and read back into the same string.
+ * This keeps the streams typed as strings while avoiding the base64 overhead in Redis.
+ *
+ * The marker byte never occurs in UTF-8, so the values written as UTF-8 are never read as binary ones. A plain string
+ * that starts with the marker char is written as a binary value only if all its chars fit in a byte, in which case it
+ * is read back unchanged as well.
+ */
+@OwnedBy(PL)
+public class EventsFrameworkStreamCodec extends BaseCodec {
+  public static final char BINARY_MARKER = '\u0000';
+  public static final byte BINARY_MARKER_BYTE = (byte) 0xFF;
+
+  private final Encoder encoder = in -> {
+    String value = in.toString();
+    ByteBuf out = ByteBufAllocator.DEFAULT.buffer(value.length());
+    if (isBinaryValue(value) && isLatin1(value)) {
+      out.writeByte(BINARY_MARKER_BYTE);
+      out.writeCharSequence(CharBuffer.wrap(value, 1, value.length()), StandardCharsets.ISO_8859_1);
+    } else {
+      out.writeCharSequence(value, StandardCharsets.UTF_8);
+    }
+    return out;
+  };
+
+  private final Decoder<Object> decoder = (ByteBuf buf, State state) -> {
+    String value;
+    if (buf.isReadable() && buf.getByte(buf.readerIndex()) == BINARY_MARKER_BYTE) {
+      value = BINARY_MARKER
+          + buf.toString(buf.readerIndex() + 1, buf.readableBytes() - 1, StandardCharsets.ISO_8859_1);
+    } else {
+      value = buf.toString(StandardCharsets.UTF_8);
+    }
+    buf.readerIndex(buf.readableBytes());
+    return value;
+  };
+
+  public EventsFrameworkStreamCodec() {}
+
+  public EventsFrameworkStreamCodec(ClassLoader classLoader, EventsFrameworkStreamCodec codec) {
+    this();
+  }
+
+  public static String toBinaryValue(byte[] bytes) {
+    return BINARY_MARKER + new String(bytes, StandardCharsets.ISO_8859_1);
+  }
+
+  public static boolean isBinaryValue(String value) {
+    return !value.isEmpty() && value.charAt(0) == BINARY_MARKER;
+  }
+
+  private static boolean isLatin1(String value) {
+    for (int i = 1; i < value.length(); i++) {
+      if (value.charAt(i) > 0xFF) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the bytes of a value created with {@link #toBinaryValue(byte[])}, including the leading marker byte
+   */
+  public static byte[] getBinaryValueWithMarker(String value) {
+    return value.getBytes(StandardCharsets.ISO_8859_1);
+  }
+
+  @Override
+  public Decoder<Object> getValueDecoder() {
+    return decoder;
+  }
+
+  @Override
+  public Encoder getValueEncoder() {
+    return encoder;
+  }
+}
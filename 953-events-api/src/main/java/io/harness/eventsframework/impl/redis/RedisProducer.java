@@ -8,6 +8,7 @@
 package io.harness.eventsframework.impl.redis;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_BINARY_KEY;
 import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTERNAL_KEY;
 import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_TRACE_ID_KEY;
 
@@ -24,13 +25,22 @@ import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.opentelemetry.api.trace.Span;
 import io.vavr.control.Try;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Supplier;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
 import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.StreamMessageId;
 import org.slf4j.MDC;
@@ -40,6 +50,8 @@ import org.slf4j.MDC;
 public class RedisProducer extends AbstractProducer {
   private static final String PRODUCER = "producer";
   private static final String REDIS_PRODUCER_EVENT_METRIC = "redis_producer_event_metric";
+  // Bounds the size of a single pipeline so that one huge sendBatch does not hold a connection for too long.
+  private static final int MAX_BATCH_SIZE = 500;
   private RStream<String, String> stream;
   private RedissonClient redissonClient;
   @Inject private RedisEventMetricPublisher redisEventMetricPublisher;
@@ -48,6 +60,9 @@ public class RedisProducer extends AbstractProducer {
   // very important to understand the alerting on the consumers and the scale estimations of a
   // particular use-case which is pushing to the topic
   private int maxTopicSize;
+  // Stores the payload as raw bytes instead of base64. Only the consumers that know the binary key can read these
+  // entries, so it must be enabled once all the consumers of the topic have been upgraded.
+  private boolean binaryPayload;
 
   private Retry retry;
 
@@ -58,6 +73,12 @@ public class RedisProducer extends AbstractProducer {
     this.redisEventMetricPublisher = redisEventMetricPublisher;
   }
 
+  public RedisProducer(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize, String producerName,
+      String envNamespace, RedisEventMetricPublisher redisEventMetricPublisher, boolean binaryPayload) {
+    this(topicName, redissonClient, maxTopicSize, producerName, envNamespace, redisEventMetricPublisher);
+    this.binaryPayload = binaryPayload;
+  }
+
   public RedisProducer(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize, String producerName,
       String envNamespace) {
     super(topicName, producerName);
@@ -80,15 +101,72 @@ public class RedisProducer extends AbstractProducer {
     return handleMessage(message);
   }
 
+  /**
+   * Sends the messages with one pipelined batch of XADD commands per {@link #MAX_BATCH_SIZE} messages. The batches are
+   * not atomic, so a failed batch is retried with only the messages it did not add, like a single send.
+   */
+  @Override
+  public List<String> sendBatch(List<Message> messages) {
+    if (messages.isEmpty()) {
+      return Collections.emptyList();
+    }
+    List<String> messageIds = new ArrayList<>(messages.size());
+    for (int start = 0; start < messages.size(); start += MAX_BATCH_SIZE) {
+      List<Map<String, String>> batchData = new ArrayList<>();
+      for (Message message : messages.subList(start, Math.min(start + MAX_BATCH_SIZE, messages.size()))) {
+        batchData.add(toRedisData(message));
+      }
+      messageIds.addAll(sendBatchWithRetry(new StreamBatch(batchData)));
+    }
+    return messageIds;
+  }
+
+  /**
+   * Builds the stream entry of the message. It reads the trace and the producer specific data from the context of the
+   * calling thread, so it must be called before handing the entry to another thread.
+   */
+  protected Map<String, String> toRedisData(Message message) {
+    Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
+    addTraceId(redisData);
+    if (binaryPayload) {
+      redisData.put(REDIS_STREAM_BINARY_KEY, EventsFrameworkStreamCodec.toBinaryValue(message.getData().toByteArray()));
+    } else {
+      redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
+    }
+    populateOtherProducerSpecificData(redisData);
+    return redisData;
+  }
+
+  protected List<String> sendBatchWithRetry(StreamBatch batch) {
+    Supplier<List<String>> retryingSendBatch = Retry.decorateSupplier(retry, () -> sendBatchInternal(batch));
+    return Try.ofSupplier(retryingSendBatch)
+        .recover(throwable -> {
+          // Exhausted exponential backoff to try operating on redis
+          throw new EventsFrameworkDownException(throwable.getMessage());
+        })
+        .get();
+  }
+
+  private List<String> sendBatchInternal(StreamBatch batch) {
+    try {
+      batch.prepare().execute();
+    } catch (Exception ex) {
+      log.warn("Exception occurred in sendBatchInternal", ex);
+      throw ex;
+    } finally {
+      batch.collectMessageIds();
+    }
+    log.info("Events framework batch of {} messages inserted in the topic: {}", batch.size(), getTopicName());
+    return batch.getMessageIds();
+  }
+
   private String sendInternal(Message message) {
     try {
-      Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
-      addTraceId(redisData);
-      redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
-      populateOtherProducerSpecificData(redisData);
+      Map<String, String> redisData = toRedisData(message);
 
       StreamMessageId messageId = stream.addAll(redisData, maxTopicSize, false);
       redisData.remove(REDIS_STREAM_INTERNAL_KEY);
+      redisData.remove(REDIS_STREAM_BINARY_KEY);
       log.info("Events framework message inserted - messageId: {}, metaData: {} in the topic: {}", messageId, redisData,
           this.getTopicName());
       return messageId.toString();
@@ -120,6 +198,60 @@ public class RedisProducer extends AbstractProducer {
     redissonClient.shutdown();
   }
 
+  /**
+   * The stream entries of a batch and the ids they were added with. A pipelined batch is not atomic and can fail after
+   * adding some of its entries, so every attempt only sends the entries that were not added yet.
+   */
+  protected class StreamBatch {
+    private final List<Map<String, String>> batchData;
+    private final String[] messageIds;
+    private final List<Integer> sentIndexes = new ArrayList<>();
+    private final List<RFuture<StreamMessageId>> sentEntries = new ArrayList<>();
+
+    protected StreamBatch(List<Map<String, String>> batchData) {
+      this.batchData = batchData;
+      this.messageIds = new String[batchData.size()];
+    }
+
+    /**
+     * Creates the batch of XADD commands of the entries which were not added yet.
+     */
+    protected RBatch prepare() {
+      sentIndexes.clear();
+      sentEntries.clear();
+      RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+      RStreamAsync<String, String> batchStream = batch.getStream(stream.getName(), stream.getCodec());
+      for (int i = 0; i < batchData.size(); i++) {
+        if (messageIds[i] == null) {
+          sentIndexes.add(i);
+          sentEntries.add(batchStream.addAllAsync(batchData.get(i), maxTopicSize, false));
+        }
+      }
+      return batch;
+    }
+
+    /**
+     * Records the ids of the entries the last prepared batch added, and returns whether all the entries are added.
+     */
+    protected boolean collectMessageIds() {
+      for (int i = 0; i < sentEntries.size(); i++) {
+        RFuture<StreamMessageId> sentEntry = sentEntries.get(i);
+        if (sentEntry.isSuccess()) {
+          messageIds[sentIndexes.get(i)] = sentEntry.getNow().toString();
+        }
+      }
+      return Arrays.stream(messageIds).allMatch(Objects::nonNull);
+    }
+
+    protected List<String> getMessageIds() {
+      return Arrays.asList(messageIds);
+    }
+
+    protected int size() {
+      return messageIds.length;
+    }
+  }
+
   public static RedisProducer of(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize,
       String producerName, String envNamespace) {
     return new RedisProducer(topicName, redissonClient, maxTopicSize, producerName, envNamespace);
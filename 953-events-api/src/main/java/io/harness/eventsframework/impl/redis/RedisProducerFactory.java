@@ -23,4 +23,22 @@ public class RedisProducerFactory {
     return new RedisProducer(
         topicName, redissonClient, maxTopicSize, producerName, envNamespace, redisEventMetricPublisher);
   }
+
+  /**
+   * @param binaryPayload stores the payloads as raw bytes instead of base64. {@link RedisUtils} reads both formats,
+   *     but older consumers only read base64: roll out every consumer of the topic first, then turn it on for the
+   *     producers, and turn it off again before rolling a consumer back.
+   */
+  public RedisProducer createRedisProducer(String topicName, @NotNull RedissonClient redissonClient, int maxTopicSize,
+      String producerName, String envNamespace, boolean binaryPayload) {
+    return new RedisProducer(
+        topicName, redissonClient, maxTopicSize, producerName, envNamespace, redisEventMetricPublisher, binaryPayload);
+  }
+
+  public AsyncRedisProducer createAsyncRedisProducer(String topicName, @NotNull RedissonClient redissonClient,
+      int maxTopicSize, String producerName, String envNamespace, boolean binaryPayload, int batchSize,
+      long lingerMillis, int maxInFlightBatches) {
+    return new AsyncRedisProducer(topicName, redissonClient, maxTopicSize, producerName, envNamespace,
+        redisEventMetricPublisher, binaryPayload, batchSize, lingerMillis, maxInFlightBatches);
+  }
 }
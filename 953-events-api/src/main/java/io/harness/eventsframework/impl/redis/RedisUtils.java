@@ -27,13 +27,14 @@ import lombok.experimental.UtilityClass;
 import org.redisson.api.RStream;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.StreamMessageId;
-import org.redisson.client.codec.StringCodec;
 
 @OwnedBy(PL)
 @UtilityClass
 public class RedisUtils {
   // Keeping this as small as possible to save on memory for redis instance
   public static final String REDIS_STREAM_INTERNAL_KEY = "o";
+  // Marks the entries whose payload is stored as raw bytes instead of base64, see EventsFrameworkStreamCodec
+  public static final String REDIS_STREAM_BINARY_KEY = "b";
   public static final String REDIS_STREAM_TRACE_ID_KEY = "trace_id";
   public static final int MAX_DEAD_LETTER_QUEUE_SIZE = 50000;
   public static final int UNACKED_RETRY_COUNT = 10;
@@ -43,7 +44,7 @@ public class RedisUtils {
   }
 
   public RStream<String, String> getStream(String topicName, RedissonClient client, String envNamespace) {
-    return client.getStream(getStreamName(envNamespace, topicName), new StringCodec("UTF-8"));
+    return client.getStream(getStreamName(envNamespace, topicName), new EventsFrameworkStreamCodec());
   }
 
   public RStream<String, String> getDeadLetterStream(String topicName, RedissonClient client, String envNamespace) {
@@ -89,12 +90,24 @@ public class RedisUtils {
         .build();
   }
 
+  public io.harness.eventsframework.producer.Message getProducedMessageFromBinary(
+      String binaryMessageData, Map<String, String> messageMap) {
+    byte[] bytes = EventsFrameworkStreamCodec.getBinaryValueWithMarker(binaryMessageData);
+    return io.harness.eventsframework.producer.Message.newBuilder()
+        .setData(ByteString.copyFrom(bytes, 1, bytes.length - 1))
+        .putAllMetadata(messageMap)
+        .build();
+  }
+
   public Message getConsumerMessageObject(StreamMessageId messageId, Map<String, String> messageMap) {
+    // The entries of the producers with binary payloads carry the binary key instead of the base64 one
+    String binaryMessageData = messageMap.remove(REDIS_STREAM_BINARY_KEY);
     String messageData = messageMap.remove(REDIS_STREAM_INTERNAL_KEY);
 
     return Message.newBuilder()
         .setId(messageId.toString())
-        .setMessage(getProducedMessage(messageData, messageMap))
+        .setMessage(binaryMessageData != null ? getProducedMessageFromBinary(binaryMessageData, messageMap)
+                                              : getProducedMessage(messageData, messageMap))
         .setTimestamp(RedisUtils.getMessageTimestamp(messageId.toString()))
         .build();
   }
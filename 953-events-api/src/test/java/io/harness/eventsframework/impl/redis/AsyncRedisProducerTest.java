@@ -0,0 +1,128 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.eventsframework.impl.redis.RedisProducerTest.added;
+import static io.harness.eventsframework.impl.redis.RedisProducerTest.batchStream;
+import static io.harness.eventsframework.impl.redis.RedisProducerTest.failed;
+import static io.harness.eventsframework.impl.redis.RedisProducerTest.message;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.Codec;
+
+@OwnedBy(PL)
+public class AsyncRedisProducerTest extends CategoryTest {
+  private RedissonClient redissonClient;
+
+  @Before
+  public void setUp() {
+    redissonClient = mock(RedissonClient.class);
+    RStream<Object, Object> stream = mock(RStream.class);
+    when(stream.getName()).thenReturn("streams:topic");
+    when(redissonClient.getStream(anyString(), any(Codec.class))).thenReturn(stream);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testFailedBatchIsRetriedWithOnlyTheMessagesNotAdded() throws Exception {
+    RBatch firstBatch = mock(RBatch.class);
+    RStreamAsync<Object, Object> firstAttempt = batchStream(firstBatch);
+    RFuture<StreamMessageId> firstAdded = added(new StreamMessageId(1, 0));
+    RFuture<StreamMessageId> firstFailed = failed();
+    when(firstAttempt.addAllAsync(anyMap(), anyInt(), anyBoolean())).thenReturn(firstAdded, firstFailed);
+    RFuture<BatchResult<?>> firstResult = mock(RFuture.class);
+    doAnswer(invocation -> {
+      BiConsumer<BatchResult<?>, Throwable> onComplete = invocation.getArgument(0);
+      onComplete.accept(null, new RedisException("Connection reset"));
+      return null;
+    })
+        .when(firstResult)
+        .onComplete(any());
+    when(firstBatch.executeAsync()).thenAnswer(invocation -> firstResult);
+
+    RBatch secondBatch = mock(RBatch.class);
+    RStreamAsync<Object, Object> secondAttempt = batchStream(secondBatch);
+    RFuture<StreamMessageId> secondAdded = added(new StreamMessageId(2, 0));
+    when(secondAttempt.addAllAsync(anyMap(), anyInt(), anyBoolean())).thenReturn(secondAdded);
+
+    when(redissonClient.createBatch(any(BatchOptions.class))).thenReturn(firstBatch, secondBatch);
+
+    AsyncRedisProducer producer =
+        new AsyncRedisProducer("topic", redissonClient, 1000, "producer", "", null, false, 2, 60000, 1);
+    CompletableFuture<String> first = producer.sendAsync(message("first"));
+    CompletableFuture<String> second = producer.sendAsync(message("second"));
+
+    assertThat(first.get()).isEqualTo("1-0");
+    assertThat(second.get()).isEqualTo("2-0");
+    verify(firstAttempt, times(2)).addAllAsync(anyMap(), anyInt(), anyBoolean());
+    verify(secondAttempt, times(1)).addAllAsync(anyMap(), anyInt(), anyBoolean());
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testShutdownSendsTheBufferedMessagesAndRejectsNewOnes() throws Exception {
+    RBatch batch = mock(RBatch.class);
+    RStreamAsync<Object, Object> batchStream = batchStream(batch);
+    RFuture<StreamMessageId> added = added(new StreamMessageId(1, 0));
+    when(batchStream.addAllAsync(anyMap(), anyInt(), anyBoolean())).thenReturn(added);
+    RFuture<BatchResult<?>> result = mock(RFuture.class);
+    doAnswer(invocation -> {
+      BiConsumer<BatchResult<?>, Throwable> onComplete = invocation.getArgument(0);
+      onComplete.accept(mock(BatchResult.class), null);
+      return null;
+    })
+        .when(result)
+        .onComplete(any());
+    when(batch.executeAsync()).thenAnswer(invocation -> result);
+    when(redissonClient.createBatch(any(BatchOptions.class))).thenReturn(batch);
+
+    AsyncRedisProducer producer =
+        new AsyncRedisProducer("topic", redissonClient, 1000, "producer", "", null, false, 10, 60000, 1);
+    CompletableFuture<String> buffered = producer.sendAsync(message("buffered"));
+    producer.shutdown();
+
+    assertThat(buffered.get()).isEqualTo("1-0");
+    assertThatThrownBy(() -> producer.sendAsync(message("rejected"))).isInstanceOf(IllegalStateException.class);
+    verify(redissonClient).shutdown();
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.eventsframework.impl.redis.EventsFrameworkStreamCodec.BINARY_MARKER;
+import static io.harness.eventsframework.impl.redis.EventsFrameworkStreamCodec.BINARY_MARKER_BYTE;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.redisson.client.codec.StringCodec;
+
+@OwnedBy(PL)
+public class EventsFrameworkStreamCodecTest extends CategoryTest {
+  private final EventsFrameworkStreamCodec codec = new EventsFrameworkStreamCodec();
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testPlainStringsAreWrittenAsUtf8() throws Exception {
+    for (String value : new String[] {"", "accountId", "café € 😀"}) {
+      ByteBuf encoded = codec.getValueEncoder().encode(value);
+      assertThat(ByteBufUtil.getBytes(encoded)).isEqualTo(value.getBytes(StandardCharsets.UTF_8));
+      assertThat(codec.getValueDecoder().decode(encoded, null)).isEqualTo(value);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testBinaryValuesRoundTripAllTheBytes() throws Exception {
+    byte[] bytes = new byte[256];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) i;
+    }
+    String value = EventsFrameworkStreamCodec.toBinaryValue(bytes);
+
+    ByteBuf encoded = codec.getValueEncoder().encode(value);
+    byte[] written = ByteBufUtil.getBytes(encoded);
+    assertThat(written).hasSize(bytes.length + 1);
+    assertThat(written[0]).isEqualTo(BINARY_MARKER_BYTE);
+
+    Object decoded = codec.getValueDecoder().decode(encoded, null);
+    assertThat(decoded).isEqualTo(value);
+    byte[] withMarker = EventsFrameworkStreamCodec.getBinaryValueWithMarker((String) decoded);
+    assertThat(withMarker).hasSize(bytes.length + 1);
+    for (int i = 0; i < bytes.length; i++) {
+      assertThat(withMarker[i + 1]).isEqualTo(bytes[i]);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testPlainStringsStartingWithTheMarkerRoundTrip() throws Exception {
+    for (String value : new String[] {BINARY_MARKER + "€ price", BINARY_MARKER + "café",
+             String.valueOf(BINARY_MARKER), BINARY_MARKER + "😀"}) {
+      assertThat(codec.getValueDecoder().decode(codec.getValueEncoder().encode(value), null)).isEqualTo(value);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testEntriesWrittenWithStringCodecAreReadUnchanged() throws Exception {
+    for (String value : new String[] {"accountId", BINARY_MARKER + "€", "ÿþ"}) {
+      ByteBuf encoded = StringCodec.INSTANCE.getValueEncoder().encode(value);
+      assertThat(codec.getValueDecoder().decode(encoded, null)).isEqualTo(value);
+    }
+  }
+}
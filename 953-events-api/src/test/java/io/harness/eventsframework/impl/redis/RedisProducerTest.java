@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.producer.Message;
+import io.harness.rule.Owner;
+
+import com.google.protobuf.ByteString;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.Codec;
+
+@OwnedBy(PL)
+public class RedisProducerTest extends CategoryTest {
+  private RedissonClient redissonClient;
+
+  @Before
+  public void setUp() {
+    redissonClient = mock(RedissonClient.class);
+    RStream<Object, Object> stream = mock(RStream.class);
+    when(stream.getName()).thenReturn("streams:topic");
+    when(redissonClient.getStream(anyString(), any(Codec.class))).thenReturn(stream);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testSendBatchRetriesOnlyTheMessagesNotAdded() {
+    RBatch firstBatch = mock(RBatch.class);
+    RStreamAsync<Object, Object> firstAttempt = batchStream(firstBatch);
+    RFuture<StreamMessageId> firstAdded = added(new StreamMessageId(1, 0));
+    RFuture<StreamMessageId> firstFailed = failed();
+    when(firstAttempt.addAllAsync(anyMap(), anyInt(), anyBoolean())).thenReturn(firstAdded, firstFailed);
+    when(firstBatch.execute()).thenThrow(new RedisException("Connection reset"));
+
+    RBatch secondBatch = mock(RBatch.class);
+    RStreamAsync<Object, Object> secondAttempt = batchStream(secondBatch);
+    RFuture<StreamMessageId> secondAdded = added(new StreamMessageId(2, 0));
+    when(secondAttempt.addAllAsync(anyMap(), anyInt(), anyBoolean())).thenReturn(secondAdded);
+
+    when(redissonClient.createBatch(any(BatchOptions.class))).thenReturn(firstBatch, secondBatch);
+
+    RedisProducer producer = new RedisProducer("topic", redissonClient, 1000, "producer", "");
+    List<String> messageIds = producer.sendBatch(Arrays.asList(message("first"), message("second")));
+
+    assertThat(messageIds).containsExactly("1-0", "2-0");
+    verify(firstAttempt, times(2)).addAllAsync(anyMap(), anyInt(), anyBoolean());
+    verify(secondAttempt, times(1)).addAllAsync(anyMap(), anyInt(), anyBoolean());
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testConsumersReadTheEntriesOfBothPayloadFormats() throws Exception {
+    byte[] data = new byte[256];
+    for (int i = 0; i < data.length; i++) {
+      data[i] = (byte) i;
+    }
+    Message message =
+        Message.newBuilder().setData(ByteString.copyFrom(data)).putMetadata("accountId", "account").build();
+    EventsFrameworkStreamCodec codec = new EventsFrameworkStreamCodec();
+
+    for (boolean binaryPayload : new boolean[] {false, true}) {
+      RedisProducer producer = new RedisProducer("topic", redissonClient, 1000, "producer", "", null, binaryPayload);
+      Map<String, String> stored = new HashMap<>();
+      for (Map.Entry<String, String> entry : producer.toRedisData(message).entrySet()) {
+        Object value = codec.getValueDecoder().decode(codec.getValueEncoder().encode(entry.getValue()), null);
+        stored.put(entry.getKey(), (String) value);
+      }
+
+      String payloadKey = binaryPayload ? RedisUtils.REDIS_STREAM_BINARY_KEY : RedisUtils.REDIS_STREAM_INTERNAL_KEY;
+      assertThat(stored).containsKey(payloadKey);
+      io.harness.eventsframework.consumer.Message consumed =
+          RedisUtils.getConsumerMessageObject(new StreamMessageId(1, 0), stored);
+      assertThat(consumed.getMessage().getData().toByteArray()).isEqualTo(data);
+      assertThat(consumed.getMessage().getMetadataMap()).containsEntry("accountId", "account");
+    }
+  }
+
+  static Message message(String data) {
+    return Message.newBuilder().setData(ByteString.copyFromUtf8(data)).build();
+  }
+
+  static RStreamAsync<Object, Object> batchStream(RBatch batch) {
+    RStreamAsync<Object, Object> batchStream = mock(RStreamAsync.class);
+    when(batch.getStream(anyString(), any())).thenReturn(batchStream);
+    return batchStream;
+  }
+
+  static RFuture<StreamMessageId> added(StreamMessageId messageId) {
+    RFuture<StreamMessageId> future = mock(RFuture.class);
+    when(future.isSuccess()).thenReturn(true);
+    when(future.getNow()).thenReturn(messageId);
+    return future;
+  }
+
+  static RFuture<StreamMessageId> failed() {
+    RFuture<StreamMessageId> future = mock(RFuture.class);
+    when(future.isSuccess()).thenReturn(false);
+    return future;
+  }
+}
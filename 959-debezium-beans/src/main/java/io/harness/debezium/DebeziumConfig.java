@@ -60,6 +60,17 @@ public class DebeziumConfig {
    * Specifies maximum topic size for redis stream
    */
   @JsonProperty("redisStreamSize") private int redisStreamSize;
+  /**
+   * Sends the events of a batch to the redis streams as pipelined batches, and waits for all of them once before the
+   * batch is marked finished, instead of waiting for every event. Off by default.
+   */
+  @JsonProperty("asyncRedisProducer") private boolean asyncRedisProducer;
+  /**
+   * Stores the events as raw bytes instead of base64 in the redis streams. Off by default. The consumers of the streams
+   * of this config must all run a version that reads both formats before it is turned on, and it must be turned off
+   * before any of them is rolled back to an older version.
+   */
+  @JsonProperty("binaryRedisPayload") private boolean binaryRedisPayload;
   /**
    * Specifies the criteria for running a snapshot upon startup of the connector. The value can be one of these: ("all"
    * - both snapshot and streaming, "initial" - only snapshot, "never" - only streaming)
@@ -8,6 +8,7 @@
 package io.harness.mongo.iterator.provider;
 
 import static io.harness.annotations.dev.HarnessTeam.CDC;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.govern.Switch.unhandled;
 
 import static java.lang.System.currentTimeMillis;
@@ -15,6 +16,7 @@ import static java.lang.System.currentTimeMillis;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.BulkWriteOpsResults;
+import io.harness.mongo.iterator.IteratorPartition;
 import io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType;
 import io.harness.mongo.iterator.filter.SpringFilterExpander;
 
@@ -24,6 +26,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
@@ -126,6 +129,28 @@ public class SpringPersistenceProvider<T extends PersistentIterable>
     return docs.iterator();
   }
 
+  @Override
+  public Iterator<T> obtainNextInstances(Class<T> clazz, String fieldName, SpringFilterExpander filterExpander,
+      int limit, IteratorPartition partition) {
+    long now = currentTimeMillis();
+    Query query = createQuery(now, fieldName, filterExpander, false);
+    if (partition.getLowerBound() != null) {
+      Criteria criteria = Criteria.where("_id").gte(partition.getLowerBound());
+      if (partition.getUpperBound() != null) {
+        criteria.lt(partition.getUpperBound());
+      }
+      query.addCriteria(criteria);
+    } else if (partition.getUpperBound() != null) {
+      // Negated so that the ids which are not strings are picked up by the first partition as well.
+      query.addCriteria(Criteria.where("_id").not().gte(partition.getUpperBound()));
+    }
+    query.limit(limit);
+
+    List<T> docs = persistence.find(query, clazz);
+
+    return docs.iterator();
+  }
+
   @Override
   public BulkWriteOpsResults bulkWriteDocumentsMatchingIds(
       Class<T> clazz, List<String> ids, String fieldName, long base, Duration targetInterval) {
@@ -172,4 +197,57 @@ public class SpringPersistenceProvider<T extends PersistentIterable>
         .modifiedCount(bulkWriteResult.getModifiedCount())
         .build();
   }
+
+  @Override
+  public List<String> claimDocumentsMatchingIds(Class<T> clazz, List<String> ids, String fieldName,
+      SpringFilterExpander filterExpander, long now, long lease) {
+    if (ids.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    // Each claim writes its own id next to the lease, the lease alone is not unique across the iterator replicas.
+    String claimId = generateUuid();
+    String claimIdFieldName = PersistenceProvider.claimIdFieldName(fieldName);
+    Update update = new Update();
+    update.set(fieldName, lease);
+    update.set(claimIdFieldName, claimId);
+
+    BulkOperations bulkOps = persistence.bulkOps(BulkOperations.BulkMode.UNORDERED, clazz);
+
+    List<String> stringIds = new ArrayList<>();
+    List<ObjectId> objectIds = new ArrayList<>();
+
+    for (String id : ids) {
+      if (ObjectId.isValid(id)) {
+        objectIds.add(new ObjectId(id));
+      } else {
+        stringIds.add(id);
+      }
+    }
+
+    // Only documents that are still due are claimed, the ones picked up meanwhile by someone else are skipped.
+    if (!stringIds.isEmpty()) {
+      Query query = createQuery(now, fieldName, filterExpander, true);
+      query.addCriteria(Criteria.where("_id").in(stringIds));
+      bulkOps.updateMulti(query, update);
+    }
+
+    if (!objectIds.isEmpty()) {
+      Query query = createQuery(now, fieldName, filterExpander, true);
+      query.addCriteria(Criteria.where("_id").in(objectIds));
+      bulkOps.updateMulti(query, update);
+    }
+
+    bulkOps.execute();
+
+    List<Object> allIds = new ArrayList<>(stringIds);
+    allIds.addAll(objectIds);
+    Query claimedQuery =
+        new Query(Criteria.where("_id").in(allIds).and(claimIdFieldName).is(claimId)).limit(ids.size());
+    claimedQuery.fields().include("_id");
+    return persistence.find(claimedQuery, clazz)
+        .stream()
+        .map(PersistentIterable::getUuid)
+        .collect(Collectors.toList());
+  }
 }
@@ -14,6 +14,8 @@ import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.
 
 import static java.lang.String.format;
 import static java.time.Duration.ofSeconds;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
 
 import io.harness.annotations.dev.CodePulse;
 import io.harness.annotations.dev.HarnessModuleComponent;
@@ -23,6 +25,8 @@ import io.harness.data.structure.EmptyPredicate;
 import io.harness.iterator.IteratorExecutionHandler;
 import io.harness.iterator.IteratorLoopModeHandler;
 import io.harness.iterator.PersistenceIteratorFactory;
+import io.harness.metrics.beans.IteratorMetricContext;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.Handler;
 import io.harness.mongo.iterator.filter.SpringFilterExpander;
@@ -34,6 +38,7 @@ import io.harness.timeout.TimeoutInstance.TimeoutInstanceKeys;
 import io.harness.timeout.contracts.Dimension;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutParameters;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutTrackerFactory;
+import io.harness.timeout.wheel.HierarchicalTimingWheel;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
@@ -41,16 +46,27 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
 import com.google.inject.Singleton;
+import com.mongodb.bulk.BulkWriteResult;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import javax.validation.constraints.NotNull;
 import lombok.NonNull;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 @CodePulse(module = ProductModule.CDS, unitCoverageRequired = true, components = {HarnessModuleComponent.CDS_FIRST_GEN})
 @OwnedBy(CDC)
@@ -59,12 +75,28 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<TimeoutInstance> {
   private static final Duration MAX_CALLBACK_PROCESSING_TIME = Duration.ofMinutes(1);
   private static final Integer MAX_BATCH_SIZE = 500;
+  private static final int MAX_EVENT_UPDATE_ATTEMPTS = 3;
+  private static final long WHEEL_TICK_MILLIS = 100;
+  private static final int WHEEL_SIZE = 64;
+  private static final int WHEEL_LEVELS = 3;
+  // How long the iterator leaves an instance to the wheel past its expiry before recovering it itself.
+  private static final Duration WHEEL_RECOVERY_GRACE = Duration.ofMinutes(1);
+  private static final String ITERATOR_NAME = "TimeoutEngine";
+  private static final String TIMEOUT_ENGINE_EVENT_BATCH_SIZE = "timeout_engine_event_batch_size";
+  private static final String TIMEOUT_ENGINE_EVENT_BATCH_TIME = "timeout_engine_event_batch_time";
 
   @Inject private TimeoutInstanceRepository timeoutInstanceRepository;
   @Inject private PersistenceIteratorFactory persistenceIteratorFactory;
   @Inject private MongoTemplate mongoTemplate;
   @Inject private Injector injector;
   @Inject private TimeoutRegistry timeoutRegistry;
+  @Inject(optional = true) private MetricService metricService;
+
+  // Near-term deadlines registered by this process. Mongo stays the durable record: the iterator recovers anything the
+  // wheel did not fire, e.g. after a restart, once WHEEL_RECOVERY_GRACE has passed after the expiry.
+  private volatile HierarchicalTimingWheel<TimeoutWheelEntry> timeoutWheel;
+  private ScheduledExecutorService timeoutWheelTicker;
+  private ExecutorService timeoutWheelExecutor;
 
   public TimeoutInstance registerTimeout(@NotNull Dimension dimension, @NotNull TimeoutParameters timeoutParameters,
       @NotNull TimeoutCallback timeoutCallback) {
@@ -83,11 +115,12 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
     TimeoutInstance timeoutInstance =
         TimeoutInstance.builder().uuid(generateUuid()).tracker(timeoutTracker).callback(timeoutCallback).build();
     timeoutInstance.resetNextIteration();
+    long expiryTime = timeoutInstance.getNextIteration();
+    deferToWheel(timeoutInstance);
     TimeoutInstance savedTimeoutInstance = timeoutInstanceRepository.save(timeoutInstance);
     log.info(format("Registered timeout with uuid: %s, currentTime: %d, expiryTime: %d, diff: %d",
-        timeoutInstance.getUuid(), System.currentTimeMillis(), timeoutInstance.getNextIteration(),
-        timeoutInstance.getNextIteration() - System.currentTimeMillis()));
-    if (iterator != null) {
+        timeoutInstance.getUuid(), System.currentTimeMillis(), expiryTime, expiryTime - System.currentTimeMillis()));
+    if (!scheduleInWheel(savedTimeoutInstance) && iterator != null) {
       iterator.wakeup();
     }
     return savedTimeoutInstance;
@@ -101,11 +134,13 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
     for (List<String> batchTimeInstanceIds : partition) {
       timeoutInstanceRepository.deleteByUuidIn(batchTimeInstanceIds);
     }
+    timeoutInstanceIds.forEach(this::cancelInWheel);
   }
 
   public void deleteTimeout(@NonNull String timeoutInstanceId) {
     // equal operator is better than in operator
     timeoutInstanceRepository.deleteById(timeoutInstanceId);
+    cancelInWheel(timeoutInstanceId);
   }
 
   public void onEvent(List<String> timeoutInstanceIds, TimeoutEvent event) {
@@ -113,15 +148,87 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
       return;
     }
 
-    for (TimeoutInstance timeoutInstance : timeoutInstanceRepository.findAllById(timeoutInstanceIds)) {
+    final long startTime = System.currentTimeMillis();
+    Map<String, TimeoutInstance> changedTimeoutInstances = new LinkedHashMap<>();
+    List<TimeoutInstance> pending = applyEvent(timeoutInstanceRepository.findAllById(timeoutInstanceIds), event);
+    for (int attempt = 1; !pending.isEmpty(); attempt++) {
+      pending.forEach(timeoutInstance -> changedTimeoutInstances.put(timeoutInstance.getUuid(), timeoutInstance));
+      List<String> conflictingIds = updateOnEvent(pending);
+      if (conflictingIds.isEmpty()) {
+        break;
+      }
+      if (attempt == MAX_EVENT_UPDATE_ATTEMPTS) {
+        log.warn("Timeout instances {} kept being updated concurrently, dropping event {}", conflictingIds,
+            event.getType());
+        break;
+      }
+      // The event is applied again on the current state, where it changes nothing if the update went through
+      pending = applyEvent(timeoutInstanceRepository.findAllById(conflictingIds), event);
+    }
+    if (changedTimeoutInstances.isEmpty()) {
+      return;
+    }
+
+    boolean wakeup = false;
+    for (TimeoutInstance timeoutInstance : changedTimeoutInstances.values()) {
+      wakeup |= !scheduleInWheel(timeoutInstance);
+    }
+    if (wakeup && iterator != null) {
+      iterator.wakeup();
+    }
+    recordEventBatchMetrics(changedTimeoutInstances.size(), System.currentTimeMillis() - startTime);
+  }
+
+  private List<TimeoutInstance> applyEvent(Iterable<TimeoutInstance> timeoutInstances, TimeoutEvent event) {
+    List<TimeoutInstance> changedTimeoutInstances = new ArrayList<>();
+    for (TimeoutInstance timeoutInstance : timeoutInstances) {
       if (timeoutInstance.tracker.onEvent(event)) {
         timeoutInstance.resetNextIteration();
-        timeoutInstanceRepository.save(timeoutInstance);
-        if (iterator != null) {
-          iterator.wakeup();
-        }
+        deferToWheel(timeoutInstance);
+        changedTimeoutInstances.add(timeoutInstance);
+      }
+    }
+    return changedTimeoutInstances;
+  }
+
+  /**
+   * Only the tracker and the expiry change on an event, update just those instead of saving whole documents. Every
+   * update is conditioned on the version that was read, like a save of the versioned document would be.
+   *
+   * @return the ids of the instances in the batches where some instance was changed concurrently
+   */
+  private List<String> updateOnEvent(List<TimeoutInstance> changedTimeoutInstances) {
+    List<String> conflictingIds = new ArrayList<>();
+    for (List<TimeoutInstance> batch : Lists.partition(changedTimeoutInstances, MAX_BATCH_SIZE)) {
+      BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED, TimeoutInstance.class);
+      for (TimeoutInstance timeoutInstance : batch) {
+        bulkOperations.updateOne(query(where(TimeoutInstanceKeys.uuid).is(timeoutInstance.getUuid()))
+                                     .addCriteria(where(TimeoutInstanceKeys.version).is(timeoutInstance.getVersion())),
+            new Update()
+                .set(TimeoutInstanceKeys.tracker, timeoutInstance.getTracker())
+                .set(TimeoutInstanceKeys.nextIteration, timeoutInstance.getNextIteration())
+                .set(TimeoutInstanceKeys.lastUpdatedAt, System.currentTimeMillis())
+                .inc(TimeoutInstanceKeys.version, 1));
+      }
+      BulkWriteResult result = bulkOperations.execute();
+      // The result does not tell which updates did not match, so the whole batch is read again
+      if (result.getMatchedCount() < batch.size()) {
+        batch.forEach(timeoutInstance -> conflictingIds.add(timeoutInstance.getUuid()));
       }
     }
+    return conflictingIds;
+  }
+
+  private void recordEventBatchMetrics(int batchSize, long batchTimeMillis) {
+    if (metricService == null) {
+      return;
+    }
+    try (IteratorMetricContext ignore = new IteratorMetricContext(ITERATOR_NAME)) {
+      metricService.recordMetric(TIMEOUT_ENGINE_EVENT_BATCH_SIZE, batchSize);
+      metricService.recordDuration(TIMEOUT_ENGINE_EVENT_BATCH_TIME, Duration.ofMillis(batchTimeMillis));
+    } catch (Exception ex) {
+      log.warn("Failed to record timeout engine event metrics", ex);
+    }
   }
 
   @Override
@@ -138,6 +245,7 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
                            .acceptableExecutionTime(ofSeconds(10))
                            .handler(this)
                            .persistenceProvider(new SpringPersistenceRequiredProvider<>(mongoTemplate)));
+    startTimeoutWheel(executorOptions.getPoolSize());
   }
 
   @Override
@@ -164,11 +272,119 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
                 .persistenceProvider(new SpringPersistenceRequiredProvider<>(mongoTemplate))
                 .schedulingType(REGULAR));
     executor.submit(() -> iterator.process());
+    startTimeoutWheel(executorOptions.getPoolSize());
+  }
+
+  private synchronized void startTimeoutWheel(int poolSize) {
+    if (timeoutWheel != null) {
+      return;
+    }
+    timeoutWheelExecutor = ThreadPool.create(
+        poolSize, poolSize, 30, TimeUnit.SECONDS, new ThreadFactoryBuilder().setNameFormat("TimeoutWheel-%d").build());
+    timeoutWheelTicker = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("timeout-wheel-ticker").setDaemon(true).build());
+    timeoutWheel =
+        new HierarchicalTimingWheel<>(WHEEL_TICK_MILLIS, WHEEL_SIZE, WHEEL_LEVELS, System.currentTimeMillis());
+    timeoutWheelTicker.scheduleWithFixedDelay(
+        this::advanceTimeoutWheel, WHEEL_TICK_MILLIS, WHEEL_TICK_MILLIS, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  protected void stopExecutor() {
+    super.stopExecutor();
+    synchronized (this) {
+      if (timeoutWheel != null) {
+        timeoutWheelTicker.shutdownNow();
+        timeoutWheelExecutor.shutdown();
+        timeoutWheel = null;
+      }
+    }
+  }
+
+  /**
+   * Moves the stored expiry of an instance the wheel will fire past WHEEL_RECOVERY_GRACE, so that the iterator does not
+   * race the wheel for it and only picks it up if this process never fires it. Must be called before the instance is
+   * written, the wheel claims it on the stored value.
+   */
+  private void deferToWheel(TimeoutInstance timeoutInstance) {
+    HierarchicalTimingWheel<TimeoutWheelEntry> wheel = timeoutWheel;
+    if (wheel != null && timeoutInstance.getNextIteration() != Long.MAX_VALUE
+        && wheel.accepts(timeoutInstance.getNextIteration())) {
+      timeoutInstance.setNextIteration(timeoutInstance.getNextIteration() + WHEEL_RECOVERY_GRACE.toMillis());
+    }
+  }
+
+  private boolean scheduleInWheel(TimeoutInstance timeoutInstance) {
+    HierarchicalTimingWheel<TimeoutWheelEntry> wheel = timeoutWheel;
+    if (wheel == null) {
+      return false;
+    }
+    if (timeoutInstance.getNextIteration() == Long.MAX_VALUE) {
+      // Paused trackers have no expiry, drop any stale deadline and let the next event schedule it again.
+      wheel.cancel(timeoutInstance.getUuid());
+      return true;
+    }
+    // The wheel fires on the expiry of the tracker and claims on the stored, deferred, value.
+    Long expiryTime = timeoutInstance.getTracker().getExpiryTime();
+    long deadline = expiryTime == null ? timeoutInstance.getNextIteration() : expiryTime;
+    return wheel.schedule(timeoutInstance.getUuid(), deadline,
+        new TimeoutWheelEntry(timeoutInstance.getUuid(), timeoutInstance.getNextIteration()));
+  }
+
+  private void cancelInWheel(String timeoutInstanceId) {
+    HierarchicalTimingWheel<TimeoutWheelEntry> wheel = timeoutWheel;
+    if (wheel != null) {
+      wheel.cancel(timeoutInstanceId);
+    }
+  }
+
+  private void advanceTimeoutWheel() {
+    HierarchicalTimingWheel<TimeoutWheelEntry> wheel = timeoutWheel;
+    if (wheel == null) {
+      return;
+    }
+    List<TimeoutWheelEntry> expiredEntries;
+    try {
+      expiredEntries = wheel.advance(System.currentTimeMillis());
+    } catch (Exception ex) {
+      log.error("Failed to advance the timeout wheel", ex);
+      return;
+    }
+    for (TimeoutWheelEntry entry : expiredEntries) {
+      try {
+        timeoutWheelExecutor.submit(() -> fireFromWheelSafely(entry));
+      } catch (RejectedExecutionException ex) {
+        // The entries are already out of the wheel, fire them on the ticker rather than leaving them to the iterator.
+        fireFromWheelSafely(entry);
+      }
+    }
+  }
+
+  private void fireFromWheelSafely(TimeoutWheelEntry entry) {
+    try {
+      fireFromWheel(entry);
+    } catch (Exception ex) {
+      log.error("Failed to fire timeout instance {} from the timeout wheel", entry.getTimeoutInstanceId(), ex);
+    }
+  }
+
+  @VisibleForTesting
+  void fireFromWheel(TimeoutWheelEntry entry) {
+    // Claim the instance the same way the iterator does, so that whichever of the two gets there first handles it and
+    // the iterator retries it if this process dies before deleting it.
+    Query query = query(where(TimeoutInstanceKeys.uuid).is(entry.getTimeoutInstanceId()))
+                      .addCriteria(where(TimeoutInstanceKeys.nextIteration).is(entry.getNextIteration()));
+    Update update = new Update().set(
+        TimeoutInstanceKeys.nextIteration, System.currentTimeMillis() + MAX_CALLBACK_PROCESSING_TIME.toMillis());
+    TimeoutInstance timeoutInstance = mongoTemplate.findAndModify(query, update, TimeoutInstance.class);
+    if (timeoutInstance != null) {
+      handle(timeoutInstance);
+    }
   }
 
   @Override
   public void registerIterator(IteratorExecutionHandler iteratorExecutionHandler) {
-    iteratorName = "TimeoutEngine";
+    iteratorName = ITERATOR_NAME;
 
     // Register the iterator with the iterator config handler.
     iteratorExecutionHandler.registerIteratorHandler(iteratorName, this);
@@ -204,4 +420,10 @@ public class TimeoutEngine extends IteratorLoopModeHandler implements Handler<Ti
       }
     }
   }
+
+  @Value
+  static class TimeoutWheelEntry {
+    String timeoutInstanceId;
+    long nextIteration;
+  }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.annotations.dev.HarnessTeam.CDC;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * In-memory hierarchical timing wheel. Level 0 has {@code wheelSize} slots of {@code tickMillis} each, and every
+ * following level has slots as wide as a full rotation of the previous one. Scheduling and cancelling are O(1);
+ * entries of the upper levels are cascaded down when the clock crosses their slot.
+ *
+ * Deadlines further away than {@link #getHorizonMillis()} are rejected and must be handled by the caller.
+ */
+@OwnedBy(CDC)
+public class HierarchicalTimingWheel<T> {
+  private final long tickMillis;
+  private final int wheelSize;
+  private final long[] levelTickMillis;
+  private final List<Entry<T>>[][] buckets;
+  private final Map<String, Entry<T>> entries = new HashMap<>();
+  private long currentTime;
+
+  @SuppressWarnings("unchecked")
+  public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+    Preconditions.checkArgument(tickMillis > 0, "tickMillis should be positive");
+    Preconditions.checkArgument(wheelSize > 1, "wheelSize should be greater than 1");
+    Preconditions.checkArgument(levels > 0, "levels should be positive");
+    this.tickMillis = tickMillis;
+    this.wheelSize = wheelSize;
+    this.levelTickMillis = new long[levels];
+    this.buckets = new List[levels][wheelSize];
+    long levelTick = tickMillis;
+    for (int level = 0; level < levels; level++) {
+      levelTickMillis[level] = levelTick;
+      levelTick = Math.multiplyExact(levelTick, wheelSize);
+    }
+    this.currentTime = startMillis - startMillis % tickMillis;
+  }
+
+  public long getHorizonMillis() {
+    return levelTickMillis[levelTickMillis.length - 1] * (wheelSize - 1);
+  }
+
+  /**
+   * Tells whether {@link #schedule} would take the deadline. The clock only moves forward, so a deadline accepted now
+   * stays acceptable.
+   */
+  public synchronized boolean accepts(long deadline) {
+    return deadline - currentTime < getHorizonMillis();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Schedules the payload under the given key, replacing any previous entry for that key.
+   *
+   * @return false if the deadline is beyond the horizon of the wheel and nothing was scheduled
+   */
+  public synchronized boolean schedule(String key, long deadline, T payload) {
+    entries.remove(key);
+    if (!accepts(deadline)) {
+      return false;
+    }
+    // Round up to the tick so that entries never fire before their deadline.
+    Entry<T> entry = new Entry<>(key, (deadline + tickMillis - 1) / tickMillis * tickMillis, payload);
+    entries.put(key, entry);
+    if (!place(entry)) {
+      // Already due, it is fired on the next tick.
+      bucket(0, currentTime / tickMillis + 1).add(entry);
+    }
+    return true;
+  }
+
+  public synchronized boolean cancel(String key) {
+    return entries.remove(key) != null;
+  }
+
+  /**
+   * Moves the clock forward to {@code now} and returns the payloads of all the entries that expired meanwhile.
+   */
+  public synchronized List<T> advance(long now) {
+    List<T> expired = new ArrayList<>();
+    while (currentTime + tickMillis <= now) {
+      currentTime += tickMillis;
+      for (int level = levelTickMillis.length - 1; level > 0; level--) {
+        if (currentTime % levelTickMillis[level] == 0) {
+          List<Entry<T>> cascaded = drain(level, currentTime / levelTickMillis[level]);
+          for (Entry<T> entry : cascaded) {
+            if (isLive(entry) && !place(entry)) {
+              entries.remove(entry.getKey());
+              expired.add(entry.getPayload());
+            }
+          }
+        }
+      }
+      for (Entry<T> entry : drain(0, currentTime / tickMillis)) {
+        if (isLive(entry)) {
+          entries.remove(entry.getKey());
+          expired.add(entry.getPayload());
+        }
+      }
+    }
+    return expired;
+  }
+
+  /**
+   * Puts the entry in the lowest level that can hold it.
+   *
+   * @return false if the entry is already due and was not placed
+   */
+  private boolean place(Entry<T> entry) {
+    for (int level = 0; level < levelTickMillis.length; level++) {
+      long deadlineTick = entry.getDeadline() / levelTickMillis[level];
+      long diff = deadlineTick - currentTime / levelTickMillis[level];
+      if (level == 0 && diff <= 0) {
+        return false;
+      }
+      if (diff < wheelSize) {
+        bucket(level, deadlineTick).add(entry);
+        return true;
+      }
+    }
+    throw new IllegalStateException("Entry " + entry.getKey() + " is beyond the horizon of the timing wheel");
+  }
+
+  private boolean isLive(Entry<T> entry) {
+    return entries.get(entry.getKey()) == entry;
+  }
+
+  private List<Entry<T>> bucket(int level, long tick) {
+    int slot = (int) (tick % wheelSize);
+    if (buckets[level][slot] == null) {
+      buckets[level][slot] = new ArrayList<>();
+    }
+    return buckets[level][slot];
+  }
+
+  private List<Entry<T>> drain(int level, long tick) {
+    int slot = (int) (tick % wheelSize);
+    List<Entry<T>> bucket = buckets[level][slot];
+    if (bucket == null) {
+      return new ArrayList<>();
+    }
+    buckets[level][slot] = null;
+    return bucket;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class Entry<T> {
+    private final String key;
+    private final long deadline;
+    private final T payload;
+  }
+}
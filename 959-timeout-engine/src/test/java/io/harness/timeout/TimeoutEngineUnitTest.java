@@ -9,14 +9,17 @@ package io.harness.timeout;
 
 import static io.harness.rule.OwnerRule.ARCHIT;
 import static io.harness.rule.OwnerRule.GARVIT;
+import static io.harness.rule.OwnerRule.KARAN;
 import static io.harness.rule.OwnerRule.PRASHANT;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.joor.Reflect.on;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.harness.TimeoutEngineTestBase;
 import io.harness.annotations.dev.HarnessTeam;
@@ -25,19 +28,34 @@ import io.harness.category.element.UnitTests;
 import io.harness.persistence.HPersistence;
 import io.harness.repositories.TimeoutInstanceRepository;
 import io.harness.rule.Owner;
+import io.harness.threading.Poller;
+import io.harness.timeout.TimeoutEngine.TimeoutWheelEntry;
+import io.harness.timeout.TimeoutInstance.TimeoutInstanceKeys;
 import io.harness.timeout.trackers.absolute.AbsoluteTimeoutTracker;
 
 import com.google.inject.Inject;
+import com.mongodb.bulk.BulkWriteResult;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 public class TimeoutEngineUnitTest extends TimeoutEngineTestBase {
   @Mock TimeoutInstanceRepository timeoutInstanceRepository;
+  @Mock MongoTemplate mongoTemplate;
+  @Mock BulkOperations bulkOperations;
   @Inject private TimeoutEngine timeoutEngine;
   @Inject private HPersistence hPersistence;
 
@@ -86,6 +104,154 @@ public class TimeoutEngineUnitTest extends TimeoutEngineTestBase {
     verify(timeoutInstanceRepository, times(2)).deleteByUuidIn(any());
   }
 
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testOnEventUpdatesOnlyTheVersionRead() {
+    on(timeoutEngine).set("timeoutInstanceRepository", timeoutInstanceRepository);
+    on(timeoutEngine).set("mongoTemplate", mongoTemplate);
+    TimeoutInstance timeoutInstance = timeoutInstance(3L);
+    when(timeoutInstanceRepository.findAllById(any())).thenReturn(Collections.singletonList(timeoutInstance));
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, TimeoutInstance.class)).thenReturn(bulkOperations);
+    when(bulkOperations.execute()).thenReturn(bulkWriteResult(1));
+
+    timeoutEngine.onEvent(Collections.singletonList(timeoutInstance.getUuid()), () -> "event");
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(bulkOperations).updateOne(queryCaptor.capture(), any(Update.class));
+    assertThat(queryCaptor.getValue().getQueryObject())
+        .containsEntry(TimeoutInstanceKeys.uuid, timeoutInstance.getUuid())
+        .containsEntry(TimeoutInstanceKeys.version, 3L);
+    verify(timeoutInstanceRepository, times(1)).findAllById(any());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testOnEventReappliesEventOnConcurrentUpdate() {
+    on(timeoutEngine).set("timeoutInstanceRepository", timeoutInstanceRepository);
+    on(timeoutEngine).set("mongoTemplate", mongoTemplate);
+    TimeoutInstance staleTimeoutInstance = timeoutInstance(3L);
+    TimeoutInstance currentTimeoutInstance = timeoutInstance(4L);
+    when(timeoutInstanceRepository.findAllById(any()))
+        .thenReturn(Collections.singletonList(staleTimeoutInstance))
+        .thenReturn(Collections.singletonList(currentTimeoutInstance));
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, TimeoutInstance.class)).thenReturn(bulkOperations);
+    BulkWriteResult conflict = bulkWriteResult(0);
+    BulkWriteResult success = bulkWriteResult(1);
+    when(bulkOperations.execute()).thenReturn(conflict, success);
+
+    timeoutEngine.onEvent(Collections.singletonList(staleTimeoutInstance.getUuid()), () -> "event");
+
+    ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+    verify(bulkOperations, times(2)).updateOne(queryCaptor.capture(), any(Update.class));
+    assertThat(queryCaptor.getAllValues().get(1).getQueryObject()).containsEntry(TimeoutInstanceKeys.version, 4L);
+    verify(timeoutInstanceRepository, times(2)).findAllById(any());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testOnEventStopsRetryingAfterMaxAttempts() {
+    on(timeoutEngine).set("timeoutInstanceRepository", timeoutInstanceRepository);
+    on(timeoutEngine).set("mongoTemplate", mongoTemplate);
+    List<TimeoutInstance> first = Collections.singletonList(timeoutInstance(3L));
+    List<TimeoutInstance> second = Collections.singletonList(timeoutInstance(3L));
+    List<TimeoutInstance> third = Collections.singletonList(timeoutInstance(3L));
+    when(timeoutInstanceRepository.findAllById(any())).thenReturn(first, second, third);
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, TimeoutInstance.class)).thenReturn(bulkOperations);
+    BulkWriteResult conflict = bulkWriteResult(0);
+    when(bulkOperations.execute()).thenReturn(conflict);
+
+    timeoutEngine.onEvent(Collections.singletonList("timeoutInstanceId"), () -> "event");
+
+    verify(bulkOperations, times(3)).execute();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testFireFromWheelHandlesTheScheduledIteration() {
+    TimeoutInstance instance =
+        timeoutEngine.registerAbsoluteTimeout(Duration.ofMillis(1000), new RecordingTimeoutCallback());
+
+    timeoutEngine.fireFromWheel(new TimeoutWheelEntry(instance.getUuid(), instance.getNextIteration()));
+
+    assertThat(RecordingTimeoutCallback.TIMED_OUT_INSTANCE_IDS).contains(instance.getUuid());
+    assertThat(hPersistence.get(TimeoutInstance.class, instance.getUuid())).isNull();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testFireFromWheelIgnoresAStaleIteration() {
+    TimeoutInstance instance =
+        timeoutEngine.registerAbsoluteTimeout(Duration.ofMillis(1000), new RecordingTimeoutCallback());
+
+    timeoutEngine.fireFromWheel(new TimeoutWheelEntry(instance.getUuid(), instance.getNextIteration() - 1));
+
+    assertThat(RecordingTimeoutCallback.TIMED_OUT_INSTANCE_IDS).doesNotContain(instance.getUuid());
+    assertThat(hPersistence.get(TimeoutInstance.class, instance.getUuid())).isNotNull();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testTimeoutWheelFiresRegisteredTimeouts() {
+    on(timeoutEngine).call("startTimeoutWheel", 1);
+    try {
+      TimeoutInstance instance =
+          timeoutEngine.registerAbsoluteTimeout(Duration.ofMillis(200), new RecordingTimeoutCallback());
+
+      Poller.pollFor(Duration.ofSeconds(10), Duration.ofMillis(50),
+          () -> RecordingTimeoutCallback.TIMED_OUT_INSTANCE_IDS.contains(instance.getUuid()));
+      assertThat(hPersistence.get(TimeoutInstance.class, instance.getUuid())).isNull();
+    } finally {
+      on(timeoutEngine).call("stopExecutor");
+    }
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testTimeoutsInTheWheelAreDeferredForTheIterator() {
+    on(timeoutEngine).call("startTimeoutWheel", 1);
+    try {
+      TimeoutInstance instance =
+          timeoutEngine.registerAbsoluteTimeout(Duration.ofMinutes(5), new RecordingTimeoutCallback());
+
+      TimeoutInstance savedInstance = hPersistence.get(TimeoutInstance.class, instance.getUuid());
+      assertThat(savedInstance.getNextIteration())
+          .isEqualTo(instance.getTracker().getExpiryTime() + Duration.ofMinutes(1).toMillis());
+      timeoutEngine.deleteTimeout(instance.getUuid());
+    } finally {
+      on(timeoutEngine).call("stopExecutor");
+    }
+  }
+
+  private static TimeoutInstance timeoutInstance(Long version) {
+    TimeoutTracker tracker = mock(TimeoutTracker.class);
+    when(tracker.onEvent(any())).thenReturn(true);
+    when(tracker.getExpiryTime()).thenReturn(System.currentTimeMillis() + Duration.ofHours(1).toMillis());
+    return TimeoutInstance.builder().uuid("timeoutInstanceId").tracker(tracker).version(version).build();
+  }
+
+  private static BulkWriteResult bulkWriteResult(int matchedCount) {
+    BulkWriteResult result = mock(BulkWriteResult.class);
+    when(result.getMatchedCount()).thenReturn(matchedCount);
+    return result;
+  }
+
+  // Instances are read back from mongo before being handled, so the callback records into a static set.
+  public static class RecordingTimeoutCallback implements TimeoutCallback {
+    static final Set<String> TIMED_OUT_INSTANCE_IDS = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void onTimeout(TimeoutInstance timeoutInstance) {
+      TIMED_OUT_INSTANCE_IDS.add(timeoutInstance.getUuid());
+    }
+  }
+
   public static class TestTimeoutCallback implements TimeoutCallback {
     private TimeoutInstance timeoutInstance;
     public TimeoutInstance getTimeoutInstance() {
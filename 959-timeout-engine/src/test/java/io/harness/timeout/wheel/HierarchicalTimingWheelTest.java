@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.timeout.wheel;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class HierarchicalTimingWheelTest extends CategoryTest {
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testExpiresInOrderAcrossLevels() {
+    HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 3, 1000);
+    assertThat(wheel.schedule("a", 1035, "a")).isTrue();
+    assertThat(wheel.schedule("b", 1250, "b")).isTrue();
+    assertThat(wheel.schedule("c", 2500, "c")).isTrue();
+    assertThat(wheel.schedule("far", 1000 + wheel.getHorizonMillis(), "far")).isFalse();
+
+    assertThat(wheel.advance(1035)).isEmpty();
+    assertThat(wheel.advance(1040)).containsExactly("a");
+    assertThat(wheel.advance(1249)).isEmpty();
+    assertThat(wheel.advance(1250)).containsExactly("b");
+    assertThat(wheel.advance(2490)).isEmpty();
+    assertThat(wheel.advance(2500)).containsExactly("c");
+    assertThat(wheel.size()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testCancelAndReschedule() {
+    HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 2, 0);
+    wheel.schedule("a", 50, "first");
+    wheel.schedule("b", 50, "b");
+    assertThat(wheel.cancel("b")).isTrue();
+    wheel.schedule("a", 300, "second");
+
+    assertThat(wheel.advance(100)).isEmpty();
+    assertThat(wheel.advance(300)).containsExactly("second");
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testPastDeadlineFiresOnNextTick() {
+    HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 2, 100);
+    wheel.schedule("a", 20, "a");
+
+    assertThat(wheel.advance(105)).isEmpty();
+    assertThat(wheel.advance(110)).containsExactly("a");
+  }
+}
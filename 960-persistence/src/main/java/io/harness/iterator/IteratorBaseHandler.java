@@ -59,4 +59,17 @@ public abstract class IteratorBaseHandler<T extends PersistentIterable, F extend
       PersistenceIteratorFactory.RedisBatchExecutorOptions executorOptions, Duration targetInterval) {
     log.warn("createAndStartShardIterator should be overridden by the child class");
   }
+
+  /**
+   * This method is to create and start the iterator in Loop Batch mode,
+   * which claims batches of docs without a distributed lock.
+   *
+   * @param executorOptions provides the executor thread-pool options
+   *                        needed for Loop Batch mode.
+   * @param targetInterval the targetInterval for iterator
+   */
+  protected void createAndStartLoopBatchIterator(
+      PersistenceIteratorFactory.LoopBatchExecutorOptions executorOptions, Duration targetInterval) {
+    log.warn("createAndStartLoopBatchIterator should be overridden by the child class");
+  }
 }
@@ -27,6 +27,7 @@ public class IteratorExecutionHandlerImpl implements IteratorExecutionHandler {
   private static final int BATCH_SIZE_MULTIPLY_FACTOR = 2; // The factor by how much the batchSize should be increased
   private static final int REDIS_LOCK_TIMEOUT_SECONDS = 5; // The lockTimeout is the duration a lock is held
   public static final String REDIS_BATCH = "REDIS_BATCH";
+  public static final String LOOP_BATCH = "LOOP_BATCH";
 
   /**
    * Enum represents the different states that an iterator can be at -
@@ -175,6 +176,8 @@ public class IteratorExecutionHandlerImpl implements IteratorExecutionHandler {
 
       if (REDIS_BATCH.equals(configOption.getIteratorMode())) {
         createAndStartRedisBatchModeIterator(configOption);
+      } else if (LOOP_BATCH.equals(configOption.getIteratorMode())) {
+        createAndStartLoopBatchModeIterator(configOption);
       } else {
         createAndStartPumpLoopModeIterator(configOption);
       }
@@ -241,11 +244,32 @@ public class IteratorExecutionHandlerImpl implements IteratorExecutionHandler {
                                               .poolSize(config.getThreadPoolSize())
                                               .batchSize(redisBatchSize)
                                               .lockTimeout(redisLockTimeout)
+                                              .partitionCount(config.getRedisPartitionCount())
                                               .interval(getIntervalDuration(config.getThreadPoolIntervalInSeconds()))
                                               .build(),
             getNextIterationInterval(config));
   }
 
+  /**
+   * Helper method to create and start Loop Batch mode iterator.
+   *
+   * @param config provides the necessary configuration for the iterator.
+   */
+  private void createAndStartLoopBatchModeIterator(DynamicIteratorConfig config) {
+    int loopBatchSize = config.getLoopBatchSize();
+    if (loopBatchSize == 0) {
+      loopBatchSize = BATCH_SIZE_MULTIPLY_FACTOR * config.getThreadPoolSize();
+    }
+    iteratorHandlerMap.get(config.getName())
+        .createAndStartLoopBatchIterator(PersistenceIteratorFactory.LoopBatchExecutorOptions.builder()
+                                             .name(config.getName())
+                                             .poolSize(config.getThreadPoolSize())
+                                             .batchSize(loopBatchSize)
+                                             .interval(getIntervalDuration(config.getThreadPoolIntervalInSeconds()))
+                                             .build(),
+            getNextIterationInterval(config));
+  }
+
   /**
    * Helper method to create and start Pump or Loop mode iterator.
    *
@@ -9,6 +9,7 @@ package io.harness.iterator;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.LOOP;
+import static io.harness.iterator.PersistenceIterator.ProcessMode.LOOP_BATCH;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.REDIS_BATCH;
 import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.IRREGULAR;
@@ -66,6 +67,16 @@ public final class PersistenceIteratorFactory {
     private int poolSize;
     private int batchSize;
     private int lockTimeout;
+    private int partitionCount;
+    private Duration interval;
+  }
+
+  @Value
+  @Builder
+  public static class LoopBatchExecutorOptions {
+    private String name;
+    private int poolSize;
+    private int batchSize;
     private Duration interval;
   }
 
@@ -153,7 +164,7 @@ public final class PersistenceIteratorFactory {
     log.info(getWorkerEnabledLog(cls.getName()));
 
     // Create the main executor thread that carries out the Redis
-    // lock acquisition and fetching / updating docs with Mongo.
+    // partition leasing and fetching / claiming docs with Mongo.
     ExecutorService mainExecutor =
         Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat(iteratorName + "-Main").build());
 
@@ -166,6 +177,7 @@ public final class PersistenceIteratorFactory {
             .threadPoolIntervalInSeconds(options.interval)
             .redisModeBatchSize(options.getBatchSize())
             .redisLockTimeout(options.getLockTimeout())
+            .redisPartitionCount(options.getPartitionCount())
             .persistentLocker(injector.getInstance(Key.get(PersistentLocker.class)))
             .build();
     injector.injectMembers(iterator);
@@ -175,4 +187,39 @@ public final class PersistenceIteratorFactory {
 
     return iterator;
   }
+
+  public <T extends PersistentIterable, F extends FilterExpander> PersistenceIterator<T>
+  createLoopBatchIteratorWithDedicatedThreadPool(
+      LoopBatchExecutorOptions options, Class<?> cls, MongoPersistenceIteratorBuilder<T, F> builder) {
+    if (!workersConfiguration.confirmWorkerIsActive(cls)) {
+      log.info(getWorkerDisabledLog(cls.getName()));
+      return null;
+    }
+
+    String iteratorName = "Iterator-" + options.name;
+
+    // Create the worker thread pool that will process the docs.
+    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+        options.poolSize, new ThreadFactoryBuilder().setNameFormat(iteratorName).build());
+    log.info(getWorkerEnabledLog(cls.getName()));
+
+    // Create the main executor thread that claims the batches of docs from Mongo.
+    ExecutorService mainExecutor =
+        Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat(iteratorName + "-Main").build());
+
+    MongoPersistenceIterator<T, F> iterator = builder.mode(LOOP_BATCH)
+                                                  .executorService(mainExecutor)
+                                                  .workerThreadPoolExecutor(executor)
+                                                  .semaphore(new Semaphore(options.poolSize))
+                                                  .iteratorName(options.name)
+                                                  .threadPoolIntervalInSeconds(options.interval)
+                                                  .loopBatchSize(options.getBatchSize())
+                                                  .build();
+    injector.injectMembers(iterator);
+
+    // Start the main executor
+    mainExecutor.submit(() -> iterator.loopBatchProcess());
+
+    return iterator;
+  }
 }
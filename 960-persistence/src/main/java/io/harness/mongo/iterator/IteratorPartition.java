@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A range of document ids that is claimed as a unit by one process at a time.
+ *
+ * The ids generated by UUIDGenerator are url safe base64 strings of random bytes, so their first character is
+ * uniformly distributed over the base64 alphabet. The alphabet is split into contiguous ranges that can be queried
+ * with the _id index. The ids that are not strings, like Mongo generated ObjectIds, do not fall in any range and are
+ * picked up by the first partition.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Value
+@Builder
+public class IteratorPartition {
+  // The url safe base64 alphabet in the sort order of the strings.
+  private static final String UUID_ALPHABET = "-0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ_abcdefghijklmnopqrstuvwxyz";
+  public static final int MAX_PARTITIONS = UUID_ALPHABET.length();
+
+  int index;
+  // Inclusive, null for the first partition.
+  String lowerBound;
+  // Exclusive, null for the last partition.
+  String upperBound;
+
+  public static List<IteratorPartition> split(int count) {
+    int partitions = Math.max(1, Math.min(count, MAX_PARTITIONS));
+    List<IteratorPartition> result = new ArrayList<>();
+    for (int i = 0; i < partitions; i++) {
+      result.add(IteratorPartition.builder()
+                     .index(i)
+                     .lowerBound(i == 0 ? null : boundary(i, partitions))
+                     .upperBound(i == partitions - 1 ? null : boundary(i + 1, partitions))
+                     .build());
+    }
+    return result;
+  }
+
+  private static String boundary(int index, int partitions) {
+    return String.valueOf(UUID_ALPHABET.charAt(index * MAX_PARTITIONS / partitions));
+  }
+}
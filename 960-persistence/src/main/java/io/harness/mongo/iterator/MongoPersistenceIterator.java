@@ -12,6 +12,8 @@ import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_DELAY;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_ERROR;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_PARTITION_CLAIMED;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_PARTITION_LAG;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_PROCESSING_TIME;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_REDIS_LOCK_ACQUIRE_FAIL;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_WORKING_ON_ENTITY;
@@ -48,14 +50,21 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.client.RedisException;
 
@@ -69,10 +78,11 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   private static final int SIMPLE_MOVING_AVG_MULTIPLIER = 15; // The multiplier to be used for SMA
   private static final int SIMPLE_MOVING_AVG_DIVISOR = 16; // The divisor to be used for SMA
   private static final String SEMAPHORE_ACQUIRE_ERROR = "Working on entity was interrupted";
-  private static final int LOCK_WAIT_TIMEOUT_SECONDS =
-      5; // The lockWaitTimeout is the duration to wait to acquire a lock
   private static final int BATCH_SIZE_MULTIPLY_FACTOR = 2; // The factor by how much the batchSize should be increased
   private static final int REDIS_BATCH_PAUSE_DURATION = 5; // The duration by which to pause if worker JobQ is full
+  private static final int DEFAULT_REDIS_PARTITION_COUNT = 16; // The number of partitions leased by the processes
+  private static final int LEASE_JITTER_MILLIS = 1000; // The spread that keeps lease values unique across processes
+  private static final int MAX_PARTITION_BACKOFF_SHIFT = 3; // An empty partition is skipped for up to 8 intervals
 
   @Inject private final QueueController queueController;
   @Inject private PersistenceMetricsServiceImpl iteratorMetricsService;
@@ -92,6 +102,8 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   private Duration throttleInterval;
   private int redisModeBatchSize;
   private int redisLockTimeout;
+  private int redisPartitionCount;
+  private int loopBatchSize;
   private Handler<T> handler;
   @Getter private ExecutorService executorService;
   @Getter private ScheduledThreadPoolExecutor workerThreadPoolExecutor;
@@ -104,19 +116,33 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
 
   private boolean isDelegateTaskMigrationEnabled;
   private PersistentLocker persistentLocker;
+  @Builder.Default private final AtomicLong averageProcessingTime = new AtomicLong();
+  @Builder.Default private final AtomicBoolean partitionsWokenUp = new AtomicBoolean();
 
   public interface Handler<T> {
     void handle(T entity);
   }
 
+  @Value
+  private static class PartitionLease {
+    IteratorPartition partition;
+    AcquiredLock acquiredLock;
+    long renewAt;
+  }
+
   @Override
   public synchronized void wakeup() {
     switch (mode) {
       case PUMP:
         executorService.submit(this::process);
         break;
-      case LOOP:
       case REDIS_BATCH:
+        // New docs may be due in the partitions that are backing off.
+        partitionsWokenUp.set(true);
+        notifyAll();
+        break;
+      case LOOP:
+      case LOOP_BATCH:
         notifyAll();
         break;
       default:
@@ -295,39 +321,43 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   /**
    * Process method for Redis Batch mode iterator.
    *
+   * The documents are split in partitions by ranges of their ids, and every process leases
+   * one partition at a time with a Redis lock, so different processes work in parallel on
+   * different partitions instead of waiting for a single global lock.
+   *
    *  1. Update the batch-size by finding a limit which will take into account the number
    *     of docs still not processed in the jobQ which ensures that the Q doesn't overflow.
    *  2. If the batch-size limit is not positive then pause for a while. This allows the
    *     workers to process the remaining docs in the jobQ and doesn't cause Q overflow.
-   *  3. Try to acquire a Redis distributed lock so that this process gets an exclusive
-   *     access to a batch of Mongo docs that it can update and work on.
-   *  4. Once the Redis lock is acquired fetch a batch of documents. The number of docs
-   *     to fetch will be the batch-size limit value that was computed earlier.
-   *  5. Iterator over the fetched docs and submit it to the workers jobQ without waiting
-   *     to ensure that the Redis lock is released at the earliest.
-   *  6. Collect the doc Ids of each doc that was submitted to the worker jobQ and update
-   *     the nextIteration fields of these docs in bulk using Mongo's bulkWrite operation.
-   *  7. Release the Redis distributed lock so that the other processes can work on another
-   *     batch of Mongo docs.
+   *  3. If no partition is leased, or the lease is half way to its expiry, release it and
+   *     lease the next free partition in a round-robin order. Rotating the partitions keeps
+   *     the work spread when processes join, and the leases of processes that left expire.
+   *  4. Fetch a batch of due documents of the leased partition. The number of docs to fetch
+   *     will be the batch-size limit value that was computed earlier.
+   *  5. Claim the fetched docs that are still due with a conditional bulk update and submit
+   *     them to the workers jobQ without waiting. The claim doesn't rely on the lease being
+   *     exclusive, so a lease that expired meanwhile cannot cause a doc to be processed twice.
+   *  6. Record the lag of the partition, then move on to the next partition if this one had
+   *     no due docs. An empty partition is skipped for the threadPool interval, doubled for
+   *     every consecutive time it is found empty, up to 8 intervals and the target interval.
+   *     Sleep while all the partitions are skipped, or until the iterator is woken up.
    */
   public void redisBatchProcess() {
-    long movingAverage = 0;
-    long previous = 0;
+    List<IteratorPartition> partitions =
+        IteratorPartition.split(redisPartitionCount > 0 ? redisPartitionCount : DEFAULT_REDIS_PARTITION_COUNT);
+    int nextPartition = ThreadLocalRandom.current().nextInt(partitions.size());
+    long[] partitionIdleUntil = new long[partitions.size()];
+    int[] partitionEmptyRounds = new int[partitions.size()];
+    PartitionLease partitionLease = null;
 
     while (true) {
       // Check if iterators should run or not.
       if (!shouldProcess()) {
+        partitionLease = releasePartitionLease(partitionLease);
         sleep(ofSeconds(1));
         continue;
       }
 
-      long base = currentTimeMillis();
-      if (previous != 0) {
-        base = movingAvg(previous + movingAverage, base);
-        movingAverage = movingAvg(movingAverage, base - previous);
-      }
-      previous = base;
-
       // Compute a limit value that takes into account the number of unprocessed
       // docs in the jobQ to ensure that the Q doesn't overflow.
       int limit = Math.min(redisModeBatchSize, redisModeBatchSize - workerThreadPoolExecutor.getQueue().size());
@@ -335,62 +365,174 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
       if (limit <= 0) {
         // The Queue is full, so try after sometime
         log.warn("The worker Q for {} iterator is full, pausing for 5 seconds", iteratorName);
+        partitionLease = releasePartitionLease(partitionLease);
         sleep(ofSeconds(REDIS_BATCH_PAUSE_DURATION));
         continue;
       }
 
-      long totalTimeStart = currentTimeMillis();
-      long startTime = currentTimeMillis();
+      if (partitionLease != null && currentTimeMillis() >= partitionLease.getRenewAt()) {
+        partitionLease = releasePartitionLease(partitionLease);
+      }
 
-      AcquiredLock acquiredLock = null;
-      long processTime = 0;
-      List<String> docIds = new ArrayList<>();
-      try {
-        // Acquire the distributed lock
-        acquiredLock = acquireLock();
-
-        processTime = currentTimeMillis() - startTime;
-        log.debug("Redis Batch Iterator Mode - time to acquire Redis lock {}", processTime);
-
-        startTime = currentTimeMillis();
-        Iterator<T> docItr = persistenceProvider.obtainNextInstances(clazz, fieldName, filterExpander, limit);
-        processTime = currentTimeMillis() - startTime;
-        log.debug("Redis Batch Iterator Mode - time to acquire {} docs is {}", limit, processTime);
-
-        // Iterate over the fetched documents - submit it to workers and prepare bulkWrite operations
-        while (docItr.hasNext()) {
-          T entity = docItr.next();
-          submitEntityForProcessingWithoutWait(entity);
-          docIds.add(entity.getUuid());
-        }
+      if (partitionsWokenUp.getAndSet(false)) {
+        Arrays.fill(partitionIdleUntil, 0);
+        Arrays.fill(partitionEmptyRounds, 0);
+      }
 
-        // Update the documents next iteration field
-        updateDocumentNextIteration(docIds, base);
+      if (partitionLease == null) {
+        long now = currentTimeMillis();
+        long idleUntil = Arrays.stream(partitionIdleUntil).min().orElse(0);
+        if (idleUntil > now) {
+          // There were no docs available in any of the partitions lately.
+          waitForWakeup(idleUntil - now);
+          continue;
+        }
+        partitionLease = acquirePartitionLease(partitions, nextPartition, partitionIdleUntil);
+        if (partitionLease == null) {
+          // All the partitions are leased by other processes, so try after sometime
+          log.debug("Failed to lease a partition - attempting again after 5 secs");
+          iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_REDIS_LOCK_ACQUIRE_FAIL);
+          sleep(ofSeconds(REDIS_BATCH_PAUSE_DURATION));
+          continue;
+        }
+        nextPartition = (partitionLease.getPartition().getIndex() + 1) % partitions.size();
+      }
 
+      IteratorPartition partition = partitionLease.getPartition();
+      List<T> claimed = new ArrayList<>();
+      long startTime = currentTimeMillis();
+      try {
+        claimed = claimAndSubmit(
+            persistenceProvider.obtainNextInstances(clazz, fieldName, filterExpander, limit, partition));
+        log.debug("Redis Batch Iterator Mode - claimed {} docs of partition {} in {}", claimed.size(),
+            partition.getIndex(), currentTimeMillis() - startTime);
       } catch (Exception ex) {
         log.error("Received an exception in redisBatchProcess {} ", ex);
-      } finally {
-        // Release the distributed lock - acquiredLock cannot be null
-        releaseLock(acquiredLock);
+      }
+
+      recordPartitionMetrics(partition, claimed, startTime);
+
+      int index = partition.getIndex();
+      if (claimed.isEmpty()) {
+        // Nothing is due in this partition, skip it for a while and let the next one be leased.
+        partitionLease = releasePartitionLease(partitionLease);
+        partitionIdleUntil[index] = currentTimeMillis() + computePartitionBackoff(partitionEmptyRounds[index]++);
+      } else {
+        partitionIdleUntil[index] = 0;
+        partitionEmptyRounds[index] = 0;
+      }
+    }
+  }
+
+  @VisibleForTesting
+  long computePartitionBackoff(int emptyRounds) {
+    long interval = threadPoolIntervalInSeconds.toMillis();
+    long backoff = interval << Math.min(emptyRounds, MAX_PARTITION_BACKOFF_SHIFT);
+    return Math.max(interval, Math.min(backoff, targetInterval.toMillis()));
+  }
+
+  private PartitionLease releasePartitionLease(PartitionLease partitionLease) {
+    if (partitionLease != null) {
+      releaseLock(partitionLease.getAcquiredLock());
+    }
+    return null;
+  }
+
+  private void recordPartitionMetrics(IteratorPartition partition, List<T> claimed, long now) {
+    long lag = 0;
+    for (T entity : claimed) {
+      Long nextIteration = entity.obtainNextIteration(fieldName);
+      if (nextIteration != null && nextIteration != 0) {
+        lag = Math.max(lag, now - nextIteration);
+      }
+    }
+    iteratorMetricsService.recordIteratorPartitionMetric(
+        iteratorName, partition.getIndex(), ITERATOR_PARTITION_LAG, lag);
+    iteratorMetricsService.recordIteratorPartitionMetric(
+        iteratorName, partition.getIndex(), ITERATOR_PARTITION_CLAIMED, claimed.size());
+  }
+
+  private void waitForWakeup() {
+    waitForWakeup(threadPoolIntervalInSeconds.toMillis());
+  }
+
+  private void waitForWakeup(long millis) {
+    synchronized (this) {
+      try {
+        wait(millis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Method to process the documents in batches, without a distributed lock.
+   * Algorithm -
+   *  1. Compute how many docs to claim. The limit is bounded by the free room in the
+   *     workers jobQ and by how many docs the workers can get through within the target
+   *     interval, based on the observed average handler processing time.
+   *  2. Fetch that many due docs.
+   *  3. Claim the fetched docs by setting their iteration field to a lease value, but
+   *     only for the docs that are still due. The lease value is the next iteration of
+   *     the claimed docs with a random jitter, so it identifies this claim.
+   *  4. Submit the docs that were claimed to the workers jobQ without waiting.
+   *
+   * Only REGULAR scheduling is supported since the lease is stored in the iteration field.
+   */
+  public void loopBatchProcess() {
+    if (schedulingType != REGULAR) {
+      log.error("Loop Batch Iterator Mode is supported only for REGULAR scheduling - iterator {}", iteratorName);
+      return;
+    }
+
+    while (true) {
+      // Check if iterators should run or not.
+      if (!shouldProcess()) {
+        sleep(ofSeconds(1));
+        continue;
+      }
 
-        processTime = currentTimeMillis() - totalTimeStart;
-        log.debug("Redis Batch Iterator Mode - time to carryout the entire processing is {}", processTime);
+      int limit = computeLoopBatchLimit();
+      if (limit <= 0) {
+        // The workers have enough to work on, so try after sometime
+        log.warn("The worker Q for {} iterator is full, pausing for 5 seconds", iteratorName);
+        sleep(ofSeconds(REDIS_BATCH_PAUSE_DURATION));
+        continue;
+      }
+
+      int claimed = 0;
+      try {
+        long startTime = currentTimeMillis();
+        claimed = claimAndSubmit(persistenceProvider.obtainNextInstances(clazz, fieldName, filterExpander, limit))
+                      .size();
+        log.debug("Loop Batch Iterator Mode - claimed {} docs with limit {} in {}", claimed, limit,
+            currentTimeMillis() - startTime);
+      } catch (Exception ex) {
+        log.error("Received an exception in loopBatchProcess {} ", ex);
       }
 
       // If there were no docs available then sleep for
       // the configured threadPool interval duration.
-      if (docIds.isEmpty()) {
-        synchronized (this) {
-          try {
-            wait(threadPoolIntervalInSeconds.toMillis());
-          } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-          }
-        }
+      if (claimed == 0) {
+        waitForWakeup();
       }
     }
   }
 
+  @VisibleForTesting
+  int computeLoopBatchLimit() {
+    int queued = workerThreadPoolExecutor.getQueue().size();
+    int limit = loopBatchSize - queued;
+    long average = averageProcessingTime.get();
+    if (average > 0) {
+      // Do not claim more docs than the workers can process before the lease expires.
+      long capacity = targetInterval.toMillis() * workerThreadPoolExecutor.getCorePoolSize() / average - queued;
+      limit = (int) Math.min(limit, capacity);
+    }
+    return limit;
+  }
+
   /**
    * Method to submit an entity to the Worker JobQ.
    * @param entity - Mongo document that worker thread should process
@@ -462,27 +604,25 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   }
 
   /**
-   * Method to acquire the lock and return it.
-   * @return AcquiredLock
+   * Method to try to lease the partitions in a round-robin order starting with the given one.
+   * Partitions that are skipped because they were found empty lately are not leased.
+   * @return the leased partition or Null if all of the others are leased by other processes
    */
-  private AcquiredLock acquireLock() {
-    String lockName = MongoPersistenceIterator.class.getName() + "-" + iteratorName;
-    while (true) {
-      // Hardcoding the lockTimeout and waitTimeout for the lock to 5 secs.
-      // Note - The Redis distributed lock framework is supposed to return Null
-      // if it was unable to acquire a lock and not throw an exception.
-      try (AcquiredLock acquiredLock = persistentLocker.waitToAcquireLockOptional(
-               lockName, ofSeconds(redisLockTimeout), ofSeconds(LOCK_WAIT_TIMEOUT_SECONDS))) {
-        if (acquiredLock != null) {
-          // Got the lock, proceed further.
-          return acquiredLock;
-        } else {
-          log.debug("Failed to acquire distributed lock - attempting to reacquire after 5 secs");
-          iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_REDIS_LOCK_ACQUIRE_FAIL);
-          sleep(ofSeconds(REDIS_BATCH_PAUSE_DURATION));
-        }
+  private PartitionLease acquirePartitionLease(List<IteratorPartition> partitions, int start, long[] idleUntil) {
+    long now = currentTimeMillis();
+    for (int i = 0; i < partitions.size(); i++) {
+      IteratorPartition partition = partitions.get((start + i) % partitions.size());
+      if (idleUntil[partition.getIndex()] > now) {
+        continue;
+      }
+      String lockName = MongoPersistenceIterator.class.getName() + "-" + iteratorName + "-" + partition.getIndex();
+      // The lock expires on its own after the lock timeout, so the partitions of a crashed process are released.
+      AcquiredLock acquiredLock = persistentLocker.tryToAcquireLock(lockName, ofSeconds(redisLockTimeout));
+      if (acquiredLock != null) {
+        return new PartitionLease(partition, acquiredLock, currentTimeMillis() + redisLockTimeout * 1000L / 2);
       }
     }
+    return null;
   }
 
   /**
@@ -505,39 +645,37 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   }
 
   /**
-   * Method to carryout bulk find and update operation.
-   * @param docIds List of document Ids
+   * Method to claim the fetched docs that are still due and submit them to the workers jobQ.
+   * The docs are claimed by setting their iteration field to a lease value, which is the next
+   * iteration of the docs with a random jitter, so it identifies this claim.
+   * @return the claimed docs
    */
-  private void updateDocumentNextIteration(List<String> docIds, long base) {
-    // If the docIds list is empty then return
-    if (docIds.isEmpty()) {
-      return;
+  private List<T> claimAndSubmit(Iterator<T> docItr) {
+    Map<String, T> docs = new LinkedHashMap<>();
+    while (docItr.hasNext()) {
+      T entity = docItr.next();
+      docs.put(entity.getUuid(), entity);
     }
 
-    int size = docIds.size();
-    try {
-      long startTime = currentTimeMillis();
-      BulkWriteOpsResults writeResults =
-          persistenceProvider.bulkWriteDocumentsMatchingIds(clazz, docIds, fieldName, base, targetInterval);
-      long processTime = currentTimeMillis() - startTime;
-      log.debug(
-          "Redis Batch Iterator Mode - time to carryout bulk write for {} docs is {}", docIds.size(), processTime);
-
-      // Do not do any further time-consuming processing here because
-      // the distributed lock has to be released in the finally block for safety.
-
-      // Check if all documents were found
-      if (size != writeResults.getMatchedCount()) {
-        log.warn("All documents not found - exp {} found {} ", size, writeResults.getMatchedCount());
-      }
-      // Check if all the writes went through
-      if (size != writeResults.getModifiedCount()) {
-        log.warn("All updates for the field {} did not go through - exp {} modified {} ", fieldName, size,
-            writeResults.getModifiedCount());
-      }
-    } catch (RuntimeException ex) {
-      log.error("Failed to find and update documents due to exception {} ", ex);
+    List<T> claimed = new ArrayList<>();
+    if (docs.isEmpty()) {
+      return claimed;
+    }
+
+    long now = currentTimeMillis();
+    long lease = now + targetInterval.toMillis() + ThreadLocalRandom.current().nextInt(LEASE_JITTER_MILLIS);
+    List<String> claimedIds = persistenceProvider.claimDocumentsMatchingIds(
+        clazz, new ArrayList<>(docs.keySet()), fieldName, filterExpander, now, lease);
+    for (String id : claimedIds) {
+      T entity = docs.get(id);
+      submitEntityForProcessingWithoutWait(entity);
+      claimed.add(entity);
+    }
+
+    if (claimed.size() != docs.size()) {
+      log.debug("Claimed {} of {} docs, the rest were picked up by another process", claimed.size(), docs.size());
     }
+    return claimed;
   }
 
   /**
@@ -568,6 +706,7 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
    * @param processTime the time it took to process the mongo doc or entity
    */
   private void updateIteratorMetricProcessingTime(long processTime) {
+    averageProcessingTime.updateAndGet(average -> average == 0 ? processTime : movingAvg(average, processTime));
     iteratorMetricsService.recordIteratorMetricsWithDuration(
         iteratorName, ofMillis(processTime), ITERATOR_PROCESSING_TIME);
 
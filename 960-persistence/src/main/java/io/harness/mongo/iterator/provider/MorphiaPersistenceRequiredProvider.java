@@ -7,12 +7,14 @@
 
 package io.harness.mongo.iterator.provider;
 
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.govern.Switch.unhandled;
 
 import static java.lang.System.currentTimeMillis;
 
 import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.BulkWriteOpsResults;
+import io.harness.mongo.iterator.IteratorPartition;
 import io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType;
 import io.harness.mongo.iterator.filter.MorphiaFilterExpander;
 import io.harness.persistence.HPersistence;
@@ -23,6 +25,8 @@ import com.mongodb.BasicDBObject;
 import com.mongodb.BulkWriteOperation;
 import com.mongodb.BulkWriteResult;
 import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
+import com.mongodb.DBObject;
 import dev.morphia.query.FilterOperator;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.MorphiaIterator;
@@ -117,6 +121,24 @@ public class MorphiaPersistenceRequiredProvider<T extends PersistentIterable>
     return query.fetch(new FindOptions().limit(limit));
   }
 
+  @Override
+  public MorphiaIterator<T, T> obtainNextInstances(Class<T> clazz, String fieldName,
+      MorphiaFilterExpander<T> filterExpander, int limit, IteratorPartition partition) {
+    long now = currentTimeMillis();
+    Query<T> query = createQuery(now, clazz, fieldName, filterExpander, false);
+    if (partition.getLowerBound() != null) {
+      query.field("_id").greaterThanOrEq(partition.getLowerBound());
+      if (partition.getUpperBound() != null) {
+        query.field("_id").lessThan(partition.getUpperBound());
+      }
+    } else if (partition.getUpperBound() != null) {
+      // Negated so that the ids which are not strings are picked up by the first partition as well.
+      query.field("_id").not().greaterThanOrEq(partition.getUpperBound());
+    }
+
+    return query.fetch(new FindOptions().limit(limit));
+  }
+
   @Override
   public BulkWriteOpsResults bulkWriteDocumentsMatchingIds(
       Class<T> clazz, List<String> ids, String fieldName, long base, Duration targetInterval) {
@@ -166,4 +188,59 @@ public class MorphiaPersistenceRequiredProvider<T extends PersistentIterable>
         .modifiedCount(bulkWriteResult.getModifiedCount())
         .build();
   }
+
+  @Override
+  public List<String> claimDocumentsMatchingIds(Class<T> clazz, List<String> ids, String fieldName,
+      MorphiaFilterExpander<T> filterExpander, long now, long lease) {
+    if (ids.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    // Each claim writes its own id next to the lease, the lease alone is not unique across the iterator replicas.
+    String claimId = generateUuid();
+    String claimIdFieldName = PersistenceProvider.claimIdFieldName(fieldName);
+    DBObject updateOps =
+        new BasicDBObject("$set", new BasicDBObject(fieldName, lease).append(claimIdFieldName, claimId));
+
+    DBCollection collection = persistence.getCollection(clazz);
+    BulkWriteOperation bulkWriteOperation = collection.initializeUnorderedBulkOperation();
+
+    List<String> stringIds = new ArrayList<>();
+    List<ObjectId> objectIds = new ArrayList<>();
+
+    for (String id : ids) {
+      if (ObjectId.isValid(id)) {
+        objectIds.add(new ObjectId(id));
+      } else {
+        stringIds.add(id);
+      }
+    }
+
+    // Only documents that are still due are claimed, the ones picked up meanwhile by someone else are skipped.
+    if (!stringIds.isEmpty()) {
+      Query<T> findQuery = createQuery(now, clazz, fieldName, filterExpander, true);
+      findQuery.criteria("_id").in(stringIds);
+      bulkWriteOperation.find(findQuery.getQueryObject()).update(updateOps);
+    }
+
+    if (!objectIds.isEmpty()) {
+      Query<T> findQuery = createQuery(now, clazz, fieldName, filterExpander, true);
+      findQuery.criteria("_id").in(objectIds);
+      bulkWriteOperation.find(findQuery.getQueryObject()).update(updateOps);
+    }
+
+    bulkWriteOperation.execute();
+
+    List<String> claimedIds = new ArrayList<>();
+    List<Object> allIds = new ArrayList<>(stringIds);
+    allIds.addAll(objectIds);
+    DBObject claimedQuery =
+        new BasicDBObject("_id", new BasicDBObject("$in", allIds)).append(claimIdFieldName, claimId);
+    try (DBCursor cursor = collection.find(claimedQuery, new BasicDBObject("_id", 1)).limit(ids.size())) {
+      for (DBObject claimed : cursor) {
+        claimedIds.add(claimed.get("_id").toString());
+      }
+    }
+    return claimedIds;
+  }
 }
@@ -11,6 +11,7 @@ import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType;
 
 import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.BulkWriteOpsResults;
+import io.harness.mongo.iterator.IteratorPartition;
 import io.harness.mongo.iterator.filter.FilterExpander;
 
 import java.time.Duration;
@@ -24,6 +25,21 @@ public interface PersistenceProvider<T extends PersistentIterable, F extends Fil
   T findInstance(Class<T> clazz, String fieldName, F filterExpander, boolean isDelegateTaskMigrationEnabled);
   void recoverAfterPause(Class<T> clazz, String fieldName);
   Iterator<T> obtainNextInstances(Class<T> clazz, String fieldName, F filterExpander, int limit);
+  Iterator<T> obtainNextInstances(
+      Class<T> clazz, String fieldName, F filterExpander, int limit, IteratorPartition partition);
   BulkWriteOpsResults bulkWriteDocumentsMatchingIds(
       Class<T> clazz, List<String> ids, String fieldName, long base, Duration targetInterval);
+
+  /**
+   * Sets the field of the given documents that are still due to the lease value and returns the ids of the documents
+   * claimed this way. Each claim stores a unique claim id next to the lease, in the field named by
+   * {@link #claimIdFieldName(String)}, and returns only the documents holding it, so two claims computing the same
+   * lease never both get a document.
+   */
+  List<String> claimDocumentsMatchingIds(
+      Class<T> clazz, List<String> ids, String fieldName, F filterExpander, long now, long lease);
+
+  static String claimIdFieldName(String fieldName) {
+    return fieldName + "ClaimId";
+  }
 }
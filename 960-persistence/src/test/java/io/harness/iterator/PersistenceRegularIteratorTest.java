@@ -25,6 +25,7 @@ import io.harness.category.element.UnitTests;
 import io.harness.iterator.TestRegularIterableEntity.RegularIterableEntityKeys;
 import io.harness.maintenance.MaintenanceGuard;
 import io.harness.metrics.impl.PersistenceMetricsServiceImpl;
+import io.harness.mongo.iterator.IteratorPartition;
 import io.harness.mongo.iterator.MongoPersistenceIterator;
 import io.harness.mongo.iterator.MongoPersistenceIterator.Handler;
 import io.harness.mongo.iterator.filter.MorphiaFilterExpander;
@@ -38,6 +39,9 @@ import io.harness.threading.ThreadPool;
 
 import com.google.inject.Inject;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
@@ -170,4 +174,73 @@ public class PersistenceRegularIteratorTest extends PersistenceTestBase {
       assertThat(updatedEntity.getNextIteration()).isGreaterThan(entity.getNextIteration());
     }
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testClaimDocumentsMatchingIds() {
+    long now = currentTimeMillis();
+    TestRegularIterableEntity due =
+        TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(now - 1000).build();
+    TestRegularIterableEntity notDue =
+        TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(now + 60000).build();
+    persistence.save(due);
+    persistence.save(notDue);
+
+    List<String> ids = Arrays.asList(due.getUuid(), notDue.getUuid());
+    assertThat(persistenceProvider.claimDocumentsMatchingIds(
+                   TestRegularIterableEntity.class, ids, RegularIterableEntityKeys.nextIteration, null, now, now + 10000))
+        .containsExactly(due.getUuid());
+    assertThat(persistenceProvider.claimDocumentsMatchingIds(
+                   TestRegularIterableEntity.class, ids, RegularIterableEntityKeys.nextIteration, null, now, now + 10001))
+        .isEmpty();
+    assertThat(persistence.get(TestRegularIterableEntity.class, due.getUuid()).getNextIteration())
+        .isEqualTo(now + 10000);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testClaimDocumentsMatchingIdsWithCollidingLease() {
+    long now = currentTimeMillis();
+    long lease = now + 10000;
+    TestRegularIterableEntity due =
+        TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(now - 1000).build();
+    TestRegularIterableEntity claimedElsewhere =
+        TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(lease).build();
+    persistence.save(due);
+    persistence.save(claimedElsewhere);
+
+    // A document already holding the same lease was claimed by someone else.
+    List<String> ids = Arrays.asList(due.getUuid(), claimedElsewhere.getUuid());
+    assertThat(persistenceProvider.claimDocumentsMatchingIds(
+                   TestRegularIterableEntity.class, ids, RegularIterableEntityKeys.nextIteration, null, now, lease))
+        .containsExactly(due.getUuid());
+    assertThat(persistence.get(TestRegularIterableEntity.class, due.getUuid()).getNextIteration()).isEqualTo(lease);
+
+    // Another claim computing the same lease gets none of them.
+    assertThat(persistenceProvider.claimDocumentsMatchingIds(
+                   TestRegularIterableEntity.class, ids, RegularIterableEntityKeys.nextIteration, null, now, lease))
+        .isEmpty();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testObtainNextInstancesOfPartition() {
+    long now = currentTimeMillis();
+    List<String> ids = Arrays.asList("-first", "Middle", "_middle", "zlast");
+    for (String id : ids) {
+      persistence.save(TestRegularIterableEntity.builder().uuid(id).nextIteration(now - 1000).build());
+    }
+
+    List<String> fetched = new ArrayList<>();
+    for (IteratorPartition partition : IteratorPartition.split(4)) {
+      persistenceProvider
+          .obtainNextInstances(
+              TestRegularIterableEntity.class, RegularIterableEntityKeys.nextIteration, null, 10, partition)
+          .forEachRemaining(entity -> fetched.add(entity.getUuid()));
+    }
+    assertThat(fetched).containsAll(ids).doesNotHaveDuplicates();
+  }
 }
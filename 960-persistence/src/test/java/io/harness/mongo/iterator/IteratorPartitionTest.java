@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.mongo.iterator;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.PersistenceTestBase;
+import io.harness.category.element.UnitTests;
+import io.harness.iterator.PersistentIterable;
+import io.harness.mongo.iterator.filter.MorphiaFilterExpander;
+import io.harness.rule.Owner;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class IteratorPartitionTest extends PersistenceTestBase {
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testSplitBounds() {
+    assertThat(IteratorPartition.split(0)).containsExactly(IteratorPartition.builder().index(0).build());
+    assertThat(IteratorPartition.split(1000)).hasSize(IteratorPartition.MAX_PARTITIONS);
+
+    List<IteratorPartition> partitions = IteratorPartition.split(4);
+    assertThat(partitions).hasSize(4);
+    assertThat(partitions.get(0).getLowerBound()).isNull();
+    assertThat(partitions.get(3).getUpperBound()).isNull();
+    for (int i = 1; i < partitions.size(); i++) {
+      assertThat(partitions.get(i).getLowerBound()).isEqualTo(partitions.get(i - 1).getUpperBound());
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testEveryUuidFallsInOnePartition() {
+    List<IteratorPartition> partitions = IteratorPartition.split(16);
+    for (int i = 0; i < 1000; i++) {
+      String uuid = generateUuid();
+      assertThat(partitions.stream().filter(partition -> contains(partition, uuid)).count()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldBackOffEmptyPartitionsUpToEightIntervals() {
+    MongoPersistenceIterator<PersistentIterable, MorphiaFilterExpander<PersistentIterable>> iterator =
+        MongoPersistenceIterator.<PersistentIterable, MorphiaFilterExpander<PersistentIterable>>builder()
+            .targetInterval(Duration.ofMinutes(5))
+            .threadPoolIntervalInSeconds(Duration.ofSeconds(10))
+            .build();
+    assertThat(iterator.computePartitionBackoff(0)).isEqualTo(10000);
+    assertThat(iterator.computePartitionBackoff(1)).isEqualTo(20000);
+    assertThat(iterator.computePartitionBackoff(3)).isEqualTo(80000);
+    assertThat(iterator.computePartitionBackoff(10)).isEqualTo(80000);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void shouldBackOffEmptyPartitionsNoLongerThanTargetInterval() {
+    MongoPersistenceIterator<PersistentIterable, MorphiaFilterExpander<PersistentIterable>> iterator =
+        MongoPersistenceIterator.<PersistentIterable, MorphiaFilterExpander<PersistentIterable>>builder()
+            .targetInterval(Duration.ofSeconds(30))
+            .threadPoolIntervalInSeconds(Duration.ofSeconds(10))
+            .build();
+    assertThat(iterator.computePartitionBackoff(3)).isEqualTo(30000);
+  }
+
+  private static boolean contains(IteratorPartition partition, String id) {
+    return (partition.getLowerBound() == null || id.compareTo(partition.getLowerBound()) >= 0)
+        && (partition.getUpperBound() == null || id.compareTo(partition.getUpperBound()) < 0);
+  }
+}
@@ -41,6 +41,8 @@ public class CastedField {
   private final List<CastedField> typeParameters = new ArrayList<>();
   private Class<?> persistedClass;
   private Field field;
+  // Only the fields of the casted classes hold values, the ephemeral ones describe type parameters
+  private FieldAccessor accessor;
   private Class<?> realType;
   private Constructor constructor;
   private String recasterFieldName;
@@ -57,6 +59,7 @@ public class CastedField {
   CastedField(final Field f, final Class<?> clazz, final Recaster recaster) {
     f.setAccessible(true);
     field = f;
+    accessor = new FieldAccessor(f);
     recasterFieldName = getRecasterFieldNameFromField(f);
     persistedClass = clazz;
     realType = field.getType();
@@ -359,6 +362,9 @@ public class CastedField {
   }
 
   public Object getFieldValue(final Object instance) {
+    if (accessor != null) {
+      return accessor.get(instance);
+    }
     try {
       return field.get(instance);
     } catch (IllegalAccessException e) {
@@ -367,6 +373,10 @@ public class CastedField {
   }
 
   public void setFieldValue(final Object instance, final Object value) {
+    if (accessor != null) {
+      accessor.set(instance, value);
+      return;
+    }
     try {
       field.set(instance, value);
     } catch (IllegalAccessException e) {
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static java.lang.String.format;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.exceptions.RecasterException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * Reads and writes a field through method handles bound once per field, instead of going through the access checks
+ * of {@link Field#get(Object)} and {@link Field#set(Object, Object)} on every call. The handles are adapted to
+ * (Object)Object and (Object, Object)void, so that they can be invoked exactly without knowing the field type.
+ *
+ * Fields that cannot be unreflected, like final fields on some JDKs, fall back to plain reflection.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+public class FieldAccessor {
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final Field field;
+  private final MethodHandle getter;
+  private final MethodHandle setter;
+
+  public FieldAccessor(Field field) {
+    field.setAccessible(true);
+    this.field = field;
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    this.getter = unreflect(lookup, field, false);
+    this.setter = unreflect(lookup, field, true);
+  }
+
+  private static MethodHandle unreflect(MethodHandles.Lookup lookup, Field field, boolean setter) {
+    try {
+      MethodHandle handle = setter ? lookup.unreflectSetter(field) : lookup.unreflectGetter(field);
+      return handle.asType(setter ? SETTER_TYPE : GETTER_TYPE);
+    } catch (IllegalAccessException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  public Object get(Object instance) {
+    if (getter == null) {
+      try {
+        return field.get(instance);
+      } catch (IllegalAccessException e) {
+        throw new RuntimeException(e);
+      }
+    }
+    try {
+      return (Object) getter.invokeExact(instance);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RecasterException("Failed to read the field " + field.getName(), e);
+    }
+  }
+
+  public void set(Object instance, Object value) {
+    if (setter == null) {
+      try {
+        field.set(instance, value);
+        return;
+      } catch (IllegalAccessException e) {
+        throw new RuntimeException(e);
+      }
+    }
+    try {
+      setter.invokeExact(instance, value);
+    } catch (ClassCastException | NullPointerException e) {
+      if (instance == null) {
+        throw e;
+      }
+      // Keep the exception of Field.set, the callers report it as a conversion error
+      throw new IllegalArgumentException(
+          format("Can not set %s field %s to %s", field.getType().getName(), field.getName(), value), e);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RecasterException("Failed to write the field " + field.getName(), e);
+    }
+  }
+}
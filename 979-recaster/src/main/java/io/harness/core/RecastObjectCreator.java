@@ -14,6 +14,9 @@ import io.harness.beans.RecasterMap;
 import io.harness.exceptions.RecasterException;
 import io.harness.utils.RecastReflectionUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
@@ -32,6 +35,7 @@ import org.modelmapper.internal.objenesis.ObjenesisStd;
 @Slf4j
 public class RecastObjectCreator implements RecastObjectFactory {
   private static final Objenesis objenesis = new ObjenesisStd(true);
+  private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
   private final Map<Class<?>, InstanceConstructor<?>> instanceConstructors = new ConcurrentHashMap<>();
 
   interface InstanceConstructor<T> {
@@ -64,6 +68,10 @@ public class RecastObjectCreator implements RecastObjectFactory {
   private <T> InstanceConstructor<T> makeInstanceConstructor(Class<T> clazz) {
     final Constructor<T> constructor = noArgsConstructorOrNull(clazz);
     if (constructor != null) {
+      final MethodHandle handle = constructorHandleOrNull(constructor);
+      if (handle != null) {
+        return () -> newInstance(handle);
+      }
       return () -> newInstance(constructor);
     }
 
@@ -90,6 +98,25 @@ public class RecastObjectCreator implements RecastObjectFactory {
     }
   }
 
+  private static MethodHandle constructorHandleOrNull(final Constructor<?> constructor) {
+    try {
+      return MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+    } catch (IllegalAccessException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T newInstance(MethodHandle handle) {
+    try {
+      return (T) (Object) handle.invokeExact();
+    } catch (RuntimeException | Error exception) {
+      throw exception;
+    } catch (Throwable exception) {
+      throw new RecasterException("The class constructor fail", exception);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   private <T> T createInstanceInternal(final Class<T> clazz) {
     try {
@@ -15,6 +15,7 @@ import io.harness.core.AliasRegistry;
 import io.harness.core.Recaster;
 import io.harness.exceptions.RecasterException;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.GenericArrayType;
@@ -26,6 +27,7 @@ import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -33,12 +35,19 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 
 @OwnedBy(HarnessTeam.PIPELINE)
 @Slf4j
 public class RecastReflectionUtils {
+  // Class.forName goes through the class loader locks on every call, the identifiers of the maps are few and stable.
+  // The classes are cached per class loader, weakly on both sides, so that a discarded loader can still be collected.
+  private static final Map<ClassLoader, Map<String, WeakReference<Class<?>>>> loadedClasses =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
   public static Field[] getDeclaredAndInheritedFields(final Class<?> type, final boolean returnFinalFields) {
     final List<Field> allFields = new ArrayList<>(getValidFields(type.getDeclaredFields(), returnFinalFields));
     Class<?> parent = type.getSuperclass();
@@ -149,7 +158,7 @@ public class RecastReflectionUtils {
       }
 
       try {
-        c = Class.forName(documentIdentifier, true, Thread.currentThread().getContextClassLoader());
+        c = loadClass(documentIdentifier, Thread.currentThread().getContextClassLoader());
       } catch (ClassNotFoundException e) {
         log.warn("Class not found defined in dbObj: ", e);
         String recastFilePath = String.valueOf(recasterMap.getOrDefault(RecasterMap.RECAST_CLASS_KEY, ""));
@@ -159,6 +168,18 @@ public class RecastReflectionUtils {
     return (Class<T>) c;
   }
 
+  private static Class<?> loadClass(String className, ClassLoader classLoader) throws ClassNotFoundException {
+    Map<String, WeakReference<Class<?>>> classes =
+        loadedClasses.computeIfAbsent(classLoader, loader -> new ConcurrentHashMap<>());
+    WeakReference<Class<?>> loadedClass = classes.get(className);
+    Class<?> c = loadedClass == null ? null : loadedClass.get();
+    if (c == null) {
+      c = Class.forName(className, true, classLoader);
+      classes.put(className, new WeakReference<>(c));
+    }
+    return c;
+  }
+
   public static Type getParameterizedType(final Field field, final int index) {
     if (field != null) {
       if (field.getGenericType() instanceof ParameterizedType) {
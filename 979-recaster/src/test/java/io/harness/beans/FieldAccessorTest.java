@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.RecasterTestBase;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class FieldAccessorTest extends RecasterTestBase {
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldReadAndWritePrivateAndFinalFields() throws NoSuchFieldException {
+    Dummy dummy = new Dummy();
+    FieldAccessor name = new FieldAccessor(Dummy.class.getDeclaredField("name"));
+    FieldAccessor count = new FieldAccessor(Dummy.class.getDeclaredField("count"));
+    FieldAccessor values = new FieldAccessor(Dummy.class.getDeclaredField("values"));
+
+    name.set(dummy, "changed");
+    count.set(dummy, 5);
+    values.set(dummy, Collections.singletonList("value"));
+
+    assertThat(name.get(dummy)).isEqualTo("changed");
+    assertThat(count.get(dummy)).isEqualTo(5);
+    assertThat(values.get(dummy)).isEqualTo(Collections.singletonList("value"));
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldKeepIllegalArgumentExceptionOfReflection() throws NoSuchFieldException {
+    Dummy dummy = new Dummy();
+    FieldAccessor count = new FieldAccessor(Dummy.class.getDeclaredField("count"));
+
+    assertThatThrownBy(() -> count.set(dummy, "string")).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> count.set(dummy, null)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static class Dummy {
+    private final String name = "name";
+    private int count;
+    private List<String> values;
+  }
+}
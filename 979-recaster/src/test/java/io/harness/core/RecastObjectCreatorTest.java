@@ -0,0 +1,81 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.core;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.RecasterTestBase;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.exceptions.RecasterException;
+import io.harness.rule.Owner;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class RecastObjectCreatorTest extends RecasterTestBase {
+  private final RecastObjectCreator objectCreator = new RecastObjectCreator();
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldRunThePrivateNoArgsConstructorOnEveryInstance() {
+    WithNoArgsConstructor first = objectCreator.createInstance(WithNoArgsConstructor.class);
+    WithNoArgsConstructor second = objectCreator.createInstance(WithNoArgsConstructor.class);
+
+    assertThat(first.name).isEqualTo("initialized");
+    assertThat(second.name).isEqualTo("initialized");
+    assertThat(second).isNotSameAs(first);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldInstantiateClassesWithoutNoArgsConstructor() {
+    WithoutNoArgsConstructor instance = objectCreator.createInstance(WithoutNoArgsConstructor.class);
+
+    assertThat(instance).isNotNull();
+    assertThat(instance.name).isNull();
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldWrapConstructorFailures() {
+    assertThatThrownBy(() -> objectCreator.createInstance(WithFailingConstructor.class))
+        .isInstanceOf(RecasterException.class)
+        .hasRootCauseInstanceOf(IllegalStateException.class);
+  }
+
+  private static class WithNoArgsConstructor {
+    private final String name;
+
+    private WithNoArgsConstructor() {
+      name = "initialized";
+    }
+  }
+
+  private static class WithoutNoArgsConstructor {
+    private final String name;
+
+    WithoutNoArgsConstructor(String name) {
+      this.name = name;
+    }
+  }
+
+  private static class WithFailingConstructor {
+    WithFailingConstructor() {
+      throw new IllegalStateException("failing constructor");
+    }
+  }
+}
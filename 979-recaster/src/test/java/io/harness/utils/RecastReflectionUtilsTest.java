@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.utils;
+
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.RecasterTestBase;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.RecasterMap;
+import io.harness.category.element.UnitTests;
+import io.harness.exceptions.RecasterException;
+import io.harness.rule.Owner;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class RecastReflectionUtilsTest extends RecasterTestBase {
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldResolveTheSameClassAgain() {
+    RecasterMap recasterMap = new RecasterMap().append(RecasterMap.RECAST_CLASS_KEY, Dummy.class.getName());
+
+    assertThat(RecastReflectionUtils.<Dummy>getClass(recasterMap)).isEqualTo(Dummy.class);
+    assertThat(RecastReflectionUtils.<Dummy>getClass(recasterMap)).isEqualTo(Dummy.class);
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldNotShareClassesAcrossClassLoaders() {
+    RecasterMap recasterMap = new RecasterMap().append(RecasterMap.RECAST_CLASS_KEY, Dummy.class.getName());
+    assertThat(RecastReflectionUtils.<Dummy>getClass(recasterMap)).isEqualTo(Dummy.class);
+
+    Thread thread = Thread.currentThread();
+    ClassLoader contextClassLoader = thread.getContextClassLoader();
+    // Only sees the bootstrap classes, so a class cached for the application class loader must not be returned
+    thread.setContextClassLoader(new ClassLoader(null) {});
+    try {
+      assertThatThrownBy(() -> RecastReflectionUtils.getClass(recasterMap)).isInstanceOf(RecasterException.class);
+    } finally {
+      thread.setContextClassLoader(contextClassLoader);
+    }
+  }
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldNotCacheClassesWhichAreNotFound() {
+    RecasterMap recasterMap =
+        new RecasterMap().append(RecasterMap.RECAST_CLASS_KEY, "io.harness.utils.RecastReflectionUtilsTest$Missing");
+
+    assertThatThrownBy(() -> RecastReflectionUtils.getClass(recasterMap)).isInstanceOf(RecasterException.class);
+    assertThatThrownBy(() -> RecastReflectionUtils.getClass(recasterMap)).isInstanceOf(RecasterException.class);
+  }
+
+  private static class Dummy {}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.data.structure.EmptyPredicate;
+import io.harness.expression.common.ExpressionConstants;
+import io.harness.text.resolver.TrackingExpressionResolver;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.jexl3.JexlBuilder;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.JexlScript;
+import org.apache.commons.logging.impl.NoOpLog;
+
+/**
+ * Process wide cache of the parsed jexl scripts and expressions, and of the expressions found in a string, shared by
+ * all the {@link EngineExpressionEvaluator} instances. Evaluators are created per step, while the expressions they see
+ * repeat across steps, matrix iterations and executions, so parsing them once saves most of the parsing cost.
+ *
+ * Parsed scripts and expressions are immutable and can be executed concurrently with different contexts. The caches
+ * are bounded by the total length of the cached strings, so a few very large strings cannot hold the memory. The
+ * strings holding the variables generated by the partial evaluation are unique, so they are not cached.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@UtilityClass
+public class EngineExpressionCache {
+  // Total number of chars of the cached keys, per cache
+  private static final long MAX_CACHED_CHARS = 4_000_000;
+  // Longer strings are unlikely to repeat and are not worth keeping
+  private static final int MAX_CACHED_LENGTH = 16 * 1024;
+
+  private static final JexlEngine ENGINE = new JexlBuilder().logger(new NoOpLog()).create();
+
+  private static final Cache<String, JexlScript> SCRIPTS = newCache();
+  private static final Cache<String, JexlExpression> EXPRESSIONS = newCache();
+  private static final Cache<String, List<String>> FOUND_EXPRESSIONS = newCache();
+  private static final Cache<String, List<String>> FOUND_VARIABLES = newCache();
+
+  private static <V> Cache<String, V> newCache() {
+    return CacheBuilder.newBuilder()
+        .maximumWeight(MAX_CACHED_CHARS)
+        .<String, V>weigher((key, value) -> key.length())
+        .recordStats()
+        .build();
+  }
+
+  public static JexlEngine getEngine() {
+    return ENGINE;
+  }
+
+  public static JexlScript createScript(String expression) {
+    return getOrCreate(SCRIPTS, expression, ENGINE::createScript);
+  }
+
+  public static JexlExpression createExpression(String expression) {
+    return getOrCreate(EXPRESSIONS, expression, ENGINE::createExpression);
+  }
+
+  /**
+   * Cached variant of {@link EngineExpressionEvaluator#findExpressions(String)}, returns a new list on every call.
+   */
+  public static List<String> findExpressions(String str) {
+    return findCached(FOUND_EXPRESSIONS, str, false);
+  }
+
+  /**
+   * Cached variant of {@link EngineExpressionEvaluator#findVariables(String)}, returns a new list on every call.
+   */
+  public static List<String> findVariables(String str) {
+    return findCached(FOUND_VARIABLES, str, true);
+  }
+
+  private static List<String> findCached(Cache<String, List<String>> cache, String str, boolean onlyVariables) {
+    // Most of the strings checked have no expression at all, keep them out of the cache
+    if (EmptyPredicate.isEmpty(str) || !str.contains(ExpressionConstants.EXPR_START)) {
+      return new ArrayList<>();
+    }
+    List<String> found = getOrCreate(cache, str,
+        source
+        -> ImmutableList.copyOf(TrackingExpressionResolver.findExpressions(
+            ExpressionConstants.EXPR_START, ExpressionConstants.EXPR_END, true, onlyVariables, source)));
+    return new ArrayList<>(found);
+  }
+
+  private static <V> V getOrCreate(Cache<String, V> cache, String key, Function<String, V> creator) {
+    // The partial evaluation generates a new variable name every time, so these strings never repeat
+    if (key.length() > MAX_CACHED_LENGTH || key.contains(EngineExpressionEvaluator.HARNESS_INTERNAL_VARIABLE_PREFIX)) {
+      return creator.apply(key);
+    }
+    V value = cache.getIfPresent(key);
+    if (value == null) {
+      // Not using Cache.get(key, loader) so that parsing exceptions reach the callers unwrapped
+      value = creator.apply(key);
+      cache.put(key, value);
+    }
+    return value;
+  }
+
+  /**
+   * @return the stats of every cache, by cache name, to check the hit rates
+   */
+  public static Map<String, CacheStats> getStats() {
+    return ImmutableMap.of("scripts", SCRIPTS.stats(), "expressions", EXPRESSIONS.stats(), "foundExpressions",
+        FOUND_EXPRESSIONS.stats(), "foundVariables", FOUND_VARIABLES.stats());
+  }
+
+  public static void invalidateAll() {
+    SCRIPTS.invalidateAll();
+    EXPRESSIONS.invalidateAll();
+    FOUND_EXPRESSIONS.invalidateAll();
+    FOUND_VARIABLES.invalidateAll();
+  }
+}
@@ -48,12 +48,9 @@ import javax.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.jexl3.JexlBuilder;
-import org.apache.commons.jexl3.JexlEngine;
 import org.apache.commons.jexl3.JexlException;
 import org.apache.commons.jexl3.JexlExpression;
 import org.apache.commons.lang3.RandomStringUtils;
-import org.apache.commons.logging.impl.NoOpLog;
 import org.hibernate.validator.constraints.NotEmpty;
 
 @CodePulse(module = ProductModule.CDS, unitCoverageRequired = true,
@@ -76,14 +73,12 @@ public class EngineExpressionEvaluator {
 
   private static final int MAX_DEPTH = 15;
 
-  private final JexlEngine engine;
   @Getter private final VariableResolverTracker variableResolverTracker;
   @Getter private final Map<String, Object> contextMap;
   @Getter private final Map<String, String> staticAliases;
   private boolean initialized;
 
   public EngineExpressionEvaluator(VariableResolverTracker variableResolverTracker) {
-    this.engine = new JexlBuilder().logger(new NoOpLog()).create();
     this.variableResolverTracker =
         variableResolverTracker == null ? new VariableResolverTracker() : variableResolverTracker;
     this.contextMap = new LateBindingMap();
@@ -633,9 +628,9 @@ public class EngineExpressionEvaluator {
 
   protected Object evaluateByCreatingExpression(@NotNull String expression, @NotNull EngineJexlContext ctx) {
     if (ctx.isFeatureFlagEnabled(PIE_EXECUTION_JSON_SUPPORT)) {
-      return engine.createScript(expression).execute(ctx);
+      return EngineExpressionCache.createScript(expression).execute(ctx);
     }
-    JexlExpression jexlExpression = engine.createExpression(expression);
+    JexlExpression jexlExpression = EngineExpressionCache.createExpression(expression);
     return jexlExpression.evaluate(ctx);
   }
 
@@ -655,7 +650,7 @@ public class EngineExpressionEvaluator {
 
     if (ctx.isFeatureFlagEnabled(PIE_EXECUTION_JSON_SUPPORT)) {
       try {
-        return engine.createScript(expression).execute(ctx);
+        return EngineExpressionCache.createScript(expression).execute(ctx);
       } catch (Exception e) {
         if (response.isOnlyRenderedExpressions()) {
           return null;
@@ -664,7 +659,7 @@ public class EngineExpressionEvaluator {
       }
     }
     try {
-      JexlExpression jexlExpression = engine.createExpression(expression);
+      JexlExpression jexlExpression = EngineExpressionCache.createExpression(expression);
       return jexlExpression.evaluate(ctx);
     } catch (Exception e) {
       if (response.isOnlyRenderedExpressions()) {
@@ -675,7 +670,7 @@ public class EngineExpressionEvaluator {
   }
 
   protected Object evaluateByCreatingScript(@NotNull String expression, @NotNull EngineJexlContext ctx) {
-    return engine.createScript(expression).execute(ctx);
+    return EngineExpressionCache.createScript(expression).execute(ctx);
   }
 
   private EngineJexlContext prepareContext(Map<String, Object> ctx) {
@@ -729,13 +724,11 @@ public class EngineExpressionEvaluator {
   }
 
   public static List<String> findExpressions(String str) {
-    return TrackingExpressionResolver.findExpressions(
-        ExpressionConstants.EXPR_START, ExpressionConstants.EXPR_END, true, false, str);
+    return EngineExpressionCache.findExpressions(str);
   }
 
   public static List<String> findVariables(String str) {
-    return TrackingExpressionResolver.findExpressions(
-        ExpressionConstants.EXPR_START, ExpressionConstants.EXPR_END, true, true, str);
+    return EngineExpressionCache.findVariables(str);
   }
 
   public static boolean validVariableFieldName(String name) {
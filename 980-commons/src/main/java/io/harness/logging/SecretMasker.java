@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logging;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Masks a fixed set of secrets in one pass over a message, with an Aho-Corasick automaton built once.
+ *
+ * Like StringUtils.replaceEach, the message is scanned left to right and the masked text is not scanned again. When
+ * several secrets match at the same position the longest one is masked. Messages without any secret are returned as is,
+ * without allocating.
+ */
+public class SecretMasker {
+  private static final int ROOT = 0;
+
+  private final String mask;
+  // Sorted transition characters and target states of each state
+  private final char[][] transitionChars;
+  private final int[][] transitionTargets;
+  private final int[] failure;
+  // Length of the longest secret that is a suffix of the text read to reach the state, 0 if none
+  private final int[] longestMatch;
+  private final int maxSecretLength;
+
+  public static SecretMasker compile(Collection<String> secrets, String mask) {
+    return new SecretMasker(secrets, mask);
+  }
+
+  private SecretMasker(Collection<String> secrets, String mask) {
+    this.mask = mask;
+    List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+    trie.add(new TreeMap<>());
+    List<Integer> matches = new ArrayList<>();
+    matches.add(0);
+    int maxLength = 0;
+    for (String secret : secrets) {
+      if (secret == null || secret.isEmpty()) {
+        continue;
+      }
+      int state = ROOT;
+      for (int i = 0; i < secret.length(); i++) {
+        Integer next = trie.get(state).get(secret.charAt(i));
+        if (next == null) {
+          next = trie.size();
+          trie.add(new TreeMap<>());
+          matches.add(0);
+          trie.get(state).put(secret.charAt(i), next);
+        }
+        state = next;
+      }
+      matches.set(state, secret.length());
+      maxLength = Math.max(maxLength, secret.length());
+    }
+    this.maxSecretLength = maxLength;
+
+    int size = trie.size();
+    transitionChars = new char[size][];
+    transitionTargets = new int[size][];
+    for (int state = 0; state < size; state++) {
+      TreeMap<Character, Integer> children = trie.get(state);
+      transitionChars[state] = new char[children.size()];
+      transitionTargets[state] = new int[children.size()];
+      int i = 0;
+      for (Map.Entry<Character, Integer> child : children.entrySet()) {
+        transitionChars[state][i] = child.getKey();
+        transitionTargets[state][i] = child.getValue();
+        i++;
+      }
+    }
+
+    failure = new int[size];
+    longestMatch = new int[size];
+    Queue<Integer> queue = new LinkedList<>();
+    for (int child : transitionTargets[ROOT]) {
+      failure[child] = ROOT;
+      queue.add(child);
+    }
+    // Breadth first, so the failure state of a state is always computed before its own
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      longestMatch[state] = matches.get(state) > 0 ? matches.get(state) : longestMatch[failure[state]];
+      for (int i = 0; i < transitionChars[state].length; i++) {
+        int child = transitionTargets[state][i];
+        failure[child] = next(failure[state], transitionChars[state][i]);
+        queue.add(child);
+      }
+    }
+  }
+
+  public boolean isEmpty() {
+    return maxSecretLength == 0;
+  }
+
+  public String mask(String message) {
+    if (message == null || isEmpty()) {
+      return message;
+    }
+    StringBuilder masked = null;
+    int copiedUpTo = 0;
+    int state = ROOT;
+    int matchStart = -1;
+    int matchEnd = -1;
+    for (int i = 0; i < message.length(); i++) {
+      state = next(state, message.charAt(i));
+      if (longestMatch[state] > 0) {
+        int start = i - longestMatch[state] + 1;
+        if (matchStart < 0 || start <= matchStart) {
+          // Leftmost match so far, or a longer one at the same position
+          matchStart = start;
+          matchEnd = i;
+        }
+      }
+      // Once no match ending later can start at or before the current one, the current one is final
+      if (matchStart >= 0 && (i - matchStart + 1 >= maxSecretLength || i == message.length() - 1)) {
+        if (masked == null) {
+          masked = new StringBuilder(message.length());
+        }
+        masked.append(message, copiedUpTo, matchStart).append(mask);
+        copiedUpTo = matchEnd + 1;
+        // Continue right after the masked text, as if it was not there
+        i = matchEnd;
+        state = ROOT;
+        matchStart = -1;
+      }
+    }
+    if (masked == null) {
+      return message;
+    }
+    return masked.append(message, copiedUpTo, message.length()).toString();
+  }
+
+  private int next(int state, char c) {
+    while (true) {
+      int index = Arrays.binarySearch(transitionChars[state], c);
+      if (index >= 0) {
+        return transitionTargets[state][index];
+      }
+      if (state == ROOT) {
+        return ROOT;
+      }
+      state = failure[state];
+    }
+  }
+}
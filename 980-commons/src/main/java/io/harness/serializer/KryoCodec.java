@@ -0,0 +1,36 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import lombok.Getter;
+
+/**
+ * The compression codecs of the blobs written by {@link KryoSerializer#asCompressedBytes(Object, KryoCodec)}.
+ * The id is persisted in the header of every blob, so the existing ids must never change.
+ */
+public enum KryoCodec {
+  NONE((byte) 0),
+  DEFLATE((byte) 1),
+  LZ4((byte) 2),
+  ZSTD((byte) 3);
+
+  @Getter private final byte id;
+
+  KryoCodec(byte id) {
+    this.id = id;
+  }
+
+  public static KryoCodec fromId(byte id) {
+    for (KryoCodec codec : values()) {
+      if (codec.id == id) {
+        return codec;
+      }
+    }
+    throw new IllegalArgumentException("Unknown kryo codec id " + id);
+  }
+}
@@ -16,19 +16,25 @@ import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 import com.esotericsoftware.kryo.pool.KryoPool;
 import com.esotericsoftware.kryo.util.IntMap;
+import com.github.luben.zstd.Zstd;
 import com.google.api.client.util.Base64;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStream;
+import java.io.ByteArrayInputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Set;
-import java.util.zip.DeflaterOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 import java.util.zip.InflaterInputStream;
 import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
 
 @Singleton
 @Slf4j
@@ -51,6 +57,17 @@ public class KryoSerializer {
     }
   }
 
+  // Marks the blobs that start with a codec header, it can not be the first byte of a deflate stream.
+  private static final byte CODEC_MAGIC = (byte) 0xC0;
+  // The magic, the codec id and the length of the serialized object.
+  private static final int HEADER_SIZE = 6;
+  private static final int ZSTD_LEVEL = 3;
+  private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+  // Most of the objects are a few KB, the buffers grown by larger ones are dropped so that threads do not hoard memory.
+  private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+  private static final LZ4Factory LZ4_FACTORY = LZ4Factory.fastestInstance();
+  private static final ThreadLocal<Buffers> BUFFERS = new ThreadLocal<>();
+
   private final KryoPool pool;
   private final boolean skipHarnessClassOriginRegistrarCheck;
 
@@ -104,34 +121,63 @@ public class KryoSerializer {
   }
 
   public byte[] asBytes(Object obj) {
-    try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      writeToStream(obj, outputStream);
-      return outputStream.toByteArray();
+    Buffers buffers = takeBuffers();
+    try {
+      Output output = serialize(obj, buffers);
+      return Arrays.copyOf(output.getBuffer(), output.position());
     } catch (Exception e) {
       throw new RuntimeException(e);
+    } finally {
+      releaseBuffers(buffers);
     }
   }
 
+  /**
+   * Serializes the object as a headerless deflate stream, the format readable by every version of the
+   * {@link #asInflatedObject(byte[])}.
+   */
   public byte[] asDeflatedBytes(Object obj) {
-    try (ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
-         DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream)) {
-      writeToStream(obj, outputStream);
-      outputStream.finish();
-      return byteStream.toByteArray();
+    Buffers buffers = takeBuffers();
+    try {
+      Output output = serialize(obj, buffers);
+      int length = deflate(buffers, output.getBuffer(), output.position(), 0);
+      return Arrays.copyOf(buffers.scratch, length);
     } catch (Exception exception) {
       throw new RuntimeException(exception);
+    } finally {
+      releaseBuffers(buffers);
     }
   }
 
-  private void writeToStream(Object obj, OutputStream outputStream) {
-    try (Output output = new Output(outputStream)) {
-      pool.run(kryo -> {
-        kryo.writeClassAndObject(output, obj);
-        return null;
-      });
-      output.flush();
-    } catch (Exception exception) {
-      throw new RuntimeException(exception);
+  /**
+   * Serializes the object and compresses it with the given codec behind a small header that identifies the codec.
+   * The result can be read with {@link #asInflatedObject(byte[])}, but only by the versions that know about the
+   * header, so it should not be used for blobs read by processes that are not upgraded yet.
+   */
+  public byte[] asCompressedBytes(Object obj, KryoCodec codec) {
+    Buffers buffers = takeBuffers();
+    try {
+      int length = compress(obj, codec, buffers);
+      return Arrays.copyOf(buffers.scratch, length);
+    } finally {
+      releaseBuffers(buffers);
+    }
+  }
+
+  /**
+   * Same as {@link #asCompressedBytes(Object, KryoCodec)}, but writes the blob in the given buffer.
+   *
+   * @return the number of bytes written
+   * @throws java.nio.BufferOverflowException if the buffer has not enough room, nothing is written in this case
+   */
+  public int writeCompressed(Object obj, KryoCodec codec, ByteBuffer target) {
+    Buffers buffers = takeBuffers();
+    try {
+      int length = compress(obj, codec, buffers);
+      target.put(buffers.scratch, 0, length);
+      return length;
+    } finally {
+      releaseBuffers(buffers);
     }
   }
 
@@ -140,14 +186,50 @@ public class KryoSerializer {
   }
 
   public Object asObject(byte[] bytes) {
-    try (Input input = new Input(bytes)) {
-      return pool.run(kryo -> kryo.readClassAndObject(input));
-    }
+    return readObject(bytes, 0, bytes.length);
   }
 
+  /**
+   * Reads the blobs written by {@link #asDeflatedBytes(Object)} as well as the ones written by
+   * {@link #asCompressedBytes(Object, KryoCodec)}.
+   */
   public Object asInflatedObject(byte[] bytes) {
-    try (Input input = new Input(new InflaterInputStream(new Input(bytes)))) {
-      return pool.run(kryo -> kryo.readClassAndObject(input));
+    return asInflatedObject(bytes, 0, bytes.length);
+  }
+
+  public Object asInflatedObject(ByteBuffer buffer) {
+    if (!buffer.hasArray()) {
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      return asInflatedObject(bytes);
+    }
+    Object obj = asInflatedObject(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    buffer.position(buffer.limit());
+    return obj;
+  }
+
+  private Object asInflatedObject(byte[] bytes, int offset, int count) {
+    try {
+      if (count < HEADER_SIZE || bytes[offset] != CODEC_MAGIC) {
+        // A deflate stream starts with 0x78, so the blobs written before the header was introduced land here.
+        return inflateToObject(bytes, offset, count);
+      }
+
+      KryoCodec codec = KryoCodec.fromId(bytes[offset + 1]);
+      int length = readInt(bytes, offset + 2);
+      int start = offset + HEADER_SIZE;
+      if (codec == KryoCodec.NONE) {
+        return readObject(bytes, start, length);
+      }
+
+      Buffers buffers = takeBuffers();
+      try {
+        byte[] raw = buffers.scratch(length);
+        decompress(codec, bytes, start, count - HEADER_SIZE, raw, length, buffers);
+        return readObject(raw, 0, length);
+      } finally {
+        releaseBuffers(buffers);
+      }
     } catch (Exception exception) {
       throw new RuntimeException(exception);
     }
@@ -160,4 +242,189 @@ public class KryoSerializer {
   public boolean isRegistered(Class cls) {
     return pool.run(kryo -> kryo.getClassResolver().getRegistration(cls) != null);
   }
+
+  private Output serialize(Object obj, Buffers buffers) {
+    Output output = buffers.output;
+    output.clear();
+    pool.run(kryo -> {
+      kryo.writeClassAndObject(output, obj);
+      return null;
+    });
+    return output;
+  }
+
+  private Object readObject(byte[] bytes, int offset, int count) {
+    try (Input input = new Input(bytes, offset, count)) {
+      return pool.run(kryo -> kryo.readClassAndObject(input));
+    }
+  }
+
+  private Object inflateToObject(byte[] bytes, int offset, int count) {
+    Buffers buffers = takeBuffers();
+    Inflater inflater = buffers.inflater();
+    try (Input input =
+             new Input(new InflaterInputStream(new ByteArrayInputStream(bytes, offset, count), inflater))) {
+      return pool.run(kryo -> kryo.readClassAndObject(input));
+    } finally {
+      releaseBuffers(buffers);
+    }
+  }
+
+  private int compress(Object obj, KryoCodec codec, Buffers buffers) {
+    Output output = serialize(obj, buffers);
+    byte[] raw = output.getBuffer();
+    int length = output.position();
+
+    byte[] blob = buffers.scratch(HEADER_SIZE);
+    blob[0] = CODEC_MAGIC;
+    blob[1] = codec.getId();
+    writeInt(blob, 2, length);
+
+    switch (codec) {
+      case NONE:
+        blob = buffers.scratch(HEADER_SIZE + length);
+        System.arraycopy(raw, 0, blob, HEADER_SIZE, length);
+        return HEADER_SIZE + length;
+      case DEFLATE:
+        return deflate(buffers, raw, length, HEADER_SIZE);
+      case LZ4:
+        LZ4Compressor compressor = LZ4_FACTORY.fastCompressor();
+        int lz4Bound = compressor.maxCompressedLength(length);
+        blob = buffers.scratch(HEADER_SIZE + lz4Bound);
+        return HEADER_SIZE + compressor.compress(raw, 0, length, blob, HEADER_SIZE, lz4Bound);
+      case ZSTD:
+        int zstdBound = (int) Zstd.compressBound(length);
+        blob = buffers.scratch(HEADER_SIZE + zstdBound);
+        long size = Zstd.compressByteArray(blob, HEADER_SIZE, zstdBound, raw, 0, length, ZSTD_LEVEL);
+        if (Zstd.isError(size)) {
+          throw new IllegalStateException("Zstd compression failed: " + Zstd.getErrorName(size));
+        }
+        return HEADER_SIZE + (int) size;
+      default:
+        throw new IllegalArgumentException("Unsupported kryo codec " + codec);
+    }
+  }
+
+  private static void decompress(KryoCodec codec, byte[] src, int offset, int count, byte[] raw, int length,
+      Buffers buffers) throws DataFormatException {
+    switch (codec) {
+      case DEFLATE:
+        Inflater inflater = buffers.inflater();
+        inflater.setInput(src, offset, count);
+        int inflated = 0;
+        while (inflated < length) {
+          int size = inflater.inflate(raw, inflated, length - inflated);
+          if (size == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+            break;
+          }
+          inflated += size;
+        }
+        if (inflated != length) {
+          throw new IllegalStateException("Deflate blob is truncated, expected " + length + " got " + inflated);
+        }
+        break;
+      case LZ4:
+        LZ4_FACTORY.fastDecompressor().decompress(src, offset, raw, 0, length);
+        break;
+      case ZSTD:
+        long size = Zstd.decompressByteArray(raw, 0, length, src, offset, count);
+        if (Zstd.isError(size)) {
+          throw new IllegalStateException("Zstd decompression failed: " + Zstd.getErrorName(size));
+        }
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported kryo codec " + codec);
+    }
+  }
+
+  /**
+   * Deflates the source in the scratch buffer starting at the given offset.
+   *
+   * @return the end of the deflated data in the scratch buffer
+   */
+  private static int deflate(Buffers buffers, byte[] raw, int length, int offset) {
+    Deflater deflater = buffers.deflater();
+    deflater.setInput(raw, 0, length);
+    deflater.finish();
+    // The worst case expansion of zlib, the loop below copes with it being exceeded anyway.
+    byte[] blob = buffers.scratch(offset + length + (length >> 12) + (length >> 14) + (length >> 25) + 19);
+    int end = offset;
+    while (!deflater.finished()) {
+      if (end == blob.length) {
+        blob = buffers.scratch(blob.length + 1);
+      }
+      end += deflater.deflate(blob, end, blob.length - end);
+    }
+    return end;
+  }
+
+  private static void writeInt(byte[] bytes, int offset, int value) {
+    bytes[offset] = (byte) (value >>> 24);
+    bytes[offset + 1] = (byte) (value >>> 16);
+    bytes[offset + 2] = (byte) (value >>> 8);
+    bytes[offset + 3] = (byte) value;
+  }
+
+  private static int readInt(byte[] bytes, int offset) {
+    return ((bytes[offset] & 0xFF) << 24) | ((bytes[offset + 1] & 0xFF) << 16) | ((bytes[offset + 2] & 0xFF) << 8)
+        | (bytes[offset + 3] & 0xFF);
+  }
+
+  /**
+   * The buffers are taken out of the thread local while in use, so a serializer that calls back into this class
+   * gets its own set instead of corrupting the one of the outer call.
+   */
+  private static Buffers takeBuffers() {
+    Buffers buffers = BUFFERS.get();
+    if (buffers == null) {
+      return new Buffers();
+    }
+    BUFFERS.remove();
+    return buffers;
+  }
+
+  private static void releaseBuffers(Buffers buffers) {
+    buffers.trim();
+    BUFFERS.set(buffers);
+  }
+
+  private static class Buffers {
+    private Output output = new Output(INITIAL_BUFFER_SIZE, -1);
+    private byte[] scratch = new byte[INITIAL_BUFFER_SIZE];
+    private Deflater deflater;
+    private Inflater inflater;
+
+    byte[] scratch(int size) {
+      if (scratch.length < size) {
+        scratch = Arrays.copyOf(scratch, Math.max(size, scratch.length * 2));
+      }
+      return scratch;
+    }
+
+    Deflater deflater() {
+      if (deflater == null) {
+        deflater = new Deflater();
+      }
+      deflater.reset();
+      return deflater;
+    }
+
+    Inflater inflater() {
+      if (inflater == null) {
+        inflater = new Inflater();
+      }
+      inflater.reset();
+      return inflater;
+    }
+
+    // Do not keep the buffers of the occasional huge object around.
+    void trim() {
+      if (output.getBuffer().length > MAX_POOLED_BUFFER_SIZE) {
+        output = new Output(INITIAL_BUFFER_SIZE, -1);
+      }
+      if (scratch.length > MAX_POOLED_BUFFER_SIZE) {
+        scratch = new byte[INITIAL_BUFFER_SIZE];
+      }
+    }
+  }
 }
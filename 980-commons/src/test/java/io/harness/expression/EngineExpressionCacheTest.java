@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.List;
+import org.apache.commons.jexl3.JexlException;
+import org.apache.commons.jexl3.MapContext;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class EngineExpressionCacheTest extends CategoryTest {
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testScriptsAreParsedOnce() {
+    String expression = "a + b * 2";
+    long hits = EngineExpressionCache.getStats().get("scripts").hitCount();
+    MapContext context = new MapContext();
+    context.set("a", 1);
+    context.set("b", 2);
+    assertThat(EngineExpressionCache.createScript(expression).execute(context)).isEqualTo(5);
+    assertThat(EngineExpressionCache.createScript(expression)).isSameAs(EngineExpressionCache.createScript(expression));
+    assertThat(EngineExpressionCache.getStats().get("scripts").hitCount()).isGreaterThanOrEqualTo(hits + 2);
+
+    context.set("b", 3);
+    assertThat(EngineExpressionCache.createExpression(expression).evaluate(context)).isEqualTo(7);
+    assertThat(EngineExpressionCache.createExpression(expression))
+        .isSameAs(EngineExpressionCache.createExpression(expression));
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testInvalidExpressionsAreNotCached() {
+    assertThatThrownBy(() -> EngineExpressionCache.createExpression("a +* b")).isInstanceOf(JexlException.class);
+    assertThatThrownBy(() -> EngineExpressionCache.createExpression("a +* b")).isInstanceOf(JexlException.class);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testFindExpressionsReturnsNewLists() {
+    String str = "<+a.b> and <+c>";
+    List<String> expressions = EngineExpressionCache.findExpressions(str);
+    assertThat(expressions).containsExactly("<+a.b>", "<+c>");
+    expressions.clear();
+    assertThat(EngineExpressionCache.findExpressions(str)).containsExactly("<+a.b>", "<+c>");
+    assertThat(EngineExpressionCache.findVariables(str)).containsExactly("<+a.b>", "<+c>");
+    assertThat(EngineExpressionCache.findExpressions("no expressions")).isEmpty();
+    assertThat(EngineExpressionCache.findExpressions(null)).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testGeneratedVariablesAreNotCached() {
+    String expression = EngineExpressionEvaluator.HARNESS_INTERNAL_VARIABLE_PREFIX + "abcdefghijkl + 1";
+    assertThat(EngineExpressionCache.createExpression(expression))
+        .isNotSameAs(EngineExpressionCache.createExpression(expression));
+    assertThat(EngineExpressionCache.createScript(expression))
+        .isNotSameAs(EngineExpressionCache.createScript(expression));
+  }
+}
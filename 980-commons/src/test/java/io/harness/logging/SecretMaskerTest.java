@@ -0,0 +1,58 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.logging;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class SecretMaskerTest extends CategoryTest {
+  private static final String MASK = "***";
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testMaskAllSecretsInOnePass() {
+    SecretMasker secretMasker = SecretMasker.compile(Arrays.asList("secret1", "secret2", "cret"), MASK);
+
+    assertThat(secretMasker.mask("secret1 and secret2, cret3")).isEqualTo("*** and ***, ***3");
+    assertThat(secretMasker.mask("secret1secret2")).isEqualTo("******");
+    assertThat(secretMasker.mask("secret3")).isEqualTo("se***3");
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testLongestSecretWinsAtTheSamePosition() {
+    SecretMasker secretMasker = SecretMasker.compile(Arrays.asList("abc", "abcdef", "cdx"), MASK);
+
+    assertThat(secretMasker.mask("xabcdefx")).isEqualTo("x***x");
+    assertThat(secretMasker.mask("xabcdex")).isEqualTo("x***dex");
+    assertThat(secretMasker.mask("abcdx")).isEqualTo("***dx");
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testMessageWithoutSecretsIsReturnedAsIs() {
+    String message = "nothing to mask here";
+
+    assertThat(SecretMasker.compile(Arrays.asList("secret", ""), MASK).mask(message)).isSameAs(message);
+    assertThat(SecretMasker.compile(Collections.emptyList(), MASK).isEmpty()).isTrue();
+    assertThat(SecretMasker.compile(Collections.emptyList(), MASK).mask(message)).isSameAs(message);
+  }
+}
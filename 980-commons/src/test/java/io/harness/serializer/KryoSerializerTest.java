@@ -0,0 +1,106 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.serializer;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.apache.commons.lang3.StringUtils.repeat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.esotericsoftware.kryo.KryoException;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.zip.DeflaterOutputStream;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class KryoSerializerTest extends CategoryTest {
+  private final KryoSerializer kryoSerializer = new KryoSerializer(new HashSet<>(), true);
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testCompressedBytesRoundTrip() {
+    String value = repeat("response data ", 1000);
+    for (KryoCodec codec : KryoCodec.values()) {
+      byte[] bytes = kryoSerializer.asCompressedBytes(value, codec);
+      assertThat(kryoSerializer.asInflatedObject(bytes)).isEqualTo(value);
+    }
+    assertThat(kryoSerializer.asInflatedObject(kryoSerializer.asDeflatedBytes(value))).isEqualTo(value);
+    assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(value))).isEqualTo(value);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testInflateLegacyDeflatedBytes() throws IOException {
+    String value = repeat("legacy ", 100);
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    try (DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream)) {
+      outputStream.write(kryoSerializer.asBytes(value));
+    }
+    assertThat(kryoSerializer.asInflatedObject(byteStream.toByteArray())).isEqualTo(value);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testWriteCompressedToByteBuffer() {
+    String value = repeat("progress ", 100);
+    ByteBuffer buffer = ByteBuffer.allocate(1024);
+    buffer.put((byte) 1);
+    int length = kryoSerializer.writeCompressed(value, KryoCodec.LZ4, buffer);
+    assertThat(buffer.position()).isEqualTo(length + 1);
+
+    buffer.flip();
+    buffer.get();
+    assertThat(kryoSerializer.asInflatedObject(buffer)).isEqualTo(value);
+    assertThat(buffer.hasRemaining()).isFalse();
+
+    ByteBuffer small = ByteBuffer.allocate(4);
+    assertThatThrownBy(() -> kryoSerializer.writeCompressed(value, KryoCodec.NONE, small))
+        .isInstanceOf(BufferOverflowException.class);
+    assertThat(small.position()).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testSerializationFailuresAreWrapped() {
+    Object unregistered = new NotRegistered();
+    assertThatThrownBy(() -> kryoSerializer.asBytes(unregistered))
+        .isExactlyInstanceOf(RuntimeException.class)
+        .hasCauseInstanceOf(KryoException.class);
+    assertThatThrownBy(() -> kryoSerializer.asDeflatedBytes(unregistered))
+        .isExactlyInstanceOf(RuntimeException.class)
+        .hasCauseInstanceOf(KryoException.class);
+    // The buffers of the failed calls are still usable.
+    assertThat(kryoSerializer.asObject(kryoSerializer.asBytes("value"))).isEqualTo("value");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testLargeObjectsRoundTrip() {
+    String value = repeat("a large response ", 20000);
+    assertThat(kryoSerializer.asObject(kryoSerializer.asBytes(value))).isEqualTo(value);
+    assertThat(kryoSerializer.asInflatedObject(kryoSerializer.asCompressedBytes(value, KryoCodec.ZSTD)))
+        .isEqualTo(value);
+    assertThat(kryoSerializer.asObject(kryoSerializer.asBytes("small"))).isEqualTo("small");
+  }
+
+  private static class NotRegistered {}
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.api;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * The pub/sub topic on which the access control service announces the accounts whose ACLs have changed, so that the
+ * clients caching access check decisions drop them. Each message is an account identifier, or ALL_ACCOUNTS when the
+ * change is not specific to an account.
+ */
+@OwnedBy(HarnessTeam.PL)
+@UtilityClass
+public class ACLChangeEvents {
+  public static final String TOPIC = "accessControlACLChanges";
+  public static final String ALL_ACCOUNTS = "*";
+
+  public static String getTopicName(String envNamespace) {
+    return (envNamespace == null || envNamespace.isEmpty() ? "" : envNamespace + ":") + "topics:" + TOPIC;
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.aggregator;
+
+import static io.harness.accesscontrol.acl.api.ACLChangeEvents.ALL_ACCOUNTS;
+
+import io.harness.accesscontrol.AccessControlEntity;
+import io.harness.accesscontrol.acl.api.ACLChangeEvents;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+
+/**
+ * Announces the accounts whose ACLs have changed on the ACLChangeEvents topic, once the change has been applied to the
+ * primary ACLs, so that the access control clients drop the decisions they cached for these accounts. Changes of
+ * entities whose account is not known, and the switch to a regenerated ACL collection, are announced for all accounts.
+ *
+ * Publishing is best effort, the clients still expire their decisions after their ttl.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Singleton
+@Slf4j
+public class ACLChangePublisher {
+  private final RTopic topic;
+
+  @Inject
+  public ACLChangePublisher(@Nullable @Named(ACLChangeEvents.TOPIC) RTopic topic) {
+    this.topic = topic;
+  }
+
+  public void publish(AccessControlEntity accessControlEntity) {
+    publish(accessControlEntity == null ? ALL_ACCOUNTS : accessControlEntity.getAccountId().orElse(ALL_ACCOUNTS));
+  }
+
+  public void publishDeletion(Optional<String> accountIdentifier) {
+    publish(accountIdentifier.orElse(ALL_ACCOUNTS));
+  }
+
+  public void publishAll() {
+    publish(ALL_ACCOUNTS);
+  }
+
+  private void publish(String accountIdentifier) {
+    if (topic == null) {
+      return;
+    }
+    try {
+      topic.publish(accountIdentifier);
+    } catch (Exception e) {
+      log.warn("Could not publish the ACL change of account {}", accountIdentifier, e);
+    }
+  }
+}
@@ -13,4 +13,11 @@ public interface AggregatorMetricsService {
   Optional<SnapshotMetrics> getSnapshotMetrics();
 
   Optional<StreamingMetrics> getStreamingMetrics();
+
+  void recordUserGroupUpdate(long numberOfACLsCreated, long numberOfACLsDeleted, long processingTimeMillis);
+
+  /**
+   * @return the figures of the user group updates recorded since the previous call
+   */
+  UserGroupUpdateMetrics getAndResetUserGroupUpdateMetrics();
 }
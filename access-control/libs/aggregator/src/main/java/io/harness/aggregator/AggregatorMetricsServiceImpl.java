@@ -24,6 +24,7 @@ import lombok.extern.slf4j.Slf4j;
 @Singleton
 public class AggregatorMetricsServiceImpl implements AggregatorMetricsService {
   private final String aggregatorMongodbName;
+  private UserGroupUpdateMetrics userGroupUpdateMetrics = UserGroupUpdateMetrics.builder().build();
 
   @Inject
   public AggregatorMetricsServiceImpl(AggregatorConfiguration aggregatorConfiguration) {
@@ -116,4 +117,23 @@ public class AggregatorMetricsServiceImpl implements AggregatorMetricsService {
                            .currentQueueSizeInBytes(currentQueueSizeBytes)
                            .build());
   }
+
+  public synchronized void recordUserGroupUpdate(
+      long numberOfACLsCreated, long numberOfACLsDeleted, long processingTimeMillis) {
+    userGroupUpdateMetrics.setNumberOfEvents(userGroupUpdateMetrics.getNumberOfEvents() + 1);
+    userGroupUpdateMetrics.setNumberOfACLsCreated(
+        userGroupUpdateMetrics.getNumberOfACLsCreated() + numberOfACLsCreated);
+    userGroupUpdateMetrics.setNumberOfACLsDeleted(
+        userGroupUpdateMetrics.getNumberOfACLsDeleted() + numberOfACLsDeleted);
+    userGroupUpdateMetrics.setTotalProcessingTimeMillis(
+        userGroupUpdateMetrics.getTotalProcessingTimeMillis() + processingTimeMillis);
+    userGroupUpdateMetrics.setMaxProcessingTimeMillis(
+        Math.max(userGroupUpdateMetrics.getMaxProcessingTimeMillis(), processingTimeMillis));
+  }
+
+  public synchronized UserGroupUpdateMetrics getAndResetUserGroupUpdateMetrics() {
+    UserGroupUpdateMetrics recordedMetrics = userGroupUpdateMetrics;
+    userGroupUpdateMetrics = UserGroupUpdateMetrics.builder().build();
+    return recordedMetrics;
+  }
 }
@@ -95,19 +95,23 @@ public class ACLGeneratorServiceImpl implements ACLGeneratorService {
   @Override
   public long createImplicitACLsForRoleAssignment(
       RoleAssignmentDBO roleAssignment, Set<String> addedUsers, Set<String> addedPermissions) {
-    List<ACL> acls = getImplicitACLsForRoleAssignment(roleAssignment);
+    // The ACLs are generated for the added users and permissions only, instead of generating all of them and filtering
+    Set<String> principals = getPrincipalsFromRoleAssignment(roleAssignment);
+    if (isNotEmpty(addedUsers)) {
+      if (SERVICE_ACCOUNT.equals(roleAssignment.getPrincipalType())) {
+        return 0;
+      }
+      principals.retainAll(addedUsers);
+    }
+    Set<String> permissions = new HashSet<>(getPermissionsFromRole(roleAssignment));
     if (isNotEmpty(addedPermissions)) {
-      acls = acls.stream()
-                 .filter(acl -> addedPermissions.contains(acl.getPermissionIdentifier()))
-                 .collect(Collectors.toList());
+      permissions.retainAll(addedPermissions);
     }
-    if (isNotEmpty(addedUsers)) {
-      acls = acls.stream()
-                 .filter(acl
-                     -> addedUsers.contains(acl.getPrincipalIdentifier()) && USER.name().equals(acl.getPrincipalType()))
-                 .collect(Collectors.toList());
+    if (principals.isEmpty() || permissions.isEmpty()) {
+      return 0;
     }
-    return aclRepository.insertAllIgnoringDuplicates(acls);
+    return aclRepository.insertAllIgnoringDuplicates(
+        getImplicitACLsForRoleAssignment(roleAssignment, principals, permissions));
   }
 
   @Override
@@ -167,12 +171,6 @@ public class ACLGeneratorServiceImpl implements ACLGeneratorService {
     return !roleAssignmentDBO.isDisabled() && isResourceTypeApplicableToPermission;
   }
 
-  private List<ACL> getImplicitACLsForRoleAssignment(RoleAssignmentDBO roleAssignment) {
-    Set<String> principals = getPrincipalsFromRoleAssignment(roleAssignment);
-    Set<String> permissionsFromRole = getPermissionsFromRole(roleAssignment);
-    return getImplicitACLsForRoleAssignment(roleAssignment, principals, permissionsFromRole);
-  }
-
   private List<ACL> getImplicitACLsForRoleAssignment(
       RoleAssignmentDBO roleAssignment, Set<String> principals, Set<String> permissions) {
     Optional<ResourceGroup> resourceGroup = resourceGroupService.get(
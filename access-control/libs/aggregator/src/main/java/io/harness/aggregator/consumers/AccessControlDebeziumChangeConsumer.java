@@ -11,6 +11,8 @@ import static io.harness.aggregator.OpType.DELETE;
 import static io.harness.aggregator.OpType.UPDATE;
 
 import io.harness.accesscontrol.AccessControlEntity;
+import io.harness.accesscontrol.acl.InMemoryACLIndex;
+import io.harness.aggregator.ACLChangePublisher;
 import io.harness.aggregator.AccessControlAdminService;
 import io.harness.aggregator.OpType;
 import io.harness.annotations.dev.HarnessTeam;
@@ -46,16 +48,22 @@ public class AccessControlDebeziumChangeConsumer implements DebeziumEngine.Chang
   private final Retry retry;
   private final ChangeEventFailureHandler changeEventFailureHandler;
   private final AccessControlAdminService accessControlAdminService;
+  private final InMemoryACLIndex inMemoryACLIndex;
+  // Null for the secondary sync, whose ACLs are not read until they are switched to primary
+  private final ACLChangePublisher aclChangePublisher;
 
   public AccessControlDebeziumChangeConsumer(Deserializer<String> idDeserializer,
       Map<String, Deserializer<? extends AccessControlEntity>> collectionToDeserializerMap,
       Map<String, ChangeConsumer<? extends AccessControlEntity>> collectionToConsumerMap,
-      ChangeEventFailureHandler changeEventFailureHandler, AccessControlAdminService accessControlAdminService) {
+      ChangeEventFailureHandler changeEventFailureHandler, AccessControlAdminService accessControlAdminService,
+      InMemoryACLIndex inMemoryACLIndex, ACLChangePublisher aclChangePublisher) {
     this.idDeserializer = idDeserializer;
     this.collectionToDeserializerMap = collectionToDeserializerMap;
     this.collectionToConsumerMap = collectionToConsumerMap;
     this.changeEventFailureHandler = changeEventFailureHandler;
     this.accessControlAdminService = accessControlAdminService;
+    this.inMemoryACLIndex = inMemoryACLIndex;
+    this.aclChangePublisher = aclChangePublisher;
 
     IntervalFunction intervalFunction = IntervalFunction.ofExponentialBackoff(1000, 2);
     RetryConfig retryConfig = RetryConfig.custom()
@@ -95,8 +103,19 @@ public class AccessControlDebeziumChangeConsumer implements DebeziumEngine.Chang
       if (!DELETE.equals(opType.get()) && isBlocked(accessControlEntity)) {
         return true;
       }
+      Optional<String> deletedAccountId = DELETE.equals(opType.get()) && accessControlEntity == null
+          ? getAccountIdOfDeletedEntity(changeConsumer, id)
+          : Optional.empty();
       boolean eventHandled =
           changeConsumer.consumeEvent(opType.get(), id, deserialize(collectionName.get(), changeEvent));
+      inMemoryACLIndex.onChange(id, accessControlEntity);
+      if (aclChangePublisher != null) {
+        if (accessControlEntity == null && DELETE.equals(opType.get())) {
+          aclChangePublisher.publishDeletion(deletedAccountId);
+        } else {
+          aclChangePublisher.publish(accessControlEntity);
+        }
+      }
       // Skipping duplicate update events of same entity only when valid events get processed. Since there seems issue
       // with Debezium where it passes UserGroup/Resource Group with null properties except for Id. We can't consider
       // those events as processed as it will lead to skipping valid events.
@@ -107,6 +126,19 @@ public class AccessControlDebeziumChangeConsumer implements DebeziumEngine.Chang
     return true;
   }
 
+  private Optional<String> getAccountIdOfDeletedEntity(ChangeConsumer<?> changeConsumer, String id) {
+    Optional<String> accountId = inMemoryACLIndex.getLoadedAccountIdentifier(id);
+    if (accountId.isPresent()) {
+      return accountId;
+    }
+    try {
+      return changeConsumer.getAccountIdOfDeletedEntity(id);
+    } catch (Exception e) {
+      log.warn("Could not find the account of the deleted entity {}, announcing its deletion for all accounts", id, e);
+      return Optional.empty();
+    }
+  }
+
   private boolean isBlocked(AccessControlEntity accessControlEntity) {
     Optional<String> accountId = accessControlEntity.getAccountId();
     return accountId.filter(accessControlAdminService::isBlocked).isPresent();
@@ -12,6 +12,8 @@ import io.harness.aggregator.OpType;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
+import java.util.Optional;
+
 @OwnedBy(HarnessTeam.PL)
 public interface ChangeConsumer<T extends AccessControlEntity> {
   boolean consumeUpdateEvent(String id, T updatedEntity);
@@ -20,6 +22,14 @@ public interface ChangeConsumer<T extends AccessControlEntity> {
 
   boolean consumeCreateEvent(String id, T createdEntity);
 
+  /**
+   * DELETE events do not carry the deleted entity. This is called before the event is consumed, while what was derived
+   * from the entity still exists, to find the account its deletion changes.
+   */
+  default Optional<String> getAccountIdOfDeletedEntity(String id) {
+    return Optional.empty();
+  }
+
   default boolean consumeEvent(OpType opType, String id, T entity) {
     boolean result = true;
     switch (opType) {
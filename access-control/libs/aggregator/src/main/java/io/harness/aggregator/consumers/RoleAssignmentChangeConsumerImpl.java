@@ -13,6 +13,7 @@ import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO;
 import io.harness.accesscontrol.roleassignments.persistence.repositories.RoleAssignmentRepository;
+import io.harness.accesscontrol.scopes.core.ScopeHelper;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.logging.DelayLogContext;
 
@@ -72,6 +73,11 @@ public class RoleAssignmentChangeConsumerImpl implements ChangeConsumer<RoleAssi
     return true;
   }
 
+  @Override
+  public Optional<String> getAccountIdOfDeletedEntity(String id) {
+    return aclRepository.getScopeIdentifierOfRoleAssignment(id).map(ScopeHelper::getAccountFromScopeIdentifier);
+  }
+
   private long deleteACLs(String id) {
     return aclRepository.deleteByRoleAssignmentId(id);
   }
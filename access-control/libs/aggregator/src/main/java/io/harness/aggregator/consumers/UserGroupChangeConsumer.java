@@ -19,16 +19,19 @@ import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO;
 import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO.RoleAssignmentDBOKeys;
 import io.harness.accesscontrol.roleassignments.persistence.repositories.RoleAssignmentRepository;
 import io.harness.accesscontrol.scopes.core.ScopeService;
+import io.harness.aggregator.AggregatorMetricsService;
 import io.harness.aggregator.models.UserGroupUpdateEventData;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.exception.GeneralException;
 import io.harness.logging.DelayLogContext;
 
+import com.google.common.collect.Iterables;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
@@ -51,17 +54,19 @@ public class UserGroupChangeConsumer implements AccessControlChangeConsumer<User
   private final ACLGeneratorService aclGeneratorService;
   private final ScopeService scopeService;
   private final ACLRepository aclRepository;
+  private final AggregatorMetricsService aggregatorMetricsService;
 
   @Inject
   public UserGroupChangeConsumer(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository,
       RoleAssignmentRepository roleAssignmentRepository, ACLGeneratorService aclGeneratorService,
-      ScopeService scopeService) {
+      ScopeService scopeService, AggregatorMetricsService aggregatorMetricsService) {
     this.aclRepository = aclRepository;
     this.aclGeneratorService = aclGeneratorService;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2,
         new ThreadFactoryBuilder().setNameFormat("user-group-change-consumer-%d").build());
     this.scopeService = scopeService;
+    this.aggregatorMetricsService = aggregatorMetricsService;
   }
 
   @Override
@@ -122,6 +127,7 @@ public class UserGroupChangeConsumer implements AccessControlChangeConsumer<User
           "UserGroupChangeConsumer.consumeUpdateEvent: Number of ACLs deleted: {} for identifier: {}, scope: {} Time taken: {}",
           numberOfACLsDeleted, userGroup.getIdentifier(), userGroup.getScopeIdentifier(), aclProcessingTime);
     }
+    aggregatorMetricsService.recordUserGroupUpdate(numberOfACLsCreated, numberOfACLsDeleted, aclProcessingTime);
     return true;
   }
 
@@ -154,20 +160,17 @@ public class UserGroupChangeConsumer implements AccessControlChangeConsumer<User
 
     @Override
     public Result call() {
-      long offset = 0;
       long totalACLsDeleted = 0;
-      while (offset < usersRemoved.size()) {
-        Set<String> subSetPrincipalRemovedFromUserGroup =
-            usersRemoved.stream().skip(offset).limit(1000).collect(Collectors.toSet());
-        long numberOfACLsDeleted = aclRepository.deleteByRoleAssignmentIdAndPrincipals(
-            roleAssignmentDBO.getId(), subSetPrincipalRemovedFromUserGroup);
-        offset += 1000;
-        totalACLsDeleted += numberOfACLsDeleted;
+      for (List<String> removedUsers : Iterables.partition(usersRemoved, 1000)) {
+        totalACLsDeleted +=
+            aclRepository.deleteByRoleAssignmentIdAndPrincipals(roleAssignmentDBO.getId(), new HashSet<>(removedUsers));
       }
 
       long numberOfACLsCreated = 0;
-      numberOfACLsCreated += aclGeneratorService.createACLsForRoleAssignment(roleAssignmentDBO, usersAdded);
-      numberOfACLsCreated += aclGeneratorService.createImplicitACLs(roleAssignmentDBO, usersAdded);
+      if (!usersAdded.isEmpty()) {
+        numberOfACLsCreated += aclGeneratorService.createACLsForRoleAssignment(roleAssignmentDBO, usersAdded);
+        numberOfACLsCreated += aclGeneratorService.createImplicitACLs(roleAssignmentDBO, usersAdded);
+      }
 
       return new Result(numberOfACLsCreated, totalACLsDeleted);
     }
@@ -21,10 +21,12 @@ import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO.Ro
 import io.harness.accesscontrol.roleassignments.persistence.repositories.RoleAssignmentRepository;
 import io.harness.accesscontrol.scopes.core.ScopeLevel;
 import io.harness.accesscontrol.scopes.core.ScopeService;
+import io.harness.aggregator.AggregatorMetricsService;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.exception.GeneralException;
 import io.harness.logging.DelayLogContext;
 
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Singleton;
@@ -55,15 +57,18 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
   private final ACLGeneratorService aclGeneratorService;
   private final ScopeService scopeService;
   private final UserGroupCRUDEventHandler userGroupCRUDEventHandler;
+  private final AggregatorMetricsService aggregatorMetricsService;
 
   public UserGroupChangeConsumerImpl(ACLRepository aclRepository, RoleAssignmentRepository roleAssignmentRepository,
       UserGroupRepository userGroupRepository, String executorServiceSuffix, ACLGeneratorService aclGeneratorService,
-      ScopeService scopeService, UserGroupCRUDEventHandler userGroupCRUDEventHandler) {
+      ScopeService scopeService, UserGroupCRUDEventHandler userGroupCRUDEventHandler,
+      AggregatorMetricsService aggregatorMetricsService) {
     this.aclRepository = aclRepository;
     this.roleAssignmentRepository = roleAssignmentRepository;
     this.userGroupRepository = userGroupRepository;
     this.scopeService = scopeService;
     this.userGroupCRUDEventHandler = userGroupCRUDEventHandler;
+    this.aggregatorMetricsService = aggregatorMetricsService;
     String changeConsumerThreadFactory = String.format("%s-user-group-change-consumer", executorServiceSuffix) + "-%d";
     // Number of threads = Number of Available Cores * (1 + (Wait time / Service time) )
     this.executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2,
@@ -134,6 +139,7 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
           numberOfACLsDeleted, id, userGroup.get().getIdentifier(), userGroup.get().getScopeIdentifier(),
           permissionsChangeTime);
     }
+    aggregatorMetricsService.recordUserGroupUpdate(numberOfACLsCreated, numberOfACLsDeleted, permissionsChangeTime);
     return true;
   }
 
@@ -165,31 +171,25 @@ public class UserGroupChangeConsumerImpl implements ChangeConsumer<UserGroupDBO>
 
     @Override
     public Result call() {
-      Set<String> existingPrincipals = Sets.newHashSet(
-          Sets.newHashSet(aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentDBO.getId())));
-      Set<String> principalsAddedToUserGroup =
-          Sets.difference(updatedUserGroup.getUsers() == null ? Collections.emptySet() : updatedUserGroup.getUsers(),
-              existingPrincipals);
-      Set<String> principalRemovedFromUserGroup = Sets.difference(existingPrincipals,
-          updatedUserGroup.getUsers() == null ? Collections.emptySet() : updatedUserGroup.getUsers());
-
-      long offset = 0;
+      Set<String> existingPrincipals =
+          Sets.newHashSet(aclRepository.getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentDBO.getId()));
+      Set<String> users = updatedUserGroup.getUsers() == null ? Collections.emptySet() : updatedUserGroup.getUsers();
+      Set<String> principalsAddedToUserGroup = Sets.difference(users, existingPrincipals);
+      Set<String> principalRemovedFromUserGroup = Sets.difference(existingPrincipals, users);
+
       long totalACLsDeleted = 0;
-      while (offset < principalRemovedFromUserGroup.size()) {
-        Set<String> subSetPrincipalRemovedFromUserGroup =
-            principalRemovedFromUserGroup.stream().skip(offset).limit(1000).collect(Collectors.toSet());
-        long numberOfACLsDeleted = aclRepository.deleteByRoleAssignmentIdAndPrincipals(
-            roleAssignmentDBO.getId(), subSetPrincipalRemovedFromUserGroup);
-        offset += 1000;
-        totalACLsDeleted += numberOfACLsDeleted;
+      for (List<String> removedPrincipals : Iterables.partition(principalRemovedFromUserGroup, 1000)) {
+        totalACLsDeleted += aclRepository.deleteByRoleAssignmentIdAndPrincipals(
+            roleAssignmentDBO.getId(), new HashSet<>(removedPrincipals));
       }
 
+      // Only the ACLs of the added principals are generated, the ones of the other members are already there
       long numberOfACLsCreated = 0;
-
-      numberOfACLsCreated +=
-          changeConsumerService.createACLsForRoleAssignment(roleAssignmentDBO, principalsAddedToUserGroup);
-      numberOfACLsCreated += changeConsumerService.createImplicitACLsForRoleAssignment(
-          roleAssignmentDBO, principalsAddedToUserGroup, new HashSet<>());
+      if (!principalsAddedToUserGroup.isEmpty()) {
+        Set<String> addedPrincipals = new HashSet<>(principalsAddedToUserGroup);
+        numberOfACLsCreated += changeConsumerService.createACLsForRoleAssignment(roleAssignmentDBO, addedPrincipals);
+        numberOfACLsCreated += changeConsumerService.createImplicitACLs(roleAssignmentDBO, addedPrincipals);
+      }
 
       return new Result(numberOfACLsCreated, totalACLsDeleted);
     }
@@ -8,6 +8,7 @@
 package io.harness.aggregator.controllers;
 
 import io.harness.accesscontrol.AccessControlEntity;
+import io.harness.accesscontrol.acl.InMemoryACLIndex;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupDBO;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupRepository;
@@ -18,8 +19,10 @@ import io.harness.accesscontrol.roleassignments.persistence.repositories.RoleAss
 import io.harness.accesscontrol.roles.persistence.RoleDBO;
 import io.harness.accesscontrol.roles.persistence.repositories.RoleRepository;
 import io.harness.accesscontrol.scopes.core.ScopeService;
+import io.harness.aggregator.ACLChangePublisher;
 import io.harness.aggregator.AccessControlAdminService;
 import io.harness.aggregator.AggregatorConfiguration;
+import io.harness.aggregator.AggregatorMetricsService;
 import io.harness.aggregator.DebeziumConfig;
 import io.harness.aggregator.MongoOffsetBackingStore;
 import io.harness.aggregator.consumers.ACLGeneratorService;
@@ -69,6 +72,8 @@ public abstract class AggregatorBaseSyncController implements Runnable {
   private final AccessControlAdminService accessControlAdminService;
   private final PersistentLocker persistentLocker;
   private final AtomicLong hostSelectorIndex;
+  private final InMemoryACLIndex inMemoryACLIndex;
+  private final ACLChangePublisher aclChangePublisher;
 
   protected static final String ACCESS_CONTROL_AGGREGATOR_LOCK = "ACCESS_CONTROL_AGGREGATOR_LOCK";
   private static final String MONGO_DB_CONNECTOR = "io.debezium.connector.mongodb.MongoDbConnector";
@@ -119,7 +124,8 @@ public abstract class AggregatorBaseSyncController implements Runnable {
       AggregatorJobType aggregatorJobType, ACLGeneratorService aclGeneratorService,
       RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler,
       UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService,
-      AccessControlAdminService accessControlAdminService) {
+      AccessControlAdminService accessControlAdminService, InMemoryACLIndex inMemoryACLIndex,
+      ACLChangePublisher aclChangePublisher, AggregatorMetricsService aggregatorMetricsService) {
     ChangeConsumer<RoleAssignmentDBO> roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
         aclRepository, roleAssignmentRepository, aclGeneratorService, roleAssignmentCRUDEventHandler);
     ChangeConsumer<RoleDBO> roleChangeConsumer = new RoleChangeConsumerImpl(
@@ -128,7 +134,8 @@ public abstract class AggregatorBaseSyncController implements Runnable {
         roleAssignmentRepository, resourceGroupRepository, aggregatorJobType.name(), aclGeneratorService);
     ChangeConsumer<UserGroupDBO> userGroupChangeConsumer =
         new UserGroupChangeConsumerImpl(aclRepository, roleAssignmentRepository, userGroupRepository,
-            aggregatorJobType.name(), aclGeneratorService, scopeService, userGroupCRUDEventHandler);
+            aggregatorJobType.name(), aclGeneratorService, scopeService, userGroupCRUDEventHandler,
+            aggregatorMetricsService);
     collectionToConsumerMap = new HashMap<>();
     collectionToConsumerMap.put(ROLE_ASSIGNMENTS, roleAssignmentChangeConsumer);
     collectionToConsumerMap.put(ROLES, roleChangeConsumer);
@@ -141,6 +148,8 @@ public abstract class AggregatorBaseSyncController implements Runnable {
     this.changeEventFailureHandler = changeEventFailureHandler;
     this.hostSelectorIndex = new AtomicLong(-1);
     this.accessControlAdminService = accessControlAdminService;
+    this.inMemoryACLIndex = inMemoryACLIndex;
+    this.aclChangePublisher = aggregatorJobType == AggregatorJobType.PRIMARY ? aclChangePublisher : null;
   }
 
   protected DebeziumEngine<ChangeEvent<String, String>> getEngine(
@@ -233,7 +242,7 @@ public abstract class AggregatorBaseSyncController implements Runnable {
 
     // configuring debezium
     return new AccessControlDebeziumChangeConsumer(idDeserializer, collectionToDeserializerMap, collectionToConsumerMap,
-        changeEventFailureHandler, accessControlAdminService);
+        changeEventFailureHandler, accessControlAdminService, inMemoryACLIndex, aclChangePublisher);
   }
 
   public abstract String getLockName();
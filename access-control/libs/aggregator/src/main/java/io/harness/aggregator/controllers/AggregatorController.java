@@ -14,6 +14,7 @@ import static io.harness.aggregator.models.MongoReconciliationOffset.SECONDARY_C
 
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
+import io.harness.aggregator.ACLChangePublisher;
 import io.harness.aggregator.models.AggregatorSecondarySyncState;
 import io.harness.aggregator.repositories.AggregatorSecondarySyncStateRepository;
 import io.harness.aggregator.repositories.MongoReconciliationOffsetRepository;
@@ -45,19 +46,22 @@ public class AggregatorController implements Runnable {
   private final ACLRepository secondaryACLRepository;
   private final MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository;
   private final PersistentLocker persistentLocker;
+  private final ACLChangePublisher aclChangePublisher;
 
   @Inject
   public AggregatorController(AggregatorSecondarySyncController secondarySyncController,
       AggregatorPrimarySyncController primarySyncJobController,
       AggregatorSecondarySyncStateRepository aggregatorSecondarySyncStateRepository,
       @Named(ACL.SECONDARY_COLLECTION) ACLRepository secondaryACLRepository,
-      MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository, PersistentLocker persistentLocker) {
+      MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository, PersistentLocker persistentLocker,
+      ACLChangePublisher aclChangePublisher) {
     this.secondarySyncController = secondarySyncController;
     this.primarySyncController = primarySyncJobController;
     this.aggregatorSecondarySyncStateRepository = aggregatorSecondarySyncStateRepository;
     this.secondaryACLRepository = secondaryACLRepository;
     this.mongoReconciliationOffsetRepository = mongoReconciliationOffsetRepository;
     this.persistentLocker = persistentLocker;
+    this.aclChangePublisher = aclChangePublisher;
   }
 
   @Override
@@ -125,6 +129,7 @@ public class AggregatorController implements Runnable {
         secondaryACLRepository.renameCollection(ACL.PRIMARY_COLLECTION);
         mongoReconciliationOffsetRepository.renameCollectionAToCollectionB(SECONDARY_COLLECTION, PRIMARY_COLLECTION);
         aggregatorSecondarySyncStateRepository.removeByIdentifier(ACCESS_CONTROL_SERVICE);
+        aclChangePublisher.publishAll();
       } else {
         log.info("Did not get both child controller locks. Will try switch to primary again after some time");
       }
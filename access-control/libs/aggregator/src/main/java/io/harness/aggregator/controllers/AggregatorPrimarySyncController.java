@@ -9,6 +9,7 @@ package io.harness.aggregator.controllers;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
+import io.harness.accesscontrol.acl.InMemoryACLIndex;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupRepository;
@@ -16,8 +17,10 @@ import io.harness.accesscontrol.resources.resourcegroups.persistence.ResourceGro
 import io.harness.accesscontrol.roleassignments.persistence.repositories.RoleAssignmentRepository;
 import io.harness.accesscontrol.roles.persistence.repositories.RoleRepository;
 import io.harness.accesscontrol.scopes.core.ScopeService;
+import io.harness.aggregator.ACLChangePublisher;
 import io.harness.aggregator.AccessControlAdminService;
 import io.harness.aggregator.AggregatorConfiguration;
+import io.harness.aggregator.AggregatorMetricsService;
 import io.harness.aggregator.consumers.ACLGeneratorService;
 import io.harness.aggregator.consumers.AccessControlDebeziumChangeConsumer;
 import io.harness.aggregator.consumers.ChangeEventFailureHandler;
@@ -51,11 +54,12 @@ public class AggregatorPrimarySyncController extends AggregatorBaseSyncControlle
       ChangeEventFailureHandler changeEventFailureHandler, ACLGeneratorService aclGeneratorService,
       RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler,
       UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService,
-      AccessControlAdminService accessControlAdminService) {
+      AccessControlAdminService accessControlAdminService, InMemoryACLIndex inMemoryACLIndex,
+      ACLChangePublisher aclChangePublisher, AggregatorMetricsService aggregatorMetricsService) {
     super(primaryAclRepository, roleAssignmentRepository, roleRepository, resourceGroupRepository, userGroupRepository,
         aggregatorConfiguration, persistentLocker, changeEventFailureHandler, AggregatorJobType.PRIMARY,
         aclGeneratorService, roleAssignmentCRUDEventHandler, userGroupCRUDEventHandler, scopeService,
-        accessControlAdminService);
+        accessControlAdminService, inMemoryACLIndex, aclChangePublisher, aggregatorMetricsService);
   }
 
   @Override
@@ -11,6 +11,7 @@ import static io.harness.aggregator.AggregatorConfiguration.ACCESS_CONTROL_SERVI
 import static io.harness.aggregator.models.MongoReconciliationOffset.SECONDARY_COLLECTION;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
+import io.harness.accesscontrol.acl.InMemoryACLIndex;
 import io.harness.accesscontrol.acl.persistence.ACL;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.aggregator.api.SecondarySyncStatus;
@@ -19,8 +20,10 @@ import io.harness.accesscontrol.resources.resourcegroups.persistence.ResourceGro
 import io.harness.accesscontrol.roleassignments.persistence.repositories.RoleAssignmentRepository;
 import io.harness.accesscontrol.roles.persistence.repositories.RoleRepository;
 import io.harness.accesscontrol.scopes.core.ScopeService;
+import io.harness.aggregator.ACLChangePublisher;
 import io.harness.aggregator.AccessControlAdminService;
 import io.harness.aggregator.AggregatorConfiguration;
+import io.harness.aggregator.AggregatorMetricsService;
 import io.harness.aggregator.consumers.ACLGeneratorService;
 import io.harness.aggregator.consumers.AccessControlDebeziumChangeConsumer;
 import io.harness.aggregator.consumers.ChangeEventFailureHandler;
@@ -63,11 +66,12 @@ public class AggregatorSecondarySyncController extends AggregatorBaseSyncControl
       MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository, ACLGeneratorService aclGeneratorService,
       RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler,
       UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService,
-      AccessControlAdminService accessControlAdminService) {
+      AccessControlAdminService accessControlAdminService, InMemoryACLIndex inMemoryACLIndex,
+      ACLChangePublisher aclChangePublisher, AggregatorMetricsService aggregatorMetricsService) {
     super(aclRepository, roleAssignmentRepository, roleRepository, resourceGroupRepository, userGroupRepository,
         aggregatorConfiguration, persistentLocker, changeEventFailureHandler, AggregatorJobType.SECONDARY,
         aclGeneratorService, roleAssignmentCRUDEventHandler, userGroupCRUDEventHandler, scopeService,
-        accessControlAdminService);
+        accessControlAdminService, inMemoryACLIndex, aclChangePublisher, aggregatorMetricsService);
     this.aggregatorSecondarySyncStateRepository = aggregatorSecondarySyncStateRepository;
     this.aclRepository = aclRepository;
     this.mongoReconciliationOffsetRepository = mongoReconciliationOffsetRepository;
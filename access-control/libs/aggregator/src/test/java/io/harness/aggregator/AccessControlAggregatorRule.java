@@ -16,6 +16,8 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static org.mockito.Mockito.mock;
 
 import io.harness.accesscontrol.AccessControlCoreModule;
+import io.harness.accesscontrol.acl.InMemoryACLIndex;
+import io.harness.accesscontrol.acl.api.ACLChangeEvents;
 import io.harness.accesscontrol.principals.PrincipalType;
 import io.harness.accesscontrol.principals.PrincipalValidator;
 import io.harness.accesscontrol.scopes.core.ScopeLevel;
@@ -52,6 +54,7 @@ import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
 import com.google.inject.multibindings.MapBinder;
 import com.google.inject.name.Names;
+import com.google.inject.util.Providers;
 import dev.morphia.converters.TypeConverter;
 import java.io.Closeable;
 import java.lang.annotation.Annotation;
@@ -64,6 +67,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.junit.rules.MethodRule;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.Statement;
+import org.redisson.api.RTopic;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.mongodb.MongoTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -116,6 +120,11 @@ public class AccessControlAggregatorRule implements MethodRule, InjectorRuleMixi
         implicitPermissionsByScope.addBinding(Pair.of(TEST_SCOPE, false))
             .toInstance(Collections.singleton("test_permission_1"));
         bind(boolean.class).annotatedWith(Names.named("disableRedundantACLs")).toInstance(false);
+        bind(boolean.class).annotatedWith(Names.named("enableInMemoryACLEvaluation")).toInstance(false);
+        bind(RTopic.class)
+            .annotatedWith(Names.named(InMemoryACLIndex.INVALIDATIONS_TOPIC))
+            .toProvider(Providers.of(null));
+        bind(RTopic.class).annotatedWith(Names.named(ACLChangeEvents.TOPIC)).toProvider(Providers.of(null));
         bind(ACLGeneratorService.class).to(ACLGeneratorServiceImpl.class);
       }
     });
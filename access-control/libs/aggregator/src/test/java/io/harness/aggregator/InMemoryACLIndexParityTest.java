@@ -0,0 +1,296 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.aggregator;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.harness.accesscontrol.acl.InMemoryACLIndex;
+import io.harness.accesscontrol.acl.PermissionCheck;
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLDAOImpl;
+import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
+import io.harness.accesscontrol.permissions.persistence.repositories.InMemoryPermissionRepository;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.accesscontrol.principals.usergroups.UserGroupService;
+import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupDBO;
+import io.harness.accesscontrol.resources.resourcegroups.ResourceGroup;
+import io.harness.accesscontrol.resources.resourcegroups.ResourceGroupService;
+import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
+import io.harness.accesscontrol.resources.resourcegroups.ScopeSelector;
+import io.harness.accesscontrol.resources.resourcegroups.persistence.ResourceGroupDBO;
+import io.harness.accesscontrol.resources.resourcegroups.persistence.ResourceGroupDBOMapper;
+import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO;
+import io.harness.accesscontrol.roleassignments.persistence.repositories.RoleAssignmentRepository;
+import io.harness.accesscontrol.roles.Role;
+import io.harness.accesscontrol.roles.RoleService;
+import io.harness.accesscontrol.roles.persistence.RoleDBO;
+import io.harness.accesscontrol.roles.persistence.RoleDBOMapper;
+import io.harness.accesscontrol.scopes.core.Scope;
+import io.harness.accesscontrol.scopes.core.ScopeLevel;
+import io.harness.accesscontrol.scopes.core.ScopeService;
+import io.harness.accesscontrol.scopes.core.ScopeServiceImpl;
+import io.harness.aggregator.consumers.ACLGeneratorService;
+import io.harness.aggregator.consumers.ACLGeneratorServiceImpl;
+import io.harness.aggregator.consumers.RoleAssignmentCRUDEventHandler;
+import io.harness.aggregator.consumers.RoleAssignmentChangeConsumerImpl;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.Getter;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Checks that InMemoryACLIndex grants the same permissions as the ACLs the aggregator generates for the same role
+ * assignments, as they are read by ACLDAOImpl.
+ */
+@OwnedBy(PL)
+public class InMemoryACLIndexParityTest extends AggregatorTestBase {
+  private static final String ACCOUNT_SCOPE = "/ACCOUNT/account";
+  private static final String ORG_SCOPE = ACCOUNT_SCOPE + "/ORGANIZATION/org";
+  private static final String PROJECT_SCOPE = ORG_SCOPE + "/PROJECT/project";
+  private static final String ALLOWED = "ALLOWED";
+  private static final String CONDITION = "<+resource.tags.env> == \"prod\"";
+  private static final List<String> PERMISSIONS = List.of("core_pipeline_execute", "core_secret_view",
+      "core_project_view", "core_organization_view", "core_account_view", "core_connector_view");
+
+  @Inject @Named(ACL.PRIMARY_COLLECTION) private ACLRepository aclRepository;
+  @Inject @Named("mongoTemplate") private MongoTemplate mongoTemplate;
+  @Inject private RoleAssignmentRepository roleAssignmentRepository;
+  @Inject private UserGroupService userGroupService;
+
+  @Getter
+  private enum ParityScopeLevel implements ScopeLevel {
+    ACCOUNT("account", 0),
+    ORGANIZATION("organization", 1),
+    PROJECT("project", 2);
+
+    private final String name;
+    private final int rank;
+
+    ParityScopeLevel(String name, int rank) {
+      this.name = name;
+      this.rank = rank;
+    }
+
+    @Override
+    public String getResourceType() {
+      return name();
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  @After
+  public void clean() {
+    mongoTemplate.remove(new Query(), RoleDBO.class);
+    mongoTemplate.remove(new Query(), ResourceGroupDBO.class);
+    mongoTemplate.remove(new Query(), UserGroupDBO.class);
+    mongoTemplate.remove(new Query(), RoleAssignmentDBO.class);
+    mongoTemplate.remove(new Query(), ACL.class);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testInMemoryACLIndexMatchesACLs() {
+    assertParity(false);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testInMemoryACLIndexMatchesACLsWithoutRedundantACLs() {
+    assertParity(true);
+  }
+
+  private void assertParity(boolean disableRedundantACLs) {
+    Map<String, ScopeLevel> scopeLevels = new HashMap<>();
+    for (ParityScopeLevel scopeLevel : ParityScopeLevel.values()) {
+      scopeLevels.put(scopeLevel.toString(), scopeLevel);
+    }
+    ScopeService scopeService = new ScopeServiceImpl(null, scopeLevels);
+    Map<Pair<ScopeLevel, Boolean>, Set<String>> implicitPermissionsByScope = Map.of(
+        Pair.of(ParityScopeLevel.ACCOUNT, true),
+        Set.of("core_account_view", "core_organization_view", "core_project_view"),
+        Pair.of(ParityScopeLevel.ACCOUNT, false), Set.of("core_account_view"),
+        Pair.of(ParityScopeLevel.ORGANIZATION, true), Set.of("core_organization_view", "core_project_view"),
+        Pair.of(ParityScopeLevel.ORGANIZATION, false), Set.of("core_organization_view"),
+        Pair.of(ParityScopeLevel.PROJECT, true), Set.of("core_project_view"),
+        Pair.of(ParityScopeLevel.PROJECT, false), Set.of("core_project_view"));
+    InMemoryPermissionRepository inMemoryPermissionRepository = new InMemoryPermissionRepository(mongoTemplate,
+        Map.of("core_pipeline_execute", Set.of("PIPELINE"), "core_secret_view", Set.of("SECRET"), "core_project_view",
+            Set.of("PROJECT"), "core_organization_view", Set.of("ORGANIZATION"), "core_account_view",
+            Set.of("ACCOUNT"), "core_connector_view", Set.of("CONNECTOR")));
+
+    Role role = Role.builder()
+                    .identifier("_pipeline_executor")
+                    .name("Pipeline Executor")
+                    .allowedScopeLevels(Set.copyOf(scopeLevels.keySet()))
+                    .permissions(Set.of("core_pipeline_execute", "core_secret_view", "core_project_view",
+                        "core_organization_view"))
+                    .managed(true)
+                    .build();
+    mongoTemplate.save(RoleDBOMapper.toDBO(role));
+    Map<String, ResourceGroup> resourceGroups = new HashMap<>();
+    resourceGroups.put("_all_resources_including_child_scopes",
+        ResourceGroup.builder()
+            .identifier("_all_resources_including_child_scopes")
+            .name("All Resources Including Child Scopes")
+            .resourceSelectors(Set.of("/**/*/*"))
+            .resourceSelectorsV2(Set.of())
+            .scopeSelectors(Set.of(ScopeSelector.builder().includingChildScopes(true).build()))
+            .managed(true)
+            .build());
+    resourceGroups.put("pipelines",
+        ResourceGroup.builder()
+            .identifier("pipelines")
+            .scopeIdentifier(ACCOUNT_SCOPE)
+            .name("Pipelines")
+            .resourceSelectors(Set.of("/PIPELINE/*"))
+            .resourceSelectorsV2(Set.of(
+                ResourceSelector.builder().selector("/SECRET/*").conditional(true).condition(CONDITION).build()))
+            .scopeSelectors(Set.of(ScopeSelector.builder().scopeIdentifier(ACCOUNT_SCOPE).build()))
+            .build());
+    resourceGroups.put("orgPipeline",
+        ResourceGroup.builder()
+            .identifier("orgPipeline")
+            .scopeIdentifier(ACCOUNT_SCOPE)
+            .name("Organization Pipeline")
+            .resourceSelectors(Set.of(ORG_SCOPE + "$/PIPELINE/pipeline"))
+            .resourceSelectorsV2(Set.of())
+            .scopeSelectors(Set.of(ScopeSelector.builder().scopeIdentifier(ORG_SCOPE).build()))
+            .build());
+    resourceGroups.values().forEach(resourceGroup -> mongoTemplate.save(ResourceGroupDBOMapper.toDBO(resourceGroup)));
+    mongoTemplate.save(UserGroupDBO.builder()
+                           .identifier("admins")
+                           .name("admins")
+                           .scopeIdentifier(ACCOUNT_SCOPE)
+                           .users(Set.of("user1", "user2"))
+                           .build());
+    mongoTemplate.save(UserGroupDBO.builder()
+                           .identifier("developers")
+                           .name("developers")
+                           .scopeIdentifier(PROJECT_SCOPE)
+                           .users(Set.of("user3"))
+                           .build());
+
+    RoleService roleService = mock(RoleService.class);
+    when(roleService.get(any(), any(), any())).thenReturn(Optional.of(role));
+    ResourceGroupService resourceGroupService = mock(ResourceGroupService.class);
+    when(resourceGroupService.get(anyString(), any(), any()))
+        .thenAnswer(invocation -> Optional.ofNullable(resourceGroups.get(invocation.<String>getArgument(0))));
+    ACLGeneratorService aclGeneratorService =
+        new ACLGeneratorServiceImpl(roleService, userGroupService, resourceGroupService, scopeService,
+            implicitPermissionsByScope, aclRepository, disableRedundantACLs, inMemoryPermissionRepository);
+    RoleAssignmentChangeConsumerImpl roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
+        aclRepository, roleAssignmentRepository, aclGeneratorService, mock(RoleAssignmentCRUDEventHandler.class));
+
+    // A user group of the account assigned in a project, and a user group of the project
+    createRoleAssignment(roleAssignmentChangeConsumer, PROJECT_SCOPE, PrincipalType.USER_GROUP, "admins",
+        ParityScopeLevel.ACCOUNT.toString(), "_all_resources_including_child_scopes");
+    createRoleAssignment(roleAssignmentChangeConsumer, PROJECT_SCOPE, PrincipalType.USER_GROUP, "developers", null,
+        "_all_resources_including_child_scopes");
+    createRoleAssignment(roleAssignmentChangeConsumer, ORG_SCOPE, PrincipalType.USER, "user3", null,
+        "_all_resources_including_child_scopes");
+    createRoleAssignment(roleAssignmentChangeConsumer, ACCOUNT_SCOPE, PrincipalType.SERVICE_ACCOUNT, "serviceAccount",
+        null, "pipelines");
+    createRoleAssignment(roleAssignmentChangeConsumer, ACCOUNT_SCOPE, PrincipalType.USER, "user2", null, "orgPipeline");
+
+    ACLDAOImpl aclDAO = new ACLDAOImpl(aclRepository, scopeLevels, disableRedundantACLs);
+    InMemoryACLIndex inMemoryACLIndex = new InMemoryACLIndex(mongoTemplate, scopeService, implicitPermissionsByScope,
+        inMemoryPermissionRepository, disableRedundantACLs, null);
+
+    List<Principal> principals = List.of(Principal.of(PrincipalType.USER, "user1"),
+        Principal.of(PrincipalType.USER, "user2"), Principal.of(PrincipalType.USER, "user3"),
+        Principal.of(PrincipalType.USER, "otherUser"), Principal.of(PrincipalType.SERVICE_ACCOUNT, "serviceAccount"));
+    List<Pair<String, String>> resources = new ArrayList<>();
+    resources.add(Pair.of("PIPELINE", null));
+    resources.add(Pair.of("PIPELINE", "pipeline"));
+    resources.add(Pair.of("SECRET", "secret"));
+    resources.add(Pair.of("CONNECTOR", "connector"));
+    resources.add(Pair.of("PROJECT", "project"));
+    resources.add(Pair.of("ORGANIZATION", "org"));
+    resources.add(Pair.of("ACCOUNT", "account"));
+
+    Set<String> outcomes = new TreeSet<>();
+    for (String scopeIdentifier : List.of(ACCOUNT_SCOPE, ORG_SCOPE, PROJECT_SCOPE)) {
+      Scope scope = scopeService.buildScopeFromScopeIdentifier(scopeIdentifier);
+      for (Principal principal : principals) {
+        for (Pair<String, String> resource : resources) {
+          for (String permission : PERMISSIONS) {
+            PermissionCheck permissionCheck = PermissionCheck.builder()
+                                                  .resourceScope(scope)
+                                                  .resourceType(resource.getLeft())
+                                                  .resourceIdentifier(resource.getRight())
+                                                  .permission(permission)
+                                                  .build();
+            String expected = getOutcome(aclDAO.getMatchingACLs(principal, List.of(permissionCheck)).get(0));
+            String actual = getOutcome(inMemoryACLIndex.getMatchingACLs(
+                "account", principal, permission, aclDAO.getScopedResourceSelectors(permissionCheck)));
+            assertThat(actual).as("%s on %s in %s", principal, permissionCheck, scopeIdentifier).isEqualTo(expected);
+            outcomes.add(expected);
+          }
+        }
+      }
+    }
+    assertThat(outcomes).containsExactlyInAnyOrder(ALLOWED, "[]", "[" + CONDITION + "]");
+  }
+
+  private void createRoleAssignment(RoleAssignmentChangeConsumerImpl roleAssignmentChangeConsumer,
+      String scopeIdentifier, PrincipalType principalType, String principalIdentifier, String principalScopeLevel,
+      String resourceGroupIdentifier) {
+    RoleAssignmentDBO roleAssignment = RoleAssignmentDBO.builder()
+                                           .id(principalIdentifier + scopeIdentifier)
+                                           .identifier(principalIdentifier)
+                                           .scopeIdentifier(scopeIdentifier)
+                                           .roleIdentifier("_pipeline_executor")
+                                           .resourceGroupIdentifier(resourceGroupIdentifier)
+                                           .principalType(principalType)
+                                           .principalIdentifier(principalIdentifier)
+                                           .principalScopeLevel(principalScopeLevel)
+                                           .build();
+    mongoTemplate.save(roleAssignment);
+    roleAssignmentChangeConsumer.consumeCreateEvent(roleAssignment.getId(), roleAssignment);
+  }
+
+  // Access is allowed by any unconditional ACL, and otherwise depends on the conditions of the ACLs
+  private static String getOutcome(List<ACL> acls) {
+    if (acls.stream().anyMatch(acl -> !acl.isConditional())) {
+      return ALLOWED;
+    }
+    Set<String> conditions = new TreeSet<>();
+    acls.forEach(acl -> conditions.add(acl.getCondition()));
+    return conditions.toString();
+  }
+}
@@ -19,6 +19,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.accesscontrol.AccessControlEntity;
+import io.harness.accesscontrol.acl.InMemoryACLIndex;
+import io.harness.aggregator.ACLChangePublisher;
 import io.harness.aggregator.AccessControlAdminService;
 import io.harness.aggregator.AggregatorTestBase;
 import io.harness.aggregator.OpType;
@@ -55,6 +57,8 @@ public class AccessControlDebeziumChangeConsumerTest extends AggregatorTestBase
   private Map<String, ChangeConsumer<? extends AccessControlEntity>> collectionToConsumerMap;
   private ChangeEventFailureHandler changeEventFailureHandler;
   private AccessControlAdminService accessControlAdminService;
+  private ACLChangePublisher aclChangePublisher;
+  private InMemoryACLIndex inMemoryACLIndex;
   private AccessControlDebeziumChangeConsumer accessControlDebeziumChangeConsumer;
   private static final String OP_FIELD = "__op";
   DebeziumEngine.RecordCommitter<ChangeEvent<String, String>> recordCommitter;
@@ -66,6 +70,8 @@ public class AccessControlDebeziumChangeConsumerTest extends AggregatorTestBase
   public void setup() {
     changeEventFailureHandler = mock(ChangeEventFailureHandler.class);
     accessControlAdminService = mock(AccessControlAdminService.class);
+    aclChangePublisher = mock(ACLChangePublisher.class);
+    inMemoryACLIndex = mock(InMemoryACLIndex.class);
     idDeserializer = mock(Deserializer.class);
     collectionToDeserializerMap = new HashMap<>();
     accessControlEntityDeserializer = mock(Deserializer.class);
@@ -73,8 +79,9 @@ public class AccessControlDebeziumChangeConsumerTest extends AggregatorTestBase
     collectionToConsumerMap = new HashMap<>();
     changeConsumer = mock(ChangeConsumer.class);
     collectionToConsumerMap.put("mockAccessControlEntity", changeConsumer);
-    accessControlDebeziumChangeConsumer = new AccessControlDebeziumChangeConsumer(idDeserializer,
-        collectionToDeserializerMap, collectionToConsumerMap, changeEventFailureHandler, accessControlAdminService);
+    accessControlDebeziumChangeConsumer =
+        new AccessControlDebeziumChangeConsumer(idDeserializer, collectionToDeserializerMap, collectionToConsumerMap,
+            changeEventFailureHandler, accessControlAdminService, inMemoryACLIndex, aclChangePublisher);
     recordCommitter = mock(DebeziumEngine.RecordCommitter.class);
   }
 
@@ -117,6 +124,46 @@ public class AccessControlDebeziumChangeConsumerTest extends AggregatorTestBase
       verify(recordCommitter, times(1)).markProcessed(changeEvents.get(i));
     }
     verify(changeConsumer, times(1)).consumeEvent(any(), anyString(), any());
+    verify(aclChangePublisher, times(1)).publish(any(MockAccessControlEntity.class));
+  }
+
+  @Test
+  @Owner(developers = JIMIT_GANDHI)
+  @Category(UnitTests.class)
+  public void handleEvent_WithDeleteEvent_PublishesTheAccountOfTheDeletedEntity() {
+    EmbeddedEngineChangeEvent<String, String> changeEvent = changeEvent("d");
+    when(idDeserializer.deserialize(any(), any())).thenReturn("xyz");
+    when(inMemoryACLIndex.getLoadedAccountIdentifier("xyz")).thenReturn(Optional.empty());
+    when(changeConsumer.getAccountIdOfDeletedEntity("xyz")).thenReturn(Optional.of(accountId));
+
+    accessControlDebeziumChangeConsumer.handleEvent(changeEvent, new HashSet<>());
+
+    verify(changeConsumer, times(1)).consumeEvent(OpType.DELETE, "xyz", null);
+    verify(aclChangePublisher, times(1)).publishDeletion(Optional.of(accountId));
+  }
+
+  @Test
+  @Owner(developers = JIMIT_GANDHI)
+  @Category(UnitTests.class)
+  public void handleEvent_WithDeleteEventOfLoadedEntity_PublishesItsLoadedAccount() {
+    EmbeddedEngineChangeEvent<String, String> changeEvent = changeEvent("d");
+    when(idDeserializer.deserialize(any(), any())).thenReturn("xyz");
+    when(inMemoryACLIndex.getLoadedAccountIdentifier("xyz")).thenReturn(Optional.of(accountId));
+
+    accessControlDebeziumChangeConsumer.handleEvent(changeEvent, new HashSet<>());
+
+    verify(changeConsumer, never()).getAccountIdOfDeletedEntity(anyString());
+    verify(aclChangePublisher, times(1)).publishDeletion(Optional.of(accountId));
+  }
+
+  private EmbeddedEngineChangeEvent<String, String> changeEvent(String operationType) {
+    Header mockHeader = mock(Header.class);
+    when(mockHeader.value()).thenReturn(operationType);
+    ConnectHeaders mockConnectHeaders = mock(ConnectHeaders.class);
+    when(mockConnectHeaders.lastWithName(OP_FIELD)).thenReturn(mockHeader);
+    SourceRecord sourceRecord = new SourceRecord(null, null, "access_control_db.accesscontrol.mockAccessControlEntity",
+        0, null, "", null, null, 0L, mockConnectHeaders);
+    return new EmbeddedEngineChangeEvent<>("", null, sourceRecord);
   }
 
   private class MockKey {
@@ -16,12 +16,16 @@ import static io.harness.accesscontrol.scopes.TestScopeLevels.EXTRA_SCOPE;
 import static io.harness.accesscontrol.scopes.TestScopeLevels.TEST_SCOPE;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.rule.OwnerRule.ASHISHSANODIA;
+import static io.harness.rule.OwnerRule.KARAN;
 import static io.harness.rule.OwnerRule.UTKARSH;
 
 import static java.util.concurrent.ThreadLocalRandom.current;
 import static junit.framework.TestCase.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
@@ -40,6 +44,7 @@ import io.harness.accesscontrol.roles.Role;
 import io.harness.accesscontrol.roles.RoleService;
 import io.harness.accesscontrol.scopes.core.ScopeService;
 import io.harness.accesscontrol.scopes.core.ScopeServiceImpl;
+import io.harness.aggregator.AggregatorMetricsService;
 import io.harness.aggregator.AggregatorTestBase;
 import io.harness.aggregator.controllers.AggregatorBaseSyncController.AggregatorJobType;
 import io.harness.annotations.dev.OwnedBy;
@@ -75,6 +80,7 @@ public class UserGroupChangeConsumerImplTest extends AggregatorTestBase {
   private Role role;
   private ResourceGroup resourceGroup;
   private InMemoryPermissionRepository inMemoryPermissionRepository;
+  private AggregatorMetricsService aggregatorMetricsService;
 
   @Before
   public void setup() {
@@ -93,9 +99,10 @@ public class UserGroupChangeConsumerImplTest extends AggregatorTestBase {
     ACLGeneratorService changeConsumerService = new ACLGeneratorServiceImpl(roleService, userGroupService,
         resourceGroupService, scopeService, new HashMap<>(), aclRepository, false, inMemoryPermissionRepository);
 
-    userGroupChangeConsumer =
-        new UserGroupChangeConsumerImpl(aclRepository, roleAssignmentRepository, userGroupRepository,
-            AggregatorJobType.PRIMARY.name(), changeConsumerService, scopeService, userGroupCRUDEventHandler);
+    aggregatorMetricsService = mock(AggregatorMetricsService.class);
+    userGroupChangeConsumer = new UserGroupChangeConsumerImpl(aclRepository, roleAssignmentRepository,
+        userGroupRepository, AggregatorJobType.PRIMARY.name(), changeConsumerService, scopeService,
+        userGroupCRUDEventHandler, aggregatorMetricsService);
     roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
         aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
 
@@ -139,6 +146,10 @@ public class UserGroupChangeConsumerImplTest extends AggregatorTestBase {
     }
   }
 
+  private long countACLs() {
+    return mongoTemplate.count(new Query(), ACL.class);
+  }
+
   private int getRandomNumber() {
     return current().nextInt(1, 4);
   }
@@ -312,4 +323,68 @@ public class UserGroupChangeConsumerImplTest extends AggregatorTestBase {
     verifyACLs(anotherChildScopeRoleAssignments, role.getPermissions().size(), anotherUserGroup.getUsers().size(),
         resourceGroup.getResourceSelectors().size());
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testUserGroupUpdateWithOnlyAddedUsers() {
+    UserGroupDBO newUserGroup = buildUserGroupDBO(scopeIdentifier, getRandomNumber());
+    mongoTemplate.save(newUserGroup);
+    List<RoleAssignmentDBO> roleAssignments =
+        createACLsForRoleAssignments(getRandomNumber(), newUserGroup, scopeIdentifier);
+    long numberOfACLs = countACLs();
+
+    UserGroupDBO updatedUserGroup = (UserGroupDBO) HObjectMapper.clone(newUserGroup);
+    updatedUserGroup.getUsers().add(getRandomString(10));
+    mongoTemplate.save(updatedUserGroup);
+
+    userGroupChangeConsumer.consumeUpdateEvent(updatedUserGroup.getId(), updatedUserGroup);
+    verifyACLs(roleAssignments, role.getPermissions().size(), updatedUserGroup.getUsers().size(),
+        resourceGroup.getResourceSelectors().size());
+    long numberOfACLsPerUser = numberOfACLs / newUserGroup.getUsers().size();
+    assertEquals(numberOfACLs + numberOfACLsPerUser, countACLs());
+    verify(aggregatorMetricsService).recordUserGroupUpdate(eq(numberOfACLsPerUser), eq(0L), anyLong());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testUserGroupUpdateWithOnlyRemovedUsers() {
+    UserGroupDBO newUserGroup = buildUserGroupDBO(scopeIdentifier, getRandomNumber() + 1);
+    mongoTemplate.save(newUserGroup);
+    List<RoleAssignmentDBO> roleAssignments =
+        createACLsForRoleAssignments(getRandomNumber(), newUserGroup, scopeIdentifier);
+    long numberOfACLs = countACLs();
+
+    UserGroupDBO updatedUserGroup = (UserGroupDBO) HObjectMapper.clone(newUserGroup);
+    updatedUserGroup.getUsers().remove(updatedUserGroup.getUsers().iterator().next());
+    mongoTemplate.save(updatedUserGroup);
+
+    userGroupChangeConsumer.consumeUpdateEvent(updatedUserGroup.getId(), updatedUserGroup);
+    verifyACLs(roleAssignments, role.getPermissions().size(), updatedUserGroup.getUsers().size(),
+        resourceGroup.getResourceSelectors().size());
+    long numberOfACLsPerUser = numberOfACLs / newUserGroup.getUsers().size();
+    assertEquals(numberOfACLs - numberOfACLsPerUser, countACLs());
+    verify(aggregatorMetricsService).recordUserGroupUpdate(eq(0L), eq(numberOfACLsPerUser), anyLong());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testUserGroupUpdateWithoutMembershipChange() {
+    UserGroupDBO newUserGroup = buildUserGroupDBO(scopeIdentifier, getRandomNumber());
+    mongoTemplate.save(newUserGroup);
+    List<RoleAssignmentDBO> roleAssignments =
+        createACLsForRoleAssignments(getRandomNumber(), newUserGroup, scopeIdentifier);
+    long numberOfACLs = countACLs();
+
+    UserGroupDBO updatedUserGroup = (UserGroupDBO) HObjectMapper.clone(newUserGroup);
+    mongoTemplate.save(updatedUserGroup);
+
+    userGroupChangeConsumer.consumeUpdateEvent(updatedUserGroup.getId(), updatedUserGroup);
+    verifyACLs(roleAssignments, role.getPermissions().size(), newUserGroup.getUsers().size(),
+        resourceGroup.getResourceSelectors().size());
+    assertEquals(numberOfACLs, countACLs());
+    verify(aggregatorMetricsService).recordUserGroupUpdate(eq(0L), eq(0L), anyLong());
+  }
 }
@@ -41,6 +41,7 @@ import io.harness.accesscontrol.roles.RoleService;
 import io.harness.accesscontrol.scopes.TestScopeLevels;
 import io.harness.accesscontrol.scopes.core.Scope;
 import io.harness.accesscontrol.scopes.core.ScopeService;
+import io.harness.aggregator.AggregatorMetricsService;
 import io.harness.aggregator.AggregatorTestBase;
 import io.harness.aggregator.models.UserGroupUpdateEventData;
 import io.harness.annotations.dev.OwnedBy;
@@ -92,7 +93,8 @@ public class UserGroupChangeConsumerTest extends AggregatorTestBase {
     roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
         aclRepository, roleAssignmentRepository, aclGeneratorService, roleAssignmentCRUDEventHandler);
     userGroupChangeConsumer =
-        new UserGroupChangeConsumer(aclRepository, roleAssignmentRepository, aclGeneratorService, scopeService);
+        new UserGroupChangeConsumer(aclRepository, roleAssignmentRepository, aclGeneratorService, scopeService,
+            mock(AggregatorMetricsService.class));
     aclRepository.cleanCollection();
     testScopeIdentifier = getRandomString(20);
     scopeIdentifier = "/ACCOUNT/" + testScopeIdentifier;
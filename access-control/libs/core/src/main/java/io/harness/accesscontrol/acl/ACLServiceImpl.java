@@ -10,12 +10,12 @@ package io.harness.accesscontrol.acl;
 import static io.harness.accesscontrol.permissions.PermissionStatus.EXPERIMENTAL;
 import static io.harness.accesscontrol.permissions.PermissionStatus.INACTIVE;
 import static io.harness.accesscontrol.permissions.PermissionStatus.STAGING;
+import static io.harness.accesscontrol.scopes.core.ScopeHelper.getAccountFromScopeIdentifier;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 
 import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.EnumUtils.isValidEnum;
-import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
 
 import io.harness.accesscontrol.ResourceInfo;
 import io.harness.accesscontrol.acl.api.Principal;
@@ -26,35 +26,24 @@ import io.harness.accesscontrol.permissions.Permission;
 import io.harness.accesscontrol.permissions.PermissionFilter;
 import io.harness.accesscontrol.permissions.PermissionService;
 import io.harness.accesscontrol.permissions.persistence.repositories.InMemoryPermissionRepository;
-import io.harness.accesscontrol.principals.PrincipalType;
-import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupDBO;
-import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupDBO.UserGroupDBOKeys;
-import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
-import io.harness.accesscontrol.resources.resourcegroups.persistence.ResourceGroupDBO;
-import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentAggregateDBO;
-import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO;
-import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO.RoleAssignmentDBOKeys;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.ScopeLevel;
 
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.google.inject.name.Named;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.validation.executable.ValidateOnExecution;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.mongodb.core.MongoTemplate;
-import org.springframework.data.mongodb.core.aggregation.Aggregation;
-import org.springframework.data.mongodb.core.aggregation.AggregationResults;
-import org.springframework.data.mongodb.core.aggregation.MatchOperation;
-import org.springframework.data.mongodb.core.query.Criteria;
 
 @OwnedBy(PL)
 @Singleton
@@ -67,18 +56,21 @@ public class ACLServiceImpl implements ACLService {
       PermissionFilter.builder().statusFilter(Sets.newHashSet(INACTIVE, EXPERIMENTAL, STAGING)).build();
   private volatile Set<String> disabledPermissions;
   private final ACLExpressionEvaluatorProvider aclExpressionEvaluatorProvider;
-  private final MongoTemplate mongoTemplate;
   private final InMemoryPermissionRepository inMemoryPermissionRepository;
+  private final InMemoryACLIndex inMemoryACLIndex;
+  private final boolean enableInMemoryACLEvaluation;
 
   @Inject
   public ACLServiceImpl(ACLDAO aclDAO, PermissionService permissionService,
-      ACLExpressionEvaluatorProvider aclExpressionEvaluatorProvider, MongoTemplate mongoTemplate,
-      InMemoryPermissionRepository inMemoryPermissionRepository) {
+      ACLExpressionEvaluatorProvider aclExpressionEvaluatorProvider,
+      InMemoryPermissionRepository inMemoryPermissionRepository, InMemoryACLIndex inMemoryACLIndex,
+      @Named("enableInMemoryACLEvaluation") boolean enableInMemoryACLEvaluation) {
     this.aclDAO = aclDAO;
     this.permissionService = permissionService;
     this.aclExpressionEvaluatorProvider = aclExpressionEvaluatorProvider;
-    this.mongoTemplate = mongoTemplate;
     this.inMemoryPermissionRepository = inMemoryPermissionRepository;
+    this.inMemoryACLIndex = inMemoryACLIndex;
+    this.enableInMemoryACLEvaluation = enableInMemoryACLEvaluation;
   }
 
   private PermissionCheckResult getPermissionCheckResult(PermissionCheck permissionCheck, boolean permitted) {
@@ -92,113 +84,17 @@ public class ACLServiceImpl implements ACLService {
         .build();
   }
 
-  private Set<ResourceSelector> getResourceSelectorsFromRoleAssignment(ResourceGroupDBO resourceGroup) {
-    Set<ResourceSelector> resourceSelectors = new HashSet<>();
-    if (resourceGroup.getResourceSelectors() != null) {
-      resourceSelectors.addAll(resourceGroup.getResourceSelectors()
-                                   .stream()
-                                   .map(selector -> ResourceSelector.builder().selector(selector).build())
-                                   .collect(Collectors.toList()));
-    }
-    if (resourceGroup.getResourceSelectorsV2() != null) {
-      resourceSelectors.addAll(resourceGroup.getResourceSelectorsV2());
-    }
-    return resourceSelectors;
-  }
-
-  private List<String> getACLsForPrincipal(
-      Principal principal, Criteria principalCriteria, List<PermissionCheck> permissionChecks) {
-    List<String> permissions =
-        permissionChecks.stream().map(PermissionCheck::getPermission).collect(Collectors.toList());
-    principalCriteria.and(RoleAssignmentDBOKeys.disabled).is(false);
-    MatchOperation match = Aggregation.match(principalCriteria);
-    Criteria permissionCriteria = Criteria.where("roleInfo.permissions").in(permissions);
-    MatchOperation permissionMatch = Aggregation.match(permissionCriteria);
-    Aggregation aggregation = newAggregation(match,
-        Aggregation.lookup("resourcegroups", "resourceGroupIdentifier", "identifier", "resourceGroupInfo"),
-        Aggregation.lookup("roles", "roleIdentifier", "identifier", "roleInfo"),
-        Aggregation.unwind("resourceGroupInfo"), Aggregation.unwind("roleInfo"),
-        Aggregation.unwind("roleInfo.permissions"), permissionMatch,
-        Aggregation.project("resourceGroupInfo", "scopeIdentifier")
-            .andExpression("roleInfo.permissions")
-            .as("permission"));
-    AggregationResults<RoleAssignmentAggregateDBO> results =
-        mongoTemplate.aggregate(aggregation, RoleAssignmentDBO.class, RoleAssignmentAggregateDBO.class);
-
-    List<String> acls = new ArrayList<>();
-    for (RoleAssignmentAggregateDBO result : results) {
-      for (ResourceSelector resourceSelector : getResourceSelectorsFromRoleAssignment(result.getResourceGroupInfo())) {
-        String scopeIdentifier, selector;
-        if (resourceSelector.getSelector().contains("$")) {
-          scopeIdentifier = resourceSelector.getSelector().split("\\$")[0];
-          selector = resourceSelector.getSelector().split("\\$")[1];
-        } else {
-          scopeIdentifier = result.getScopeIdentifier();
-          selector = resourceSelector.getSelector();
-        }
-        acls.add(ACL.getAclQueryString(scopeIdentifier, selector, principal.getPrincipalType().name(),
-            principal.getPrincipalIdentifier(), result.getPermission()));
-      }
-    }
-    return acls;
-  }
-
   @Override
   public List<PermissionCheckResult> checkAccessUsingRoleAssignments(String accountIdentifier, Principal principal,
       List<PermissionCheck> permissionChecks, ResourceAttributeProvider resourceAttributeProvider) {
-    Criteria principalCriteria = new Criteria();
-    List<String> acls = new ArrayList<>();
-    String accountScope = "/ACCOUNT/" + accountIdentifier;
-    if (PrincipalType.USER.equals(principal.getPrincipalType())) {
-      List<Criteria> principals = new ArrayList<>();
-      Criteria userCriteria = Criteria.where(RoleAssignmentDBOKeys.principalIdentifier)
-                                  .is(principal.getPrincipalIdentifier())
-                                  .and(RoleAssignmentDBOKeys.principalType)
-                                  .is(PrincipalType.USER)
-                                  .and(RoleAssignmentDBOKeys.scopeIdentifier)
-                                  .regex(accountScope);
-      principals.add(userCriteria);
-      Aggregation aggregation = newAggregation(Aggregation.match(Criteria.where(UserGroupDBOKeys.users)
-                                                                     .in(principal.getPrincipalIdentifier())
-                                                                     .and(UserGroupDBOKeys.scopeIdentifier)
-                                                                     .regex(accountScope)),
-          Aggregation.project("identifier", "scopeIdentifier"));
-      AggregationResults<UserGroupDBO> results =
-          mongoTemplate.aggregate(aggregation, UserGroupDBO.class, UserGroupDBO.class);
-      results.forEach(userGroup
-          -> principals.add(Criteria.where(RoleAssignmentDBOKeys.principalIdentifier)
-                                .is(userGroup.getIdentifier())
-                                .and(RoleAssignmentDBOKeys.principalType)
-                                .is(PrincipalType.USER_GROUP)
-                                .and(RoleAssignmentDBOKeys.scopeIdentifier)
-                                .regex(userGroup.getScopeIdentifier())));
-      principalCriteria.orOperator(principals.toArray(new Criteria[0]));
-      acls = getACLsForPrincipal(principal, principalCriteria, permissionChecks);
-    } else if (PrincipalType.SERVICE_ACCOUNT.equals(principal.getPrincipalType())) {
-      acls = getACLsForPrincipal(principal,
-          Criteria.where(RoleAssignmentDBOKeys.principalIdentifier)
-              .is(principal.getPrincipalIdentifier())
-              .and(RoleAssignmentDBOKeys.principalType)
-              .is(PrincipalType.SERVICE_ACCOUNT)
-              .and(RoleAssignmentDBOKeys.scopeIdentifier)
-              .regex(accountScope),
-          permissionChecks);
-    }
-
-    List<PermissionCheckResult> permissionCheckResults = new ArrayList<>();
-    ensureDisabledPermissions();
-    for (int i = 0; i < permissionChecks.size(); i++) {
-      PermissionCheck permissionCheck = permissionChecks.get(i);
-      if (disabledPermissions.contains(permissionCheck.getPermission())) {
-        permissionCheckResults.add(getPermissionCheckResult(permissionCheck, true));
-      } else {
-        Set<String> queryStrings = aclDAO.getQueryStrings(permissionCheck, principal);
-        boolean permitted = queryStrings.stream().anyMatch(acls::contains);
-        permissionCheckResults.add(getPermissionCheckResult(permissionCheck, permitted));
-      }
-    }
-
-    return permissionCheckResults;
+    List<List<ACL>> matchingACLs = permissionChecks.stream()
+                                       .map(permissionCheck
+                                           -> inMemoryACLIndex.getMatchingACLs(accountIdentifier, principal,
+                                               permissionCheck.getPermission(),
+                                               aclDAO.getScopedResourceSelectors(permissionCheck)))
+                                       .collect(Collectors.toList());
+    List<Boolean> allowedAccessList = checkAccessInternal(permissionChecks, matchingACLs, resourceAttributeProvider);
+    return getPermissionCheckResults(permissionChecks, allowedAccessList);
   }
 
   @Override
@@ -215,9 +111,31 @@ public class ACLServiceImpl implements ACLService {
             -> log.debug("Access check requested for redundant combination of resource : {} with permission : {}",
                 permissionCheck.getResourceType(), permissionCheck.getPermission()));
 
+    Optional<String> accountIdentifier = getAccountIdentifier(permissionChecks);
+    if (enableInMemoryACLEvaluation && accountIdentifier.isPresent()) {
+      return checkAccessUsingRoleAssignments(
+          accountIdentifier.get(), principal, permissionChecks, resourceAttributeProvider);
+    }
+
     List<List<ACL>> matchingACLs = aclDAO.getMatchingACLs(principal, permissionChecks);
     List<Boolean> allowedAccessList = checkAccessInternal(permissionChecks, matchingACLs, resourceAttributeProvider);
+    return getPermissionCheckResults(permissionChecks, allowedAccessList);
+  }
+
+  private Optional<String> getAccountIdentifier(List<PermissionCheck> permissionChecks) {
+    Set<String> accountIdentifiers = new HashSet<>();
+    for (PermissionCheck permissionCheck : permissionChecks) {
+      if (permissionCheck.getResourceScope() == null) {
+        return Optional.empty();
+      }
+      accountIdentifiers.add(getAccountFromScopeIdentifier(permissionCheck.getResourceScope().toString()));
+    }
+    return accountIdentifiers.size() == 1 ? Optional.ofNullable(accountIdentifiers.iterator().next())
+                                          : Optional.empty();
+  }
 
+  private List<PermissionCheckResult> getPermissionCheckResults(
+      List<PermissionCheck> permissionChecks, List<Boolean> allowedAccessList) {
     List<PermissionCheckResult> permissionCheckResults = new ArrayList<>();
     ensureDisabledPermissions();
     for (int i = 0; i < permissionChecks.size(); i++) {
@@ -0,0 +1,519 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl;
+
+import static io.harness.accesscontrol.principals.PrincipalType.USER;
+import static io.harness.accesscontrol.principals.PrincipalType.USER_GROUP;
+import static io.harness.accesscontrol.scopes.core.ScopeHelper.toParentScope;
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+
+import static java.util.Collections.emptyList;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import io.harness.accesscontrol.AccessControlEntity;
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.permissions.persistence.repositories.InMemoryPermissionRepository;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupDBO;
+import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupDBO.UserGroupDBOKeys;
+import io.harness.accesscontrol.resources.resourcegroups.ResourceGroup;
+import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
+import io.harness.accesscontrol.resources.resourcegroups.ScopeSelector;
+import io.harness.accesscontrol.resources.resourcegroups.persistence.ResourceGroupDBO;
+import io.harness.accesscontrol.resources.resourcegroups.persistence.ResourceGroupDBO.ResourceGroupDBOKeys;
+import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO;
+import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO.RoleAssignmentDBOKeys;
+import io.harness.accesscontrol.roles.persistence.RoleDBO;
+import io.harness.accesscontrol.roles.persistence.RoleDBO.RoleDBOKeys;
+import io.harness.accesscontrol.scopes.core.Scope;
+import io.harness.accesscontrol.scopes.core.ScopeLevel;
+import io.harness.accesscontrol.scopes.core.ScopeService;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+import org.redisson.api.RTopic;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Evaluates permission checks against the role assignments of an account kept in memory, instead of the ACLs the
+ * aggregator materializes for every principal, permission and resource selector. Each role assignment is kept as the
+ * permissions of its role, as a bit set over the permissions of the account, next to the scoped resource selectors of
+ * its resource group. The grants of a principal are merged by scoped resource selector the first time it is checked,
+ * so a permission check is a lookup of its scoped resource selectors and a bit test.
+ *
+ * The role assignments, user groups, roles and resource groups of an account are loaded on its first check. The
+ * aggregator runs on one replica, so when it sees one of them change, it reloads the account and publishes the change
+ * on the invalidations topic for the other replicas to reload it as well. Reloads run in the background and checks keep
+ * using the loaded account meanwhile, so that a busy account is never loaded on a request thread again. As redis
+ * pub/sub does not redeliver the changes published while a replica is not subscribed, accounts are also reloaded on
+ * their first check REFRESH_MINUTES after their last load, and dropped if they were not reloaded for EXPIRY_MINUTES.
+ *
+ * With disableRedundantACLs, the permissions not applicable to the resource type of a resource selector are not
+ * granted on it, the same as the ACLs the aggregator disables.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class InMemoryACLIndex {
+  public static final String INVALIDATIONS_TOPIC = "inMemoryACLIndexInvalidations";
+  private static final long REFRESH_MINUTES = 5;
+  private static final long EXPIRY_MINUTES = 30;
+  private static final int RELOAD_THREADS = 4;
+  private static final int MAX_ACCOUNTS = 500;
+  private static final String MANAGED_ENTITIES_KEY = "MANAGED";
+  private static final String KEY_DELIMITER = "$";
+  private static final String INVALIDATE_ALL = "*";
+  private static final String ACCOUNT_SCOPE_PREFIX = "/ACCOUNT/";
+  private static final String INCLUDE_CHILD_SCOPES_SELECTOR = Scope.PATH_DELIMITER
+      + ResourceGroup.INCLUDE_CHILD_SCOPES_IDENTIFIER + Scope.PATH_DELIMITER + ResourceGroup.ALL_RESOURCES_IDENTIFIER
+      + Scope.PATH_DELIMITER + ResourceGroup.ALL_RESOURCES_IDENTIFIER;
+
+  private final MongoTemplate mongoTemplate;
+  private final ScopeService scopeService;
+  private final Map<Pair<ScopeLevel, Boolean>, Set<String>> implicitPermissionsByScope;
+  private final InMemoryPermissionRepository inMemoryPermissionRepository;
+  private final boolean disableRedundantACLs;
+  private final RTopic invalidationsTopic;
+  private final String instanceId = generateUuid();
+  private final AtomicLong changeSequence = new AtomicLong();
+  private final LoadingCache<String, AccountACLs> accountACLs;
+  private final Cache<String, ManagedEntities> managedEntities;
+
+  @Inject
+  public InMemoryACLIndex(MongoTemplate mongoTemplate, ScopeService scopeService,
+      Map<Pair<ScopeLevel, Boolean>, Set<String>> implicitPermissionsByScope,
+      InMemoryPermissionRepository inMemoryPermissionRepository,
+      @Named("disableRedundantACLs") boolean disableRedundantACLs,
+      @Nullable @Named(INVALIDATIONS_TOPIC) RTopic invalidationsTopic) {
+    this(mongoTemplate, scopeService, implicitPermissionsByScope, inMemoryPermissionRepository, disableRedundantACLs,
+        invalidationsTopic,
+        Executors.newFixedThreadPool(RELOAD_THREADS,
+            new ThreadFactoryBuilder().setNameFormat("in-memory-acl-index-reload-%d").setDaemon(true).build()));
+  }
+
+  @VisibleForTesting
+  InMemoryACLIndex(MongoTemplate mongoTemplate, ScopeService scopeService,
+      Map<Pair<ScopeLevel, Boolean>, Set<String>> implicitPermissionsByScope,
+      InMemoryPermissionRepository inMemoryPermissionRepository, boolean disableRedundantACLs,
+      RTopic invalidationsTopic, Executor reloadExecutor) {
+    this.mongoTemplate = mongoTemplate;
+    this.scopeService = scopeService;
+    this.implicitPermissionsByScope = implicitPermissionsByScope;
+    this.inMemoryPermissionRepository = inMemoryPermissionRepository;
+    this.disableRedundantACLs = disableRedundantACLs;
+    this.invalidationsTopic = invalidationsTopic;
+    this.accountACLs = CacheBuilder.newBuilder()
+                           .maximumSize(MAX_ACCOUNTS)
+                           .refreshAfterWrite(REFRESH_MINUTES, TimeUnit.MINUTES)
+                           .expireAfterWrite(EXPIRY_MINUTES, TimeUnit.MINUTES)
+                           .build(CacheLoader.asyncReloading(new AccountACLsLoader(), reloadExecutor));
+    this.managedEntities = CacheBuilder.newBuilder().expireAfterWrite(EXPIRY_MINUTES, TimeUnit.MINUTES).build();
+    if (invalidationsTopic != null) {
+      invalidationsTopic.addListener(String.class, (channel, message) -> onInvalidation(message));
+    }
+  }
+
+  /**
+   * @param scopedResourceSelectors the scope identifiers and resource selectors matching the permission check
+   * @return the ACLs the principal would have for the permission check, only one if one is not conditional
+   */
+  public List<ACL> getMatchingACLs(String accountIdentifier, Principal principal, String permission,
+      Set<Pair<String, String>> scopedResourceSelectors) {
+    AccountACLs acls = getAccountACLs(accountIdentifier);
+    Integer permissionIndex = acls.permissionIndexes.get(permission);
+    if (permissionIndex == null) {
+      return emptyList();
+    }
+    PrincipalACLs principalACLs = acls.principalACLs.computeIfAbsent(
+        getPrincipalKey(principal.getPrincipalType(), principal.getPrincipalIdentifier()),
+        key -> buildPrincipalACLs(acls, principal));
+
+    List<ACL> matchingACLs = new ArrayList<>();
+    for (Pair<String, String> scopedResourceSelector : scopedResourceSelectors) {
+      String resourceKey = getResourceKey(scopedResourceSelector.getLeft(), scopedResourceSelector.getRight());
+      BitSet permissions = principalACLs.permissionsByResource.get(resourceKey);
+      if (permissions != null && permissions.get(permissionIndex)) {
+        return List.of(ACL.builder().permissionIdentifier(permission).conditional(false).build());
+      }
+      for (Grant grant : principalACLs.conditionalGrantsByResource.getOrDefault(resourceKey, emptyList())) {
+        if (grant.permissions.get(permissionIndex)) {
+          matchingACLs.add(
+              ACL.builder().permissionIdentifier(permission).conditional(true).condition(grant.condition).build());
+        }
+      }
+    }
+    return matchingACLs;
+  }
+
+  /**
+   * Reloads the role assignments of the accounts an entity changed by the aggregator belongs to, on every replica.
+   */
+  public void onChange(String id, AccessControlEntity entity) {
+    String accountIdentifier = entity == null ? "" : entity.getAccountId().orElse("");
+    invalidate(id, accountIdentifier);
+    publish(id + KEY_DELIMITER + accountIdentifier);
+  }
+
+  /**
+   * @return the loaded account the entity with the given id belongs to, if any
+   */
+  public Optional<String> getLoadedAccountIdentifier(String id) {
+    return accountACLs.asMap()
+        .entrySet()
+        .stream()
+        .filter(entry -> entry.getValue().entityIds.contains(id))
+        .map(Map.Entry::getKey)
+        .findFirst();
+  }
+
+  /**
+   * Reloads the role assignments of all the loaded accounts, on every replica.
+   */
+  public void invalidateAll() {
+    invalidate(INVALIDATE_ALL, "");
+    publish(INVALIDATE_ALL + KEY_DELIMITER);
+  }
+
+  private void invalidate(String id, String accountIdentifier) {
+    long sequence = changeSequence.incrementAndGet();
+    if (INVALIDATE_ALL.equals(id)
+        || managedEntities.asMap().values().stream().anyMatch(managed -> managed.entityIds.contains(id))) {
+      managedEntities.invalidateAll();
+      accountACLs.asMap().forEach((loadedAccountIdentifier, acls) -> reload(loadedAccountIdentifier, acls, sequence));
+      return;
+    }
+    accountACLs.asMap().forEach((loadedAccountIdentifier, acls) -> {
+      if (acls.entityIds.contains(id) || loadedAccountIdentifier.equals(accountIdentifier)) {
+        reload(loadedAccountIdentifier, acls, sequence);
+      }
+    });
+  }
+
+  private void reload(String accountIdentifier, AccountACLs acls, long sequence) {
+    acls.lastChange = sequence;
+    accountACLs.refresh(accountIdentifier);
+  }
+
+  // Messages are the id of the publishing index, the id of the changed entity and its account, if any
+  private void publish(String change) {
+    if (invalidationsTopic == null) {
+      return;
+    }
+    try {
+      invalidationsTopic.publish(instanceId + KEY_DELIMITER + change);
+    } catch (Exception e) {
+      log.warn("Could not publish the change {} of the role assignments, other replicas will reload them on refresh",
+          change, e);
+    }
+  }
+
+  private void onInvalidation(String message) {
+    String[] parts = message.split(Pattern.quote(KEY_DELIMITER), 3);
+    if (parts.length == 3 && !instanceId.equals(parts[0])) {
+      invalidate(parts[1], parts[2]);
+    }
+  }
+
+  private AccountACLs getAccountACLs(String accountIdentifier) {
+    AccountACLs acls;
+    try {
+      acls = accountACLs.get(accountIdentifier);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw new IllegalStateException("Could not load the role assignments of account " + accountIdentifier, e);
+    }
+    // A change seen while the account was being reloaded may have been read too late, and a refresh already in progress
+    // ignores the one requested for it, so it is requested again until a load starts after the change.
+    if (acls.lastChange > acls.loadSequence) {
+      accountACLs.refresh(accountIdentifier);
+    }
+    return acls;
+  }
+
+  private ManagedEntities getManagedEntities() {
+    try {
+      return managedEntities.get(MANAGED_ENTITIES_KEY, this::loadManagedEntities);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw new IllegalStateException("Could not load the managed roles and resource groups", e);
+    }
+  }
+
+  private ManagedEntities loadManagedEntities() {
+    ManagedEntities managed = new ManagedEntities();
+    Criteria managedCriteria = where(RoleDBOKeys.scopeIdentifier).is(null).and(RoleDBOKeys.managed).is(true);
+    for (RoleDBO role : mongoTemplate.find(new Query(managedCriteria), RoleDBO.class)) {
+      managed.entityIds.add(role.getId());
+      managed.roles.put(role.getIdentifier(), role);
+    }
+    managedCriteria =
+        where(ResourceGroupDBOKeys.scopeIdentifier).is(null).and(ResourceGroupDBOKeys.managed).is(true);
+    for (ResourceGroupDBO resourceGroup : mongoTemplate.find(new Query(managedCriteria), ResourceGroupDBO.class)) {
+      managed.entityIds.add(resourceGroup.getId());
+      managed.resourceGroups.put(resourceGroup.getIdentifier(), resourceGroup);
+    }
+    return managed;
+  }
+
+  private AccountACLs loadAccountACLs(String accountIdentifier) {
+    long startTime = System.currentTimeMillis();
+    AccountACLs acls = new AccountACLs(changeSequence.get());
+    ManagedEntities managed = getManagedEntities();
+    String accountScopeRegex = "^" + Pattern.quote(ACCOUNT_SCOPE_PREFIX + accountIdentifier) + "(/|$)";
+
+    Map<String, RoleDBO> roles = new HashMap<>();
+    for (RoleDBO role :
+        mongoTemplate.find(new Query(where(RoleDBOKeys.scopeIdentifier).regex(accountScopeRegex)), RoleDBO.class)) {
+      acls.entityIds.add(role.getId());
+      roles.put(getResourceKey(role.getScopeIdentifier(), role.getIdentifier()), role);
+    }
+    Map<String, ResourceGroupDBO> resourceGroups = new HashMap<>();
+    for (ResourceGroupDBO resourceGroup : mongoTemplate.find(
+             new Query(where(ResourceGroupDBOKeys.scopeIdentifier).regex(accountScopeRegex)), ResourceGroupDBO.class)) {
+      acls.entityIds.add(resourceGroup.getId());
+      resourceGroups.put(getResourceKey(resourceGroup.getScopeIdentifier(), resourceGroup.getIdentifier()),
+          resourceGroup);
+    }
+    for (UserGroupDBO userGroup : mongoTemplate.find(
+             new Query(where(UserGroupDBOKeys.scopeIdentifier).regex(accountScopeRegex)), UserGroupDBO.class)) {
+      acls.entityIds.add(userGroup.getId());
+      String userGroupKey = getUserGroupKey(userGroup.getScopeIdentifier(), userGroup.getIdentifier());
+      if (userGroup.getUsers() != null) {
+        userGroup.getUsers().forEach(
+            user -> acls.userGroupsByUser.computeIfAbsent(user, key -> new ArrayList<>()).add(userGroupKey));
+      }
+    }
+
+    Query roleAssignmentQuery = new Query(where(RoleAssignmentDBOKeys.scopeIdentifier).regex(accountScopeRegex));
+    for (RoleAssignmentDBO roleAssignment : mongoTemplate.find(roleAssignmentQuery, RoleAssignmentDBO.class)) {
+      acls.entityIds.add(roleAssignment.getId());
+      if (!roleAssignment.isDisabled()) {
+        addGrants(acls, roleAssignment, roles, resourceGroups, managed);
+      }
+    }
+    log.info("Loaded the role assignments of account {} in {} ms, {} principals and {} permissions",
+        accountIdentifier, System.currentTimeMillis() - startTime, acls.grantsByPrincipal.size(),
+        acls.permissionIndexes.size());
+    return acls;
+  }
+
+  private void addGrants(AccountACLs acls, RoleAssignmentDBO roleAssignment, Map<String, RoleDBO> roles,
+      Map<String, ResourceGroupDBO> resourceGroups, ManagedEntities managed) {
+    Scope scope = scopeService.buildScopeFromScopeIdentifier(roleAssignment.getScopeIdentifier());
+    String scopeLevel = scope.getLevel().toString();
+    RoleDBO role = roles.get(getResourceKey(roleAssignment.getScopeIdentifier(), roleAssignment.getRoleIdentifier()));
+    if (role == null) {
+      role = managed.roles.get(roleAssignment.getRoleIdentifier());
+    }
+    ResourceGroupDBO resourceGroup = resourceGroups.get(
+        getResourceKey(roleAssignment.getScopeIdentifier(), roleAssignment.getResourceGroupIdentifier()));
+    if (resourceGroup == null) {
+      resourceGroup = managed.resourceGroups.get(roleAssignment.getResourceGroupIdentifier());
+    }
+    if (role == null || isEmpty(role.getPermissions()) || !isAllowedAt(role.getAllowedScopeLevels(), scopeLevel)
+        || resourceGroup == null || !isAllowedAt(resourceGroup.getAllowedScopeLevels(), scopeLevel)) {
+      return;
+    }
+
+    List<Grant> grants = acls.grantsByPrincipal.computeIfAbsent(getPrincipalKey(roleAssignment, scope),
+        key -> new ArrayList<>());
+    BitSet permissions = acls.toBitSet(role.getPermissions());
+    for (ResourceSelector resourceSelector : getResourceSelectors(resourceGroup)) {
+      String selector = resourceSelector.getSelector();
+      String resourceKey = selector.contains(KEY_DELIMITER)
+          ? selector
+          : getResourceKey(roleAssignment.getScopeIdentifier(), selector);
+      grants.add(new Grant(resourceKey,
+          disableRedundantACLs ? acls.toBitSet(getApplicablePermissions(role.getPermissions(), selector)) : permissions,
+          resourceSelector.isConditional() ? resourceSelector.getCondition() : null));
+    }
+
+    // Same as the ACLs the aggregator creates for the access to the scopes of the resource group
+    if (resourceGroup.getScopeSelectors() != null) {
+      for (ScopeSelector scopeSelector : resourceGroup.getScopeSelectors()) {
+        Scope currentScope = scopeSelector.getScopeIdentifier() == null
+            ? scope
+            : scopeService.buildScopeFromScopeIdentifier(scopeSelector.getScopeIdentifier());
+        boolean includingChildScopes = scopeSelector.isIncludingChildScopes();
+        while (currentScope != null) {
+          Set<String> implicitPermissions = new HashSet<>(implicitPermissionsByScope.getOrDefault(
+              Pair.of(currentScope.getLevel(), includingChildScopes), Set.of()));
+          implicitPermissions.retainAll(role.getPermissions());
+          String resourceKey = getResourceKey(currentScope.toString(), INCLUDE_CHILD_SCOPES_SELECTOR);
+          if (disableRedundantACLs) {
+            implicitPermissions = getApplicablePermissions(implicitPermissions, resourceKey);
+          }
+          if (!implicitPermissions.isEmpty()) {
+            grants.add(new Grant(resourceKey, acls.toBitSet(implicitPermissions), null));
+          }
+          includingChildScopes = false;
+          currentScope = currentScope.getParentScope();
+        }
+      }
+    }
+  }
+
+  private Set<String> getApplicablePermissions(Set<String> permissions, String resourceSelector) {
+    Set<String> applicablePermissions = new HashSet<>();
+    for (String permission : permissions) {
+      if (inMemoryPermissionRepository.isPermissionCompatibleWithResourceSelector(permission, resourceSelector)) {
+        applicablePermissions.add(permission);
+      }
+    }
+    return applicablePermissions;
+  }
+
+  private PrincipalACLs buildPrincipalACLs(AccountACLs acls, Principal principal) {
+    List<String> principalKeys = new ArrayList<>();
+    principalKeys.add(getPrincipalKey(principal.getPrincipalType(), principal.getPrincipalIdentifier()));
+    if (USER.equals(principal.getPrincipalType())) {
+      principalKeys.addAll(acls.userGroupsByUser.getOrDefault(principal.getPrincipalIdentifier(), emptyList()));
+    }
+    PrincipalACLs principalACLs = new PrincipalACLs();
+    for (String principalKey : principalKeys) {
+      for (Grant grant : acls.grantsByPrincipal.getOrDefault(principalKey, emptyList())) {
+        if (grant.condition == null) {
+          principalACLs.permissionsByResource.computeIfAbsent(grant.resourceKey, key -> new BitSet())
+              .or(grant.permissions);
+        } else {
+          principalACLs.conditionalGrantsByResource.computeIfAbsent(grant.resourceKey, key -> new ArrayList<>())
+              .add(grant);
+        }
+      }
+    }
+    return principalACLs;
+  }
+
+  private String getPrincipalKey(RoleAssignmentDBO roleAssignment, Scope scope) {
+    if (!USER_GROUP.equals(roleAssignment.getPrincipalType())) {
+      return getPrincipalKey(roleAssignment.getPrincipalType(), roleAssignment.getPrincipalIdentifier());
+    }
+    Scope userGroupScope = toParentScope(scope, roleAssignment.getPrincipalScopeLevel());
+    return getUserGroupKey(userGroupScope == null ? roleAssignment.getScopeIdentifier() : userGroupScope.toString(),
+        roleAssignment.getPrincipalIdentifier());
+  }
+
+  private static String getPrincipalKey(PrincipalType principalType, String principalIdentifier) {
+    return principalType.name() + KEY_DELIMITER + principalIdentifier;
+  }
+
+  private static String getUserGroupKey(String scopeIdentifier, String userGroupIdentifier) {
+    return USER_GROUP.name() + KEY_DELIMITER + scopeIdentifier + KEY_DELIMITER + userGroupIdentifier;
+  }
+
+  private static String getResourceKey(String scopeIdentifier, String selector) {
+    return scopeIdentifier + KEY_DELIMITER + selector;
+  }
+
+  private static boolean isAllowedAt(Set<String> allowedScopeLevels, String scopeLevel) {
+    return isEmpty(allowedScopeLevels) || allowedScopeLevels.contains(scopeLevel);
+  }
+
+  private static Set<ResourceSelector> getResourceSelectors(ResourceGroupDBO resourceGroup) {
+    Set<ResourceSelector> resourceSelectors = new HashSet<>();
+    if (resourceGroup.getResourceSelectors() != null) {
+      resourceGroup.getResourceSelectors().forEach(
+          selector -> resourceSelectors.add(ResourceSelector.builder().selector(selector).build()));
+    }
+    if (isNotEmpty(resourceGroup.getResourceSelectorsV2())) {
+      resourceSelectors.addAll(resourceGroup.getResourceSelectorsV2());
+    }
+    return resourceSelectors;
+  }
+
+  private class AccountACLsLoader extends CacheLoader<String, AccountACLs> {
+    @Override
+    public AccountACLs load(String accountIdentifier) {
+      return loadAccountACLs(accountIdentifier);
+    }
+
+    @Override
+    public ListenableFuture<AccountACLs> reload(String accountIdentifier, AccountACLs oldACLs) {
+      AccountACLs acls = loadAccountACLs(accountIdentifier);
+      acls.lastChange = oldACLs.lastChange;
+      return Futures.immediateFuture(acls);
+    }
+  }
+
+  private static class ManagedEntities {
+    private final Set<String> entityIds = new HashSet<>();
+    private final Map<String, RoleDBO> roles = new HashMap<>();
+    private final Map<String, ResourceGroupDBO> resourceGroups = new HashMap<>();
+  }
+
+  private static class AccountACLs {
+    private final long loadSequence;
+    private volatile long lastChange;
+    private final Set<String> entityIds = new HashSet<>();
+    private final Map<String, Integer> permissionIndexes = new HashMap<>();
+    private final Map<String, List<Grant>> grantsByPrincipal = new HashMap<>();
+    private final Map<String, List<String>> userGroupsByUser = new HashMap<>();
+    private final Map<String, PrincipalACLs> principalACLs = new ConcurrentHashMap<>();
+
+    private AccountACLs(long loadSequence) {
+      this.loadSequence = loadSequence;
+    }
+
+    private BitSet toBitSet(Set<String> permissions) {
+      BitSet bitSet = new BitSet();
+      permissions.forEach(
+          permission -> bitSet.set(permissionIndexes.computeIfAbsent(permission, key -> permissionIndexes.size())));
+      return bitSet;
+    }
+  }
+
+  private static class Grant {
+    private final String resourceKey;
+    private final BitSet permissions;
+    private final String condition;
+
+    private Grant(String resourceKey, BitSet permissions, String condition) {
+      this.resourceKey = resourceKey;
+      this.permissions = permissions;
+      this.condition = condition;
+    }
+  }
+
+  private static class PrincipalACLs {
+    private final Map<String, BitSet> permissionsByResource = new HashMap<>();
+    private final Map<String, List<Grant>> conditionalGrantsByResource = new HashMap<>();
+  }
+}
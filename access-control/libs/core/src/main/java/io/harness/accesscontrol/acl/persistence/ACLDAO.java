@@ -15,10 +15,17 @@ import io.harness.annotations.dev.OwnedBy;
 
 import java.util.List;
 import java.util.Set;
+import org.apache.commons.lang3.tuple.Pair;
 
 @OwnedBy(PL)
 public interface ACLDAO {
   Set<String> getQueryStrings(PermissionCheck permissionCheck, Principal principal);
 
+  /**
+   * @return the scope identifiers and resource selectors of the ACLs which grant the permission check, as in the
+   * query strings of {@link #getQueryStrings(PermissionCheck, Principal)}
+   */
+  Set<Pair<String, String>> getScopedResourceSelectors(PermissionCheck permissionCheck);
+
   List<List<ACL>> getMatchingACLs(Principal principal, List<PermissionCheck> permissionChecks);
 }
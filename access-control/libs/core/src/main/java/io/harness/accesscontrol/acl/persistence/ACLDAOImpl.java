@@ -29,6 +29,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 
 @OwnedBy(PL)
 @Singleton
@@ -80,38 +81,46 @@ public class ACLDAOImpl implements ACLDAO {
 
   @Override
   public Set<String> getQueryStrings(PermissionCheck permissionCheck, Principal principal) {
+    return getScopedResourceSelectors(permissionCheck)
+        .stream()
+        .map(scopedResourceSelector
+            -> getAclQueryString(scopedResourceSelector.getLeft(), scopedResourceSelector.getRight(),
+                principal.getPrincipalType().name(), principal.getPrincipalIdentifier(),
+                permissionCheck.getPermission()))
+        .collect(Collectors.toSet());
+  }
+
+  @Override
+  public Set<Pair<String, String>> getScopedResourceSelectors(PermissionCheck permissionCheck) {
     String scope =
         Optional.ofNullable(permissionCheck.getResourceScope()).flatMap(rs -> Optional.of(rs.toString())).orElse("");
-    Set<String> queryStrings = new HashSet<>();
+    Set<Pair<String, String>> scopedResourceSelectors = new HashSet<>();
     String resourceType = permissionCheck.getResourceType();
     String resourceIdentifier = permissionCheck.getResourceIdentifier();
 
     // query for resource=/RESOURCE_TYPE/{resourceIdentifier} in given scope
     if (!StringUtils.isEmpty(resourceIdentifier)) {
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(resourceType, resourceIdentifier),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      scopedResourceSelectors.add(Pair.of(scope, getResourceSelector(resourceType, resourceIdentifier)));
     }
 
     if (isValidPermissionCheckForSameScopeLevel(permissionCheck)) {
       // query for resource=/RESOURCE_TYPE/* in given scope
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(resourceType, ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      scopedResourceSelectors.add(Pair.of(scope, getResourceSelector(resourceType, ALL_RESOURCES_IDENTIFIER)));
 
       // query for resource=/*/* in given scope
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(ALL_RESOURCES_IDENTIFIER, ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      scopedResourceSelectors.add(
+          Pair.of(scope, getResourceSelector(ALL_RESOURCES_IDENTIFIER, ALL_RESOURCES_IDENTIFIER)));
     }
 
     Scope currentScope = permissionCheck.getResourceScope();
     while (currentScope != null) {
       // query for resource=/**/RESOURCE_TYPE/* in given scope
-      queryStrings.add(getAclQueryString(currentScope.toString(), getIncludeChildScopesResourceSelector(resourceType),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      scopedResourceSelectors.add(
+          Pair.of(currentScope.toString(), getIncludeChildScopesResourceSelector(resourceType)));
 
       // query for resource=/**/*/* in given scope
-      queryStrings.add(getAclQueryString(currentScope.toString(),
-          getIncludeChildScopesResourceSelector(ALL_RESOURCES_IDENTIFIER), principal.getPrincipalType().name(),
-          principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      scopedResourceSelectors.add(
+          Pair.of(currentScope.toString(), getIncludeChildScopesResourceSelector(ALL_RESOURCES_IDENTIFIER)));
 
       currentScope = currentScope.getParentScope();
     }
@@ -124,27 +133,23 @@ public class ACLDAOImpl implements ACLDAO {
 
       // and resource = /RESOURCE_TYPE/{resourceIdentifier}
       if (!StringUtils.isEmpty(resourceIdentifier)) {
-        queryStrings.add(getAclQueryString(scope, getResourceSelector(resourceType, resourceIdentifier),
-            principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+        scopedResourceSelectors.add(Pair.of(scope, getResourceSelector(resourceType, resourceIdentifier)));
       }
 
       // and resource = /RESOURCE_TYPE/*
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(resourceType, ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      scopedResourceSelectors.add(Pair.of(scope, getResourceSelector(resourceType, ALL_RESOURCES_IDENTIFIER)));
 
       // and resource = /*/*
-      queryStrings.add(getAclQueryString(scope, getResourceSelector(ALL_RESOURCES_IDENTIFIER, ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      scopedResourceSelectors.add(
+          Pair.of(scope, getResourceSelector(ALL_RESOURCES_IDENTIFIER, ALL_RESOURCES_IDENTIFIER)));
 
       // query for resource=/**/RESOURCE_TYPE/* in given scope
-      queryStrings.add(getAclQueryString(scope, getIncludeChildScopesResourceSelector(resourceType),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      scopedResourceSelectors.add(Pair.of(scope, getIncludeChildScopesResourceSelector(resourceType)));
 
       // query for resource=/**/*/* in given scope
-      queryStrings.add(getAclQueryString(scope, getIncludeChildScopesResourceSelector(ALL_RESOURCES_IDENTIFIER),
-          principal.getPrincipalType().name(), principal.getPrincipalIdentifier(), permissionCheck.getPermission()));
+      scopedResourceSelectors.add(Pair.of(scope, getIncludeChildScopesResourceSelector(ALL_RESOURCES_IDENTIFIER)));
     }
-    return queryStrings;
+    return scopedResourceSelectors;
   }
 
   @Override
@@ -14,6 +14,7 @@ import io.harness.annotations.dev.OwnedBy;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 @OwnedBy(HarnessTeam.PL)
@@ -22,6 +23,8 @@ public interface ACLRepository {
 
   long deleteByRoleAssignmentId(String id);
 
+  Optional<String> getScopeIdentifierOfRoleAssignment(String roleAssignmentId);
+
   Set<ResourceSelector> getDistinctResourceSelectorsInACLs(String roleAssignmentId);
 
   long deleteByRoleAssignmentIdAndResourceSelectors(
@@ -33,6 +33,7 @@ import com.mongodb.client.model.Indexes;
 import com.mongodb.client.model.RenameCollectionOptions;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.validation.executable.ValidateOnExecution;
@@ -96,6 +97,14 @@ public abstract class BaseACLRepositoryImpl implements ACLRepository {
         .getDeletedCount();
   }
 
+  @Override
+  public Optional<String> getScopeIdentifierOfRoleAssignment(String roleAssignmentId) {
+    Query query = new Query(Criteria.where(ACLKeys.roleAssignmentId).is(roleAssignmentId));
+    query.fields().include(ACLKeys.scopeIdentifier);
+    return Optional.ofNullable(mongoTemplate.findOne(query, ACL.class, getCollectionName()))
+        .map(ACL::getScopeIdentifier);
+  }
+
   @Override
   public Set<ResourceSelector> getDistinctResourceSelectorsInACLs(String roleAssignmentId) {
     Criteria criteria = Criteria.where(ACLKeys.roleAssignmentId)
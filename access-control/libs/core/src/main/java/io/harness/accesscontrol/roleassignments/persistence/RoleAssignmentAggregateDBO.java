@@ -1,31 +0,0 @@
-/*
- * Copyright 2022 Harness Inc. All rights reserved.
- * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
- * that can be found in the licenses directory at the root of this repository, also available at
- * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
- */
-
-package io.harness.accesscontrol.roleassignments.persistence;
-
-import static io.harness.annotations.dev.HarnessTeam.PL;
-
-import io.harness.accesscontrol.resources.resourcegroups.persistence.ResourceGroupDBO;
-import io.harness.annotations.dev.OwnedBy;
-
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.experimental.FieldDefaults;
-import org.hibernate.validator.constraints.NotEmpty;
-
-@OwnedBy(PL)
-@Getter
-@Builder
-@FieldDefaults(level = AccessLevel.PRIVATE)
-@AllArgsConstructor
-public class RoleAssignmentAggregateDBO {
-  @NotEmpty final String scopeIdentifier;
-  String permission;
-  ResourceGroupDBO resourceGroupInfo;
-}
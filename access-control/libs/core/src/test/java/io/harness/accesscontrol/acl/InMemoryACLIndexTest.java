@@ -0,0 +1,229 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl;
+
+import static io.harness.accesscontrol.scopes.TestScopeLevels.TEST_SCOPE;
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.accesscontrol.AccessControlCoreTestBase;
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.permissions.persistence.repositories.InMemoryPermissionRepository;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupDBO;
+import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
+import io.harness.accesscontrol.resources.resourcegroups.persistence.ResourceGroupDBO;
+import io.harness.accesscontrol.roleassignments.persistence.RoleAssignmentDBO;
+import io.harness.accesscontrol.roles.persistence.RoleDBO;
+import io.harness.accesscontrol.scopes.core.Scope;
+import io.harness.accesscontrol.scopes.core.ScopeService;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.listener.MessageListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+@OwnedBy(PL)
+public class InMemoryACLIndexTest extends AccessControlCoreTestBase {
+  private static final String ACCOUNT_IDENTIFIER = "accountIdentifier";
+  private static final String ACCOUNT_SCOPE = "/ACCOUNT/" + ACCOUNT_IDENTIFIER;
+  private static final String PERMISSION = "core_project_view";
+  private static final String ROLE_ASSIGNMENT_ID = "roleAssignmentId";
+
+  private MongoTemplate mongoTemplate;
+  private ScopeService scopeService;
+  private InMemoryPermissionRepository inMemoryPermissionRepository;
+  private RTopic invalidationsTopic;
+  private InMemoryACLIndex inMemoryACLIndex;
+
+  @Before
+  public void setup() {
+    mongoTemplate = mock(MongoTemplate.class);
+    scopeService = mock(ScopeService.class);
+    when(scopeService.buildScopeFromScopeIdentifier(anyString()))
+        .thenReturn(Scope.builder().level(TEST_SCOPE).instanceId(ACCOUNT_IDENTIFIER).build());
+    inMemoryPermissionRepository = mock(InMemoryPermissionRepository.class);
+    invalidationsTopic = mock(RTopic.class);
+    inMemoryACLIndex = new InMemoryACLIndex(mongoTemplate, scopeService, Collections.emptyMap(),
+        inMemoryPermissionRepository, false, invalidationsTopic, MoreExecutors.directExecutor());
+
+    RoleDBO managedRole = RoleDBO.builder()
+                              .id("roleId")
+                              .identifier("_project_viewer")
+                              .permissions(Set.of(PERMISSION))
+                              .allowedScopeLevels(Set.of(TEST_SCOPE.toString()))
+                              .managed(true)
+                              .build();
+    when(mongoTemplate.find(any(Query.class), eq(RoleDBO.class)))
+        .thenAnswer(invocation
+            -> isManagedQuery(invocation.getArgument(0)) ? List.of(managedRole) : Collections.emptyList());
+    ResourceGroupDBO resourceGroup =
+        ResourceGroupDBO.builder()
+            .id("resourceGroupId")
+            .identifier("resourceGroup")
+            .scopeIdentifier(ACCOUNT_SCOPE)
+            .resourceSelectors(Set.of("/PROJECT/*"))
+            .resourceSelectorsV2(Set.of(
+                ResourceSelector.builder().selector("/CONNECTOR/*").conditional(true).condition("condition").build()))
+            .managed(false)
+            .build();
+    when(mongoTemplate.find(any(Query.class), eq(ResourceGroupDBO.class)))
+        .thenAnswer(invocation
+            -> isManagedQuery(invocation.getArgument(0)) ? Collections.emptyList() : List.of(resourceGroup));
+    when(mongoTemplate.find(any(Query.class), eq(UserGroupDBO.class)))
+        .thenReturn(List.of(UserGroupDBO.builder()
+                                .id("userGroupId")
+                                .identifier("userGroup")
+                                .scopeIdentifier(ACCOUNT_SCOPE)
+                                .users(Set.of("user"))
+                                .build()));
+    when(mongoTemplate.find(any(Query.class), eq(RoleAssignmentDBO.class)))
+        .thenReturn(List.of(RoleAssignmentDBO.builder()
+                                .id(ROLE_ASSIGNMENT_ID)
+                                .scopeIdentifier(ACCOUNT_SCOPE)
+                                .principalType(PrincipalType.USER_GROUP)
+                                .principalIdentifier("userGroup")
+                                .roleIdentifier("_project_viewer")
+                                .resourceGroupIdentifier("resourceGroup")
+                                .build(),
+            RoleAssignmentDBO.builder()
+                .id("disabledRoleAssignmentId")
+                .scopeIdentifier(ACCOUNT_SCOPE)
+                .principalType(PrincipalType.SERVICE_ACCOUNT)
+                .principalIdentifier("serviceAccount")
+                .roleIdentifier("_project_viewer")
+                .resourceGroupIdentifier("resourceGroup")
+                .disabled(true)
+                .build()));
+  }
+
+  private static boolean isManagedQuery(Query query) {
+    return query.getQueryObject().containsKey("managed");
+  }
+
+  private List<ACL> getMatchingACLs(PrincipalType principalType, String principalIdentifier, String permission,
+      String resourceSelector) {
+    return inMemoryACLIndex.getMatchingACLs(ACCOUNT_IDENTIFIER, Principal.of(principalType, principalIdentifier),
+        permission, Set.of(Pair.of(ACCOUNT_SCOPE, resourceSelector)));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testGetMatchingACLs() {
+    List<ACL> acls = getMatchingACLs(PrincipalType.USER, "user", PERMISSION, "/PROJECT/*");
+    assertThat(acls).hasSize(1);
+    assertThat(acls.get(0).isConditional()).isFalse();
+
+    acls = getMatchingACLs(PrincipalType.USER, "user", PERMISSION, "/CONNECTOR/*");
+    assertThat(acls).hasSize(1);
+    assertThat(acls.get(0).isConditional()).isTrue();
+    assertThat(acls.get(0).getCondition()).isEqualTo("condition");
+
+    assertThat(getMatchingACLs(PrincipalType.USER, "user", PERMISSION, "/SECRET/*")).isEmpty();
+    assertThat(getMatchingACLs(PrincipalType.USER, "user", "core_project_edit", "/PROJECT/*")).isEmpty();
+    assertThat(getMatchingACLs(PrincipalType.USER, "otherUser", PERMISSION, "/PROJECT/*")).isEmpty();
+    assertThat(getMatchingACLs(PrincipalType.SERVICE_ACCOUNT, "serviceAccount", PERMISSION, "/PROJECT/*")).isEmpty();
+    verify(mongoTemplate, times(1)).find(any(Query.class), eq(RoleAssignmentDBO.class));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testOnChangeReloadsAccount() {
+    getMatchingACLs(PrincipalType.USER, "user", PERMISSION, "/PROJECT/*");
+    inMemoryACLIndex.onChange("unknownId", null);
+    getMatchingACLs(PrincipalType.USER, "user", PERMISSION, "/PROJECT/*");
+    verify(mongoTemplate, times(1)).find(any(Query.class), eq(RoleAssignmentDBO.class));
+
+    inMemoryACLIndex.onChange(ROLE_ASSIGNMENT_ID, null);
+    getMatchingACLs(PrincipalType.USER, "user", PERMISSION, "/PROJECT/*");
+    verify(mongoTemplate, times(2)).find(any(Query.class), eq(RoleAssignmentDBO.class));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testOnChangeReloadsAccountInTheBackground() {
+    List<Runnable> reloads = new ArrayList<>();
+    inMemoryACLIndex = new InMemoryACLIndex(mongoTemplate, scopeService, Collections.emptyMap(),
+        inMemoryPermissionRepository, false, invalidationsTopic, reloads::add);
+    getMatchingACLs(PrincipalType.USER, "user", PERMISSION, "/PROJECT/*");
+
+    inMemoryACLIndex.onChange(ROLE_ASSIGNMENT_ID, null);
+    assertThat(getMatchingACLs(PrincipalType.USER, "user", PERMISSION, "/PROJECT/*")).hasSize(1);
+    verify(mongoTemplate, times(1)).find(any(Query.class), eq(RoleAssignmentDBO.class));
+    assertThat(reloads).hasSize(1);
+
+    reloads.forEach(Runnable::run);
+    verify(mongoTemplate, times(2)).find(any(Query.class), eq(RoleAssignmentDBO.class));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testOnChangeIsPublishedToOtherReplicas() {
+    ArgumentCaptor<MessageListener<String>> listener = ArgumentCaptor.forClass(MessageListener.class);
+    verify(invalidationsTopic).addListener(eq(String.class), listener.capture());
+    ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+
+    inMemoryACLIndex.onChange(ROLE_ASSIGNMENT_ID, null);
+    verify(invalidationsTopic).publish(message.capture());
+    assertThat(message.getValue()).endsWith("$" + ROLE_ASSIGNMENT_ID + "$");
+
+    // The own changes of a replica are not applied twice
+    getMatchingACLs(PrincipalType.USER, "user", PERMISSION, "/PROJECT/*");
+    listener.getValue().onMessage("channel", message.getValue());
+    getMatchingACLs(PrincipalType.USER, "user", PERMISSION, "/PROJECT/*");
+    verify(mongoTemplate, times(1)).find(any(Query.class), eq(RoleAssignmentDBO.class));
+
+    listener.getValue().onMessage("channel", "otherReplica$" + ROLE_ASSIGNMENT_ID + "$");
+    getMatchingACLs(PrincipalType.USER, "user", PERMISSION, "/PROJECT/*");
+    verify(mongoTemplate, times(2)).find(any(Query.class), eq(RoleAssignmentDBO.class));
+
+    listener.getValue().onMessage("channel", "otherReplica$*$");
+    getMatchingACLs(PrincipalType.USER, "user", PERMISSION, "/PROJECT/*");
+    verify(mongoTemplate, times(3)).find(any(Query.class), eq(RoleAssignmentDBO.class));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testGetMatchingACLsWithoutRedundantACLs() {
+    inMemoryACLIndex = new InMemoryACLIndex(
+        mongoTemplate, scopeService, Collections.emptyMap(), inMemoryPermissionRepository, true, null);
+    when(inMemoryPermissionRepository.isPermissionCompatibleWithResourceSelector(PERMISSION, "/PROJECT/*"))
+        .thenReturn(true);
+
+    assertThat(getMatchingACLs(PrincipalType.USER, "user", PERMISSION, "/PROJECT/*")).hasSize(1);
+    assertThat(getMatchingACLs(PrincipalType.USER, "user", PERMISSION, "/CONNECTOR/*")).isEmpty();
+  }
+}
@@ -123,6 +123,10 @@ public class AccessControlConfiguration extends Configuration {
   @JsonProperty("cfClientConfig") @ConfigSecret private CfClientConfig cfClientConfig;
   @JsonProperty("featureFlagConfig") private FeatureFlagConfig featureFlagConfig;
   @JsonProperty("disableRedundantACLs") private boolean disableRedundantACLs;
+  // The replicas drop the role assignments they keep in memory on the changes the aggregator publishes through the
+  // events framework redis, so without it, or for a change published while a replica was disconnected from it, access
+  // checks can be evaluated against role assignments up to a minute old
+  @JsonProperty("enableInMemoryACLEvaluation") private boolean enableInMemoryACLEvaluation;
   @JsonProperty("enableParallelProcessingOfUserGroupUpdates")
   private boolean enableParallelProcessingOfUserGroupUpdates;
 
@@ -18,6 +18,7 @@ import static io.harness.accesscontrol.scopes.harness.HarnessScopeLevel.ORGANIZA
 import static io.harness.accesscontrol.scopes.harness.HarnessScopeLevel.PROJECT;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.authorization.AuthorizationServiceHeader.ACCESS_CONTROL_SERVICE;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.eventsframework.EventsFrameworkConstants.DUMMY_GROUP_NAME;
 import static io.harness.eventsframework.EventsFrameworkConstants.DUMMY_TOPIC_NAME;
 import static io.harness.eventsframework.EventsFrameworkConstants.ENTITY_CRUD;
@@ -27,7 +28,9 @@ import static io.harness.eventsframework.EventsFrameworkConstants.USERMEMBERSHIP
 import static io.harness.lock.DistributedLockImplementation.MONGO;
 
 import io.harness.AccessControlClientModule;
+import io.harness.accesscontrol.acl.InMemoryACLIndex;
 import io.harness.accesscontrol.acl.ResourceAttributeProvider;
+import io.harness.accesscontrol.acl.api.ACLChangeEvents;
 import io.harness.accesscontrol.acl.api.ACLResource;
 import io.harness.accesscontrol.acl.api.ACLResourceImpl;
 import io.harness.accesscontrol.acl.api.ResourceAttributeProviderImpl;
@@ -161,7 +164,9 @@ import javax.validation.ValidatorFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.Pair;
 import org.hibernate.validator.parameternameprovider.ReflectionParameterNameProvider;
+import org.redisson.api.RTopic;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import ru.vyarus.guice.validator.ValidationModule;
 
 @OwnedBy(PL)
@@ -218,6 +223,31 @@ public class AccessControlModule extends AbstractModule {
     return null;
   }
 
+  @Provides
+  @Named(InMemoryACLIndex.INVALIDATIONS_TOPIC)
+  @Singleton
+  public RTopic getInMemoryACLIndexInvalidationsTopic(
+      @Nullable @Named("eventsFrameworkRedissonClient") RedissonClient redissonClient) {
+    if (!config.isEnableInMemoryACLEvaluation() || !config.getEventsConfig().isEnabled()) {
+      return null;
+    }
+    String envNamespace = config.getEventsConfig().getRedisConfig().getEnvNamespace();
+    return redissonClient.getTopic(
+        (isEmpty(envNamespace) ? "" : envNamespace + ":") + "topics:" + InMemoryACLIndex.INVALIDATIONS_TOPIC,
+        StringCodec.INSTANCE);
+  }
+
+  @Provides
+  @Named(ACLChangeEvents.TOPIC)
+  @Singleton
+  public RTopic getACLChangesTopic(@Nullable @Named("eventsFrameworkRedissonClient") RedissonClient redissonClient) {
+    if (!config.getEventsConfig().isEnabled()) {
+      return null;
+    }
+    return redissonClient.getTopic(
+        ACLChangeEvents.getTopicName(config.getEventsConfig().getRedisConfig().getEnvNamespace()), StringCodec.INSTANCE);
+  }
+
   @Provides
   @Named(ENTITY_CRUD)
   @Singleton
@@ -419,6 +449,9 @@ public class AccessControlModule extends AbstractModule {
     bind(ProjectRoleAssignmentsApi.class).to(ProjectRoleAssignmentsApiImpl.class);
 
     bind(boolean.class).annotatedWith(Names.named("disableRedundantACLs")).toInstance(config.isDisableRedundantACLs());
+    bind(boolean.class)
+        .annotatedWith(Names.named("enableInMemoryACLEvaluation"))
+        .toInstance(config.isEnableInMemoryACLEvaluation());
     bind(boolean.class)
         .annotatedWith(Names.named("enableParallelProcessingOfUserGroupUpdates"))
         .toInstance(config.isEnableParallelProcessingOfUserGroupUpdates());
@@ -11,6 +11,7 @@ import io.harness.accesscontrol.commons.metrics.AccessControlMetricsContext;
 import io.harness.aggregator.AggregatorMetricsService;
 import io.harness.aggregator.SnapshotMetrics;
 import io.harness.aggregator.StreamingMetrics;
+import io.harness.aggregator.UserGroupUpdateMetrics;
 import io.harness.metrics.service.api.MetricService;
 import io.harness.metrics.service.api.MetricsPublisher;
 
@@ -79,5 +80,19 @@ public class AggregatorStackDriverMetricsPublisherImpl implements MetricsPublish
             "aggregator_snapshot_snapshotDurationInSeconds", snapshotMetrics.getSnapshotDurationInSeconds());
       }
     }
+
+    UserGroupUpdateMetrics userGroupUpdateMetrics = aggregatorMetricsService.getAndResetUserGroupUpdateMetrics();
+    try (AccessControlMetricsContext ignored = new AccessControlMetricsContext(namespace, containerName, serviceName)) {
+      long numberOfEvents = userGroupUpdateMetrics.getNumberOfEvents();
+      metricService.recordMetric("aggregator_userGroupUpdate_numberOfEvents", numberOfEvents);
+      metricService.recordMetric(
+          "aggregator_userGroupUpdate_numberOfACLsCreated", userGroupUpdateMetrics.getNumberOfACLsCreated());
+      metricService.recordMetric(
+          "aggregator_userGroupUpdate_numberOfACLsDeleted", userGroupUpdateMetrics.getNumberOfACLsDeleted());
+      metricService.recordMetric("aggregator_userGroupUpdate_averageProcessingTimeMillis",
+          numberOfEvents == 0 ? 0 : userGroupUpdateMetrics.getTotalProcessingTimeMillis() / numberOfEvents);
+      metricService.recordMetric(
+          "aggregator_userGroupUpdate_maxProcessingTimeMillis", userGroupUpdateMetrics.getMaxProcessingTimeMillis());
+    }
   }
 }
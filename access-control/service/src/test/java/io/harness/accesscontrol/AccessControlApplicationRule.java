@@ -18,6 +18,8 @@ import static io.harness.accesscontrol.scopes.harness.HarnessScopeLevel.ORGANIZA
 import static io.harness.accesscontrol.scopes.harness.HarnessScopeLevel.PROJECT;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
+import io.harness.accesscontrol.acl.InMemoryACLIndex;
+import io.harness.accesscontrol.acl.api.ACLChangeEvents;
 import io.harness.accesscontrol.principals.PrincipalType;
 import io.harness.accesscontrol.principals.PrincipalValidator;
 import io.harness.accesscontrol.principals.serviceaccounts.ServiceAccountValidator;
@@ -55,6 +57,7 @@ import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
 import com.google.inject.multibindings.MapBinder;
 import com.google.inject.name.Names;
+import com.google.inject.util.Providers;
 import dev.morphia.converters.TypeConverter;
 import java.io.Closeable;
 import java.lang.annotation.Annotation;
@@ -67,6 +70,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.junit.rules.MethodRule;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.Statement;
+import org.redisson.api.RTopic;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.mongodb.MongoTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -130,6 +134,11 @@ public class AccessControlApplicationRule implements MethodRule, InjectorRuleMix
             .toInstance(Collections.singleton(VIEW_PROJECT_PERMISSION));
 
         bind(boolean.class).annotatedWith(Names.named("disableRedundantACLs")).toInstance(false);
+        bind(boolean.class).annotatedWith(Names.named("enableInMemoryACLEvaluation")).toInstance(false);
+        bind(RTopic.class)
+            .annotatedWith(Names.named(InMemoryACLIndex.INVALIDATIONS_TOPIC))
+            .toProvider(Providers.of(null));
+        bind(RTopic.class).annotatedWith(Names.named(ACLChangeEvents.TOPIC)).toProvider(Providers.of(null));
       }
     });
 
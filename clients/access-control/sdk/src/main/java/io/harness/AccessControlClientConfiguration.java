@@ -10,6 +10,7 @@ package io.harness;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.redis.RedisConfig;
 import io.harness.remote.client.ServiceHttpClientConfig;
 import io.harness.secret.ConfigSecret;
 
@@ -23,4 +24,9 @@ public class AccessControlClientConfiguration {
   private boolean enableAccessControl;
   private ServiceHttpClientConfig accessControlServiceConfig;
   @ConfigSecret private String accessControlServiceSecret;
+  // Access check decisions are cached for at most this long, 0 disables the cache
+  private long decisionCacheTtlSeconds;
+  private long decisionCacheMaximumSize;
+  // The events framework redis of the access control service, on which it announces the ACL changes
+  private RedisConfig decisionCacheRedisConfig;
 }
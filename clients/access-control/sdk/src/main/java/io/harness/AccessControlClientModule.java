@@ -11,13 +11,17 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.accesscontrol.NGAccessControlCheck;
 import io.harness.accesscontrol.NGAccessControlCheckHandler;
+import io.harness.accesscontrol.acl.api.ACLChangeEvents;
 import io.harness.accesscontrol.clients.AccessControlClient;
+import io.harness.accesscontrol.clients.AccessControlDecisionCache;
 import io.harness.accesscontrol.clients.AccessControlHttpClient;
 import io.harness.accesscontrol.clients.AccessControlHttpClientFactory;
 import io.harness.accesscontrol.clients.NoOpAccessControlClientImpl;
 import io.harness.accesscontrol.clients.NonPrivilegedAccessControlClientImpl;
 import io.harness.accesscontrol.clients.PrivilegedAccessControlClientImpl;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.redis.RedisConfig;
+import io.harness.redis.RedissonClientFactory;
 import io.harness.remote.client.ClientMode;
 import io.harness.security.ServiceTokenGenerator;
 
@@ -25,6 +29,9 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Scopes;
 import com.google.inject.matcher.Matchers;
 import com.google.inject.name.Names;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 
 @OwnedBy(PL)
 public class AccessControlClientModule extends AbstractModule {
@@ -69,6 +76,27 @@ public class AccessControlClientModule extends AbstractModule {
         enableCircuitBreaker, ClientMode.NON_PRIVILEGED);
   }
 
+  private AccessControlDecisionCache accessControlDecisionCache(RTopic aclChangesTopic) {
+    AccessControlDecisionCache accessControlDecisionCache =
+        new AccessControlDecisionCache(accessControlClientConfiguration.getDecisionCacheTtlSeconds(),
+            accessControlClientConfiguration.getDecisionCacheMaximumSize());
+    if (aclChangesTopic != null) {
+      accessControlDecisionCache.subscribe(aclChangesTopic);
+    }
+    return accessControlDecisionCache;
+  }
+
+  private RTopic aclChangesTopic() {
+    RedisConfig redisConfig = accessControlClientConfiguration.getDecisionCacheRedisConfig();
+    if (accessControlClientConfiguration.getDecisionCacheTtlSeconds() <= 0 || redisConfig == null) {
+      return null;
+    }
+    RedissonClient redissonClient = RedissonClientFactory.getClient(redisConfig);
+    return redissonClient == null
+        ? null
+        : redissonClient.getTopic(ACLChangeEvents.getTopicName(redisConfig.getEnvNamespace()), StringCodec.INSTANCE);
+  }
+
   @Override
   protected void configure() {
     registerRequiredBindings();
@@ -83,6 +111,14 @@ public class AccessControlClientModule extends AbstractModule {
           .toProvider(nonPrivilegedAccessControlHttpClientFactory())
           .in(Scopes.SINGLETON);
 
+      RTopic aclChangesTopic = aclChangesTopic();
+      bind(AccessControlDecisionCache.class)
+          .annotatedWith(Names.named(ClientMode.PRIVILEGED.name()))
+          .toInstance(accessControlDecisionCache(aclChangesTopic));
+      bind(AccessControlDecisionCache.class)
+          .annotatedWith(Names.named(ClientMode.NON_PRIVILEGED.name()))
+          .toInstance(accessControlDecisionCache(aclChangesTopic));
+
       bind(AccessControlClient.class)
           .annotatedWith(Names.named(ClientMode.PRIVILEGED.name()))
           .to(PrivilegedAccessControlClientImpl.class)
@@ -23,7 +23,6 @@ import io.harness.accesscontrol.acl.api.Resource;
 import io.harness.accesscontrol.acl.api.ResourceScope;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
-import io.harness.exception.AccessDeniedException;
 import io.harness.exception.UnexpectedException;
 
 import com.google.common.collect.Iterables;
@@ -42,15 +41,23 @@ public abstract class AbstractAccessControlClient implements AccessControlClient
   private static final String ACCOUNT_RESOURCE_TYPE = "ACCOUNT";
   private static final String PROJECT_RESOURCE_TYPE = "PROJECT";
 
-  public AbstractAccessControlClient() {}
+  private final AccessControlDecisionCache decisionCache;
+
+  public AbstractAccessControlClient() {
+    this(new AccessControlDecisionCache(0, 0));
+  }
+
+  public AbstractAccessControlClient(AccessControlDecisionCache decisionCache) {
+    this.decisionCache = decisionCache;
+  }
 
   protected abstract AccessCheckResponseDTO checkForAccess(AccessCheckRequestDTO accessCheckRequestDTO);
 
   @Override
   public AccessCheckResponseDTO checkForAccess(Principal principal, List<PermissionCheckDTO> permissionCheckDTOList) {
-    AccessCheckRequestDTO accessCheckRequestDTO =
-        AccessCheckRequestDTO.builder().principal(principal).permissions(permissionCheckDTOList).build();
-    return checkForAccess(accessCheckRequestDTO);
+    return decisionCache.checkForAccess(principal, permissionCheckDTOList,
+        permissionChecks
+        -> checkForAccess(AccessCheckRequestDTO.builder().principal(principal).permissions(permissionChecks).build()));
   }
 
   @Override
@@ -65,12 +72,11 @@ public abstract class AbstractAccessControlClient implements AccessControlClient
 
   @Override
   public boolean hasAccess(Principal principal, ResourceScope resourceScope, Resource resource, String permission) {
-    try {
-      checkForAccessOrThrowInternal(principal, resourceScope, resource, permission, null);
-      return true;
-    } catch (AccessDeniedException accessDeniedException) {
-      return false;
-    }
+    PermissionCheckDTO permissionCheckDTO = getPermissionCheckDTO(resourceScope, resource, permission);
+    return checkForAccess(principal, Collections.singletonList(permissionCheckDTO))
+        .getAccessControlList()
+        .get(0)
+        .isPermitted();
   }
 
   private PermissionCheckDTO getPermissionCheckDTOForScope(ResourceScope resourceScope, String permission) {
@@ -147,23 +153,25 @@ public abstract class AbstractAccessControlClient implements AccessControlClient
         .build();
   }
 
-  private void checkForAccessOrThrowInternal(
-      Principal principal, ResourceScope resourceScope, Resource resource, String permission, String exceptionMessage) {
-    PermissionCheckDTO permissionCheckDTO;
+  private PermissionCheckDTO getPermissionCheckDTO(ResourceScope resourceScope, Resource resource, String permission) {
     if (resource == null && resourceScope == null) {
       throw new UnexpectedException("Both resource scope and resource cannot be null together");
     }
     if (resource == null) {
-      permissionCheckDTO = getPermissionCheckDTOForScope(resourceScope, permission);
-    } else {
-      permissionCheckDTO = PermissionCheckDTO.builder()
-                               .permission(permission)
-                               .resourceType(resource.getResourceType())
-                               .resourceIdentifier(resource.getResourceIdentifier())
-                               .resourceScope(resourceScope)
-                               .resourceAttributes(resource.getResourceAttributes())
-                               .build();
+      return getPermissionCheckDTOForScope(resourceScope, permission);
     }
+    return PermissionCheckDTO.builder()
+        .permission(permission)
+        .resourceType(resource.getResourceType())
+        .resourceIdentifier(resource.getResourceIdentifier())
+        .resourceScope(resourceScope)
+        .resourceAttributes(resource.getResourceAttributes())
+        .build();
+  }
+
+  private void checkForAccessOrThrowInternal(
+      Principal principal, ResourceScope resourceScope, Resource resource, String permission, String exceptionMessage) {
+    PermissionCheckDTO permissionCheckDTO = getPermissionCheckDTO(resourceScope, resource, permission);
     AccessCheckResponseDTO accessCheckResponseDTO =
         checkForAccess(principal, Collections.singletonList(permissionCheckDTO));
     AccessControlDTO accessControlDTO = accessCheckResponseDTO.getAccessControlList().get(0);
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.clients;
+
+import static io.harness.accesscontrol.acl.api.ACLChangeEvents.ALL_ACCOUNTS;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+
+import io.harness.accesscontrol.acl.api.AccessCheckResponseDTO;
+import io.harness.accesscontrol.acl.api.AccessControlDTO;
+import io.harness.accesscontrol.acl.api.PermissionCheckDTO;
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.api.ResourceScope;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.security.SecurityContextBuilder;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+
+/**
+ * Bounded cache of the access check decisions of each principal, so that the checks repeated for every page of a list
+ * API are sent to the access control service once per staleness bound. Only the checks missing from the cache are
+ * sent, and the response keeps the order of the checks.
+ *
+ * Decisions are keyed by the principal of the security context, the principal of the request and the whole permission
+ * check. Once subscribed to the ACL changes topic, the decisions of an account are dropped as soon as the access
+ * control service announces a change of its ACLs. Changes missed by the subscription are seen after at most
+ * ttlSeconds. Checks are sent as is when there is no principal to key them with, or when the cache is disabled with
+ * ttlSeconds 0. Nothing is cached from a response which does not have a decision for every check.
+ */
+@OwnedBy(HarnessTeam.PL)
+@Slf4j
+public class AccessControlDecisionCache {
+  private static final long DEFAULT_MAXIMUM_SIZE = 10000;
+
+  private final Cache<DecisionKey, Decision> decisions;
+
+  public AccessControlDecisionCache(long ttlSeconds, long maximumSize) {
+    this.decisions = ttlSeconds <= 0 ? null
+                                     : CacheBuilder.newBuilder()
+                                           .maximumSize(maximumSize > 0 ? maximumSize : DEFAULT_MAXIMUM_SIZE)
+                                           .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                                           .recordStats()
+                                           .build();
+  }
+
+  public boolean isEnabled() {
+    return decisions != null;
+  }
+
+  public AccessCheckResponseDTO checkForAccess(Principal principal, List<PermissionCheckDTO> permissionChecks,
+      Function<List<PermissionCheckDTO>, AccessCheckResponseDTO> accessChecker) {
+    if (!isEnabled() || isEmpty(permissionChecks)) {
+      return accessChecker.apply(permissionChecks);
+    }
+    io.harness.security.dto.Principal contextPrincipal = SecurityContextBuilder.getPrincipal();
+    if (contextPrincipal == null && principal == null) {
+      return accessChecker.apply(permissionChecks);
+    }
+
+    List<DecisionKey> keys = new ArrayList<>(permissionChecks.size());
+    Decision[] cachedDecisions = new Decision[permissionChecks.size()];
+    List<PermissionCheckDTO> missingChecks = new ArrayList<>();
+    for (int i = 0; i < permissionChecks.size(); i++) {
+      DecisionKey key = DecisionKey.of(contextPrincipal, principal, permissionChecks.get(i));
+      keys.add(key);
+      cachedDecisions[i] = decisions.getIfPresent(key);
+      if (cachedDecisions[i] == null) {
+        missingChecks.add(permissionChecks.get(i));
+      }
+    }
+
+    AccessCheckResponseDTO response = null;
+    if (!missingChecks.isEmpty()) {
+      response = accessChecker.apply(missingChecks);
+      List<AccessControlDTO> accessControlList = response.getAccessControlList();
+      if (accessControlList == null || accessControlList.size() != missingChecks.size()) {
+        // The decisions can not be matched with the checks, so none of them is cached
+        log.warn("Got {} access control decisions for {} checks",
+            accessControlList == null ? 0 : accessControlList.size(), missingChecks.size());
+        return missingChecks.size() == permissionChecks.size() ? response : accessChecker.apply(permissionChecks);
+      }
+      Principal responsePrincipal = copy(response.getPrincipal());
+      for (int i = 0, missing = 0; i < cachedDecisions.length; i++) {
+        if (cachedDecisions[i] == null) {
+          cachedDecisions[i] = new Decision(responsePrincipal, accessControlList.get(missing++).isPermitted());
+          decisions.put(keys.get(i), cachedDecisions[i]);
+        }
+      }
+      if (missingChecks.size() == permissionChecks.size()) {
+        return response;
+      }
+    }
+
+    List<AccessControlDTO> accessControlList = new ArrayList<>(permissionChecks.size());
+    for (int i = 0; i < permissionChecks.size(); i++) {
+      accessControlList.add(toAccessControlDTO(permissionChecks.get(i), cachedDecisions[i].isPermitted()));
+    }
+    return AccessCheckResponseDTO.builder()
+        .principal(response != null ? response.getPrincipal() : copy(cachedDecisions[0].getPrincipal()))
+        .accessControlList(accessControlList)
+        .build();
+  }
+
+  /**
+   * @return the hit and miss counts of the decisions, empty when the cache is disabled
+   */
+  public CacheStats stats() {
+    return isEnabled() ? decisions.stats() : new CacheStats(0, 0, 0, 0, 0, 0);
+  }
+
+  public void invalidateAll() {
+    if (isEnabled()) {
+      decisions.invalidateAll();
+    }
+  }
+
+  /**
+   * Drops the decisions of the checks on the resources of the account, or of all accounts for ALL_ACCOUNTS. Checks
+   * without an account are dropped too, as they can be decided by the ACLs of any account.
+   */
+  public void invalidateAccount(String accountIdentifier) {
+    if (!isEnabled()) {
+      return;
+    }
+    if (ALL_ACCOUNTS.equals(accountIdentifier)) {
+      decisions.invalidateAll();
+      return;
+    }
+    decisions.asMap().keySet().removeIf(
+        key -> key.getAccountIdentifier() == null || key.getAccountIdentifier().equals(accountIdentifier));
+  }
+
+  /**
+   * Drops the decisions of the accounts announced on the ACL changes topic of the access control service.
+   */
+  public void subscribe(RTopic aclChangesTopic) {
+    if (isEnabled()) {
+      aclChangesTopic.addListener(String.class, (channel, accountIdentifier) -> invalidateAccount(accountIdentifier));
+    }
+  }
+
+  private static AccessControlDTO toAccessControlDTO(PermissionCheckDTO permissionCheckDTO, boolean permitted) {
+    return AccessControlDTO.builder()
+        .permission(permissionCheckDTO.getPermission())
+        .resourceScope(permissionCheckDTO.getResourceScope())
+        .resourceType(permissionCheckDTO.getResourceType())
+        .resourceIdentifier(permissionCheckDTO.getResourceIdentifier())
+        .resourceAttributes(permissionCheckDTO.getResourceAttributes())
+        .permitted(permitted)
+        .build();
+  }
+
+  // The DTOs are mutable, so neither the keys nor the decisions hold on to them
+  private static Principal copy(Principal principal) {
+    return principal == null ? null : Principal.of(principal.getPrincipalType(), principal.getPrincipalIdentifier());
+  }
+
+  @Value
+  private static class Decision {
+    Principal principal;
+    boolean permitted;
+  }
+
+  @Value
+  private static class DecisionKey {
+    String contextPrincipalType;
+    String contextPrincipalName;
+    String principalType;
+    String principalIdentifier;
+    String accountIdentifier;
+    String orgIdentifier;
+    String projectIdentifier;
+    String resourceType;
+    String resourceIdentifier;
+    Map<String, String> resourceAttributes;
+    String permission;
+
+    private static DecisionKey of(io.harness.security.dto.Principal contextPrincipal, Principal principal,
+        PermissionCheckDTO permissionCheckDTO) {
+      ResourceScope resourceScope = permissionCheckDTO.getResourceScope();
+      Map<String, String> resourceAttributes = permissionCheckDTO.getResourceAttributes();
+      return new DecisionKey(contextPrincipal == null ? null : String.valueOf(contextPrincipal.getType()),
+          contextPrincipal == null ? null : contextPrincipal.getName(),
+          principal == null ? null : String.valueOf(principal.getPrincipalType()),
+          principal == null ? null : principal.getPrincipalIdentifier(),
+          resourceScope == null ? null : resourceScope.getAccountIdentifier(),
+          resourceScope == null ? null : resourceScope.getOrgIdentifier(),
+          resourceScope == null ? null : resourceScope.getProjectIdentifier(), permissionCheckDTO.getResourceType(),
+          permissionCheckDTO.getResourceIdentifier(),
+          resourceAttributes == null ? null : new HashMap<>(resourceAttributes),
+          permissionCheckDTO.getPermission());
+    }
+  }
+}
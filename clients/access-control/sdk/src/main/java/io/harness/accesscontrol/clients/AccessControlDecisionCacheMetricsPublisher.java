@@ -0,0 +1,69 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.clients;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.AutoMetricContext;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.metrics.service.api.MetricsPublisher;
+import io.harness.remote.client.ClientMode;
+
+import com.google.common.cache.CacheStats;
+import com.google.inject.Inject;
+import com.google.inject.name.Named;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Records the hits, misses and evictions of the access check decision caches since the previous recording, for each
+ * client mode. Nothing is recorded for the caches which are not bound, as when access control is disabled.
+ */
+@OwnedBy(HarnessTeam.PL)
+public class AccessControlDecisionCacheMetricsPublisher implements MetricsPublisher {
+  public static final String HIT_COUNT_METRIC_NAME = "access_control_decision_cache_hit_count";
+  public static final String MISS_COUNT_METRIC_NAME = "access_control_decision_cache_miss_count";
+  public static final String EVICTION_COUNT_METRIC_NAME = "access_control_decision_cache_eviction_count";
+
+  private final MetricService metricService;
+  private final Map<ClientMode, CacheStats> recordedStats = new EnumMap<>(ClientMode.class);
+
+  @Inject(optional = true) @Named("PRIVILEGED") private AccessControlDecisionCache privilegedDecisionCache;
+  @Inject(optional = true) @Named("NON_PRIVILEGED") private AccessControlDecisionCache nonPrivilegedDecisionCache;
+
+  @Inject
+  public AccessControlDecisionCacheMetricsPublisher(MetricService metricService) {
+    this.metricService = metricService;
+  }
+
+  @Override
+  public synchronized void recordMetrics() {
+    recordMetrics(ClientMode.PRIVILEGED, privilegedDecisionCache);
+    recordMetrics(ClientMode.NON_PRIVILEGED, nonPrivilegedDecisionCache);
+  }
+
+  private void recordMetrics(ClientMode clientMode, AccessControlDecisionCache decisionCache) {
+    if (decisionCache == null || !decisionCache.isEnabled()) {
+      return;
+    }
+    CacheStats stats = decisionCache.stats();
+    CacheStats recorded = recordedStats.put(clientMode, stats);
+    CacheStats recentStats = recorded == null ? stats : stats.minus(recorded);
+    try (ClientModeContext ignored = new ClientModeContext(clientMode)) {
+      metricService.recordMetric(HIT_COUNT_METRIC_NAME, recentStats.hitCount());
+      metricService.recordMetric(MISS_COUNT_METRIC_NAME, recentStats.missCount());
+      metricService.recordMetric(EVICTION_COUNT_METRIC_NAME, recentStats.evictionCount());
+    }
+  }
+
+  private static class ClientModeContext extends AutoMetricContext {
+    ClientModeContext(ClientMode clientMode) {
+      put("clientMode", clientMode.name());
+    }
+  }
+}
@@ -20,9 +20,14 @@ import com.google.inject.name.Named;
 public class NonPrivilegedAccessControlClientImpl extends AbstractAccessControlClient {
   private final AccessControlHttpClient accessControlHttpClient;
 
+  public NonPrivilegedAccessControlClientImpl(AccessControlHttpClient accessControlHttpClient) {
+    this(accessControlHttpClient, new AccessControlDecisionCache(0, 0));
+  }
+
   @Inject
-  public NonPrivilegedAccessControlClientImpl(
-      @Named("NON_PRIVILEGED") AccessControlHttpClient accessControlHttpClient) {
+  public NonPrivilegedAccessControlClientImpl(@Named("NON_PRIVILEGED") AccessControlHttpClient accessControlHttpClient,
+      @Named("NON_PRIVILEGED") AccessControlDecisionCache decisionCache) {
+    super(decisionCache);
     this.accessControlHttpClient = accessControlHttpClient;
   }
 
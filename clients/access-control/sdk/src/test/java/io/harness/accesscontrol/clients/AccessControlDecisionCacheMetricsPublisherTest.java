@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.clients;
+
+import static io.harness.accesscontrol.clients.AccessControlDecisionCacheMetricsPublisher.EVICTION_COUNT_METRIC_NAME;
+import static io.harness.accesscontrol.clients.AccessControlDecisionCacheMetricsPublisher.HIT_COUNT_METRIC_NAME;
+import static io.harness.accesscontrol.clients.AccessControlDecisionCacheMetricsPublisher.MISS_COUNT_METRIC_NAME;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import io.harness.accesscontrol.acl.api.AccessCheckResponseDTO;
+import io.harness.accesscontrol.acl.api.AccessControlDTO;
+import io.harness.accesscontrol.acl.api.PermissionCheckDTO;
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.api.ResourceScope;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.remote.client.ClientMode;
+import io.harness.rule.Owner;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.name.Names;
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PL)
+public class AccessControlDecisionCacheMetricsPublisherTest {
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testRecordMetricsRecordsCountsSinceLastRecording() {
+    MetricService metricService = mock(MetricService.class);
+    AccessControlDecisionCache decisionCache = new AccessControlDecisionCache(60, 100);
+    AccessControlDecisionCacheMetricsPublisher metricsPublisher =
+        Guice
+            .createInjector(new AbstractModule() {
+              @Override
+              protected void configure() {
+                bind(MetricService.class).toInstance(metricService);
+                bind(AccessControlDecisionCache.class)
+                    .annotatedWith(Names.named(ClientMode.NON_PRIVILEGED.name()))
+                    .toInstance(decisionCache);
+              }
+            })
+            .getInstance(AccessControlDecisionCacheMetricsPublisher.class);
+
+    Principal principal = Principal.of(PrincipalType.USER, "user");
+    PermissionCheckDTO permissionCheck = PermissionCheckDTO.builder()
+                                             .resourceScope(ResourceScope.of("accountIdentifier", null, null))
+                                             .resourceType("ACCOUNT")
+                                             .permission("core_account_view")
+                                             .build();
+    AccessCheckResponseDTO response =
+        AccessCheckResponseDTO.builder()
+            .principal(principal)
+            .accessControlList(List.of(AccessControlDTO.builder().permitted(true).build()))
+            .build();
+    decisionCache.checkForAccess(principal, List.of(permissionCheck), permissionChecks -> response);
+    decisionCache.checkForAccess(principal, List.of(permissionCheck), permissionChecks -> response);
+    decisionCache.checkForAccess(principal, List.of(permissionCheck), permissionChecks -> response);
+
+    metricsPublisher.recordMetrics();
+    verify(metricService).recordMetric(HIT_COUNT_METRIC_NAME, 2);
+    verify(metricService).recordMetric(MISS_COUNT_METRIC_NAME, 1);
+    verify(metricService).recordMetric(EVICTION_COUNT_METRIC_NAME, 0);
+    verifyNoMoreInteractions(metricService);
+
+    reset(metricService);
+    decisionCache.checkForAccess(principal, List.of(permissionCheck), permissionChecks -> response);
+    metricsPublisher.recordMetrics();
+    verify(metricService).recordMetric(HIT_COUNT_METRIC_NAME, 1);
+    verify(metricService).recordMetric(MISS_COUNT_METRIC_NAME, 0);
+    verify(metricService).recordMetric(EVICTION_COUNT_METRIC_NAME, 0);
+  }
+}
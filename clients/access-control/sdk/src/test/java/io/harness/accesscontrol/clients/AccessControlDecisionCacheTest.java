@@ -0,0 +1,184 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.clients;
+
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.harness.accesscontrol.acl.api.ACLChangeEvents;
+import io.harness.accesscontrol.acl.api.AccessCheckResponseDTO;
+import io.harness.accesscontrol.acl.api.AccessControlDTO;
+import io.harness.accesscontrol.acl.api.PermissionCheckDTO;
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.api.ResourceScope;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.security.SecurityContextBuilder;
+import io.harness.security.dto.UserPrincipal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.listener.MessageListener;
+
+@OwnedBy(HarnessTeam.PL)
+public class AccessControlDecisionCacheTest {
+  private static final String PERMISSION = "core_project_view";
+
+  private List<List<PermissionCheckDTO>> sentChecks;
+  private Function<List<PermissionCheckDTO>, AccessCheckResponseDTO> accessChecker;
+
+  @Before
+  public void setup() {
+    sentChecks = new ArrayList<>();
+    // Only the projects starting with "allowed" are permitted
+    accessChecker = permissionChecks -> {
+      sentChecks.add(permissionChecks);
+      return AccessCheckResponseDTO.builder()
+          .principal(Principal.of(PrincipalType.USER, "user"))
+          .accessControlList(permissionChecks.stream()
+                                 .map(permissionCheck
+                                     -> AccessControlDTO.builder()
+                                            .permission(permissionCheck.getPermission())
+                                            .resourceType(permissionCheck.getResourceType())
+                                            .resourceIdentifier(permissionCheck.getResourceIdentifier())
+                                            .permitted(permissionCheck.getResourceIdentifier().startsWith("allowed"))
+                                            .build())
+                                 .collect(Collectors.toList()))
+          .build();
+    };
+    SecurityContextBuilder.setContext(new UserPrincipal("user", "user@harness.io", "user", "accountIdentifier"));
+  }
+
+  @After
+  public void tearDown() {
+    SecurityContextBuilder.unsetCompleteContext();
+  }
+
+  private static PermissionCheckDTO permissionCheck(String projectIdentifier) {
+    return PermissionCheckDTO.builder()
+        .resourceScope(ResourceScope.of("accountIdentifier", "orgIdentifier", null))
+        .resourceType("PROJECT")
+        .resourceIdentifier(projectIdentifier)
+        .permission(PERMISSION)
+        .build();
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testCheckForAccessSendsOnlyMissingChecks() {
+    AccessControlDecisionCache decisionCache = new AccessControlDecisionCache(60, 100);
+
+    decisionCache.checkForAccess(null, List.of(permissionCheck("allowed1"), permissionCheck("denied1")), accessChecker);
+    AccessCheckResponseDTO response = decisionCache.checkForAccess(null,
+        List.of(permissionCheck("denied1"), permissionCheck("allowed2"), permissionCheck("allowed1")), accessChecker);
+
+    assertThat(sentChecks).hasSize(2);
+    assertThat(sentChecks.get(1)).containsExactly(permissionCheck("allowed2"));
+    assertThat(response.getPrincipal()).isEqualTo(Principal.of(PrincipalType.USER, "user"));
+    assertThat(response.getAccessControlList())
+        .extracting(AccessControlDTO::getResourceIdentifier, AccessControlDTO::isPermitted)
+        .containsExactly(tuple("denied1", false), tuple("allowed2", true), tuple("allowed1", true));
+    assertThat(decisionCache.stats().hitCount()).isEqualTo(2);
+    assertThat(decisionCache.stats().missCount()).isEqualTo(3);
+
+    Principal serviceAccount = Principal.of(PrincipalType.SERVICE_ACCOUNT, "serviceAccount");
+    decisionCache.checkForAccess(serviceAccount, List.of(permissionCheck("allowed1")), accessChecker);
+    assertThat(sentChecks).hasSize(3);
+
+    decisionCache.invalidateAll();
+    decisionCache.checkForAccess(null, List.of(permissionCheck("allowed1")), accessChecker);
+    assertThat(sentChecks).hasSize(4);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testCheckForAccessWithShortResponse() {
+    AccessControlDecisionCache decisionCache = new AccessControlDecisionCache(60, 100);
+    decisionCache.checkForAccess(null, List.of(permissionCheck("allowed1")), accessChecker);
+    Function<List<PermissionCheckDTO>, AccessCheckResponseDTO> shortAccessChecker = permissionChecks -> {
+      AccessCheckResponseDTO response = accessChecker.apply(permissionChecks);
+      return AccessCheckResponseDTO.builder()
+          .principal(response.getPrincipal())
+          .accessControlList(response.getAccessControlList().subList(0, permissionChecks.size() - 1))
+          .build();
+    };
+
+    AccessCheckResponseDTO response = decisionCache.checkForAccess(null,
+        List.of(permissionCheck("allowed1"), permissionCheck("denied1"), permissionCheck("allowed2")),
+        shortAccessChecker);
+
+    // The missing checks are sent again with the cached one, and the response is returned as is
+    assertThat(sentChecks).hasSize(3);
+    assertThat(sentChecks.get(2)).hasSize(3);
+    assertThat(response.getAccessControlList())
+        .extracting(AccessControlDTO::getResourceIdentifier)
+        .containsExactly("allowed1", "denied1");
+
+    decisionCache.checkForAccess(null, List.of(permissionCheck("denied1")), accessChecker);
+    assertThat(sentChecks).hasSize(4);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  @SuppressWarnings("unchecked")
+  public void testACLChangesInvalidateDecisionsOfAccount() {
+    AccessControlDecisionCache decisionCache = new AccessControlDecisionCache(60, 100);
+    RTopic aclChangesTopic = mock(RTopic.class);
+    decisionCache.subscribe(aclChangesTopic);
+    ArgumentCaptor<MessageListener<String>> listener = ArgumentCaptor.forClass(MessageListener.class);
+    verify(aclChangesTopic).addListener(eq(String.class), listener.capture());
+
+    decisionCache.checkForAccess(null, List.of(permissionCheck("allowed1")), accessChecker);
+    listener.getValue().onMessage(ACLChangeEvents.TOPIC, "otherAccountIdentifier");
+    decisionCache.checkForAccess(null, List.of(permissionCheck("allowed1")), accessChecker);
+    assertThat(sentChecks).hasSize(1);
+
+    listener.getValue().onMessage(ACLChangeEvents.TOPIC, "accountIdentifier");
+    decisionCache.checkForAccess(null, List.of(permissionCheck("allowed1")), accessChecker);
+    assertThat(sentChecks).hasSize(2);
+
+    listener.getValue().onMessage(ACLChangeEvents.TOPIC, ACLChangeEvents.ALL_ACCOUNTS);
+    decisionCache.checkForAccess(null, List.of(permissionCheck("allowed1")), accessChecker);
+    assertThat(sentChecks).hasSize(3);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testCheckForAccessWithoutCache() {
+    AccessControlDecisionCache decisionCache = new AccessControlDecisionCache(0, 100);
+    decisionCache.checkForAccess(null, List.of(permissionCheck("allowed1")), accessChecker);
+    decisionCache.checkForAccess(null, List.of(permissionCheck("allowed1")), accessChecker);
+    assertThat(sentChecks).hasSize(2);
+
+    SecurityContextBuilder.unsetCompleteContext();
+    decisionCache = new AccessControlDecisionCache(60, 100);
+    decisionCache.checkForAccess(null, List.of(permissionCheck("allowed1")), accessChecker);
+    decisionCache.checkForAccess(null, List.of(permissionCheck("allowed1")), accessChecker);
+    assertThat(sentChecks).hasSize(4);
+  }
+}
@@ -156,6 +156,8 @@ public class DebeziumServiceApplication extends Application<DebeziumServiceConfi
                                                         .consumerType(ConsumerType.EVENTS_FRAMEWORK)
                                                         .eventsFrameworkConfiguration(eventsFrameworkConfiguration)
                                                         .redisStreamSize(debeziumConfig.getRedisStreamSize())
+                                                        .asyncRedisProducer(debeziumConfig.isAsyncRedisProducer())
+                                                        .binaryRedisPayload(debeziumConfig.isBinaryRedisPayload())
                                                         .build();
 
         starter.startDebeziumController(debeziumConfig, changeConsumerConfig, locker, appConfig.getRedisLockConfig(),
@@ -80,6 +80,17 @@ public class NodeProjectionUtils {
       NodeExecutionKeys.executableResponses, NodeExecutionKeys.mode, NodeExecutionKeys.resolvedParams,
       NodeExecutionKeys.module, NodeExecutionKeys.originalNodeExecutionId, NodeExecutionKeys.stepType);
 
+  // Fields used to build and update the graph vertices and the execution summary from a node execution
+  public static final Set<String> fieldsForGraphUpdate = Sets.newHashSet(NodeExecutionKeys.ambiance,
+      NodeExecutionKeys.mode, NodeExecutionKeys.name, NodeExecutionKeys.identifier, NodeExecutionKeys.nodeId,
+      NodeExecutionKeys.stepType, NodeExecutionKeys.parentId, NodeExecutionKeys.previousId, NodeExecutionKeys.nextId,
+      NodeExecutionKeys.status, NodeExecutionKeys.startTs, NodeExecutionKeys.endTs,
+      NodeExecutionKeys.initialWaitDuration, NodeExecutionKeys.lastUpdatedAt, NodeExecutionKeys.resolvedParams,
+      NodeExecutionKeys.executableResponses, NodeExecutionKeys.interruptHistories, NodeExecutionKeys.failureInfo,
+      NodeExecutionKeys.nodeRunInfo, NodeExecutionKeys.executionInputConfigured, NodeExecutionKeys.retryIds,
+      NodeExecutionKeys.oldRetry, NodeExecutionKeys.originalNodeExecutionId, NodeExecutionKeys.skipGraphType,
+      NodeExecutionKeys.unitProgresses, NodeExecutionKeys.progressData);
+
   // NodeId is added to resolve expression within same step
   public static final Set<String> fieldsForExpressionEngine = Sets.newHashSet(NodeExecutionKeys.status,
       NodeExecutionKeys.ambiance, NodeExecutionKeys.mode, NodeExecutionKeys.startTs, NodeExecutionKeys.endTs,
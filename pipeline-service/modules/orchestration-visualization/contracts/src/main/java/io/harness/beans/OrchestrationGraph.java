@@ -24,8 +24,9 @@ import lombok.experimental.Wither;
 @Value
 @Builder
 public class OrchestrationGraph implements Distributable, Nominal {
-  // previous value was - ObjectStreamClass.lookup(OrchestrationGraph.class).getSerialVersionUID()
-  public static final long STRUCTURE_HASH = 5750747935866324077L;
+  // previous values were - ObjectStreamClass.lookup(OrchestrationGraph.class).getSerialVersionUID(), and
+  // 5750747935866324077L before the version was added
+  public static final long STRUCTURE_HASH = 5750747935866324078L;
   public static final long ALGORITHM_ID = 3;
 
   // cache variables
@@ -33,6 +34,8 @@ public class OrchestrationGraph implements Distributable, Nominal {
   String cacheKey;
   List<String> cacheParams;
   @Wither @Builder.Default long lastUpdatedAt = System.currentTimeMillis();
+  // Changes with every change of the graph, unlike lastUpdatedAt which only follows the processed event logs
+  @Wither @Builder.Default long version = System.currentTimeMillis();
 
   String planExecutionId;
   Long startTs;
@@ -42,6 +45,13 @@ public class OrchestrationGraph implements Distributable, Nominal {
   List<String> rootNodeIds;
   OrchestrationAdjacencyListInternal adjacencyList;
 
+  /**
+   * A copy of this graph with a newer version, to be taken by every change of the graph before it is cached.
+   */
+  public OrchestrationGraph withNextVersion() {
+    return withVersion(Math.max(version + 1, System.currentTimeMillis()));
+  }
+
   @Override
   public long structureHash() {
     return STRUCTURE_HASH;
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import static java.time.Duration.ofDays;
+
+import io.harness.annotation.HarnessEntity;
+import io.harness.annotations.StoreIn;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.index.CompoundMongoIndex;
+import io.harness.mongo.index.FdTtlIndex;
+import io.harness.mongo.index.MongoIndex;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.PersistentEntity;
+
+import com.google.common.collect.ImmutableList;
+import dev.morphia.annotations.Entity;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+import lombok.experimental.FieldNameConstants;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * A serialized {@link OrchestrationGraphPatch} of an execution graph. The patches newer than the cached graph are
+ * applied on top of it when it is read, and are folded into it from time to time.
+ */
+@OwnedBy(PIPELINE)
+@Value
+@Builder
+@FieldNameConstants(innerTypeName = "OrchestrationGraphDeltaKeys")
+@StoreIn(DbAliases.PMS)
+@Entity(value = "orchestrationGraphDeltas", noClassnameStored = true)
+@Document("orchestrationGraphDeltas")
+@HarnessEntity(exportable = false)
+@TypeAlias("OrchestrationGraphDelta")
+public class OrchestrationGraphDelta implements PersistentEntity {
+  // Same as the cached graph, a delta must not outlive it
+  public static final Duration TTL = ofDays(183);
+
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("planExecutionId_lastUpdatedAt")
+                 .unique(false)
+                 .field(OrchestrationGraphDeltaKeys.planExecutionId)
+                 .field(OrchestrationGraphDeltaKeys.lastUpdatedAt)
+                 .build())
+        .build();
+  }
+
+  @Id @dev.morphia.annotations.Id String id;
+  String planExecutionId;
+  // lastUpdatedAt of the graph after applying the patch
+  long lastUpdatedAt;
+  byte[] patch;
+
+  @Builder.Default @FdTtlIndex Date validUntil = Date.from(OffsetDateTime.now().plus(TTL).toInstant());
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.internal.EdgeListInternal;
+import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+import io.harness.pms.contracts.execution.Status;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * The changes done to an {@link OrchestrationGraph} by one graph update: the vertices and edge lists that were added
+ * or updated, the ids of the removed ones, and the graph level fields.
+ */
+@OwnedBy(PIPELINE)
+@Value
+@Builder
+public class OrchestrationGraphPatch {
+  long lastUpdatedAt;
+  long version;
+  Long endTs;
+  Status status;
+  List<String> rootNodeIds;
+
+  Map<String, GraphVertex> graphVertices;
+  Map<String, EdgeListInternal> edges;
+  List<String> removedIds;
+
+  public OrchestrationGraph applyTo(OrchestrationGraph orchestrationGraph) {
+    OrchestrationAdjacencyListInternal adjacencyList = orchestrationGraph.getAdjacencyList();
+    for (String removedId : removedIds) {
+      adjacencyList.getGraphVertexMap().remove(removedId);
+      adjacencyList.getAdjacencyMap().remove(removedId);
+    }
+    adjacencyList.getGraphVertexMap().putAll(graphVertices);
+    adjacencyList.getAdjacencyMap().putAll(edges);
+    if (!orchestrationGraph.getRootNodeIds().equals(rootNodeIds)) {
+      orchestrationGraph.getRootNodeIds().clear();
+      orchestrationGraph.getRootNodeIds().addAll(rootNodeIds);
+    }
+    return orchestrationGraph.withEndTs(endTs).withStatus(status).withLastUpdatedAt(lastUpdatedAt).withVersion(version);
+  }
+}
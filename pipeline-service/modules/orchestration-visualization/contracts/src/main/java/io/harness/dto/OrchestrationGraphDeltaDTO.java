@@ -0,0 +1,52 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.dto;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.EdgeList;
+import io.harness.pms.contracts.execution.Status;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Changes of an execution graph since the version a client already has. The version of the cached graph changes with
+ * every change of the graph. When the changes cannot be computed from the given version the whole graph is sent
+ * instead.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Value
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrchestrationGraphDeltaDTO {
+  String planExecutionId;
+  long version;
+  Long fromVersion;
+
+  Long startTs;
+  Long endTs;
+  Status status;
+  List<String> rootNodeIds;
+
+  // Set only when the whole graph is sent
+  OrchestrationGraphDTO graph;
+
+  Map<String, GraphVertexDTO> updatedVertices;
+  Map<String, EdgeList> updatedEdges;
+  List<String> removedIds;
+
+  public boolean isFullGraph() {
+    return graph != null;
+  }
+}
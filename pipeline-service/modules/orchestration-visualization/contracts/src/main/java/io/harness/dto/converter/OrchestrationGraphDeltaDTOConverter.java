@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.dto.converter;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.EdgeList;
+import io.harness.dto.GraphVertexDTO;
+import io.harness.dto.OrchestrationGraphDTO;
+import io.harness.dto.OrchestrationGraphDeltaDTO;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.experimental.UtilityClass;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+@UtilityClass
+public class OrchestrationGraphDeltaDTOConverter {
+  public OrchestrationGraphDeltaDTO fullGraph(long version, Long fromVersion, OrchestrationGraphDTO graph) {
+    return OrchestrationGraphDeltaDTO.builder()
+        .planExecutionId(graph.getPlanExecutionId())
+        .version(version)
+        .fromVersion(fromVersion)
+        .startTs(graph.getStartTs())
+        .endTs(graph.getEndTs())
+        .status(graph.getStatus())
+        .rootNodeIds(graph.getRootNodeIds())
+        .graph(graph)
+        .build();
+  }
+
+  /**
+   * Compares the rendered graphs vertex by vertex, so the skipped vertices are already accounted for on both sides.
+   */
+  public OrchestrationGraphDeltaDTO diff(
+      long fromVersion, OrchestrationGraphDTO previous, long version, OrchestrationGraphDTO current) {
+    Map<String, GraphVertexDTO> previousVertices = previous.getAdjacencyList().getGraphVertexMap();
+    Map<String, GraphVertexDTO> currentVertices = current.getAdjacencyList().getGraphVertexMap();
+    Map<String, EdgeList> previousEdges = previous.getAdjacencyList().getAdjacencyMap();
+    Map<String, EdgeList> currentEdges = current.getAdjacencyList().getAdjacencyMap();
+
+    Map<String, GraphVertexDTO> updatedVertices = changedEntries(previousVertices, currentVertices);
+    Map<String, EdgeList> updatedEdges = changedEntries(previousEdges, currentEdges);
+    Set<String> removedIds = new HashSet<>(previousVertices.keySet());
+    removedIds.removeAll(currentVertices.keySet());
+    previousEdges.keySet().stream().filter(id -> !currentEdges.containsKey(id)).forEach(removedIds::add);
+
+    return OrchestrationGraphDeltaDTO.builder()
+        .planExecutionId(current.getPlanExecutionId())
+        .version(version)
+        .fromVersion(fromVersion)
+        .startTs(current.getStartTs())
+        .endTs(current.getEndTs())
+        .status(current.getStatus())
+        .rootNodeIds(current.getRootNodeIds())
+        .updatedVertices(updatedVertices)
+        .updatedEdges(updatedEdges)
+        .removedIds(new ArrayList<>(removedIds))
+        .build();
+  }
+
+  private <T> Map<String, T> changedEntries(Map<String, T> previous, Map<String, T> current) {
+    Map<String, T> changed = new HashMap<>();
+    for (Map.Entry<String, T> entry : current.entrySet()) {
+      if (!Objects.equals(previous.get(entry.getKey()), entry.getValue())) {
+        changed.put(entry.getKey(), entry.getValue());
+      }
+    }
+    return changed;
+  }
+}
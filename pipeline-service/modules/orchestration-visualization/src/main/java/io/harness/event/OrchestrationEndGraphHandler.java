@@ -53,7 +53,9 @@ public class OrchestrationEndGraphHandler implements AsyncInformObserver, Orches
       // Todo: Check if this is required
       OrchestrationGraph orchestrationGraph =
           graphGenerationService.getCachedOrchestrationGraph(ambiance.getPlanExecutionId());
-      orchestrationGraph = orchestrationGraph.withStatus(planExecution.getStatus()).withEndTs(planExecution.getEndTs());
+      orchestrationGraph = orchestrationGraph.withStatus(planExecution.getStatus())
+                               .withEndTs(planExecution.getEndTs())
+                               .withNextVersion();
       graphGenerationService.cacheOrchestrationGraph(orchestrationGraph);
     } catch (Exception e) {
       log.error("[GRAPH_ERROR] Cannot update Orchestration graph for ORCHESTRATION_END", e);
@@ -11,6 +11,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.OrchestrationGraph;
 import io.harness.dto.OrchestrationGraphDTO;
+import io.harness.dto.OrchestrationGraphDeltaDTO;
 import io.harness.execution.NodeExecution;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity;
 
@@ -27,6 +28,12 @@ public interface GraphGenerationService {
 
   OrchestrationGraphDTO generateOrchestrationGraphV2(String planExecutionId);
 
+  /**
+   * Changes of the graph since the given version, or the whole graph when they cannot be computed
+   * @param fromVersion version of the graph the client already has, null if it has none
+   */
+  OrchestrationGraphDeltaDTO generateOrchestrationGraphDelta(String planExecutionId, Long fromVersion);
+
   OrchestrationGraphDTO generatePartialOrchestrationGraphFromSetupNodeIdAndExecutionId(
       String startingSetupNodeId, String planExecutionId, String startingExecutionId);
   void sendUpdateEventIfAny(PipelineExecutionSummaryEntity executionSummaryEntity);
@@ -15,13 +15,17 @@ import io.harness.beans.EphemeralOrchestrationGraph;
 import io.harness.beans.GraphVertex;
 import io.harness.beans.OrchestrationEventLog;
 import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphPatch;
 import io.harness.beans.converter.EphemeralOrchestrationGraphConverter;
+import io.harness.beans.internal.EdgeListInternal;
 import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
 import io.harness.cache.SpringCacheEntity;
 import io.harness.cache.SpringMongoStore;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.dto.OrchestrationGraphDTO;
+import io.harness.dto.OrchestrationGraphDeltaDTO;
 import io.harness.dto.converter.OrchestrationGraphDTOConverter;
+import io.harness.dto.converter.OrchestrationGraphDeltaDTOConverter;
 import io.harness.engine.executions.node.NodeExecutionService;
 import io.harness.engine.executions.plan.PlanExecutionService;
 import io.harness.engine.utils.OrchestrationUtils;
@@ -39,6 +43,7 @@ import io.harness.lock.PersistentLocker;
 import io.harness.pms.contracts.execution.Status;
 import io.harness.pms.contracts.execution.events.OrchestrationEventType;
 import io.harness.pms.contracts.steps.StepCategory;
+import io.harness.pms.execution.utils.NodeProjectionUtils;
 import io.harness.pms.execution.utils.StatusUtils;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity.PlanExecutionSummaryKeys;
@@ -49,17 +54,23 @@ import io.harness.skip.service.VertexSkipperService;
 import io.harness.utils.PmsFeatureFlagService;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.query.Update;
@@ -72,10 +83,16 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
   public static final int THRESHOLD_LOG = 1000;
 
   private static final String GRAPH_LOCK = "GRAPH_LOCK_";
+  // Number of patches after which they are folded into the cached graph
+  private static final int MAX_PENDING_PATCHES = 50;
+  private static final int NODE_EXECUTIONS_BATCH_SIZE = 500;
+  private static final int MAX_RENDERED_GRAPHS = 200;
+  private static final long RENDERED_GRAPHS_EXPIRY_MINUTES = 10;
 
   @Inject private PlanExecutionService planExecutionService;
   @Inject private NodeExecutionService nodeExecutionService;
   @Inject private SpringMongoStore mongoStore;
+  @Inject private OrchestrationGraphDeltaStore orchestrationGraphDeltaStore;
   @Inject private OrchestrationAdjacencyListGenerator orchestrationAdjacencyListGenerator;
   @Inject private VertexSkipperService vertexSkipperService;
   @Inject private OrchestrationEventLogRepository orchestrationEventLogRepository;
@@ -87,6 +104,14 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
   @Inject private OrchestrationLogPublisher orchestrationLogPublisher;
   @Inject private PmsFeatureFlagService pmsFeatureFlagService;
 
+  // Rendered graphs by planExecutionId and version, shared by all the clients watching the same execution
+  private final Cache<String, OrchestrationGraphDTO> renderedGraphs =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_RENDERED_GRAPHS)
+          .expireAfterAccess(RENDERED_GRAPHS_EXPIRY_MINUTES, TimeUnit.MINUTES)
+          .softValues()
+          .build();
+
   @Override
   public boolean updateGraph(String planExecutionId) {
     String lockName = GRAPH_LOCK + planExecutionId;
@@ -131,17 +156,25 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
   // This must always be called after acquiring the lock
   @VisibleForTesting
   boolean updateGraphUnderLock(String planExecutionId) {
-    OrchestrationGraph orchestrationGraph = getCachedOrchestrationGraph(planExecutionId);
+    OrchestrationGraph orchestrationGraph =
+        mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
     if (orchestrationGraph == null) {
       log.warn("[PMS_GRAPH] Graph not yet generated. Passing on to next iteration");
       return true;
     }
-    return updateGraphUnderLock(orchestrationGraph);
+    List<OrchestrationGraphPatch> patches =
+        orchestrationGraphDeltaStore.getPatches(planExecutionId, orchestrationGraph.getLastUpdatedAt(), false);
+    return updateGraphUnderLock(applyPatches(orchestrationGraph, patches), patches.size());
   }
 
   // This must always be called after acquiring the lock
   @VisibleForTesting
   boolean updateGraphUnderLock(OrchestrationGraph orchestrationGraph) {
+    // The patches already applied to the graph are not known, write the whole graph
+    return updateGraphUnderLock(orchestrationGraph, MAX_PENDING_PATCHES);
+  }
+
+  private boolean updateGraphUnderLock(OrchestrationGraph orchestrationGraph, int pendingPatches) {
     if (orchestrationGraph == null) {
       return false;
     }
@@ -161,9 +194,13 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
       // Re-emit if there are too many logs
       shouldAck = false;
     }
+    Map<String, NodeExecution> nodeExecutionMap = fetchNodeExecutions(unprocessedEventLogs);
     boolean updateRequired = false;
     Update executionSummaryUpdate = new Update();
     Set<String> nodeExecutionIds = new HashSet<>();
+    // Ids of the vertices and edge lists that were added, updated or removed
+    Set<String> changedIds = new HashSet<>();
+    OrchestrationAdjacencyListInternal initialAdjacencyList = orchestrationGraph.getAdjacencyList();
     for (OrchestrationEventLog orchestrationEventLog : unprocessedEventLogs) {
       String nodeExecutionId = orchestrationEventLog.getNodeExecutionId();
       OrchestrationEventType orchestrationEventType = orchestrationEventLog.getOrchestrationEventType();
@@ -179,11 +216,13 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
         case STEP_DETAILS_UPDATE:
           orchestrationGraph = stepDetailsUpdateEventHandler.handleEvent(
               planExecutionId, nodeExecutionId, orchestrationGraph, executionSummaryUpdate);
+          changedIds.add(nodeExecutionId);
           updateRequired = true;
           break;
         case STEP_INPUTS_UPDATE:
           orchestrationGraph =
               stepDetailsUpdateEventHandler.handleStepInputEvent(planExecutionId, nodeExecutionId, orchestrationGraph);
+          changedIds.add(nodeExecutionId);
           updateRequired = true;
           break;
         default:
@@ -191,7 +230,11 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
             continue;
           }
           nodeExecutionIds.add(nodeExecutionId);
-          NodeExecution nodeExecution = nodeExecutionService.get(nodeExecutionId);
+          NodeExecution nodeExecution = nodeExecutionMap.get(nodeExecutionId);
+          if (nodeExecution == null) {
+            // Fails the update like before if the node execution does not exist
+            nodeExecution = nodeExecutionService.get(nodeExecutionId);
+          }
           if (nodeExecution.getStepType().getStepCategory() == StepCategory.STRATEGY) {
             log.info("Status" + nodeExecution.getStatus());
           }
@@ -201,10 +244,21 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
               || updateRequired;
           orchestrationGraph =
               graphStatusUpdateHelper.handleEventV2(planExecutionId, nodeExecution, orchestrationGraph);
+          addChangedIds(changedIds, orchestrationGraph, nodeExecution);
       }
     }
 
-    cachePartialOrchestrationGraph(orchestrationGraph.withLastUpdatedAt(lastUpdatedAt), lastUpdatedAt);
+    OrchestrationGraph updatedGraph = orchestrationGraph.withLastUpdatedAt(lastUpdatedAt).withNextVersion();
+    // A regenerated graph or an ended execution is written whole, so that reading it needs no patch
+    if (pendingPatches + 1 >= MAX_PENDING_PATCHES || updatedGraph.getAdjacencyList() != initialAdjacencyList
+        || StatusUtils.isFinalStatus(updatedGraph.getStatus())) {
+      cachePartialOrchestrationGraph(updatedGraph, lastUpdatedAt);
+      if (pendingPatches > 0) {
+        orchestrationGraphDeltaStore.deleteUpTo(planExecutionId, lastUpdatedAt);
+      }
+    } else {
+      orchestrationGraphDeltaStore.save(planExecutionId, createPatch(updatedGraph, changedIds));
+    }
     if (updateRequired) {
       executionSummaryUpdate.set(PlanExecutionSummaryKeys.lastUpdatedAt, lastUpdatedAt);
       pmsExecutionSummaryService.update(planExecutionId, executionSummaryUpdate);
@@ -214,20 +268,116 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
     return shouldAck;
   }
 
+  /**
+   * Fetches with a few queries the node executions of all the events that update a vertex from its node execution.
+   */
+  private Map<String, NodeExecution> fetchNodeExecutions(List<OrchestrationEventLog> eventLogs) {
+    Set<String> nodeExecutionIds = new LinkedHashSet<>();
+    for (OrchestrationEventLog eventLog : eventLogs) {
+      OrchestrationEventType eventType = eventLog.getOrchestrationEventType();
+      if (eventType != OrchestrationEventType.PLAN_EXECUTION_STATUS_UPDATE
+          && eventType != OrchestrationEventType.STEP_DETAILS_UPDATE
+          && eventType != OrchestrationEventType.STEP_INPUTS_UPDATE && eventLog.getNodeExecutionId() != null) {
+        nodeExecutionIds.add(eventLog.getNodeExecutionId());
+      }
+    }
+    Map<String, NodeExecution> nodeExecutionMap = new HashMap<>();
+    for (List<String> batch : Iterables.partition(nodeExecutionIds, NODE_EXECUTIONS_BATCH_SIZE)) {
+      List<NodeExecution> nodeExecutions =
+          nodeExecutionService.getAllWithFieldIncluded(new HashSet<>(batch), NodeProjectionUtils.fieldsForGraphUpdate);
+      nodeExecutions.forEach(nodeExecution -> nodeExecutionMap.put(nodeExecution.getUuid(), nodeExecution));
+    }
+    return nodeExecutionMap;
+  }
+
+  /**
+   * Adds the ids of the vertex of the node execution and of the vertices whose edges change when it is added or
+   * removed: its parent, the previous vertex, or the end of the chain it was appended to.
+   */
+  private static void addChangedIds(Set<String> changedIds, OrchestrationGraph graph, NodeExecution nodeExecution) {
+    changedIds.add(nodeExecution.getUuid());
+    if (EmptyPredicate.isNotEmpty(nodeExecution.getParentId())) {
+      changedIds.add(nodeExecution.getParentId());
+    }
+    if (EmptyPredicate.isNotEmpty(nodeExecution.getPreviousId())) {
+      changedIds.add(nodeExecution.getPreviousId());
+    }
+    EdgeListInternal edgeList = graph.getAdjacencyList().getAdjacencyMap().get(nodeExecution.getUuid());
+    if (edgeList != null && edgeList.getPrevIds() != null) {
+      changedIds.addAll(edgeList.getPrevIds());
+    }
+  }
+
+  private static OrchestrationGraphPatch createPatch(OrchestrationGraph graph, Set<String> changedIds) {
+    Map<String, GraphVertex> graphVertexMap = graph.getAdjacencyList().getGraphVertexMap();
+    Map<String, EdgeListInternal> adjacencyMap = graph.getAdjacencyList().getAdjacencyMap();
+    Map<String, GraphVertex> graphVertices = new HashMap<>();
+    Map<String, EdgeListInternal> edges = new HashMap<>();
+    List<String> removedIds = new ArrayList<>();
+    for (String id : changedIds) {
+      GraphVertex graphVertex = graphVertexMap.get(id);
+      EdgeListInternal edgeList = adjacencyMap.get(id);
+      if (graphVertex == null && edgeList == null) {
+        removedIds.add(id);
+        continue;
+      }
+      if (graphVertex != null) {
+        graphVertices.put(id, graphVertex);
+      }
+      if (edgeList != null) {
+        edges.put(id, edgeList);
+      }
+    }
+    return OrchestrationGraphPatch.builder()
+        .lastUpdatedAt(graph.getLastUpdatedAt())
+        .version(graph.getVersion())
+        .endTs(graph.getEndTs())
+        .status(graph.getStatus())
+        .rootNodeIds(new ArrayList<>(graph.getRootNodeIds()))
+        .graphVertices(graphVertices)
+        .edges(edges)
+        .removedIds(removedIds)
+        .build();
+  }
+
+  private static OrchestrationGraph applyPatches(
+      OrchestrationGraph orchestrationGraph, List<OrchestrationGraphPatch> patches) {
+    for (OrchestrationGraphPatch patch : patches) {
+      orchestrationGraph = patch.applyTo(orchestrationGraph);
+    }
+    return orchestrationGraph;
+  }
+
   @Override
   public OrchestrationGraph getCachedOrchestrationGraph(String planExecutionId) {
-    return mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    OrchestrationGraph orchestrationGraph =
+        mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    if (orchestrationGraph == null) {
+      return null;
+    }
+    return applyPatches(orchestrationGraph,
+        orchestrationGraphDeltaStore.getPatches(planExecutionId, orchestrationGraph.getLastUpdatedAt(), false));
   }
 
   @Override
   public OrchestrationGraph getCachedOrchestrationGraphFromSecondary(String planExecutionId) {
-    return mongoStore.getFromSecondary(
+    OrchestrationGraph orchestrationGraph = mongoStore.getFromSecondary(
         OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    if (orchestrationGraph == null) {
+      return null;
+    }
+    return applyPatches(orchestrationGraph,
+        orchestrationGraphDeltaStore.getPatches(planExecutionId, orchestrationGraph.getLastUpdatedAt(), true));
   }
 
   @Override
   public void cacheOrchestrationGraph(OrchestrationGraph orchestrationGraph) {
     mongoStore.upsert(orchestrationGraph, SpringCacheEntity.TTL);
+    if (orchestrationGraph.getPlanExecutionId() != null) {
+      // The patches of a previous graph do not apply to this one, their events are processed again if this graph is
+      // older than them
+      orchestrationGraphDeltaStore.deleteAll(Collections.singleton(orchestrationGraph.getPlanExecutionId()));
+    }
   }
 
   private void cachePartialOrchestrationGraph(OrchestrationGraph orchestrationGraph, long entityUpdatedAt) {
@@ -242,12 +392,53 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
     } else {
       sendUpdateEventIfAny(cachedOrchestrationGraph);
     }
+    return getRenderedOrchestrationGraph(cachedOrchestrationGraph);
+  }
+
+  @Override
+  public OrchestrationGraphDeltaDTO generateOrchestrationGraphDelta(String planExecutionId, Long fromVersion) {
+    OrchestrationGraph cachedOrchestrationGraph = getCachedOrchestrationGraphFromSecondary(planExecutionId);
+    if (cachedOrchestrationGraph == null) {
+      cachedOrchestrationGraph = buildOrchestrationGraph(planExecutionId);
+    } else {
+      sendUpdateEventIfAny(cachedOrchestrationGraph);
+    }
+    long version = cachedOrchestrationGraph.getVersion();
+    OrchestrationGraphDTO currentGraph = getRenderedOrchestrationGraph(cachedOrchestrationGraph);
+    OrchestrationGraphDTO previousGraph =
+        fromVersion == null ? null : renderedGraphs.getIfPresent(renderedGraphKey(planExecutionId, fromVersion));
+    if (previousGraph == null) {
+      // The client has no graph yet, or its version was never rendered or was evicted in this pod
+      return OrchestrationGraphDeltaDTOConverter.fullGraph(version, fromVersion, currentGraph);
+    }
+    return OrchestrationGraphDeltaDTOConverter.diff(fromVersion, previousGraph, version, currentGraph);
+  }
+
+  /**
+   * Renders the cached graph once per version. The rendered graphs must not be modified.
+   */
+  private OrchestrationGraphDTO getRenderedOrchestrationGraph(OrchestrationGraph cachedOrchestrationGraph) {
+    String key =
+        renderedGraphKey(cachedOrchestrationGraph.getPlanExecutionId(), cachedOrchestrationGraph.getVersion());
+    OrchestrationGraphDTO renderedGraph = renderedGraphs.getIfPresent(key);
+    if (renderedGraph == null) {
+      renderedGraph = renderOrchestrationGraph(cachedOrchestrationGraph);
+      renderedGraphs.put(key, renderedGraph);
+    }
+    return renderedGraph;
+  }
+
+  private OrchestrationGraphDTO renderOrchestrationGraph(OrchestrationGraph orchestrationGraph) {
     EphemeralOrchestrationGraph ephemeralOrchestrationGraph =
-        EphemeralOrchestrationGraphConverter.convertFrom(cachedOrchestrationGraph);
+        EphemeralOrchestrationGraphConverter.convertFrom(orchestrationGraph);
     vertexSkipperService.removeSkippedVertices(ephemeralOrchestrationGraph);
     return OrchestrationGraphDTOConverter.convertFrom(ephemeralOrchestrationGraph);
   }
 
+  private static String renderedGraphKey(String planExecutionId, long version) {
+    return planExecutionId + "/" + version;
+  }
+
   @Override
   public OrchestrationGraphDTO generatePartialOrchestrationGraphFromSetupNodeIdAndExecutionId(
       String startingSetupNodeId, String planExecutionId, String startingExecutionId) {
@@ -284,6 +475,7 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
       cacheEntities.add(graph);
     }
     mongoStore.delete(cacheEntities);
+    orchestrationGraphDeltaStore.deleteAll(planExecutionIds);
   }
 
   private void sendUpdateEventIfAny(OrchestrationGraph orchestrationGraph) {
@@ -320,7 +512,11 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
           "[GRAPH_ERROR]: Trying to build orchestration graph from scratch for planExecutionId [%s] with nodeExecutionsCount [%d]",
           planExecutionId, nodeExecutions.size()));
       if (isEmpty(nodeExecutions)) {
+        // Not cached, it keeps the same version until the graph of the first node executions is built
         return OrchestrationGraph.builder()
+            .cacheKey(planExecutionId)
+            .planExecutionId(planExecutionId)
+            .version(0)
             .adjacencyList(OrchestrationAdjacencyListInternal.builder()
                                .adjacencyMap(new HashMap<>())
                                .graphVertexMap(new HashMap<>())
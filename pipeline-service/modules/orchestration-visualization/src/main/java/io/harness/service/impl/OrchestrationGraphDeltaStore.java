@@ -0,0 +1,79 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.service.impl;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.OrchestrationGraphDelta;
+import io.harness.beans.OrchestrationGraphDelta.OrchestrationGraphDeltaKeys;
+import io.harness.beans.OrchestrationGraphPatch;
+import io.harness.mongo.helper.SecondaryMongoTemplateHolder;
+import io.harness.serializer.KryoSerializer;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Append only log of the {@link OrchestrationGraphPatch} of the execution graphs, stored next to the cached graphs.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Singleton
+public class OrchestrationGraphDeltaStore {
+  @Inject private MongoTemplate mongoTemplate;
+  @Inject private SecondaryMongoTemplateHolder secondaryMongoTemplateHolder;
+  @Inject private KryoSerializer kryoSerializer;
+
+  public void save(String planExecutionId, OrchestrationGraphPatch patch) {
+    mongoTemplate.insert(OrchestrationGraphDelta.builder()
+                             .planExecutionId(planExecutionId)
+                             .lastUpdatedAt(patch.getLastUpdatedAt())
+                             .patch(kryoSerializer.asDeflatedBytes(patch))
+                             .build());
+  }
+
+  /**
+   * @return the patches newer than the given lastUpdatedAt of the cached graph, in the order they must be applied
+   */
+  public List<OrchestrationGraphPatch> getPatches(String planExecutionId, long lastUpdatedAt, boolean fromSecondary) {
+    Query query = new Query(where(OrchestrationGraphDeltaKeys.planExecutionId)
+                                .is(planExecutionId)
+                                .and(OrchestrationGraphDeltaKeys.lastUpdatedAt)
+                                .gt(lastUpdatedAt))
+                      .with(Sort.by(Sort.Direction.ASC, OrchestrationGraphDeltaKeys.lastUpdatedAt));
+    MongoTemplate template = fromSecondary ? secondaryMongoTemplateHolder.getSecondaryMongoTemplate() : mongoTemplate;
+    List<OrchestrationGraphPatch> patches = new ArrayList<>();
+    for (OrchestrationGraphDelta delta : template.find(query, OrchestrationGraphDelta.class)) {
+      patches.add((OrchestrationGraphPatch) kryoSerializer.asInflatedObject(delta.getPatch()));
+    }
+    return patches;
+  }
+
+  /**
+   * Deletes the patches already folded into a cached graph with the given lastUpdatedAt.
+   */
+  public void deleteUpTo(String planExecutionId, long lastUpdatedAt) {
+    mongoTemplate.remove(new Query(where(OrchestrationGraphDeltaKeys.planExecutionId)
+                                       .is(planExecutionId)
+                                       .and(OrchestrationGraphDeltaKeys.lastUpdatedAt)
+                                       .lte(lastUpdatedAt)),
+        OrchestrationGraphDelta.class);
+  }
+
+  public void deleteAll(Set<String> planExecutionIds) {
+    mongoTemplate.remove(new Query(where(OrchestrationGraphDeltaKeys.planExecutionId).in(planExecutionIds)),
+        OrchestrationGraphDelta.class);
+  }
+}
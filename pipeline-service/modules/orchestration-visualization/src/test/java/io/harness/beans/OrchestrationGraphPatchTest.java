@@ -0,0 +1,74 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static io.harness.rule.OwnerRule.ARCHIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.beans.internal.EdgeListInternal;
+import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+import io.harness.category.element.UnitTests;
+import io.harness.pms.contracts.execution.Status;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class OrchestrationGraphPatchTest extends CategoryTest {
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testApplyTo() {
+    Map<String, GraphVertex> graphVertexMap = new HashMap<>();
+    graphVertexMap.put("root", GraphVertex.builder().uuid("root").status(Status.RUNNING).build());
+    graphVertexMap.put("old", GraphVertex.builder().uuid("old").status(Status.FAILED).build());
+    Map<String, EdgeListInternal> adjacencyMap = new HashMap<>();
+    adjacencyMap.put("root", EdgeListInternal.builder().edges(Lists.newArrayList("old")).build());
+    adjacencyMap.put("old", EdgeListInternal.builder().parentId("root").build());
+    OrchestrationAdjacencyListInternal adjacencyList =
+        OrchestrationAdjacencyListInternal.builder().graphVertexMap(graphVertexMap).adjacencyMap(adjacencyMap).build();
+    OrchestrationGraph graph = OrchestrationGraph.builder()
+                                   .planExecutionId("planExecutionId")
+                                   .status(Status.RUNNING)
+                                   .lastUpdatedAt(10)
+                                   .rootNodeIds(new ArrayList<>())
+                                   .adjacencyList(adjacencyList)
+                                   .build();
+
+    OrchestrationGraphPatch patch =
+        OrchestrationGraphPatch.builder()
+            .lastUpdatedAt(20)
+            .version(40)
+            .endTs(30L)
+            .status(Status.SUCCEEDED)
+            .rootNodeIds(Lists.newArrayList("root"))
+            .graphVertices(ImmutableMap.of("new", GraphVertex.builder().uuid("new").status(Status.SUCCEEDED).build()))
+            .edges(ImmutableMap.of("root", EdgeListInternal.builder().edges(Lists.newArrayList("new")).build(), "new",
+                EdgeListInternal.builder().parentId("root").build()))
+            .removedIds(Collections.singletonList("old"))
+            .build();
+    OrchestrationGraph patchedGraph = patch.applyTo(graph);
+
+    assertThat(patchedGraph.getLastUpdatedAt()).isEqualTo(20);
+    assertThat(patchedGraph.getVersion()).isEqualTo(40);
+    assertThat(patchedGraph.getEndTs()).isEqualTo(30L);
+    assertThat(patchedGraph.getStatus()).isEqualTo(Status.SUCCEEDED);
+    assertThat(patchedGraph.getRootNodeIds()).containsExactly("root");
+    assertThat(patchedGraph.getAdjacencyList().getGraphVertexMap()).containsOnlyKeys("root", "new");
+    assertThat(patchedGraph.getAdjacencyList().getAdjacencyMap()).containsOnlyKeys("root", "new");
+    assertThat(patchedGraph.getAdjacencyList().getAdjacencyMap().get("root").getEdges()).containsExactly("new");
+  }
+}
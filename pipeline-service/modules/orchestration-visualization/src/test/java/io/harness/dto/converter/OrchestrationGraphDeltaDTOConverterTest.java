@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.dto.converter;
+
+import static io.harness.rule.OwnerRule.ARCHIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.EdgeList;
+import io.harness.category.element.UnitTests;
+import io.harness.dto.GraphVertexDTO;
+import io.harness.dto.OrchestrationAdjacencyListDTO;
+import io.harness.dto.OrchestrationGraphDTO;
+import io.harness.dto.OrchestrationGraphDeltaDTO;
+import io.harness.pms.contracts.execution.Status;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.util.Collections;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class OrchestrationGraphDeltaDTOConverterTest extends CategoryTest {
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testDiff() {
+    OrchestrationGraphDTO previous = graph(Status.RUNNING,
+        ImmutableMap.of("root", vertex("root", Status.RUNNING), "first", vertex("first", Status.RUNNING), "old",
+            vertex("old", Status.RUNNING)),
+        ImmutableMap.of("root", edges("first", "old"), "first", edges(), "old", edges()));
+    OrchestrationGraphDTO current = graph(Status.SUCCEEDED,
+        ImmutableMap.of("root", vertex("root", Status.RUNNING), "first", vertex("first", Status.SUCCEEDED), "new",
+            vertex("new", Status.RUNNING)),
+        ImmutableMap.of("root", edges("first", "new"), "first", edges(), "new", edges()));
+
+    OrchestrationGraphDeltaDTO delta = OrchestrationGraphDeltaDTOConverter.diff(10, previous, 20, current);
+
+    assertThat(delta.isFullGraph()).isFalse();
+    assertThat(delta.getFromVersion()).isEqualTo(10L);
+    assertThat(delta.getVersion()).isEqualTo(20);
+    assertThat(delta.getStatus()).isEqualTo(Status.SUCCEEDED);
+    assertThat(delta.getUpdatedVertices()).containsOnlyKeys("first", "new");
+    assertThat(delta.getUpdatedEdges()).containsOnlyKeys("root", "new");
+    assertThat(delta.getRemovedIds()).containsExactly("old");
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testFullGraph() {
+    OrchestrationGraphDTO graph = graph(
+        Status.RUNNING, ImmutableMap.of("root", vertex("root", Status.RUNNING)), ImmutableMap.of("root", edges()));
+
+    OrchestrationGraphDeltaDTO delta = OrchestrationGraphDeltaDTOConverter.fullGraph(20, null, graph);
+
+    assertThat(delta.isFullGraph()).isTrue();
+    assertThat(delta.getGraph()).isSameAs(graph);
+    assertThat(delta.getUpdatedVertices()).isNull();
+  }
+
+  private OrchestrationGraphDTO graph(
+      Status status, ImmutableMap<String, GraphVertexDTO> vertices, ImmutableMap<String, EdgeList> edges) {
+    return OrchestrationGraphDTO.builder()
+        .planExecutionId("planExecutionId")
+        .status(status)
+        .rootNodeIds(Collections.singletonList("root"))
+        .adjacencyList(OrchestrationAdjacencyListDTO.builder().graphVertexMap(vertices).adjacencyMap(edges).build())
+        .build();
+  }
+
+  private GraphVertexDTO vertex(String uuid, Status status) {
+    return GraphVertexDTO.builder().uuid(uuid).status(status).build();
+  }
+
+  private EdgeList edges(String... children) {
+    return EdgeList.builder().edges(Lists.newArrayList(children)).nextIds(Collections.emptyList()).build();
+  }
+}
@@ -14,8 +14,13 @@ import static io.harness.rule.OwnerRule.SHALINI;
 
 import static junit.framework.TestCase.assertTrue;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.joor.Reflect.on;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -30,6 +35,7 @@ import io.harness.cache.SpringCacheEntity;
 import io.harness.cache.SpringMongoStore;
 import io.harness.category.element.UnitTests;
 import io.harness.dto.OrchestrationGraphDTO;
+import io.harness.dto.OrchestrationGraphDeltaDTO;
 import io.harness.engine.events.OrchestrationEventEmitter;
 import io.harness.engine.executions.node.NodeExecutionService;
 import io.harness.engine.executions.plan.PlanExecutionMetadataService;
@@ -46,6 +52,7 @@ import io.harness.pms.contracts.execution.events.OrchestrationEventType;
 import io.harness.pms.contracts.steps.SkipType;
 import io.harness.pms.contracts.steps.StepCategory;
 import io.harness.pms.contracts.steps.StepType;
+import io.harness.pms.execution.utils.NodeProjectionUtils;
 import io.harness.repositories.orchestrationEventLog.OrchestrationEventLogRepository;
 import io.harness.rule.Owner;
 import io.harness.service.GraphGenerationService;
@@ -64,6 +71,7 @@ import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -81,6 +89,7 @@ public class GraphGenerationServiceImplTest extends OrchestrationVisualizationTe
   @Mock private OrchestrationEventEmitter eventEmitter;
   @Mock private PlanExecutionMetadataService planExecutionMetadataService;
   @Inject @InjectMocks GraphGenerationServiceImpl graphGenerationServiceImpl;
+  @Inject private OrchestrationGraphDeltaStore orchestrationGraphDeltaStore;
 
   @Before
   public void setup() {
@@ -312,4 +321,204 @@ public class GraphGenerationServiceImplTest extends OrchestrationVisualizationTe
                                                                                .build())
                                                             .build()));
   }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testPatchedGraphEqualsWholeGraphWrite() {
+    String planExecutionId = generateUuid();
+    doReturn(startEventLogs(planExecutionId))
+        .when(orchestrationEventLogRepository)
+        .findUnprocessedEvents(planExecutionId, 1222L, 1000);
+
+    OrchestrationGraph initialGraph = initialGraph(planExecutionId);
+    mongoStore.upsert(initialGraph, SpringCacheEntity.TTL);
+    assertTrue(graphGenerationServiceImpl.updateGraphUnderLock(planExecutionId));
+    assertThat(orchestrationGraphDeltaStore.getPatches(planExecutionId, 1222L, false)).hasSize(1);
+    OrchestrationGraph patchedGraph = graphGenerationServiceImpl.getCachedOrchestrationGraph(planExecutionId);
+    assertThat(patchedGraph.getVersion()).isGreaterThan(initialGraph.getVersion());
+
+    assertTrue(graphGenerationServiceImpl.updateGraphUnderLock(initialGraph(planExecutionId)));
+    assertThat(orchestrationGraphDeltaStore.getPatches(planExecutionId, 1222L, false)).isEmpty();
+    OrchestrationGraph wholeGraph = graphGenerationServiceImpl.getCachedOrchestrationGraph(planExecutionId);
+
+    assertThat(patchedGraph.getLastUpdatedAt()).isEqualTo(1550L).isEqualTo(wholeGraph.getLastUpdatedAt());
+    assertThat(patchedGraph.getRootNodeIds()).isEqualTo(wholeGraph.getRootNodeIds());
+    assertThat(patchedGraph.getStatus()).isEqualTo(wholeGraph.getStatus());
+    assertThat(patchedGraph.getAdjacencyList().getGraphVertexMap()).hasSize(1);
+    assertThat(patchedGraph.getAdjacencyList()).usingRecursiveComparison().isEqualTo(wholeGraph.getAdjacencyList());
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testCacheOrchestrationGraphDeletesAllPatches() {
+    String planExecutionId = generateUuid();
+    doReturn(startEventLogs(planExecutionId))
+        .when(orchestrationEventLogRepository)
+        .findUnprocessedEvents(planExecutionId, 1222L, 1000);
+    mongoStore.upsert(initialGraph(planExecutionId), SpringCacheEntity.TTL);
+    assertTrue(graphGenerationServiceImpl.updateGraphUnderLock(planExecutionId));
+    assertThat(orchestrationGraphDeltaStore.getPatches(planExecutionId, 0L, false)).hasSize(1);
+
+    // A regenerated graph may be older than the patches
+    graphGenerationServiceImpl.cacheOrchestrationGraph(initialGraph(planExecutionId).withLastUpdatedAt(0L));
+
+    assertThat(orchestrationGraphDeltaStore.getPatches(planExecutionId, 0L, false)).isEmpty();
+    OrchestrationGraph cachedGraph = graphGenerationServiceImpl.getCachedOrchestrationGraph(planExecutionId);
+    assertThat(cachedGraph.getLastUpdatedAt()).isEqualTo(0L);
+    assertThat(cachedGraph.getAdjacencyList().getGraphVertexMap()).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testGraphDeltaAfterGraphChangeWithoutEventLogs() {
+    String planExecutionId = generateUuid();
+    graphGenerationServiceImpl.cacheOrchestrationGraph(initialGraph(planExecutionId).withStatus(Status.SUCCEEDED));
+    OrchestrationGraphDeltaDTO initialDelta =
+        graphGenerationService.generateOrchestrationGraphDelta(planExecutionId, null);
+    assertThat(initialDelta.isFullGraph()).isTrue();
+
+    // As done at the end of the execution, which changes the graph without moving its lastUpdatedAt
+    OrchestrationGraph cachedGraph = graphGenerationServiceImpl.getCachedOrchestrationGraph(planExecutionId);
+    graphGenerationServiceImpl.cacheOrchestrationGraph(
+        cachedGraph.withStatus(Status.SUCCEEDED).withEndTs(1600L).withNextVersion());
+    OrchestrationGraphDeltaDTO delta =
+        graphGenerationService.generateOrchestrationGraphDelta(planExecutionId, initialDelta.getVersion());
+
+    assertThat(delta.getVersion()).isGreaterThan(initialDelta.getVersion());
+    assertThat(delta.isFullGraph()).isFalse();
+    assertThat(delta.getStatus()).isEqualTo(Status.SUCCEEDED);
+    assertThat(delta.getEndTs()).isEqualTo(1600L);
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testGraphDeltaOfExecutionWithoutNodeExecutions() {
+    PlanExecution planExecution = planExecutionService.save(PlanExecution.builder().build());
+
+    OrchestrationGraphDeltaDTO initialDelta =
+        graphGenerationService.generateOrchestrationGraphDelta(planExecution.getUuid(), null);
+    OrchestrationGraphDeltaDTO delta =
+        graphGenerationService.generateOrchestrationGraphDelta(planExecution.getUuid(), initialDelta.getVersion());
+
+    assertThat(initialDelta.getPlanExecutionId()).isEqualTo(planExecution.getUuid());
+    assertThat(initialDelta.isFullGraph()).isTrue();
+    assertThat(delta.getVersion()).isEqualTo(initialDelta.getVersion());
+    assertThat(delta.isFullGraph()).isFalse();
+    assertThat(delta.getUpdatedVertices()).isEmpty();
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testUpdateGraphUnderLockFetchesNodeExecutionsInBatches() {
+    String planExecutionId = generateUuid();
+    List<String> nodeExecutionIds = new ArrayList<>();
+    List<OrchestrationEventLog> eventLogs = new ArrayList<>();
+    for (int i = 0; i < 600; i++) {
+      String nodeExecutionId = generateUuid();
+      nodeExecutionService.save(
+          NodeExecution.builder()
+              .uuid(nodeExecutionId)
+              .previousId(i == 0 ? null : nodeExecutionIds.get(i - 1))
+              .name("name" + i)
+              .identifier("identifier" + i)
+              .nodeId("setup" + i)
+              .mode(ExecutionMode.SYNC)
+              .stepType(StepType.newBuilder().setType("DUMMY").setStepCategory(StepCategory.STEP).build())
+              .status(Status.RUNNING)
+              .ambiance(Ambiance.newBuilder()
+                            .setPlanExecutionId(planExecutionId)
+                            .addLevels(Level.newBuilder()
+                                           .setSetupId("setup" + i)
+                                           .setIdentifier("identifier" + i)
+                                           .setNodeType(NodeType.PLAN_NODE.toString())
+                                           .setStepType(StepType.newBuilder().setType("DUMMY").build())
+                                           .build())
+                            .build())
+              .module("cd")
+              .resolvedStepParameters(new HashMap<>())
+              .build());
+      nodeExecutionIds.add(nodeExecutionId);
+      eventLogs.add(OrchestrationEventLog.builder()
+                        .planExecutionId(planExecutionId)
+                        .nodeExecutionId(nodeExecutionId)
+                        .orchestrationEventType(OrchestrationEventType.NODE_EXECUTION_STATUS_UPDATE)
+                        .createdAt(1550L + i)
+                        .build());
+    }
+    doReturn(eventLogs).when(orchestrationEventLogRepository).findUnprocessedEvents(planExecutionId, 1222L, 1000);
+    NodeExecutionService nodeExecutionServiceSpy = spy(nodeExecutionService);
+    on(graphGenerationServiceImpl).set("nodeExecutionService", nodeExecutionServiceSpy);
+
+    try {
+      assertTrue(graphGenerationServiceImpl.updateGraphUnderLock(initialGraph(planExecutionId)));
+    } finally {
+      on(graphGenerationServiceImpl).set("nodeExecutionService", nodeExecutionService);
+    }
+
+    ArgumentCaptor<Set<String>> batches = ArgumentCaptor.forClass(Set.class);
+    verify(nodeExecutionServiceSpy, times(2))
+        .getAllWithFieldIncluded(batches.capture(), eq(NodeProjectionUtils.fieldsForGraphUpdate));
+    assertThat(batches.getAllValues().get(0)).containsExactlyInAnyOrderElementsOf(nodeExecutionIds.subList(0, 500));
+    assertThat(batches.getAllValues().get(1)).containsExactlyInAnyOrderElementsOf(nodeExecutionIds.subList(500, 600));
+    verify(nodeExecutionServiceSpy, never()).get(anyString());
+
+    OrchestrationGraph graph = graphGenerationServiceImpl.getCachedOrchestrationGraph(planExecutionId);
+    assertThat(graph.getLastUpdatedAt()).isEqualTo(1550L + 599);
+    assertThat(graph.getRootNodeIds()).containsExactly(nodeExecutionIds.get(0));
+    Map<String, GraphVertex> graphVertexMap = graph.getAdjacencyList().getGraphVertexMap();
+    assertThat(graphVertexMap).hasSize(600);
+    for (int i = 0; i < 600; i++) {
+      GraphVertex graphVertex = graphVertexMap.get(nodeExecutionIds.get(i));
+      assertThat(graphVertex.getName()).isEqualTo("name" + i);
+      assertThat(graphVertex.getIdentifier()).isEqualTo("identifier" + i);
+      assertThat(graphVertex.getPlanNodeId()).isEqualTo("setup" + i);
+      assertThat(graphVertex.getStepType()).isEqualTo("DUMMY");
+      assertThat(graphVertex.getStatus()).isEqualTo(Status.RUNNING);
+      assertThat(graphVertex.getMode()).isEqualTo(ExecutionMode.SYNC);
+    }
+    assertThat(graph.getAdjacencyList().getAdjacencyMap().get(nodeExecutionIds.get(0)).getNextIds())
+        .containsExactly(nodeExecutionIds.get(1));
+    assertThat(graph.getAdjacencyList().getAdjacencyMap().get(nodeExecutionIds.get(599)).getPrevIds())
+        .containsExactly(nodeExecutionIds.get(598));
+  }
+
+  private List<OrchestrationEventLog> startEventLogs(String planExecutionId) {
+    String nodeExecutionId = generateUuid();
+    nodeExecutionService.save(
+        NodeExecution.builder()
+            .uuid(nodeExecutionId)
+            .stepType(StepType.newBuilder().setStepCategory(StepCategory.STEP).build())
+            .status(Status.SUCCEEDED)
+            .ambiance(Ambiance.newBuilder()
+                          .setPlanExecutionId(planExecutionId)
+                          .addLevels(Level.newBuilder().setNodeType(NodeType.PLAN_NODE.toString()).build())
+                          .build())
+            .module("cd")
+            .resolvedStepParameters(new HashMap<>())
+            .build());
+    return Collections.singletonList(OrchestrationEventLog.builder()
+                                         .planExecutionId(planExecutionId)
+                                         .nodeExecutionId(nodeExecutionId)
+                                         .orchestrationEventType(OrchestrationEventType.NODE_EXECUTION_START)
+                                         .createdAt(1550L)
+                                         .build());
+  }
+
+  private static OrchestrationGraph initialGraph(String planExecutionId) {
+    return OrchestrationGraph.builder()
+        .cacheKey(planExecutionId)
+        .planExecutionId(planExecutionId)
+        .rootNodeIds(new ArrayList<>())
+        .lastUpdatedAt(1222L)
+        .adjacencyList(OrchestrationAdjacencyListInternal.builder()
+                           .adjacencyMap(new HashMap<>())
+                           .graphVertexMap(new HashMap<>())
+                           .build())
+        .build();
+  }
 }
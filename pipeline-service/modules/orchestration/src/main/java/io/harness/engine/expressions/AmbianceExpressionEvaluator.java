@@ -94,6 +94,7 @@ public class AmbianceExpressionEvaluator extends EngineExpressionEvaluator {
   @Inject private NodeExecutionService nodeExecutionService;
   @Inject private PlanExecutionService planExecutionService;
   @Inject private PlanService planService;
+  @Inject private ExecutionNodeExecutionsCache executionNodeExecutionsCache;
   @Inject private InputSetValidatorFactory inputSetValidatorFactory;
 
   @Inject private PlanExpansionService planExpansionService;
@@ -170,7 +171,8 @@ public class AmbianceExpressionEvaluator extends EngineExpressionEvaluator {
       return;
     }
 
-    nodeExecutionsCache = new NodeExecutionsCache(nodeExecutionService, planService, ambiance);
+    nodeExecutionsCache =
+        new NodeExecutionsCache(nodeExecutionService, planService, ambiance, executionNodeExecutionsCache);
     // Access StepParameters and Outcomes of self and children.
     addToContext("child",
         NodeExecutionChildFunctor.builder()
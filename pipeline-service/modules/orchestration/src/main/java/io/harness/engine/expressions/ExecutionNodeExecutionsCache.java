@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.engine.expressions;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.data.structure.EmptyPredicate;
+import io.harness.engine.observers.NodeStatusUpdateObserver;
+import io.harness.engine.observers.NodeUpdateInfo;
+import io.harness.execution.NodeExecution;
+import io.harness.plan.Node;
+import io.harness.pms.execution.utils.StatusUtils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Node executions and plan nodes shared by all the expression evaluators of a plan execution in this pod, on top of
+ * the per evaluator {@link NodeExecutionsCache}.
+ *
+ * Only the node executions that will not change anymore are kept: the ones that ended positively and the ones that
+ * were retried. The other final statuses can still move, for example with a mark as success or a retry interrupt, and
+ * such an update may happen in another pod, so they are always read from mongo. Children lists are kept only when the
+ * parent and all the children will not change. Plan nodes never change.
+ *
+ * The executions are dropped when they end, and evicted when not used for a while, when there are too many of them,
+ * or when the memory is low.
+ */
+@OwnedBy(PIPELINE)
+@Singleton
+public class ExecutionNodeExecutionsCache implements NodeStatusUpdateObserver {
+  private static final int MAX_EXECUTIONS = 500;
+  private static final int MAX_ENTRIES_PER_EXECUTION = 5000;
+  private static final long EXPIRE_AFTER_ACCESS_MINUTES = 30;
+
+  private final Cache<String, ExecutionScope> executions =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_EXECUTIONS)
+          .expireAfterAccess(EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES)
+          .softValues()
+          .build();
+
+  public NodeExecution getNodeExecution(String planExecutionId, String nodeExecutionId) {
+    ExecutionScope scope = executions.getIfPresent(planExecutionId);
+    return scope == null ? null : scope.nodeExecutions.get(nodeExecutionId);
+  }
+
+  public void putNodeExecution(String planExecutionId, NodeExecution nodeExecution) {
+    if (nodeExecution != null && isImmutable(nodeExecution)) {
+      ExecutionScope scope = obtainScope(planExecutionId);
+      if (scope.hasRoom()) {
+        scope.nodeExecutions.put(nodeExecution.getUuid(), nodeExecution);
+      }
+    }
+  }
+
+  /**
+   * @return the ids of the children of the parent, null if they are not known
+   */
+  public List<String> getChildrenIds(String planExecutionId, String parentId) {
+    ExecutionScope scope = executions.getIfPresent(planExecutionId);
+    return scope == null ? null : scope.childrenIds.get(parentId);
+  }
+
+  /**
+   * Keeps the children of a parent if none of them can change anymore. No new child can show up under a parent that
+   * will not change, so the parent itself must already be in the cache.
+   */
+  public void putChildren(String planExecutionId, String parentId, List<NodeExecution> children) {
+    if (parentId == null || getNodeExecution(planExecutionId, parentId) == null
+        || !children.stream().allMatch(ExecutionNodeExecutionsCache::isImmutable)) {
+      return;
+    }
+    ExecutionScope scope = obtainScope(planExecutionId);
+    if (!scope.hasRoom()) {
+      return;
+    }
+    children.forEach(child -> scope.nodeExecutions.put(child.getUuid(), child));
+    scope.childrenIds.put(parentId, children.stream().map(NodeExecution::getUuid).collect(Collectors.toList()));
+  }
+
+  public Node getNode(String planExecutionId, String planId, String nodeId) {
+    ExecutionScope scope = executions.getIfPresent(planExecutionId);
+    return scope == null ? null : scope.nodes.get(planId + "/" + nodeId);
+  }
+
+  public void putNode(String planExecutionId, String planId, String nodeId, Node node) {
+    if (node != null) {
+      ExecutionScope scope = obtainScope(planExecutionId);
+      if (scope.hasRoom()) {
+        scope.nodes.put(planId + "/" + nodeId, node);
+      }
+    }
+  }
+
+  @Override
+  public void onNodeStatusUpdate(NodeUpdateInfo nodeUpdateInfo) {
+    NodeExecution nodeExecution = nodeUpdateInfo.getNodeExecution();
+    if (nodeExecution.getAmbiance() == null) {
+      return;
+    }
+    String planExecutionId = nodeUpdateInfo.getPlanExecutionId();
+    if (nodeExecution.getParentId() == null && StatusUtils.isFinalStatus(nodeExecution.getStatus())) {
+      // The execution has ended, its expressions are not evaluated anymore
+      executions.invalidate(planExecutionId);
+      return;
+    }
+    ExecutionScope scope = executions.getIfPresent(planExecutionId);
+    if (scope == null) {
+      return;
+    }
+    // Cached entries should not change, this only guards against transitions not known here
+    scope.nodeExecutions.remove(nodeExecution.getUuid());
+    if (nodeExecution.getParentId() != null) {
+      scope.childrenIds.remove(nodeExecution.getParentId());
+    }
+    if (EmptyPredicate.isNotEmpty(nodeExecution.getRetryIds())) {
+      nodeExecution.getRetryIds().forEach(scope.nodeExecutions::remove);
+    }
+  }
+
+  private ExecutionScope obtainScope(String planExecutionId) {
+    ExecutionScope scope = executions.getIfPresent(planExecutionId);
+    if (scope == null) {
+      scope = executions.asMap().computeIfAbsent(planExecutionId, id -> new ExecutionScope());
+    }
+    return scope;
+  }
+
+  private static boolean isImmutable(NodeExecution nodeExecution) {
+    return Boolean.TRUE.equals(nodeExecution.getOldRetry())
+        || (StatusUtils.isFinalStatus(nodeExecution.getStatus())
+            && StatusUtils.positiveStatuses().contains(nodeExecution.getStatus()));
+  }
+
+  private static class ExecutionScope {
+    private final Map<String, NodeExecution> nodeExecutions = new ConcurrentHashMap<>();
+    private final Map<String, List<String>> childrenIds = new ConcurrentHashMap<>();
+    private final Map<String, Node> nodes = new ConcurrentHashMap<>();
+
+    private boolean hasRoom() {
+      return nodeExecutions.size() + childrenIds.size() + nodes.size() < MAX_ENTRIES_PER_EXECUTION;
+    }
+  }
+}
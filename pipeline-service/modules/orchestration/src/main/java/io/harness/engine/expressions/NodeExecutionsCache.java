@@ -42,12 +42,20 @@ public class NodeExecutionsCache {
   Map<String, NodeExecution> map;
   Map<String, List<String>> childrenMap;
   Map<String, Node> nodeMap;
+  // Shared with the other evaluators of the execution, may be null
+  ExecutionNodeExecutionsCache executionCache;
 
-  @Builder
   public NodeExecutionsCache(NodeExecutionService nodeExecutionService, PlanService planService, Ambiance ambiance) {
+    this(nodeExecutionService, planService, ambiance, null);
+  }
+
+  @Builder
+  public NodeExecutionsCache(NodeExecutionService nodeExecutionService, PlanService planService, Ambiance ambiance,
+      ExecutionNodeExecutionsCache executionCache) {
     this.nodeExecutionService = nodeExecutionService;
     this.planService = planService;
     this.ambiance = ambiance;
+    this.executionCache = executionCache;
     this.nodeMap = new HashMap<>();
     this.map = new HashMap<>();
     this.childrenMap = new HashMap<>();
@@ -62,7 +70,14 @@ public class NodeExecutionsCache {
     }
 
     NodeExecution nodeExecution =
-        nodeExecutionService.getWithFieldsIncluded(nodeExecutionId, NodeProjectionUtils.fieldsForExpressionEngine);
+        executionCache == null ? null : executionCache.getNodeExecution(ambiance.getPlanExecutionId(), nodeExecutionId);
+    if (nodeExecution == null) {
+      nodeExecution =
+          nodeExecutionService.getWithFieldsIncluded(nodeExecutionId, NodeProjectionUtils.fieldsForExpressionEngine);
+      if (executionCache != null) {
+        executionCache.putNodeExecution(ambiance.getPlanExecutionId(), nodeExecution);
+      }
+    }
     map.put(nodeExecutionId, nodeExecution);
     return nodeExecution;
   }
@@ -88,6 +103,26 @@ public class NodeExecutionsCache {
       return ids.stream().map(map::get).filter(Objects::nonNull).collect(Collectors.toList());
     }
 
+    List<String> sharedChildrenIds =
+        executionCache == null ? null : executionCache.getChildrenIds(ambiance.getPlanExecutionId(), parentId);
+    if (sharedChildrenIds != null) {
+      List<NodeExecution> sharedChildren = new LinkedList<>();
+      for (String childId : sharedChildrenIds) {
+        NodeExecution child = executionCache.getNodeExecution(ambiance.getPlanExecutionId(), childId);
+        if (child == null) {
+          // Dropped concurrently, read all of them again
+          sharedChildren = null;
+          break;
+        }
+        sharedChildren.add(child);
+      }
+      if (sharedChildren != null) {
+        sharedChildren.forEach(child -> map.put(child.getUuid(), child));
+        childrenMap.put(childrenMapKey, sharedChildrenIds);
+        return sharedChildren;
+      }
+    }
+
     List<NodeExecution> childExecutions = new LinkedList<>();
     try (CloseableIterator<NodeExecution> iterator = nodeExecutionService.fetchChildrenNodeExecutionsIterator(
              ambiance.getPlanExecutionId(), parentId, NodeProjectionUtils.fieldsForExpressionEngine)) {
@@ -102,6 +137,9 @@ public class NodeExecutionsCache {
 
     childExecutions.forEach(childExecution -> map.put(childExecution.getUuid(), childExecution));
     childrenMap.put(parentId, childExecutions.stream().map(NodeExecution::getUuid).collect(Collectors.toList()));
+    if (executionCache != null) {
+      executionCache.putChildren(ambiance.getPlanExecutionId(), parentId, childExecutions);
+    }
     return childExecutions;
   }
 
@@ -124,7 +162,15 @@ public class NodeExecutionsCache {
       return nodeMap.get(nodeId);
     }
 
-    Node node = planService.fetchNode(ambiance.getPlanId(), nodeId);
+    Node node = executionCache == null
+        ? null
+        : executionCache.getNode(ambiance.getPlanExecutionId(), ambiance.getPlanId(), nodeId);
+    if (node == null) {
+      node = planService.fetchNode(ambiance.getPlanId(), nodeId);
+      if (executionCache != null) {
+        executionCache.putNode(ambiance.getPlanExecutionId(), ambiance.getPlanId(), nodeId, node);
+      }
+    }
     nodeMap.put(nodeId, node);
     return node;
   }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.engine.expressions;
+
+import static io.harness.rule.OwnerRule.ARCHIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.engine.executions.node.NodeExecutionService;
+import io.harness.engine.executions.plan.PlanService;
+import io.harness.engine.observers.NodeUpdateInfo;
+import io.harness.execution.NodeExecution;
+import io.harness.pms.contracts.ambiance.Ambiance;
+import io.harness.pms.contracts.execution.Status;
+import io.harness.rule.Owner;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class ExecutionNodeExecutionsCacheTest extends CategoryTest {
+  private static final String PLAN_EXECUTION_ID = "PLAN_EXECUTION_ID";
+
+  @Mock NodeExecutionService nodeExecutionService;
+  @Mock PlanService planService;
+  Ambiance ambiance;
+  ExecutionNodeExecutionsCache executionCache;
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+    ambiance = Ambiance.newBuilder().setPlanExecutionId(PLAN_EXECUTION_ID).build();
+    executionCache = new ExecutionNodeExecutionsCache();
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testSucceededNodeExecutionIsSharedAcrossEvaluators() {
+    NodeExecution nodeExecution = nodeExecution("id", "parent", Status.SUCCEEDED);
+    doReturn(nodeExecution).when(nodeExecutionService).getWithFieldsIncluded(eq("id"), any());
+
+    assertThat(newEvaluatorCache().fetch("id")).isEqualTo(nodeExecution);
+    assertThat(newEvaluatorCache().fetch("id")).isEqualTo(nodeExecution);
+    verify(nodeExecutionService, times(1)).getWithFieldsIncluded(eq("id"), any());
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testNodeExecutionsThatCanChangeAreNotShared() {
+    NodeExecution running = nodeExecution("running", "parent", Status.RUNNING);
+    NodeExecution failed = nodeExecution("failed", "parent", Status.FAILED);
+    doReturn(running).when(nodeExecutionService).getWithFieldsIncluded(eq("running"), any());
+    doReturn(failed).when(nodeExecutionService).getWithFieldsIncluded(eq("failed"), any());
+
+    newEvaluatorCache().fetch("running");
+    newEvaluatorCache().fetch("running");
+    newEvaluatorCache().fetch("failed");
+    newEvaluatorCache().fetch("failed");
+    verify(nodeExecutionService, times(2)).getWithFieldsIncluded(eq("running"), any());
+    verify(nodeExecutionService, times(2)).getWithFieldsIncluded(eq("failed"), any());
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testExecutionIsDroppedWhenItEnds() {
+    executionCache.putNodeExecution(PLAN_EXECUTION_ID, nodeExecution("id", "parent", Status.SUCCEEDED));
+    assertThat(executionCache.getNodeExecution(PLAN_EXECUTION_ID, "id")).isNotNull();
+
+    executionCache.onNodeStatusUpdate(
+        NodeUpdateInfo.builder().nodeExecution(nodeExecution("root", null, Status.FAILED)).build());
+    assertThat(executionCache.getNodeExecution(PLAN_EXECUTION_ID, "id")).isNull();
+  }
+
+  @Test
+  @Owner(developers = ARCHIT)
+  @Category(UnitTests.class)
+  public void testRetriedNodeExecutionsAreInvalidated() {
+    executionCache.putNodeExecution(PLAN_EXECUTION_ID,
+        NodeExecution.builder()
+            .uuid("old")
+            .parentId("parent")
+            .ambiance(ambiance)
+            .status(Status.FAILED)
+            .oldRetry(true)
+            .build());
+    assertThat(executionCache.getNodeExecution(PLAN_EXECUTION_ID, "old")).isNotNull();
+
+    executionCache.onNodeStatusUpdate(NodeUpdateInfo.builder()
+                                          .nodeExecution(NodeExecution.builder()
+                                                             .uuid("new")
+                                                             .parentId("parent")
+                                                             .ambiance(ambiance)
+                                                             .status(Status.RUNNING)
+                                                             .retryId("old")
+                                                             .build())
+                                          .build());
+    assertThat(executionCache.getNodeExecution(PLAN_EXECUTION_ID, "old")).isNull();
+  }
+
+  private NodeExecutionsCache newEvaluatorCache() {
+    return new NodeExecutionsCache(nodeExecutionService, planService, ambiance, executionCache);
+  }
+
+  private NodeExecution nodeExecution(String uuid, String parentId, Status status) {
+    return NodeExecution.builder().uuid(uuid).parentId(parentId).ambiance(ambiance).status(status).build();
+  }
+}
@@ -157,6 +157,8 @@ public class PipelineServiceConfiguration extends Configuration {
   @JsonProperty("allowedParallelStages") private int allowedParallelStages;
   @JsonProperty("orchestrationLogConfiguration") private OrchestrationLogConfiguration orchestrationLogConfiguration;
   @JsonProperty("planCreatorMergeServiceDependencyBatch") private Integer planCreatorMergeServiceDependencyBatch;
+  @JsonProperty("planCreationCacheTtlSeconds") private long planCreationCacheTtlSeconds;
+  @JsonProperty("planCreationCacheMaximumWeightBytes") private long planCreationCacheMaximumWeightBytes;
   @JsonProperty("jsonExpansionPoolConfig") private ThreadPoolConfig jsonExpansionPoolConfig;
   @JsonProperty("jsonExpansionRequestBatchSize") private Integer jsonExpansionBatchSize;
   @JsonProperty(value = "enableOpentelemetry") private Boolean enableOpentelemetry;
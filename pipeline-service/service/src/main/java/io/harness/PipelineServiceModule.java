@@ -151,6 +151,7 @@ import io.harness.pms.pipeline.validation.service.PipelineValidationService;
 import io.harness.pms.pipeline.validation.service.PipelineValidationServiceImpl;
 import io.harness.pms.plan.creation.NodeTypeLookupService;
 import io.harness.pms.plan.creation.NodeTypeLookupServiceImpl;
+import io.harness.pms.plan.creation.PlanCreationCache;
 import io.harness.pms.plan.execution.PlanExecutionResource;
 import io.harness.pms.plan.execution.PlanExecutionResourceImpl;
 import io.harness.pms.plan.execution.mapper.PipelineExecutionFilterPropertiesMapper;
@@ -888,6 +889,13 @@ public class PipelineServiceModule extends AbstractModule {
     return configuration.getPlanCreatorMergeServiceDependencyBatch();
   }
 
+  @Provides
+  @Singleton
+  public PlanCreationCache getPlanCreationCache() {
+    return new PlanCreationCache(
+        configuration.getPlanCreationCacheTtlSeconds(), configuration.getPlanCreationCacheMaximumWeightBytes());
+  }
+
   @Provides
   @Singleton
   @Named("jsonExpansionRequestBatchSize")
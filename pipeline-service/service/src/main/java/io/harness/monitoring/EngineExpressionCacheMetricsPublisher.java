@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.monitoring;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.expression.EngineExpressionCache;
+import io.harness.metrics.AutoMetricContext;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.metrics.service.api.MetricsPublisher;
+
+import com.google.common.cache.CacheStats;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Records the hits, misses and evictions of the caches of {@link EngineExpressionCache} since the previous recording,
+ * for each cache.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Singleton
+public class EngineExpressionCacheMetricsPublisher implements MetricsPublisher {
+  public static final String HIT_COUNT_METRIC_NAME = "engine_expression_cache_hit_count";
+  public static final String MISS_COUNT_METRIC_NAME = "engine_expression_cache_miss_count";
+  public static final String EVICTION_COUNT_METRIC_NAME = "engine_expression_cache_eviction_count";
+
+  private final MetricService metricService;
+  private final Map<String, CacheStats> recordedStats = new HashMap<>();
+
+  @Inject
+  public EngineExpressionCacheMetricsPublisher(MetricService metricService) {
+    this.metricService = metricService;
+  }
+
+  @Override
+  public synchronized void recordMetrics() {
+    EngineExpressionCache.getStats().forEach((cacheName, stats) -> {
+      CacheStats recorded = recordedStats.put(cacheName, stats);
+      CacheStats recentStats = recorded == null ? stats : stats.minus(recorded);
+      try (CacheContext ignored = new CacheContext(cacheName)) {
+        metricService.recordMetric(HIT_COUNT_METRIC_NAME, recentStats.hitCount());
+        metricService.recordMetric(MISS_COUNT_METRIC_NAME, recentStats.missCount());
+        metricService.recordMetric(EVICTION_COUNT_METRIC_NAME, recentStats.evictionCount());
+      }
+    });
+  }
+
+  private static class CacheContext extends AutoMetricContext {
+    CacheContext(String cacheName) {
+      put("cache", cacheName);
+    }
+  }
+}
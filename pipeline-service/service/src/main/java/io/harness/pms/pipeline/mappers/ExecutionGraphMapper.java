@@ -20,9 +20,11 @@ import io.harness.beans.ExecutionNodeAdjacencyList;
 import io.harness.dto.GraphDelegateSelectionLogParams;
 import io.harness.dto.GraphVertexDTO;
 import io.harness.dto.OrchestrationGraphDTO;
+import io.harness.dto.OrchestrationGraphDeltaDTO;
 import io.harness.pms.execution.ExecutionStatus;
 import io.harness.pms.plan.execution.PipelineExecutionSummaryKeys;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity;
+import io.harness.pms.plan.execution.beans.dto.ExecutionGraphDeltaDTO;
 
 import java.util.HashMap;
 import java.util.List;
@@ -109,6 +111,26 @@ public class ExecutionGraphMapper {
         .build();
   }
 
+  public ExecutionGraphDeltaDTO toExecutionGraphDelta(
+      OrchestrationGraphDeltaDTO graphDelta, PipelineExecutionSummaryEntity summaryEntity) {
+    if (graphDelta.isFullGraph()) {
+      return ExecutionGraphDeltaDTO.builder()
+          .version(graphDelta.getVersion())
+          .executionGraph(toExecutionGraph(graphDelta.getGraph(), summaryEntity))
+          .build();
+    }
+    return ExecutionGraphDeltaDTO.builder()
+        .version(graphDelta.getVersion())
+        .rootNodeId(graphDelta.getRootNodeIds().isEmpty() ? null : graphDelta.getRootNodeIds().get(0))
+        .status(graphDelta.getStatus() == null ? null : ExecutionStatus.getExecutionStatus(graphDelta.getStatus()))
+        .nodeMap(graphDelta.getUpdatedVertices().entrySet().stream().collect(
+            Collectors.toMap(Map.Entry::getKey, entry -> toExecutionNode(entry.getValue()))))
+        .nodeAdjacencyListMap(graphDelta.getUpdatedEdges().entrySet().stream().collect(
+            Collectors.toMap(Map.Entry::getKey, entry -> toExecutionNodeAdjacencyList.apply(entry.getValue()))))
+        .removedNodeIds(graphDelta.getRemovedIds())
+        .build();
+  }
+
   public Map<String, String> getMetadataMap(PipelineExecutionSummaryEntity summaryEntity) {
     Map<String, String> executionMetadata = new HashMap<>();
     if (summaryEntity.getAccountId() != null) {
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.plan.creation;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.harness.ModuleType;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.exception.UnexpectedException;
+import io.harness.execution.PlanExecutionMetadata;
+import io.harness.pms.contracts.plan.ExecutionMetadata;
+import io.harness.pms.contracts.plan.ExecutionMode;
+import io.harness.pms.contracts.plan.ExecutionTriggerInfo;
+import io.harness.pms.contracts.plan.PlanCreationBlobResponse;
+import io.harness.pms.contracts.plan.TriggeredBy;
+import io.harness.pms.sdk.PmsSdkInstance;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Message;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of the plans created for the executions of a pipeline, so that repeated executions of the same pipeline with
+ * the same inputs skip the plan creation fan-out to the SDK services.
+ *
+ * Plans are keyed by a hash of what plan creation reads: the yaml to run before uuids are injected in it, the
+ * execution metadata without the fields specific to an execution, and the registration of each SDK service, so that
+ * the plans created by the previous version of a service are not used once it registers again. As the plan nodes refer
+ * to the uuids of the processed yaml, a hit also reuses the processed yaml the plan was created from.
+ *
+ * Outside of the principal, the trigger payload and trigger info are only read by the stage plan creators of the
+ * services in TRIGGER_READING_SERVICES, which copy them in the plan nodes. They are left out of the key, and the plans
+ * with nodes of these services are cached under a second key including them, so that the executions of other pipelines
+ * for different webhook events still share their plan.
+ *
+ * Plan creators can read entities like services and environments, so plans are only kept for ttlSeconds. Retries and
+ * rollback executions depend on a previous execution and are not cached. Plans are stored serialized, and evicted by
+ * their size once maximumWeightBytes is reached. Concurrent executions with the same key wait for the plan created by
+ * the first one.
+ */
+@Slf4j
+@OwnedBy(HarnessTeam.PIPELINE)
+public class PlanCreationCache {
+  private static final long DEFAULT_MAXIMUM_WEIGHT_BYTES = 256L * 1024 * 1024;
+  private static final Set<String> TRIGGER_READING_SERVICES = Set.of(
+      ModuleType.CI.name().toLowerCase(), ModuleType.STO.name().toLowerCase(), ModuleType.IACM.name().toLowerCase());
+  // The only extra info of the principal read by plan creation, to set the security context
+  private static final String EMAIL = "email";
+
+  private final Cache<String, CachedPlan> plans;
+
+  public PlanCreationCache(long ttlSeconds, long maximumWeightBytes) {
+    this.plans = ttlSeconds <= 0
+        ? null
+        : CacheBuilder.newBuilder()
+              .maximumWeight(maximumWeightBytes > 0 ? maximumWeightBytes : DEFAULT_MAXIMUM_WEIGHT_BYTES)
+              .weigher((String key, CachedPlan cachedPlan) -> key.length() + cachedPlan.getWeight())
+              .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+              .recordStats()
+              .build();
+  }
+
+  public boolean isEnabled() {
+    return plans != null;
+  }
+
+  /**
+   * @return the key of the plan of the execution, null if its plan can not be cached
+   */
+  public String getKey(String accountId, String orgIdentifier, String projectIdentifier, String version,
+      ExecutionMetadata metadata, PlanExecutionMetadata planExecutionMetadata,
+      Collection<PmsSdkInstance> sdkInstances) {
+    if (!isEnabled() || metadata == null || planExecutionMetadata == null || planExecutionMetadata.getYaml() == null
+        || planExecutionMetadata.getRetryExecutionInfo() != null
+        || planExecutionMetadata.getRetryStagesMetadata() != null
+        || (metadata.getExecutionMode() != ExecutionMode.NORMAL
+            && metadata.getExecutionMode() != ExecutionMode.UNDEFINED_MODE)) {
+      return null;
+    }
+    Hasher hasher = Hashing.sha256().newHasher();
+    putString(hasher, accountId);
+    putString(hasher, orgIdentifier);
+    putString(hasher, projectIdentifier);
+    putString(hasher, version);
+    putString(hasher, planExecutionMetadata.getYaml());
+    ExecutionMetadata.Builder keyMetadata = metadata.toBuilder().clearExecutionUuid().clearRunSequence();
+    if (metadata.hasTriggerInfo()) {
+      keyMetadata.setTriggerInfo(getPrincipalTriggerInfo(metadata.getTriggerInfo()));
+    }
+    putMessage(hasher, keyMetadata.build());
+    sdkInstances.stream().sorted(Comparator.comparing(PmsSdkInstance::getName)).forEach(sdkInstance -> {
+      putString(hasher, sdkInstance.getName());
+      putString(hasher, String.valueOf(sdkInstance.getVersion()));
+      putString(hasher, String.valueOf(sdkInstance.getLastUpdatedAt()));
+      if (sdkInstance.getSupportedTypes() != null) {
+        new TreeMap<>(sdkInstance.getSupportedTypes()).forEach((type, identifiers) -> {
+          putString(hasher, type);
+          new TreeSet<>(identifiers).forEach(identifier -> putString(hasher, identifier));
+        });
+      }
+    });
+    return hasher.hash().toString();
+  }
+
+  /**
+   * Returns the plan cached for the key, or creates and caches it. The processed yaml of the plan execution metadata
+   * is set to the one the returned plan was created from.
+   */
+  public PlanCreationBlobResponse get(String key, ExecutionMetadata metadata,
+      PlanExecutionMetadata planExecutionMetadata, PlanCreator planCreator) throws IOException {
+    PlanCreationBlobResponse[] createdPlan = new PlanCreationBlobResponse[1];
+    CachedPlan cachedPlan = load(key, () -> {
+      createdPlan[0] = planCreator.create();
+      if (!readsTrigger(createdPlan[0])) {
+        return CachedPlan.of(planExecutionMetadata.getProcessedYaml(), createdPlan[0]);
+      }
+      plans.put(getTriggerKey(key, metadata, planExecutionMetadata),
+          CachedPlan.of(planExecutionMetadata.getProcessedYaml(), createdPlan[0]));
+      return CachedPlan.TRIGGER_DEPENDENT;
+    });
+    if (createdPlan[0] == null && cachedPlan == CachedPlan.TRIGGER_DEPENDENT) {
+      cachedPlan = load(getTriggerKey(key, metadata, planExecutionMetadata), () -> {
+        createdPlan[0] = planCreator.create();
+        return CachedPlan.of(planExecutionMetadata.getProcessedYaml(), createdPlan[0]);
+      });
+    }
+    if (createdPlan[0] != null) {
+      return createdPlan[0];
+    }
+    log.info("[PMS_PlanCreationCache] Reusing the plan created for an execution with the same inputs");
+    planExecutionMetadata.setProcessedYaml(cachedPlan.getProcessedYaml().toStringUtf8());
+    return PlanCreationBlobResponse.parseFrom(cachedPlan.getPlan());
+  }
+
+  /**
+   * @return the hit and miss counts of the plans, empty when the cache is disabled
+   */
+  public CacheStats stats() {
+    return isEnabled() ? plans.stats() : new CacheStats(0, 0, 0, 0, 0, 0);
+  }
+
+  public void invalidateAll() {
+    if (isEnabled()) {
+      plans.invalidateAll();
+    }
+  }
+
+  private CachedPlan load(String key, PlanLoader loader) throws IOException {
+    try {
+      return plans.get(key, loader::load);
+    } catch (ExecutionException e) {
+      Throwables.propagateIfPossible(e.getCause(), IOException.class);
+      throw new UnexpectedException(e.getCause().getMessage(), e.getCause());
+    } catch (UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw e;
+    }
+  }
+
+  private static boolean readsTrigger(PlanCreationBlobResponse plan) {
+    return plan.getNodesMap().values().stream().anyMatch(
+        node -> TRIGGER_READING_SERVICES.contains(node.getServiceName()));
+  }
+
+  private static ExecutionTriggerInfo getPrincipalTriggerInfo(ExecutionTriggerInfo triggerInfo) {
+    TriggeredBy triggeredBy = triggerInfo.getTriggeredBy();
+    return triggerInfo.toBuilder()
+        .setTriggeredBy(triggeredBy.toBuilder()
+                            .clearExtraInfo()
+                            .putAllExtraInfo(triggeredBy.getExtraInfoMap()
+                                                 .entrySet()
+                                                 .stream()
+                                                 .filter(entry -> EMAIL.equals(entry.getKey()))
+                                                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
+                            .build())
+        .build();
+  }
+
+  private static String getTriggerKey(
+      String key, ExecutionMetadata metadata, PlanExecutionMetadata planExecutionMetadata) {
+    Hasher hasher = Hashing.sha256().newHasher();
+    putString(hasher, key);
+    putMessage(hasher, metadata.getTriggerInfo());
+    putMessage(hasher, planExecutionMetadata.getTriggerPayload());
+    return hasher.hash().toString();
+  }
+
+  // The length is hashed first so that consecutive strings can not be confused with each other
+  private static void putString(Hasher hasher, String value) {
+    if (value == null) {
+      hasher.putInt(-1);
+      return;
+    }
+    hasher.putInt(value.length()).putString(value, UTF_8);
+  }
+
+  // Maps are not serialized in a stable order by default
+  private static void putMessage(Hasher hasher, Message message) {
+    if (message == null) {
+      hasher.putInt(-1);
+      return;
+    }
+    byte[] bytes = new byte[message.getSerializedSize()];
+    CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+    output.useDeterministicSerialization();
+    try {
+      message.writeTo(output);
+    } catch (IOException e) {
+      throw new UnexpectedException("Could not serialize " + message.getClass().getSimpleName(), e);
+    }
+    hasher.putInt(bytes.length).putBytes(bytes);
+  }
+
+  public interface PlanCreator {
+    PlanCreationBlobResponse create() throws IOException;
+  }
+
+  private interface PlanLoader {
+    CachedPlan load() throws IOException;
+  }
+
+  @Value
+  private static class CachedPlan {
+    // Marks the plans cached under the key including the trigger
+    static final CachedPlan TRIGGER_DEPENDENT = new CachedPlan(ByteString.EMPTY, ByteString.EMPTY);
+
+    ByteString processedYaml;
+    ByteString plan;
+
+    static CachedPlan of(String processedYaml, PlanCreationBlobResponse plan) {
+      return new CachedPlan(ByteString.copyFromUtf8(processedYaml), plan.toByteString());
+    }
+
+    int getWeight() {
+      return processedYaml.size() + plan.size();
+    }
+  }
+}
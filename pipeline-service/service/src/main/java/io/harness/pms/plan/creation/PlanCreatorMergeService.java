@@ -15,6 +15,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.ProductModule;
 import io.harness.data.structure.EmptyPredicate;
+import io.harness.enforcement.client.services.EnforcementClientService;
 import io.harness.engine.pms.commons.events.PmsEventSender;
 import io.harness.exception.InvalidRequestException;
 import io.harness.exception.InvalidYamlException;
@@ -79,13 +80,16 @@ public class PlanCreatorMergeService {
   private final Integer planCreatorMergeServiceDependencyBatch;
   private final PmsFeatureFlagService pmsFeatureFlagService;
   private final KryoSerializer kryoSerializer;
+  private final PlanCreationCache planCreationCache;
+  private final EnforcementClientService enforcementClientService;
 
   @Inject
   public PlanCreatorMergeService(PmsSdkHelper pmsSdkHelper, PmsEventSender pmsEventSender,
       WaitNotifyEngine waitNotifyEngine, PlanCreationValidator planCreationValidator,
       @Named("PlanCreatorMergeExecutorService") Executor executor,
       @Named("planCreatorMergeServiceDependencyBatch") Integer planCreatorMergeServiceDependencyBatch,
-      PmsFeatureFlagService pmsFeatureFlagService, KryoSerializer kryoSerializer) {
+      PmsFeatureFlagService pmsFeatureFlagService, KryoSerializer kryoSerializer, PlanCreationCache planCreationCache,
+      EnforcementClientService enforcementClientService) {
     this.pmsSdkHelper = pmsSdkHelper;
     this.pmsEventSender = pmsEventSender;
     this.waitNotifyEngine = waitNotifyEngine;
@@ -94,6 +98,8 @@ public class PlanCreatorMergeService {
     this.planCreatorMergeServiceDependencyBatch = planCreatorMergeServiceDependencyBatch;
     this.pmsFeatureFlagService = pmsFeatureFlagService;
     this.kryoSerializer = kryoSerializer;
+    this.planCreationCache = planCreationCache;
+    this.enforcementClientService = enforcementClientService;
   }
 
   public String getPublisher() {
@@ -137,30 +143,22 @@ public class PlanCreatorMergeService {
       log.info("[PMS_PlanCreatorMergeService] Starting plan creation");
       Map<String, PlanCreatorServiceInfo> services = pmsSdkHelper.getServices();
 
-      YamlField pipelineField;
-      switch (version) {
-        case PipelineVersion.V1:
-          pipelineField = YamlUtils.readTree(planExecutionMetadata.getProcessedYaml());
-          break;
-        case PipelineVersion.V0:
-          pipelineField = YamlUtils.extractPipelineField(planExecutionMetadata.getProcessedYaml());
-          break;
-        default:
-          throw new InvalidYamlException("Invalid version");
+      String planCreationKey = null;
+      // Plan creators check license limits, like the services one, which must be done for every execution
+      if (planCreationCache.isEnabled() && !enforcementClientService.isEnforcementEnabled()) {
+        planCreationKey = planCreationCache.getKey(accountId, orgIdentifier, projectIdentifier, version, metadata,
+            planExecutionMetadata, pmsSdkHelper.getSdkInstances().values());
       }
-
-      if (pipelineField.getNode().getUuid() == null) {
-        throw new YamlException("Processed pipeline yaml does not have uuid for the pipeline field");
+      PlanCreationBlobResponse finalResponse;
+      if (planCreationKey == null) {
+        finalResponse = createPlan(
+            accountId, orgIdentifier, projectIdentifier, version, services, metadata, planExecutionMetadata);
+      } else {
+        finalResponse = planCreationCache.get(planCreationKey, metadata, planExecutionMetadata,
+            ()
+                -> createPlan(accountId, orgIdentifier, projectIdentifier, version, services, metadata,
+                    planExecutionMetadata));
       }
-
-      Dependencies dependencies =
-          Dependencies.newBuilder()
-              .setYaml(planExecutionMetadata.getProcessedYaml())
-              .putDependencies(pipelineField.getNode().getUuid(), pipelineField.getNode().getYamlPath())
-              .build();
-
-      PlanCreationBlobResponse finalResponse = createPlanForDependenciesRecursive(
-          accountId, orgIdentifier, projectIdentifier, services, dependencies, metadata, planExecutionMetadata);
       planCreationValidator.validate(accountId, finalResponse);
       planExecutionMetadata.setExecutionInputConfigured(finalResponse.getNodesMap().values().stream().anyMatch(
           o -> !EmptyPredicate.isEmpty(o.getExecutionInputTemplate())));
@@ -168,6 +166,35 @@ public class PlanCreatorMergeService {
     }
   }
 
+  private PlanCreationBlobResponse createPlan(String accountId, String orgIdentifier, String projectIdentifier,
+      String version, Map<String, PlanCreatorServiceInfo> services, ExecutionMetadata metadata,
+      PlanExecutionMetadata planExecutionMetadata) throws IOException {
+    YamlField pipelineField;
+    switch (version) {
+      case PipelineVersion.V1:
+        pipelineField = YamlUtils.readTree(planExecutionMetadata.getProcessedYaml());
+        break;
+      case PipelineVersion.V0:
+        pipelineField = YamlUtils.extractPipelineField(planExecutionMetadata.getProcessedYaml());
+        break;
+      default:
+        throw new InvalidYamlException("Invalid version");
+    }
+
+    if (pipelineField.getNode().getUuid() == null) {
+      throw new YamlException("Processed pipeline yaml does not have uuid for the pipeline field");
+    }
+
+    Dependencies dependencies =
+        Dependencies.newBuilder()
+            .setYaml(planExecutionMetadata.getProcessedYaml())
+            .putDependencies(pipelineField.getNode().getUuid(), pipelineField.getNode().getYamlPath())
+            .build();
+
+    return createPlanForDependenciesRecursive(
+        accountId, orgIdentifier, projectIdentifier, services, dependencies, metadata, planExecutionMetadata);
+  }
+
   @VisibleForTesting
   Map<String, PlanCreationContextValue> createInitialPlanCreationContext(String accountId, String orgIdentifier,
       String projectIdentifier, ExecutionMetadata metadata, PlanExecutionMetadata planExecutionMetadata) {
@@ -212,10 +239,17 @@ public class PlanCreatorMergeService {
         createInitialPlanCreationContext(accountId, orgIdentifier, projectIdentifier, metadata, planExecutionMetadata));
 
     try {
+      String parsedYaml = null;
+      YamlField fullYamlField = null;
       for (int i = 0; i < MAX_DEPTH && EmptyPredicate.isNotEmpty(finalResponseBuilder.getDeps().getDependenciesMap());
            i++) {
         String version = metadata.getHarnessVersion();
-        YamlField fullYamlField = YamlUtils.readTree(finalResponseBuilder.getDeps().getYaml());
+        // The yaml only changes in the rounds returning yaml updates, the previous tree is reused otherwise
+        String yaml = finalResponseBuilder.getDeps().getYaml();
+        if (!yaml.equals(parsedYaml)) {
+          fullYamlField = YamlUtils.readTree(yaml);
+          parsedYaml = yaml;
+        }
         PlanCreationBlobResponse currIterationResponse =
             createPlanForDependencies(services, finalResponseBuilder, fullYamlField, version);
         PlanCreationBlobResponseUtils.addNodes(finalResponseBuilder, currIterationResponse.getNodesMap());
@@ -48,6 +48,7 @@ import io.harness.pms.pipeline.mappers.PipelineExecutionSummaryDtoMapper;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity.PlanExecutionSummaryKeys;
 import io.harness.pms.plan.execution.beans.dto.ExecutionDataResponseDTO;
+import io.harness.pms.plan.execution.beans.dto.ExecutionGraphDeltaDTO;
 import io.harness.pms.plan.execution.beans.dto.ExecutionMetaDataResponseDetailsDTO;
 import io.harness.pms.plan.execution.beans.dto.ExpressionEvaluationDetailDTO;
 import io.harness.pms.plan.execution.beans.dto.NodeExecutionSubGraphResponse;
@@ -370,6 +371,39 @@ public class ExecutionDetailsResource {
     return ResponseDTO.newResponse(executionDetailDTO);
   }
 
+  @GET
+  @Path("/v2/{planExecutionId}/graphDelta")
+  @ApiOperation(value = "Gets the changes of the Execution Graph", nickname = "getExecutionGraphDelta")
+  @Operation(operationId = "getExecutionGraphDelta",
+      description = "Returns the changes of the Execution Graph since the given version, or the whole graph",
+      summary = "Fetch Execution Graph changes",
+      responses =
+      {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "default",
+            description = "Return the changes of the Execution Graph since the given version")
+      })
+  public ResponseDTO<ExecutionGraphDeltaDTO>
+  getExecutionGraphDelta(
+      @NotNull @Parameter(description = PipelineResourceConstants.ACCOUNT_PARAM_MESSAGE, required = true) @QueryParam(
+          NGCommonEntityConstants.ACCOUNT_KEY) @AccountIdentifier String accountId,
+      @Parameter(description = PipelineResourceConstants.ORG_PARAM_MESSAGE, required = true) @NotNull @QueryParam(
+          NGCommonEntityConstants.ORG_KEY) @OrgIdentifier String orgId,
+      @NotNull @Parameter(description = PipelineResourceConstants.PROJECT_PARAM_MESSAGE, required = true) @QueryParam(
+          NGCommonEntityConstants.PROJECT_KEY) @ProjectIdentifier String projectId,
+      @Parameter(description = "Version of the graph returned by the previous call, empty to get the whole graph")
+      @QueryParam("fromVersion") Long fromVersion,
+      @Parameter(description = "Plan Execution Id for which we want to get the Execution Graph changes",
+          required = true) @PathParam(NGCommonEntityConstants.PLAN_KEY) String planExecutionId) {
+    PipelineExecutionSummaryEntity executionSummaryEntity =
+        pmsExecutionService.getPipelineExecutionSummaryEntity(accountId, orgId, projectId, planExecutionId, false);
+
+    accessControlClient.checkForAccessOrThrow(ResourceScope.of(accountId, orgId, projectId),
+        Resource.of("PIPELINE", executionSummaryEntity.getPipelineIdentifier()), PipelineRbacPermissions.PIPELINE_VIEW);
+
+    return ResponseDTO.newResponse(ExecutionGraphMapper.toExecutionGraphDelta(
+        pmsExecutionService.getOrchestrationGraphDelta(planExecutionId, fromVersion), executionSummaryEntity));
+  }
+
   @GET
   @Path("/subGraph/{planExecutionId}/{nodeExecutionId}")
   @ApiOperation(
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.plan.execution.beans.dto;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.ExecutionGraph;
+import io.harness.beans.ExecutionNode;
+import io.harness.beans.ExecutionNodeAdjacencyList;
+import io.harness.pms.execution.ExecutionStatus;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.annotations.ApiModel;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Value;
+import lombok.experimental.FieldDefaults;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+@Value
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@ApiModel("ExecutionGraphDelta")
+@Schema(name = "ExecutionGraphDelta",
+    description = "This contains the changes of an Execution Graph since the version the client already has.")
+public class ExecutionGraphDeltaDTO {
+  @Schema(description = "Version of the graph, to send back to get the next changes") long version;
+  @Schema(description = "Whole graph, sent instead of the changes when they cannot be computed")
+  ExecutionGraph executionGraph;
+
+  String rootNodeId;
+  ExecutionStatus status;
+  Map<String, ExecutionNode> nodeMap;
+  Map<String, ExecutionNodeAdjacencyList> nodeAdjacencyListMap;
+  List<String> removedNodeIds;
+}
@@ -14,6 +14,7 @@ import io.harness.annotations.dev.HarnessModuleComponent;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.ProductModule;
 import io.harness.dto.OrchestrationGraphDTO;
+import io.harness.dto.OrchestrationGraphDeltaDTO;
 import io.harness.pms.contracts.interrupts.InterruptConfig;
 import io.harness.pms.execution.ExecutionStatus;
 import io.harness.pms.ngpipeline.inputset.beans.resource.InputSetYamlWithTemplateDTO;
@@ -58,6 +59,8 @@ public interface PMSExecutionService {
 
   OrchestrationGraphDTO getOrchestrationGraph(String stageNodeId, String planExecutionId, String stageNodeExecutionId);
 
+  OrchestrationGraphDeltaDTO getOrchestrationGraphDelta(String planExecutionId, Long fromVersion);
+
   InterruptDTO registerInterrupt(
       PlanExecutionInterruptType executionInterruptType, String planExecutionId, String nodeExecutionId);
 
@@ -24,6 +24,7 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.ProductModule;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.dto.OrchestrationGraphDTO;
+import io.harness.dto.OrchestrationGraphDeltaDTO;
 import io.harness.engine.OrchestrationService;
 import io.harness.engine.executions.plan.PlanExecutionMetadataService;
 import io.harness.engine.interrupts.InterruptPackage;
@@ -574,6 +575,11 @@ public class PMSExecutionServiceImpl implements PMSExecutionService {
         stageNodeId, planExecutionId, stageNodeExecutionId);
   }
 
+  @Override
+  public OrchestrationGraphDeltaDTO getOrchestrationGraphDelta(String planExecutionId, Long fromVersion) {
+    return graphGenerationService.generateOrchestrationGraphDelta(planExecutionId, fromVersion);
+  }
+
   @Override
   public InterruptDTO registerInterrupt(
       PlanExecutionInterruptType executionInterruptType, String planExecutionId, String nodeExecutionId) {
@@ -52,6 +52,13 @@ public class PmsSdkHelper {
     return services;
   }
 
+  /**
+   * Gets the last registration of each registered service, keyed by the service name
+   */
+  public Map<String, PmsSdkInstance> getSdkInstances() {
+    return pmsSdkInstanceService.getSdkInstanceCacheValue();
+  }
+
   /**
    * Checks if the service supports any of the dependency mentioned.
    */
@@ -119,10 +126,11 @@ public class PmsSdkHelper {
   }
 
   public static Dependencies createBatchDependency(Dependencies dependencies, Map<String, String> dependencyMap) {
+    // The yaml is encoded once and the bytes are shared by all the batches, instead of encoding it for every request
     return Dependencies.newBuilder()
         .putAllDependencies(dependencyMap)
         .putAllDependencyMetadata(dependencies.getDependencyMetadataMap())
-        .setYaml(dependencies.getYaml())
+        .setYamlBytes(dependencies.getYamlBytes())
         .build();
   }
 
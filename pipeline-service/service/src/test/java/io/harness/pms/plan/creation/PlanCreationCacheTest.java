@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.plan.creation;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.rule.OwnerRule.BRIJESH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.execution.PlanExecutionMetadata;
+import io.harness.pms.contracts.plan.ExecutionMetadata;
+import io.harness.pms.contracts.plan.ExecutionMode;
+import io.harness.pms.contracts.plan.ExecutionTriggerInfo;
+import io.harness.pms.contracts.plan.PlanCreationBlobResponse;
+import io.harness.pms.contracts.plan.PlanNodeProto;
+import io.harness.pms.contracts.plan.TriggerType;
+import io.harness.pms.contracts.plan.TriggeredBy;
+import io.harness.pms.contracts.triggers.TriggerPayload;
+import io.harness.pms.sdk.PmsSdkInstance;
+import io.harness.pms.yaml.PipelineVersion;
+import io.harness.rule.Owner;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(PIPELINE)
+public class PlanCreationCacheTest extends CategoryTest {
+  private static final String YAML = "pipeline:\n  identifier: p1\n";
+  private static final List<PmsSdkInstance> SDK_INSTANCES = List.of(sdkInstance(1L, 100L));
+
+  private final ExecutionMetadata executionMetadata =
+      ExecutionMetadata.newBuilder().setExecutionUuid("executionUuid").setRunSequence(1).build();
+  private final AtomicInteger createdPlans = new AtomicInteger();
+
+  private static PmsSdkInstance sdkInstance(Long version, Long lastUpdatedAt) {
+    return PmsSdkInstance.builder()
+        .name("cd")
+        .supportedTypes(Map.of("stage", Set.of("Deployment")))
+        .version(version)
+        .lastUpdatedAt(lastUpdatedAt)
+        .build();
+  }
+
+  private static ExecutionMetadata webhookMetadata(String eventId) {
+    return ExecutionMetadata.newBuilder()
+        .setExecutionUuid(eventId)
+        .setTriggerInfo(ExecutionTriggerInfo.newBuilder()
+                            .setTriggerType(TriggerType.WEBHOOK)
+                            .setTriggeredBy(TriggeredBy.newBuilder()
+                                                .setIdentifier("trigger")
+                                                .putExtraInfo("email", "user@harness.io")
+                                                .putExtraInfo("eventCorrelationId", eventId)
+                                                .build())
+                            .build())
+        .build();
+  }
+
+  private static PlanExecutionMetadata webhookExecution(String eventId) {
+    return PlanExecutionMetadata.builder()
+        .yaml(YAML)
+        .processedYaml(eventId)
+        .triggerPayload(TriggerPayload.newBuilder().putHeaders("X-GitHub-Delivery", eventId).build())
+        .build();
+  }
+
+  private static PlanCreationBlobResponse plan(String serviceName) {
+    return PlanCreationBlobResponse.newBuilder()
+        .setStartingNodeId("nodeId")
+        .putNodes("nodeId", PlanNodeProto.newBuilder().setUuid("nodeId").setServiceName(serviceName).build())
+        .build();
+  }
+
+  private String getKey(PlanCreationCache planCreationCache, ExecutionMetadata metadata,
+      PlanExecutionMetadata planExecutionMetadata, List<PmsSdkInstance> sdkInstances) {
+    return planCreationCache.getKey(
+        "accountId", "orgId", "projectId", PipelineVersion.V0, metadata, planExecutionMetadata, sdkInstances);
+  }
+
+  private PlanCreationBlobResponse get(PlanCreationCache planCreationCache, ExecutionMetadata metadata,
+      PlanExecutionMetadata planExecutionMetadata, PlanCreationBlobResponse plan) throws Exception {
+    return planCreationCache.get(getKey(planCreationCache, metadata, planExecutionMetadata, SDK_INSTANCES), metadata,
+        planExecutionMetadata, () -> {
+          createdPlans.incrementAndGet();
+          return plan;
+        });
+  }
+
+  @Test
+  @Owner(developers = BRIJESH)
+  @Category(UnitTests.class)
+  public void testGetReusesPlanAndProcessedYaml() throws Exception {
+    PlanCreationCache planCreationCache = new PlanCreationCache(60, 1024 * 1024);
+    PlanCreationBlobResponse plan = plan("cd");
+
+    PlanExecutionMetadata firstExecution = PlanExecutionMetadata.builder().yaml(YAML).processedYaml("first").build();
+    assertThat(get(planCreationCache, executionMetadata, firstExecution, plan)).isSameAs(plan);
+
+    PlanExecutionMetadata secondExecution = PlanExecutionMetadata.builder().yaml(YAML).processedYaml("second").build();
+    ExecutionMetadata secondMetadata =
+        executionMetadata.toBuilder().setExecutionUuid("otherExecutionUuid").setRunSequence(2).build();
+    assertThat(get(planCreationCache, secondMetadata, secondExecution, plan)).isEqualTo(plan);
+    assertThat(secondExecution.getProcessedYaml()).isEqualTo("first");
+    assertThat(createdPlans.get()).isEqualTo(1);
+    assertThat(planCreationCache.stats().hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  @Owner(developers = BRIJESH)
+  @Category(UnitTests.class)
+  public void testGetKeysTriggerReadingPlansByTrigger() throws Exception {
+    PlanCreationCache planCreationCache = new PlanCreationCache(60, 1024 * 1024);
+
+    // Plans of other services are shared by the executions of different webhook events
+    get(planCreationCache, webhookMetadata("event1"), webhookExecution("event1"), plan("cd"));
+    PlanExecutionMetadata secondEvent = webhookExecution("event2");
+    get(planCreationCache, webhookMetadata("event2"), secondEvent, plan("cd"));
+    assertThat(createdPlans.get()).isEqualTo(1);
+    assertThat(secondEvent.getProcessedYaml()).isEqualTo("event1");
+
+    // Plans of the services reading the trigger are only shared by the executions of the same event
+    planCreationCache.invalidateAll();
+    get(planCreationCache, webhookMetadata("event1"), webhookExecution("event1"), plan("ci"));
+    get(planCreationCache, webhookMetadata("event2"), webhookExecution("event2"), plan("ci"));
+    assertThat(createdPlans.get()).isEqualTo(3);
+    PlanExecutionMetadata sameEvent = webhookExecution("event1").withProcessedYaml("event1Again");
+    get(planCreationCache, webhookMetadata("event1"), sameEvent, plan("ci"));
+    assertThat(createdPlans.get()).isEqualTo(3);
+    assertThat(sameEvent.getProcessedYaml()).isEqualTo("event1");
+  }
+
+  @Test
+  @Owner(developers = BRIJESH)
+  @Category(UnitTests.class)
+  public void testGetKey() {
+    PlanCreationCache planCreationCache = new PlanCreationCache(60, 1024 * 1024);
+    PlanExecutionMetadata planExecutionMetadata = PlanExecutionMetadata.builder().yaml(YAML).build();
+    String key = getKey(planCreationCache, executionMetadata, planExecutionMetadata, SDK_INSTANCES);
+    assertThat(key).isNotNull();
+
+    assertThat(getKey(planCreationCache, executionMetadata.toBuilder().setHarnessVersion(PipelineVersion.V1).build(),
+                   planExecutionMetadata, SDK_INSTANCES))
+        .isNotEqualTo(key);
+    assertThat(getKey(planCreationCache, executionMetadata,
+                   PlanExecutionMetadata.builder().yaml(YAML + "  name: p1\n").build(), SDK_INSTANCES))
+        .isNotEqualTo(key);
+    assertThat(getKey(planCreationCache, executionMetadata, planExecutionMetadata, List.of(sdkInstance(2L, 100L))))
+        .isNotEqualTo(key);
+    assertThat(getKey(planCreationCache, executionMetadata, planExecutionMetadata, List.of(sdkInstance(1L, 200L))))
+        .isNotEqualTo(key);
+
+    assertThat(getKey(planCreationCache,
+                   executionMetadata.toBuilder().setExecutionMode(ExecutionMode.PIPELINE_ROLLBACK).build(),
+                   planExecutionMetadata, SDK_INSTANCES))
+        .isNull();
+    assertThat(getKey(new PlanCreationCache(0, 1024 * 1024), executionMetadata, planExecutionMetadata, SDK_INSTANCES))
+        .isNull();
+  }
+
+  @Test
+  @Owner(developers = BRIJESH)
+  @Category(UnitTests.class)
+  public void testPlansAreEvictedBySize() throws Exception {
+    PlanCreationCache planCreationCache = new PlanCreationCache(60, 512);
+    String largeYaml = new String(new char[1024]).replace('\0', 'a');
+    PlanExecutionMetadata planExecutionMetadata =
+        PlanExecutionMetadata.builder().yaml(YAML).processedYaml(largeYaml).build();
+    get(planCreationCache, executionMetadata, planExecutionMetadata, plan("cd"));
+    get(planCreationCache, executionMetadata, planExecutionMetadata, plan("cd"));
+    assertThat(createdPlans.get()).isEqualTo(2);
+  }
+}
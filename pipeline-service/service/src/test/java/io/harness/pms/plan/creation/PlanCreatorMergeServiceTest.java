@@ -8,6 +8,7 @@
 package io.harness.pms.plan.creation;
 
 import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.rule.OwnerRule.BRIJESH;
 import static io.harness.rule.OwnerRule.NAMAN;
 import static io.harness.rule.OwnerRule.RAGHAV_GUPTA;
 import static io.harness.rule.OwnerRule.VIVEK_DIXIT;
@@ -18,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -25,6 +27,7 @@ import io.harness.CategoryTest;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.FeatureName;
 import io.harness.category.element.UnitTests;
+import io.harness.enforcement.client.services.EnforcementClientService;
 import io.harness.engine.pms.commons.events.PmsEventSender;
 import io.harness.exception.InvalidRequestException;
 import io.harness.execution.PlanExecutionMetadata;
@@ -80,6 +83,8 @@ public class PlanCreatorMergeServiceTest extends CategoryTest {
   @Mock private WaitNotifyEngine waitNotifyEngine;
   @Mock private PmsSdkHelper pmsSdkHelper;
   @Mock private PlanCreationValidator planCreationValidator;
+  @Mock private PlanCreationCache planCreationCache;
+  @Mock private EnforcementClientService enforcementClientService;
   @Spy @InjectMocks PlanCreatorMergeService planCreatorMergeServiceMock;
   private final String accountId = "acc";
   private final String orgId = "org";
@@ -128,7 +133,7 @@ public class PlanCreatorMergeServiceTest extends CategoryTest {
   @Category(UnitTests.class)
   public void testCreateInitialPlanCreationContext() {
     PlanCreatorMergeService planCreatorMergeService = new PlanCreatorMergeService(
-        null, null, null, null, Executors.newSingleThreadExecutor(), 20, pmsFeatureFlagService, null);
+        null, null, null, null, Executors.newSingleThreadExecutor(), 20, pmsFeatureFlagService, null, null, null);
     Map<String, PlanCreationContextValue> initialPlanCreationContext =
         planCreatorMergeService.createInitialPlanCreationContext(accountId, orgId, projId, executionMetadata, null);
     assertThat(initialPlanCreationContext).hasSize(1);
@@ -168,7 +173,7 @@ public class PlanCreatorMergeServiceTest extends CategoryTest {
         executionMetadata.toBuilder().setHarnessVersion(PipelineVersion.V1).build();
     PlanExecutionMetadata planExecutionMetadata = PlanExecutionMetadata.builder().processedYaml(pipelineYamlV1).build();
     PlanCreatorMergeService planCreatorMergeService = new PlanCreatorMergeService(
-        null, null, null, null, Executors.newSingleThreadExecutor(), 20, pmsFeatureFlagService, kryoSerializer);
+        null, null, null, null, Executors.newSingleThreadExecutor(), 20, pmsFeatureFlagService, kryoSerializer, null, null);
     Map<String, PlanCreationContextValue> initialPlanCreationContext =
         planCreatorMergeService.createInitialPlanCreationContext(
             accountId, orgId, projId, executionMetadataLocal, planExecutionMetadata);
@@ -216,7 +221,7 @@ public class PlanCreatorMergeServiceTest extends CategoryTest {
     String pipelineYaml = readFile("pipeline-v1-with-static-reference.yaml");
     PlanExecutionMetadata planExecutionMetadata = PlanExecutionMetadata.builder().processedYaml(pipelineYaml).build();
     PlanCreatorMergeService planCreatorMergeService = new PlanCreatorMergeService(
-        null, null, null, null, Executors.newSingleThreadExecutor(), 20, pmsFeatureFlagService, kryoSerializer);
+        null, null, null, null, Executors.newSingleThreadExecutor(), 20, pmsFeatureFlagService, kryoSerializer, null, null);
     Map<String, PlanCreationContextValue> initialPlanCreationContext =
         planCreatorMergeService.createInitialPlanCreationContext(
             accountId, orgId, projId, executionMetadataLocal, planExecutionMetadata);
@@ -315,6 +320,34 @@ public class PlanCreatorMergeServiceTest extends CategoryTest {
         .hasMessageContaining("Following yaml paths could not be parsed: ");
   }
 
+  @Test
+  @Owner(developers = BRIJESH)
+  @Category(UnitTests.class)
+  public void testCreatePlanVersionedWithEnforcementSkipsPlanCreationCache() throws IOException {
+    PlanExecutionMetadata planExecutionMetadata =
+        PlanExecutionMetadata.builder().yaml(processedYaml).processedYaml(processedYaml).build();
+    doReturn(Collections.emptyMap()).when(pmsSdkHelper).getServices();
+    doReturn(Collections.emptyMap()).when(pmsSdkHelper).getSdkInstances();
+    doReturn(true).when(planCreationCache).isEnabled();
+    doReturn(true).when(enforcementClientService).isEnforcementEnabled();
+    doReturn(PlanCreationBlobResponse.newBuilder().build())
+        .when(planCreatorMergeServiceMock)
+        .createPlanForDependenciesRecursive(any(), any(), any(), any(), any(), any(), any());
+
+    planCreatorMergeServiceMock.createPlanVersioned(
+        accountId, orgId, projId, PipelineVersion.V0, executionMetadata, planExecutionMetadata);
+    planCreatorMergeServiceMock.createPlanVersioned(
+        accountId, orgId, projId, PipelineVersion.V0, executionMetadata, planExecutionMetadata);
+    verify(planCreationCache, never()).getKey(any(), any(), any(), any(), any(), any(), any());
+    verify(planCreatorMergeServiceMock, times(2))
+        .createPlanForDependenciesRecursive(any(), any(), any(), any(), any(), any(), any());
+
+    doReturn(false).when(enforcementClientService).isEnforcementEnabled();
+    planCreatorMergeServiceMock.createPlanVersioned(
+        accountId, orgId, projId, PipelineVersion.V0, executionMetadata, planExecutionMetadata);
+    verify(planCreationCache, times(1)).getKey(any(), any(), any(), any(), any(), any(), any());
+  }
+
   private class NoOpPmsFeatureFlagService implements PmsFeatureFlagService {
     @Override
     public boolean isEnabled(String accountId, FeatureName featureName) {
@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 
 import io.harness.CategoryTest;
 import io.harness.accesscontrol.clients.AccessControlClient;
@@ -30,11 +31,13 @@ import io.harness.beans.RepresentationStrategy;
 import io.harness.category.element.UnitTests;
 import io.harness.dto.OrchestrationAdjacencyListDTO;
 import io.harness.dto.OrchestrationGraphDTO;
+import io.harness.dto.OrchestrationGraphDeltaDTO;
 import io.harness.engine.executions.plan.PlanExecutionMetadataService;
 import io.harness.exception.InvalidRequestException;
 import io.harness.gitsync.interceptor.GitEntityFindInfoDTO;
 import io.harness.gitsync.sdk.EntityGitDetails;
 import io.harness.ng.core.dto.ResponseDTO;
+import io.harness.pms.contracts.execution.Status;
 import io.harness.pms.execution.ExecutionStatus;
 import io.harness.pms.execution.utils.StatusUtils;
 import io.harness.pms.gitsync.PmsGitSyncHelper;
@@ -45,6 +48,7 @@ import io.harness.pms.pipeline.PipelineExecutionNotesDTO;
 import io.harness.pms.pipeline.service.PMSPipelineService;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity.PlanExecutionSummaryKeys;
+import io.harness.pms.plan.execution.beans.dto.ExecutionGraphDeltaDTO;
 import io.harness.pms.plan.execution.beans.dto.PipelineExecutionDetailDTO;
 import io.harness.pms.plan.execution.beans.dto.PipelineExecutionIdentifierSummaryDTO;
 import io.harness.pms.plan.execution.beans.dto.PipelineExecutionSummaryDTO;
@@ -311,6 +315,63 @@ public class ExecutionDetailsResourceTest extends CategoryTest {
         .isEqualTo(RepresentationStrategy.CAMELCASE);
   }
 
+  @Test
+  @Owner(developers = SAMARTH)
+  @Category(UnitTests.class)
+  public void testGetExecutionGraphDelta() {
+    doReturn(executionSummaryEntity)
+        .when(pmsExecutionService)
+        .getPipelineExecutionSummaryEntity(ACCOUNT_ID, ORG_IDENTIFIER, PROJ_IDENTIFIER, PLAN_EXECUTION_ID, false);
+    doReturn(OrchestrationGraphDeltaDTO.builder()
+                 .planExecutionId(PLAN_EXECUTION_ID)
+                 .version(7L)
+                 .fromVersion(5L)
+                 .status(Status.SUCCEEDED)
+                 .rootNodeIds(Collections.singletonList(STAGE_NODE_ID))
+                 .updatedVertices(Collections.emptyMap())
+                 .updatedEdges(Collections.emptyMap())
+                 .removedIds(Collections.singletonList("removedNodeId"))
+                 .build())
+        .when(pmsExecutionService)
+        .getOrchestrationGraphDelta(PLAN_EXECUTION_ID, 5L);
+    doNothing().when(accessControlClient).checkForAccessOrThrow(any(), any(), any());
+
+    ResponseDTO<ExecutionGraphDeltaDTO> graphDelta = executionDetailsResource.getExecutionGraphDelta(
+        ACCOUNT_ID, ORG_IDENTIFIER, PROJ_IDENTIFIER, 5L, PLAN_EXECUTION_ID);
+
+    assertThat(graphDelta.getData().getVersion()).isEqualTo(7L);
+    assertThat(graphDelta.getData().getExecutionGraph()).isNull();
+    assertThat(graphDelta.getData().getRootNodeId()).isEqualTo(STAGE_NODE_ID);
+    assertThat(graphDelta.getData().getStatus()).isEqualTo(ExecutionStatus.SUCCESS);
+    assertThat(graphDelta.getData().getNodeMap()).isEmpty();
+    assertThat(graphDelta.getData().getRemovedNodeIds()).containsExactly("removedNodeId");
+    verify(accessControlClient).checkForAccessOrThrow(any(), any(), any());
+  }
+
+  @Test
+  @Owner(developers = SAMARTH)
+  @Category(UnitTests.class)
+  public void testGetExecutionGraphDeltaWithoutVersion() {
+    doReturn(executionSummaryEntity)
+        .when(pmsExecutionService)
+        .getPipelineExecutionSummaryEntity(ACCOUNT_ID, ORG_IDENTIFIER, PROJ_IDENTIFIER, PLAN_EXECUTION_ID, false);
+    doReturn(OrchestrationGraphDeltaDTO.builder()
+                 .planExecutionId(PLAN_EXECUTION_ID)
+                 .version(7L)
+                 .graph(orchestrationGraph)
+                 .build())
+        .when(pmsExecutionService)
+        .getOrchestrationGraphDelta(PLAN_EXECUTION_ID, null);
+    doNothing().when(accessControlClient).checkForAccessOrThrow(any(), any(), any());
+
+    ResponseDTO<ExecutionGraphDeltaDTO> graphDelta = executionDetailsResource.getExecutionGraphDelta(
+        ACCOUNT_ID, ORG_IDENTIFIER, PROJ_IDENTIFIER, null, PLAN_EXECUTION_ID);
+
+    assertThat(graphDelta.getData().getVersion()).isEqualTo(7L);
+    assertThat(graphDelta.getData().getExecutionGraph().getRootNodeId()).isEqualTo(STAGE_NODE_ID);
+    assertThat(graphDelta.getData().getExecutionGraph().getNodeMap()).isEmpty();
+  }
+
   @Test
   @Owner(developers = SAMARTH)
   @Category(UnitTests.class)
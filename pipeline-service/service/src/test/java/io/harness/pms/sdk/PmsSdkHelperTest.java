@@ -14,6 +14,7 @@ import static io.harness.rule.OwnerRule.VIVEK_DIXIT;
 
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertSame;
 import static junit.framework.TestCase.assertTrue;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -169,4 +170,22 @@ public class PmsSdkHelperTest {
           .hasMessage("Invalid yaml during plan creation for dependency path - yaml");
     }
   }
+
+  @Test
+  @Owner(developers = BRIJESH)
+  @Category(UnitTests.class)
+  public void testCreateBatchDependencySharesYamlBytes() {
+    Dependencies dependencies = Dependencies.newBuilder()
+                                    .setYaml("pipeline:\n  identifier: p1")
+                                    .putDependencies("uuid1", "pipeline/stages/[0]")
+                                    .putDependencies("uuid2", "pipeline/stages/[1]")
+                                    .build();
+    Dependencies firstBatch =
+        PmsSdkHelper.createBatchDependency(dependencies, Collections.singletonMap("uuid1", "pipeline/stages/[0]"));
+    Dependencies secondBatch =
+        PmsSdkHelper.createBatchDependency(dependencies, Collections.singletonMap("uuid2", "pipeline/stages/[1]"));
+    assertSame(firstBatch.getYamlBytes(), secondBatch.getYamlBytes());
+    assertEquals(dependencies.getYaml(), firstBatch.getYaml());
+    assertEquals(1, firstBatch.getDependenciesCount());
+  }
 }